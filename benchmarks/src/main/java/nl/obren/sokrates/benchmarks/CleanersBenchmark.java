@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.benchmarks;
+
+import nl.obren.sokrates.sourcecode.SourceFile;
+import nl.obren.sokrates.sourcecode.cleaners.CleanedContent;
+import nl.obren.sokrates.sourcecode.cleaners.CommentsAndEmptyLinesCleaner;
+import nl.obren.sokrates.sourcecode.cleaners.SourceCodeCleanerUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CleanersBenchmark {
+    @Param({"200"})
+    public int filesCount;
+
+    @Param({"300"})
+    public int linesPerFile;
+
+    @Param({"100", "1000"})
+    public int lineLength;
+
+    private String[] contents;
+    private String[] windowsContents;
+
+    @Setup
+    public void setUp() {
+        List<SourceFile> sourceFiles = new SyntheticCorpus(42).generateSourceFiles(filesCount, linesPerFile, lineLength, 20);
+        contents = sourceFiles.stream().map(SourceFile::getContent).toArray(String[]::new);
+        windowsContents = sourceFiles.stream().map(sourceFile -> sourceFile.getContent().replace("\n", "\r\n")).toArray(String[]::new);
+    }
+
+    @Benchmark
+    public void clean(Blackhole blackhole) {
+        for (String content : contents) {
+            CleanedContent cleanedContent = getJavaCleaner().clean(content);
+            blackhole.consume(cleanedContent);
+        }
+    }
+
+    @Benchmark
+    public void trimLines(Blackhole blackhole) {
+        for (String content : contents) {
+            blackhole.consume(SourceCodeCleanerUtils.trimLines(content));
+        }
+    }
+
+    @Benchmark
+    public void normalizeLineEnds(Blackhole blackhole) {
+        for (String content : windowsContents) {
+            blackhole.consume(SourceCodeCleanerUtils.normalizeLineEnds(content));
+        }
+    }
+
+    // the same setup as used by the Java analyzer
+    private CommentsAndEmptyLinesCleaner getJavaCleaner() {
+        CommentsAndEmptyLinesCleaner cleaner = new CommentsAndEmptyLinesCleaner();
+        cleaner.addCommentBlockHelper("/*", "*/");
+        cleaner.addCommentBlockHelper("//", "\n");
+        cleaner.addStringBlockHelper("\"", "\\");
+        cleaner.addStringBlockHelper("'", "\\");
+        return cleaner;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.benchmarks;
+
+import nl.obren.sokrates.common.utils.ProgressFeedback;
+import nl.obren.sokrates.sourcecode.SourceFile;
+import nl.obren.sokrates.sourcecode.duplication.DuplicationEngine;
+import nl.obren.sokrates.sourcecode.duplication.DuplicationInstance;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class DuplicationBenchmark {
+    @Param({"500", "2000"})
+    public int filesCount;
+
+    @Param({"300"})
+    public int linesPerFile;
+
+    @Param({"100"})
+    public int lineLength;
+
+    @Param({"20"})
+    public int duplicationPercentage;
+
+    @Param({"6"})
+    public int threshold;
+
+    private List<SourceFile> sourceFiles;
+
+    @Setup
+    public void setUp() {
+        sourceFiles = new SyntheticCorpus(42).generateSourceFiles(filesCount, linesPerFile, lineLength, duplicationPercentage);
+    }
+
+    @Benchmark
+    public List<DuplicationInstance> findDuplicates() {
+        return new DuplicationEngine().findDuplicates(sourceFiles, threshold, new ProgressFeedback());
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.benchmarks;
+
+import nl.obren.sokrates.sourcecode.analysis.FileHistoryAnalysisConfig;
+import nl.obren.sokrates.sourcecode.filehistory.DateUtils;
+import nl.obren.sokrates.sourcecode.githistory.GitHistoryIndex;
+import nl.obren.sokrates.sourcecode.githistory.GitHistoryUtils;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GitHistoryBenchmark {
+    @Param({"100000"})
+    public int commitsCount;
+
+    @Param({"5000"})
+    public int filesCount;
+
+    @Param({"50"})
+    public int contributorsCount;
+
+    private File folder;
+    private File historyFile;
+    private FileHistoryAnalysisConfig config;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        DateUtils.setDateParam(SyntheticCorpus.ANALYSIS_DATE);
+        folder = Files.createTempDirectory("sokrates-benchmark").toFile();
+        historyFile = new File(folder, GitHistoryUtils.GIT_HISTORY_FILE_NAME);
+        new SyntheticCorpus(42).generateGitHistory(historyFile, commitsCount, filesCount, contributorsCount);
+        config = new FileHistoryAnalysisConfig();
+    }
+
+    // each index build starts from scratch
+    @Setup(Level.Invocation)
+    public void deleteIndex() {
+        File[] files = folder.listFiles((dir, name) -> name.endsWith(".sqlite") || name.endsWith(".sqlite-journal"));
+        if (files != null) {
+            for (File file : files) {
+                FileUtils.deleteQuietly(file);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        FileUtils.deleteQuietly(folder);
+        DateUtils.setDateParam(null);
+    }
+
+    @Benchmark
+    public int streamHistoryFromFile() {
+        int[] count = {0};
+        GitHistoryUtils.streamHistoryFromFile(historyFile, config, fileUpdate -> count[0]++);
+        return count[0];
+    }
+
+    @Benchmark
+    public void rebuildIndex(Blackhole blackhole) {
+        blackhole.consume(GitHistoryIndex.open(historyFile, config).hasHistory());
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.benchmarks;
+
+import nl.obren.sokrates.sourcecode.SourceFile;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates reproducible, Java-like source files and git history logs for benchmarks, so they run offline
+ * and the results can be compared across commits. The same seed and sizes always give the same corpus.
+ */
+public class SyntheticCorpus {
+    // the analysis date used by benchmarks, all generated commits are before it
+    public static final String ANALYSIS_DATE = "2021-12-31";
+
+    private static final String[] TYPES = {"int", "long", "String", "boolean", "double", "List<String>"};
+    private static final String[] NAMES = {"count", "index", "value", "name", "total", "result", "items", "offset", "limit", "buffer"};
+    private static final String[] OPERATORS = {"+", "-", "*", "&&", "||"};
+
+    private final Random random;
+
+    public SyntheticCorpus(long seed) {
+        this.random = new Random(seed);
+    }
+
+    // duplicationPercentage of the units are copied from a shared pool, to give the duplication detection some work
+    public List<SourceFile> generateSourceFiles(int filesCount, int linesPerFile, int lineLength, int duplicationPercentage) {
+        List<String> sharedUnits = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            sharedUnits.add(generateUnit("shared" + i, 12, lineLength));
+        }
+
+        List<SourceFile> sourceFiles = new ArrayList<>();
+        for (int i = 0; i < filesCount; i++) {
+            String className = "Generated" + i;
+            StringBuilder content = new StringBuilder();
+            content.append("/*\n * Generated file ").append(i).append("\n */\n\n");
+            content.append("package nl.obren.generated.p").append(i % 10).append(";\n\n");
+            content.append("import java.util.List;\nimport java.util.ArrayList;\n\n");
+            content.append("public class ").append(className).append(" {\n");
+            int linesCount = countLines(content);
+            for (int unitIndex = 0; linesCount < linesPerFile; unitIndex++) {
+                String unit = random.nextInt(100) < duplicationPercentage
+                        ? sharedUnits.get(random.nextInt(sharedUnits.size()))
+                        : generateUnit("unit" + unitIndex, 5 + random.nextInt(30), lineLength);
+                content.append(unit);
+                linesCount += countLines(unit);
+            }
+            content.append("}\n");
+
+            SourceFile sourceFile = new SourceFile(new File("src/nl/obren/generated/p" + (i % 10) + "/" + className + ".java"), content.toString());
+            sourceFile.setRelativePath("src/nl/obren/generated/p" + (i % 10) + "/" + className + ".java");
+            sourceFiles.add(sourceFile);
+        }
+        return sourceFiles;
+    }
+
+    // one line per file update, in the format produced by the git history extraction
+    public void generateGitHistory(File file, int commitsCount, int filesCount, int contributorsCount) throws IOException {
+        LocalDate startDate = LocalDate.parse(ANALYSIS_DATE).minusYears(3);
+        try (BufferedWriter writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            for (int i = 0; i < commitsCount; i++) {
+                String date = startDate.plusDays((long) i * 3 * 365 / Math.max(1, commitsCount)).toString();
+                int contributor = random.nextInt(Math.max(1, contributorsCount));
+                String email = "developer" + contributor + "@example.com";
+                String commitId = String.format("%040x", (long) i * 7919 + 1);
+                int updatesCount = 1 + random.nextInt(8);
+                for (int j = 0; j < updatesCount; j++) {
+                    int fileIndex = random.nextInt(Math.max(1, filesCount));
+                    String path = "src/nl/obren/generated/p" + (fileIndex % 10) + "/Generated" + fileIndex + ".java";
+                    writer.write(date + " " + email + " " + commitId + " " + path + " Developer&nbsp;" + contributor + "\n");
+                }
+            }
+        }
+    }
+
+    private String generateUnit(String name, int bodyLines, int lineLength) {
+        StringBuilder unit = new StringBuilder();
+        unit.append("\n    // ").append(name).append(" does some generated work\n");
+        unit.append("    public int ").append(name).append("(int a, String b) {\n");
+        for (int i = 0; i < bodyLines; i++) {
+            int kind = random.nextInt(10);
+            if (kind == 0) {
+                unit.append("        if (a > ").append(i).append(") {\n            a++;\n        }\n");
+            } else if (kind == 1) {
+                unit.append("        for (int i").append(i).append(" = 0; i").append(i).append(" < a; i").append(i).append("++) {\n");
+                unit.append("            b = b + \"").append(i).append("\";\n        }\n");
+            } else if (kind == 2) {
+                unit.append("        /* block comment ").append(i).append(" */\n");
+            } else if (kind == 3) {
+                unit.append("\n");
+            } else {
+                unit.append(generateStatement(lineLength)).append("\n");
+            }
+        }
+        unit.append("        return a;\n    }\n");
+        return unit.toString();
+    }
+
+    private String generateStatement(int lineLength) {
+        StringBuilder line = new StringBuilder("        ");
+        line.append(TYPES[random.nextInt(TYPES.length)]).append(" ").append(randomName()).append(" = ").append(randomName());
+        while (line.length() < lineLength - 12) {
+            line.append(" ").append(OPERATORS[random.nextInt(OPERATORS.length)]).append(" ").append(randomName());
+        }
+        line.append("; // \"note\"");
+        return line.toString();
+    }
+
+    private String randomName() {
+        return NAMES[random.nextInt(NAMES.length)] + random.nextInt(100);
+    }
+
+    private static int countLines(CharSequence content) {
+        int count = 0;
+        for (int i = 0; i < content.length(); i++) {
+            if (content.charAt(i) == '\n') {
+                count++;
+            }
+        }
+        return count;
+    }
+}
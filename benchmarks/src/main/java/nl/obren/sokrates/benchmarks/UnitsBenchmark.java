@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.benchmarks;
+
+import nl.obren.sokrates.sourcecode.SourceFile;
+import nl.obren.sokrates.sourcecode.units.CStyleHeuristicUnitsExtractor;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UnitsBenchmark {
+    @Param({"200"})
+    public int filesCount;
+
+    @Param({"300", "3000"})
+    public int linesPerFile;
+
+    @Param({"100"})
+    public int lineLength;
+
+    private List<SourceFile> sourceFiles;
+
+    @Setup
+    public void setUp() {
+        sourceFiles = new SyntheticCorpus(42).generateSourceFiles(filesCount, linesPerFile, lineLength, 20);
+    }
+
+    @Benchmark
+    public void extractUnits(Blackhole blackhole) {
+        for (SourceFile sourceFile : sourceFiles) {
+            blackhole.consume(new CStyleHeuristicUnitsExtractor().extractUnits(sourceFile));
+        }
+    }
+}
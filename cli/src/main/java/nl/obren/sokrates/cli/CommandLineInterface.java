@@ -17,6 +17,7 @@ import nl.obren.sokrates.common.renderingutils.force3d.Force3DObject;
 import nl.obren.sokrates.common.renderingutils.x3d.Unit3D;
 import nl.obren.sokrates.common.renderingutils.x3d.X3DomExporter;
 import nl.obren.sokrates.common.utils.*;
+import nl.obren.sokrates.reports.core.ReportAssets;
 import nl.obren.sokrates.reports.core.ReportFileExporter;
 import nl.obren.sokrates.reports.core.RichTextReport;
 import nl.obren.sokrates.reports.dataexporters.DataExporter;
@@ -589,6 +590,7 @@ public class CommandLineInterface {
 
             FileUtils.write(new File(dataFolder, "executionTimes.json"), json, UTF_8);
             FileUtils.write(new File(dataFolder, "executionTimes.txt"), text, UTF_8);
+            ProcessingStopwatch.exportProfile(dataFolder);
         } catch (IOException e) {
             LOG.error(e);
         }
@@ -641,6 +643,7 @@ public class CommandLineInterface {
             info("Source code cache : <a href='" + srcCache.getPath() + "'>" + srcCache.getPath() + "</a>");
         }
         ProcessingStopwatch.start("reporting");
+        ReportAssets.configure(htmlReports, analysisResults.getCodeConfiguration().getAnalysis().isInlineReportAssets());
         BasicSourceCodeReportGenerator generator = new BasicSourceCodeReportGenerator(codeAnalyzerSettings, analysisResults, inputFile, reportsFolder);
         List<RichTextReport> reports = generator.report();
         ProcessingStopwatch.end("reporting");
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.sourcecode;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * A source file filter with its patterns compiled once, matching the same files as SourceFileFilter.
+ * Invalid patterns never match. It is immutable and can be shared between threads.
+ */
+public class CompiledSourceFileFilter {
+    private static final Log LOG = LogFactory.getLog(CompiledSourceFileFilter.class);
+
+    private final boolean anyPath;
+    private final Pattern pathPattern;
+    private final Pattern unifiedPathPattern;
+    private final boolean anyContent;
+    private final Pattern contentPattern;
+    private final int maxLinesForContentSearch;
+
+    public CompiledSourceFileFilter(SourceFileFilter filter) {
+        this(filter.getPathPattern(), filter.getContentPattern(), filter.getMaxLinesForContentSearch());
+    }
+
+    public CompiledSourceFileFilter(String pathPattern, String contentPattern, int maxLinesForContentSearch) {
+        this.anyPath = StringUtils.isBlank(pathPattern);
+        this.pathPattern = anyPath ? null : compile(pathPattern);
+        this.unifiedPathPattern = anyPath ? null : compile(pathPattern.replace("\\", "/"));
+        this.anyContent = StringUtils.isBlank(contentPattern);
+        this.contentPattern = anyContent ? null : compile(contentPattern);
+        this.maxLinesForContentSearch = maxLinesForContentSearch;
+    }
+
+    private static Pattern compile(String regex) {
+        try {
+            return Pattern.compile(regex);
+        } catch (PatternSyntaxException e) {
+            LOG.debug(e);
+            return null;
+        }
+    }
+
+    private static boolean matchesEntirely(Pattern pattern, String text) {
+        return pattern != null && pattern.matcher(text).matches();
+    }
+
+    // the lines are read only if the path matches and there is a content pattern
+    public boolean matches(SourceFile sourceFile, Supplier<List<String>> lines) {
+        return pathMatches(sourceFile.getFile().getPath()) && (anyContent || contentMatches(lines.get()));
+    }
+
+    public boolean matches(SourceFile sourceFile) {
+        return matches(sourceFile, sourceFile::getLines);
+    }
+
+    // the same path variants as SourceFileFilter.pathMatches
+    public boolean pathMatches(String path) {
+        if (anyPath) {
+            return true;
+        }
+        String unixPath = path.replace("\\", "/");
+        String windowsPath = path.replace("/", "\\");
+        return matchesEntirely(pathPattern, path)
+                || matchesEntirely(pathPattern, unixPath)
+                || matchesEntirely(pathPattern, windowsPath)
+                || matchesEntirely(unifiedPathPattern, unixPath)
+                || matchesEntirely(unifiedPathPattern, windowsPath);
+    }
+
+    public boolean hasContentPattern() {
+        return !anyContent;
+    }
+
+    public boolean contentMatches(List<String> lines) {
+        if (anyContent) {
+            return true;
+        }
+        int linesCount = maxLinesForContentSearch < 0 ? lines.size() : Math.min(maxLinesForContentSearch, lines.size());
+        for (int i = 0; i < linesCount; i++) {
+            if (matchesEntirely(contentPattern, lines.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
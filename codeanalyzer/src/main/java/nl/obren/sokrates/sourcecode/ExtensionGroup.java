@@ -7,7 +7,7 @@ package nl.obren.sokrates.sourcecode;
 public class ExtensionGroup {
     private String extension;
     private int numberOfFiles;
-    private int totalSizeInBytes = 0;
+    private long totalSizeInBytes = 0;
 
     public ExtensionGroup() {
     }
@@ -32,11 +32,11 @@ public class ExtensionGroup {
         this.numberOfFiles = numberOfFiles;
     }
 
-    public int getTotalSizeInBytes() {
+    public long getTotalSizeInBytes() {
         return totalSizeInBytes;
     }
 
-    public void setTotalSizeInBytes(int totalSizeInBytes) {
+    public void setTotalSizeInBytes(long totalSizeInBytes) {
         this.totalSizeInBytes = totalSizeInBytes;
     }
 
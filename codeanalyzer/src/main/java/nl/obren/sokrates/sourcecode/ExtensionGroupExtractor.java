@@ -4,14 +4,22 @@
 
 package nl.obren.sokrates.sourcecode;
 
+import nl.obren.sokrates.common.utils.BoundedExecutor;
 import nl.obren.sokrates.sourcecode.lang.LanguageAnalyzerFactory;
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ExtensionGroupExtractor {
     private static final Log LOG = LogFactory.getLog(ExtensionGroupExtractor.class);
@@ -139,31 +147,103 @@ public class ExtensionGroupExtractor {
     private static final List<String> knownIgnorableExtension = Arrays.asList(
             "ds_store", "iml", "ser");
 
+    private static final Set<String> knownSourceExtensionsSet = new HashSet<>(knownSourceExtensions);
+    private static final Set<String> knownBinaryExtensionsSet = new HashSet<>(knownBinaryExtensions);
+    private static final Set<String> knownIgnorableExtensionsSet = new HashSet<>(knownIgnorableExtension);
+
+    // directories at this depth below the root are walked in parallel
+    private static final int PARALLEL_WALK_DEPTH = 2;
+
     private Map<String, ExtensionGroup> extensionsMap = new HashMap<>();
 
+    // whether files with an extension are counted (i.e. it is not a binary or an ignorable extension)
+    private final Map<String, Boolean> countedExtensions = new ConcurrentHashMap<>();
+
     public static boolean isKnownSourceCodeExtension(String extension) {
-        return LanguageAnalyzerFactory.getInstance().getAnalyzersMap().containsKey(extension.toLowerCase())
-                || knownSourceExtensions.contains(extension.toLowerCase());
+        String lowerCaseExtension = extension.toLowerCase();
+        return LanguageAnalyzerFactory.getInstance().getAnalyzersMap().containsKey(lowerCaseExtension)
+                || knownSourceExtensionsSet.contains(lowerCaseExtension);
     }
 
     public static boolean isKnownBinaryExtension(String extension) {
-        return knownBinaryExtensions.contains(extension.toLowerCase());
+        return knownBinaryExtensionsSet.contains(extension.toLowerCase());
     }
 
     public static boolean isKnownIgnorableExtension(String extension) {
-        return knownIgnorableExtension.contains(extension.toLowerCase());
+        return knownIgnorableExtensionsSet.contains(extension.toLowerCase());
     }
 
+    /**
+     * Counts files and bytes per extension in one walk over the tree (following symbolic links, as before).
+     * Directories at PARALLEL_WALK_DEPTH are walked in parallel, each with its own totals merged at the end.
+     * An extension is listed if at least one of its files is not empty.
+     */
     public void extractExtensionsInfo(File root) {
-        if (root.isDirectory()) {
-            for (File file : root.listFiles()) {
-                extractExtensionsInfo(file);
+        Map<String, long[]> totals = new HashMap<>();
+        List<Path> subtrees = new ArrayList<>();
+        walk(root.toPath(), PARALLEL_WALK_DEPTH, totals, subtrees);
+
+        try (BoundedExecutor executor = new BoundedExecutor("extensions")) {
+            subtrees.forEach(subtree -> executor.submit(() -> {
+                Map<String, long[]> subtreeTotals = new HashMap<>();
+                walk(subtree, Integer.MAX_VALUE, subtreeTotals, null);
+                synchronized (totals) {
+                    merge(totals, subtreeTotals);
+                }
+            }));
+            executor.awaitCompletion();
+        }
+
+        totals.forEach((extension, filesAndBytes) -> {
+            if (filesAndBytes[1] <= 0) {
+                return;
+            }
+            ExtensionGroup extensionGroup = extensionsMap.get(extension);
+            if (extensionGroup == null) {
+                extensionGroup = new ExtensionGroup(extension);
+                extensionsMap.put(extension, extensionGroup);
             }
-        } else {
-            updateExtensionInfo(root);
+            extensionGroup.setNumberOfFiles(extensionGroup.getNumberOfFiles() + (int) filesAndBytes[0]);
+            extensionGroup.setTotalSizeInBytes(extensionGroup.getTotalSizeInBytes() + filesAndBytes[1]);
+        });
+    }
+
+    // directories at maxDepth are not entered but added to subtrees
+    private void walk(Path start, int maxDepth, Map<String, long[]> totals, List<Path> subtrees) {
+        try {
+            Files.walkFileTree(start, EnumSet.of(FileVisitOption.FOLLOW_LINKS), maxDepth, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    if (attributes.isDirectory()) {
+                        if (subtrees != null) {
+                            subtrees.add(file);
+                        }
+                    } else if (!attributes.isSymbolicLink()) {
+                        // a symbolic link is only visited as a link when its target does not exist
+                        updateExtensionInfo(file, attributes.size(), totals);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    LOG.debug(e);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            LOG.error(e);
         }
     }
 
+    private static void merge(Map<String, long[]> totals, Map<String, long[]> subtreeTotals) {
+        subtreeTotals.forEach((extension, filesAndBytes) -> {
+            long[] extensionTotals = totals.computeIfAbsent(extension, k -> new long[2]);
+            extensionTotals[0] += filesAndBytes[0];
+            extensionTotals[1] += filesAndBytes[1];
+        });
+    }
+
     public static String getExtension(String path) {
         try {
             String extension = FilenameUtils.getExtension(path).toLowerCase();
@@ -180,37 +260,18 @@ public class ExtensionGroupExtractor {
 
     }
 
-    private void updateExtensionInfo(File file) {
-        String extension = getExtension(file.getPath());
-        if (!extension.isEmpty() && !isKnownBinaryExtension(extension) && !isKnownIgnorableExtension(extension)) {
-            updateMap(file, extension);
-        }
-    }
-
-    private void updateMap(File file, String extension) {
-        if (!file.exists()) return;
-        if (extensionsMap.containsKey(extension)) {
-            ExtensionGroup extensionGroup = extensionsMap.get(extension);
-            extensionGroup.setNumberOfFiles(extensionGroup.getNumberOfFiles() + 1);
-            extensionGroup.setTotalSizeInBytes((int) (extensionGroup.getTotalSizeInBytes() + FileUtils.sizeOf(file)));
-        } else {
-            int fileSizeInBytes = getFileSizeInBytes(file);
-            if (fileSizeInBytes > 0) {
-                ExtensionGroup extensionGroup = new ExtensionGroup(extension);
-                extensionGroup.setNumberOfFiles(1);
-                extensionGroup.setTotalSizeInBytes(fileSizeInBytes);
-                extensionsMap.put(extension, extensionGroup);
-            }
+    private void updateExtensionInfo(Path file, long size, Map<String, long[]> totals) {
+        Path fileName = file.getFileName();
+        String extension = getExtension(fileName != null ? fileName.toString() : file.toString());
+        if (!extension.isEmpty() && countedExtensions.computeIfAbsent(extension, this::isCountedExtension)) {
+            long[] extensionTotals = totals.computeIfAbsent(extension, k -> new long[2]);
+            extensionTotals[0]++;
+            extensionTotals[1] += size;
         }
     }
 
-    private int getFileSizeInBytes(File file) {
-        try {
-            return (int) FileUtils.sizeOf(file);
-        } catch (IllegalArgumentException e) {
-            LOG.error(e);
-        }
-        return 0;
+    private boolean isCountedExtension(String extension) {
+        return !isKnownBinaryExtension(extension) && !isKnownIgnorableExtension(extension);
     }
 
     public List<ExtensionGroup> getExtensionsList() {
@@ -225,10 +286,14 @@ public class ExtensionGroupExtractor {
     }
 
     private void sort(List<ExtensionGroup> list) {
+        Map<ExtensionGroup, Boolean> knownSourceCode = new IdentityHashMap<>();
+        list.forEach(group -> knownSourceCode.put(group, isKnownSourceCodeExtension(group.getExtension())));
         Collections.sort(list, (o1, o2) -> {
-            if (isKnownSourceCodeExtension(o1.getExtension()) && !isKnownSourceCodeExtension(o2.getExtension())) {
+            boolean known1 = knownSourceCode.get(o1);
+            boolean known2 = knownSourceCode.get(o2);
+            if (known1 && !known2) {
                 return -1;
-            } else if (!isKnownSourceCodeExtension(o1.getExtension()) && isKnownSourceCodeExtension(o2.getExtension())) {
+            } else if (!known1 && known2) {
                 return 1;
             }
             return Integer.compare(o2.getNumberOfFiles(), o1.getNumberOfFiles());
@@ -61,6 +61,7 @@ public class SourceCodeFiles {
         aspect.getSourceFiles().clear();
 
         List<SourceFile> sourceFiles = new ArrayList<>();
+        SourceFileIdSet sourceFilesIdSet = new SourceFileIdSet();
 
         int fileIndex[] = {0};
         final int allFilesCount = scopeSourceFiles.size();
@@ -86,10 +87,11 @@ public class SourceCodeFiles {
                 }
             });
             if (included[0] && !excluded[0]) {
-                if (!sourceFiles.contains(sourceFile)) {
+                if (!sourceFilesIdSet.contains(sourceFile)) {
                     sourceFiles.add(sourceFile);
+                    sourceFilesIdSet.add(sourceFile);
                 }
-                if (!aspect.getSourceFiles().contains(sourceFile)) {
+                if (!aspect.containsSourceFile(sourceFile)) {
                     aspect.getSourceFiles().add(sourceFile);
                 }
             }
@@ -227,6 +229,7 @@ public class SourceCodeFiles {
             }
         } else {
             SourceFile sourceFile = new SourceFile(file);
+            sourceFile.setId(allFiles.size());
             sourceFile.relativize(root);
             allFiles.add(sourceFile);
         }
@@ -257,9 +260,10 @@ public class SourceCodeFiles {
 
     public List<SourceFile> getExcludedFiles() {
         List<SourceFile> excludedFiles = new ArrayList<>();
+        SourceFileIdSet filesInBroadScopeIdSet = new SourceFileIdSet(filesInBroadScope);
 
         allFiles.forEach(sourceFile -> {
-            if (!filesInBroadScope.contains(sourceFile)) {
+            if (!filesInBroadScopeIdSet.contains(sourceFile)) {
                 excludedFiles.add(sourceFile);
             }
         });
@@ -6,6 +6,7 @@ package nl.obren.sokrates.sourcecode;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import nl.obren.sokrates.sourcecode.aspects.NamedSourceCodeAspect;
+import nl.obren.sokrates.sourcecode.cleaners.CompactLines;
 import nl.obren.sokrates.sourcecode.cleaners.SourceCodeCleanerUtils;
 import nl.obren.sokrates.sourcecode.filehistory.FileModificationHistory;
 import nl.obren.sokrates.sourcecode.lang.LanguageAnalyzer;
@@ -28,6 +29,9 @@ import java.util.List;
 public class SourceFile {
     private static final Log LOG = LogFactory.getLog(SourceFile.class);
 
+    // the index of the file in the loaded source code tree, used in bitsets of files (-1 if not loaded via SourceCodeFiles)
+    @JsonIgnore
+    private int id = -1;
     @JsonIgnore
     private File file;
     private String relativePath;
@@ -46,7 +50,7 @@ public class SourceFile {
     private String content;
 
     private int linesOfCodeInUnits;
-    private List<String> cleanedLines = null;
+    private CompactLines cleanedLines = null;
 
     public SourceFile() {
     }
@@ -69,6 +73,16 @@ public class SourceFile {
         return sb.toString();
     }
 
+    @JsonIgnore
+    public int getId() {
+        return id;
+    }
+
+    @JsonIgnore
+    public void setId(int id) {
+        this.id = id;
+    }
+
     @JsonIgnore
     public File getFile() {
         return file;
@@ -77,7 +91,7 @@ public class SourceFile {
     @JsonIgnore
     public void setFile(File file) {
         this.file = file;
-        this.extension = ExtensionGroupExtractor.getExtension(file.getPath());
+        setExtension(ExtensionGroupExtractor.getExtension(file.getPath()));
     }
 
     public String getRelativePath() {
@@ -108,7 +122,8 @@ public class SourceFile {
     }
 
     public void setExtension(String extension) {
-        this.extension = extension;
+        // there are only a few distinct extensions, shared by many files
+        this.extension = extension != null ? extension.intern() : null;
     }
 
     public int getLinesOfCode() {
@@ -128,8 +143,12 @@ public class SourceFile {
     }
 
     public List<NamedSourceCodeAspect> getLogicalComponents(String filer) {
-        List<NamedSourceCodeAspect> filteredLogicalComponents = new ArrayList<>();
-        logicalComponents.stream().filter(comp -> comp.getFiltering().equals(filer)).forEach(filteredLogicalComponents::add);
+        List<NamedSourceCodeAspect> filteredLogicalComponents = new ArrayList<>(1);
+        for (NamedSourceCodeAspect logicalComponent : logicalComponents) {
+            if (logicalComponent.getFiltering().equals(filer)) {
+                filteredLogicalComponents.add(logicalComponent);
+            }
+        }
         return filteredLogicalComponents;
     }
 
@@ -201,9 +220,14 @@ public class SourceFile {
 
     @JsonIgnore
     public List<String> getCleanedLines() {
+        return getCompactCleanedLines();
+    }
+
+    private CompactLines getCompactCleanedLines() {
         if (cleanedLines == null) {
             LanguageAnalyzer languageAnalyzer = LanguageAnalyzerFactory.getInstance().getLanguageAnalyzer(this);
-            cleanedLines = SourceCodeCleanerUtils.splitInLines(languageAnalyzer.cleanForLinesOfCodeCalculations(this).getCleanedContent());
+            // kept for all files, so stored compactly instead of as one string per line
+            cleanedLines = CompactLines.split(languageAnalyzer.cleanForLinesOfCodeCalculations(this).getCleanedContent());
         }
         return cleanedLines;
     }
@@ -252,7 +276,14 @@ public class SourceFile {
 
     @JsonIgnore
     public long getLongLinesCount(int threshold) {
-        return getCleanedLines().stream().filter(l -> l.length() > threshold).count();
+        CompactLines lines = getCompactCleanedLines();
+        long count = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.getLineLength(i) > threshold) {
+                count++;
+            }
+        }
+        return count;
     }
 
 }
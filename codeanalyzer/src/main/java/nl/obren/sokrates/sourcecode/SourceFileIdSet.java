@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.sourcecode;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * A set of source files backed by a bitset of their ids, with constant time membership checks.
+ * Files without ids (not loaded via SourceCodeFiles) are kept in a list and compared with equals.
+ */
+public class SourceFileIdSet {
+    private final BitSet ids = new BitSet();
+    private final List<SourceFile> filesWithoutIds = new ArrayList<>();
+
+    public SourceFileIdSet() {
+    }
+
+    public SourceFileIdSet(List<SourceFile> sourceFiles) {
+        sourceFiles.forEach(this::add);
+    }
+
+    public void add(SourceFile sourceFile) {
+        if (sourceFile.getId() >= 0) {
+            ids.set(sourceFile.getId());
+        } else {
+            filesWithoutIds.add(sourceFile);
+        }
+    }
+
+    public boolean contains(SourceFile sourceFile) {
+        if (sourceFile.getId() >= 0) {
+            return ids.get(sourceFile.getId());
+        }
+        return filesWithoutIds.contains(sourceFile);
+    }
+
+    public void clear() {
+        ids.clear();
+        filesWithoutIds.clear();
+    }
+}
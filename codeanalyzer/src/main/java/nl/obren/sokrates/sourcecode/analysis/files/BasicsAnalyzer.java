@@ -11,7 +11,9 @@ import nl.obren.sokrates.sourcecode.analysis.AnalysisUtils;
 import nl.obren.sokrates.sourcecode.analysis.Analyzer;
 import nl.obren.sokrates.sourcecode.analysis.results.CodeAnalysisResults;
 import nl.obren.sokrates.sourcecode.core.CodeConfiguration;
+import nl.obren.sokrates.sourcecode.core.CompiledTagPathPatterns;
 import nl.obren.sokrates.sourcecode.core.FoundTag;
+import nl.obren.sokrates.sourcecode.core.TagRule;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.File;
@@ -66,12 +68,16 @@ public class BasicsAnalyzer extends Analyzer {
     private List<FoundTag> findTags(SourceCodeFiles sourceCodeFiles) {
         List<FoundTag> foundTags = new ArrayList<>();
 
-        codeConfiguration.getTagRules().forEach(tagRule -> {
-            String evidence = tagRule.matchesPath(sourceCodeFiles.getAllFiles().stream().map(f -> f.getRelativePath()).collect(Collectors.toList()));
-            if (StringUtils.isNoneBlank(evidence)) {
-                foundTags.add(new FoundTag(tagRule, evidence));
+        List<TagRule> tagRules = codeConfiguration.getTagRules();
+        List<String> paths = sourceCodeFiles.getAllFiles().stream().map(f -> f.getRelativePath()).collect(Collectors.toList());
+        List<String> evidence = new CompiledTagPathPatterns<>(tagRules, TagRule::getPathPatterns, TagRule::getExcludePathPatterns)
+                .getEvidence(paths, TagRule.EVIDENCE_LIMIT);
+
+        for (int i = 0; i < tagRules.size(); i++) {
+            if (StringUtils.isNoneBlank(evidence.get(i))) {
+                foundTags.add(new FoundTag(tagRules.get(i), evidence.get(i)));
             }
-        });
+        }
 
         return foundTags;
     }
@@ -80,10 +80,12 @@ public class LogicalDecompositionAnalyzer extends Analyzer {
             componentDependencies.addAll(finderDependencies);
             allDependencies.addAll(finder.getAllDependencies());
 
+            ComponentDependencyGraph dependencyGraph = new ComponentDependencyGraph(componentDependencies);
             logicalDecompositionAnalysisResults.setComponentDependencies(componentDependencies);
+            logicalDecompositionAnalysisResults.setCyclicDependencyGroups(dependencyGraph.getCyclicGroups());
             logicalDecompositionAnalysisResults.setAllDependencies(allDependencies);
 
-            addDependencyMetrics(allDependencies, logicalDecomposition.getName(), componentDependencies);
+            addDependencyMetrics(allDependencies, logicalDecomposition.getName(), componentDependencies, dependencyGraph);
             List<DependencyError> errors = new ArrayList<>();
             finalDependenciesAnalysis.getErrors().stream().filter(error -> error.getFiltering().equals(logicalDecomposition.getName())).forEach(errors::add);
             logicalDecompositionAnalysisResults.getComponentDependenciesErrors().addAll(errors);
@@ -91,19 +93,19 @@ public class LogicalDecompositionAnalyzer extends Analyzer {
         });
     }
 
-    private void addDependencyMetrics(List<Dependency> allDependencies, String logicalDecompositionName, List<ComponentDependency> componentDependencies) {
+    private void addDependencyMetrics(List<Dependency> allDependencies, String logicalDecompositionName, List<ComponentDependency> componentDependencies, ComponentDependencyGraph dependencyGraph) {
         AnalysisUtils.detailedInfo(textSummary, progressFeedback, "  - \"" + logicalDecompositionName + "\", found " + allDependencies.size() + " dependencies ("
                 + componentDependencies.size() + " component dependencies)", start);
 
         addNumberOfAnchorDependenciesMetric(allDependencies, logicalDecompositionName);
-        addNumberOfComponentDependenciesMetric(logicalDecompositionName, componentDependencies);
+        addNumberOfComponentDependenciesMetric(logicalDecompositionName, componentDependencies, dependencyGraph);
     }
 
     private String getMetricFriendlyName(String logicalDecompositionName) {
         return logicalDecompositionName.toUpperCase().replace(" ", "_").replace("-", "_");
     }
 
-    private void addNumberOfComponentDependenciesMetric(String logicalDecompositionName, List<ComponentDependency> componentDependencies) {
+    private void addNumberOfComponentDependenciesMetric(String logicalDecompositionName, List<ComponentDependency> componentDependencies, ComponentDependencyGraph dependencyGraph) {
         String name = getMetricFriendlyName(logicalDecompositionName);
 
         metricsList.addMetric()
@@ -112,7 +114,12 @@ public class LogicalDecompositionAnalyzer extends Analyzer {
 
         metricsList.addMetric()
                 .id(AnalysisUtils.getMetricId("NUMBER_OF_PLACES_WITH_CYCLIC_DEPENDENCIES_DECOMPOSITION_" + name))
-                .value(DependencyUtils.getCyclicDependencyPlacesCount(componentDependencies));
+                .value(dependencyGraph.getCyclicDependencyPlacesCount());
+
+        metricsList.addMetric()
+                .id(AnalysisUtils.getMetricId("NUMBER_OF_CYCLIC_DEPENDENCY_GROUPS_DECOMPOSITION_" + name))
+                .description("Number of groups of components that directly or indirectly depend on each other")
+                .value(dependencyGraph.getCyclicGroups().size());
     }
 
     private void addNumberOfAnchorDependenciesMetric(List<Dependency> allDependencies, String logicalDecompositionName) {
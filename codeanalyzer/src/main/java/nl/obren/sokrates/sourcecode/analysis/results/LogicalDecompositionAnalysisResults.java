@@ -8,6 +8,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import nl.obren.sokrates.sourcecode.aspects.DependenciesFinder;
 import nl.obren.sokrates.sourcecode.aspects.LogicalDecomposition;
 import nl.obren.sokrates.sourcecode.dependencies.ComponentDependency;
+import nl.obren.sokrates.sourcecode.dependencies.CyclicDependencyGroup;
 import nl.obren.sokrates.sourcecode.dependencies.Dependency;
 import nl.obren.sokrates.sourcecode.dependencies.DependencyError;
 import nl.obren.sokrates.sourcecode.metrics.NumericMetric;
@@ -20,6 +21,7 @@ public class LogicalDecompositionAnalysisResults {
     private List<AspectAnalysisResults> components = new ArrayList<>();
     private List<ComponentDependency> componentDependencies = new ArrayList<>();
     private List<DependencyError> componentDependenciesErrors = new ArrayList<>();
+    private List<CyclicDependencyGroup> cyclicDependencyGroups = new ArrayList<>();
     private LogicalDecomposition logicalDecomposition;
     @JsonIgnore
     private List<Dependency> allDependencies;
@@ -83,6 +85,14 @@ public class LogicalDecompositionAnalysisResults {
         this.componentDependenciesErrors = componentDependenciesErrors;
     }
 
+    public List<CyclicDependencyGroup> getCyclicDependencyGroups() {
+        return cyclicDependencyGroups;
+    }
+
+    public void setCyclicDependencyGroups(List<CyclicDependencyGroup> cyclicDependencyGroups) {
+        this.cyclicDependencyGroups = cyclicDependencyGroups;
+    }
+
     @JsonIgnore
     public void setAllDependencies(List<Dependency> allDependencies) {
         this.allDependencies = allDependencies;
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.sourcecode.aspects;
+
+import nl.obren.sokrates.sourcecode.CompiledSourceFileFilter;
+import nl.obren.sokrates.sourcecode.operations.ComplexOperation;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * A meta rule with its patterns and name operations compiled once per extraction.
+ * Invalid patterns never match, as with RegexUtils.matchesEntirely.
+ */
+class CompiledMetaRule {
+    private static final Log LOG = LogFactory.getLog(CompiledMetaRule.class);
+
+    enum LinesSource {PATH, LINES, CLEANED_LINES}
+
+    private final CompiledSourceFileFilter pathFilter;
+    // matched against the relative path for path rules, or against the lines for content rules
+    private final Pattern pattern;
+    private final LinesSource linesSource;
+    private final ComplexOperation nameOperation;
+
+    CompiledMetaRule(MetaRule metaRule) {
+        this.pathFilter = new CompiledSourceFileFilter(metaRule.getPathPattern(), "", -1);
+        boolean usePath = metaRule.getUse().equalsIgnoreCase("path");
+        String patternString = usePath ? metaRule.getPathPattern() : metaRule.getContentPattern();
+        // rules without a pattern for the lines they use never match
+        this.pattern = StringUtils.isBlank(patternString) ? null : compile(patternString);
+        this.linesSource = usePath ? LinesSource.PATH : metaRule.isIgnoreComments() ? LinesSource.CLEANED_LINES : LinesSource.LINES;
+        this.nameOperation = new ComplexOperation(metaRule.getNameOperations());
+    }
+
+    private static Pattern compile(String regex) {
+        try {
+            return Pattern.compile(regex);
+        } catch (PatternSyntaxException e) {
+            LOG.debug(e);
+            return null;
+        }
+    }
+
+    boolean isApplicable(String path) {
+        return pattern != null && pathFilter.pathMatches(path);
+    }
+
+    boolean lineMatches(String line) {
+        return pattern.matcher(line).matches();
+    }
+
+    String getName(String matchingString) {
+        return nameOperation.exec(matchingString);
+    }
+
+    LinesSource getLinesSource() {
+        return linesSource;
+    }
+}
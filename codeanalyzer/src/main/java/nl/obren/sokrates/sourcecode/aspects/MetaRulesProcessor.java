@@ -4,10 +4,9 @@
 
 package nl.obren.sokrates.sourcecode.aspects;
 
-import nl.obren.sokrates.common.utils.RegexUtils;
+import nl.obren.sokrates.common.utils.BoundedExecutor;
 import nl.obren.sokrates.sourcecode.SourceFile;
-import nl.obren.sokrates.sourcecode.SourceFileFilter;
-import nl.obren.sokrates.sourcecode.operations.ComplexOperation;
+import nl.obren.sokrates.sourcecode.SourceFileIdSet;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -22,8 +21,9 @@ interface MetaRulesProcessorCallback {
 
 public class MetaRulesProcessor<T extends NamedSourceCodeAspect> {
     private static final Log LOG = LogFactory.getLog(MetaRulesProcessor.class);
+    private static final int FILES_PER_TASK = 1000;
     private List<T> concerns = new ArrayList<>();
-    private List<SourceFile> alreadyAddedFiles = new ArrayList<>();
+    private SourceFileIdSet alreadyAddedFiles = new SourceFileIdSet();
     private Map<String, T> map = new HashMap<>();
     private MetaRulesProcessorCallback sourceCodeAspectFactory;
     private boolean uniqueClassification;
@@ -70,61 +70,97 @@ public class MetaRulesProcessor<T extends NamedSourceCodeAspect> {
         this.uniqueClassification = uniqueClassification;
     }
 
+    // the names are found for all files in parallel, and the aspects are then created in the order of the files,
+    // the rules and the lines, so the results do not depend on the number of threads
     public List<T> extractAspects(List<SourceFile> sourceFiles, List<MetaRule> metaRules) {
         concerns = new ArrayList<>();
         map = new HashMap<>();
-        alreadyAddedFiles = new ArrayList<>();
+        alreadyAddedFiles = new SourceFileIdSet();
+
+        List<CompiledMetaRule> rules = new ArrayList<>();
+        metaRules.forEach(metaRule -> rules.add(new CompiledMetaRule(metaRule)));
+
+        List<List<String>> namesPerFile = new ArrayList<>(Collections.nCopies(sourceFiles.size(), null));
+        try (BoundedExecutor executor = new BoundedExecutor("meta-rules")) {
+            for (int start = 0; start < sourceFiles.size(); start += FILES_PER_TASK) {
+                int from = start;
+                int to = Math.min(sourceFiles.size(), start + FILES_PER_TASK);
+                executor.submit(() -> {
+                    for (int i = from; i < to; i++) {
+                        namesPerFile.set(i, findNames(rules, sourceFiles.get(i)));
+                    }
+                });
+            }
+            executor.awaitCompletion();
+        }
 
-        sourceFiles.forEach(sourceFile -> {
-            processSourceFile(metaRules, sourceFile);
-        });
+        for (int i = 0; i < sourceFiles.size(); i++) {
+            SourceFile sourceFile = sourceFiles.get(i);
+            for (String name : namesPerFile.get(i)) {
+                if (!shouldProcessFile(sourceFile)) {
+                    break;
+                }
+                updateAlreadyProcessedFiles(sourceFile);
+                addToAspect(sourceFile, name);
+            }
+        }
 
         return concerns;
     }
 
-    private void processSourceFile(List<MetaRule> metaRules, SourceFile sourceFile) {
-        metaRules.forEach(metaRule -> {
-            SourceFileFilter sourceFileFilter = new SourceFileFilter(metaRule.getPathPattern(), metaRule.getContentPattern());
-            if (sourceFileFilter.pathMatches(sourceFile.getRelativePath())) {
-                processSourceFileContent(sourceFile, metaRule);
+    // the names from all matching strings, by rule and then by line (only the first one for unique classification)
+    private List<String> findNames(List<CompiledMetaRule> rules, SourceFile sourceFile) {
+        String path = sourceFile.getRelativePath();
+        List<CompiledMetaRule> applicableRules = new ArrayList<>();
+        boolean[] usedSources = new boolean[CompiledMetaRule.LinesSource.values().length];
+        rules.forEach(rule -> {
+            if (rule.isApplicable(path)) {
+                applicableRules.add(rule);
+                usedSources[rule.getLinesSource().ordinal()] = true;
             }
         });
-    }
-
-    private void processSourceFileContent(SourceFile sourceFile, MetaRule metaRule) {
-        if (stopProcessing(metaRule)) {
-            return;
+        if (applicableRules.isEmpty()) {
+            return Collections.emptyList();
         }
-        getLines(sourceFile, metaRule).forEach(line -> {
-            if (matches(metaRule, line)) {
-                if (shouldProcessFile(sourceFile)) {
-                    processMatchingString(sourceFile, metaRule, line);
-                }
-            }
-        });
-    }
 
-    private boolean stopProcessing(MetaRule metaRule) {
-        if (metaRule.getUse().equalsIgnoreCase("path")) {
-            return StringUtils.isBlank(metaRule.getPathPattern());
-        } else {
-            return StringUtils.isBlank(metaRule.getContentPattern());
+        List<List<String>> matchesPerRule = new ArrayList<>();
+        applicableRules.forEach(rule -> matchesPerRule.add(new ArrayList<>()));
+        if (usedSources[CompiledMetaRule.LinesSource.PATH.ordinal()]) {
+            scan(Arrays.asList(path), CompiledMetaRule.LinesSource.PATH, applicableRules, matchesPerRule);
+        }
+        if (usedSources[CompiledMetaRule.LinesSource.LINES.ordinal()]) {
+            scan(sourceFile.getLines(), CompiledMetaRule.LinesSource.LINES, applicableRules, matchesPerRule);
+        }
+        if (usedSources[CompiledMetaRule.LinesSource.CLEANED_LINES.ordinal()]) {
+            scan(sourceFile.getCleanedLines(), CompiledMetaRule.LinesSource.CLEANED_LINES, applicableRules, matchesPerRule);
         }
-    }
 
-    private boolean matches(MetaRule metaRule, String line) {
-        if (metaRule.getUse().equalsIgnoreCase("path")) {
-            return RegexUtils.matchesEntirely(metaRule.getPathPattern(), line);
-        } else {
-            return RegexUtils.matchesEntirely(metaRule.getContentPattern(), line);
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < applicableRules.size(); i++) {
+            for (String matchingString : matchesPerRule.get(i)) {
+                names.add(applicableRules.get(i).getName(matchingString));
+                if (uniqueClassification) {
+                    return names;
+                }
+            }
         }
+        return names;
     }
 
-    private List<String> getLines(SourceFile sourceFile, MetaRule metaRule) {
-        if (metaRule.getUse().equalsIgnoreCase("path")) {
-            return Arrays.asList(sourceFile.getRelativePath());
-        } else {
-            return metaRule.isIgnoreComments() ? sourceFile.getCleanedLines() : sourceFile.getLines();
+    private void scan(List<String> lines, CompiledMetaRule.LinesSource linesSource, List<CompiledMetaRule> rules,
+                      List<List<String>> matchesPerRule) {
+        for (String line : lines) {
+            for (int i = 0; i < rules.size(); i++) {
+                CompiledMetaRule rule = rules.get(i);
+                List<String> matches = matchesPerRule.get(i);
+                // for unique classification, only the first match of a rule may be used
+                if (rule.getLinesSource() != linesSource || (uniqueClassification && !matches.isEmpty())) {
+                    continue;
+                }
+                if (rule.lineMatches(line)) {
+                    matches.add(line);
+                }
+            }
         }
     }
 
@@ -132,15 +168,12 @@ public class MetaRulesProcessor<T extends NamedSourceCodeAspect> {
         return !uniqueClassification || !alreadyAddedFiles.contains(sourceFile);
     }
 
-    private void processMatchingString(SourceFile sourceFile, MetaRule metaRule, String matchingString) {
-        updateAlreadyProcessedFiles(sourceFile);
-        String name = new ComplexOperation(metaRule.getNameOperations()).exec(matchingString);
+    private void addToAspect(SourceFile sourceFile, String name) {
         if (StringUtils.isNotBlank(name)) {
             if (map.containsKey(name)) {
                 T sourceCodeAspect = map.get(name);
-                List<SourceFile> sourceFiles = sourceCodeAspect.getSourceFiles();
-                if (!sourceFiles.contains(sourceFile)) {
-                    sourceFiles.add(sourceFile);
+                if (!sourceCodeAspect.containsSourceFile(sourceFile)) {
+                    sourceCodeAspect.getSourceFiles().add(sourceFile);
                     sourceCodeAspectFactory.updateSourceFile(sourceFile, sourceCodeAspect);
                 }
             } else {
@@ -162,4 +195,3 @@ public class MetaRulesProcessor<T extends NamedSourceCodeAspect> {
     }
 
 }
-
@@ -8,6 +8,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import nl.obren.sokrates.common.utils.SystemUtils;
 import nl.obren.sokrates.sourcecode.SourceFile;
 import nl.obren.sokrates.sourcecode.SourceFileFilter;
+import nl.obren.sokrates.sourcecode.SourceFileIdSet;
 
 import java.io.File;
 import java.util.ArrayList;
@@ -31,6 +32,11 @@ public class NamedSourceCodeAspect {
     private Map<String, SourceFile> sourceFilesPathMap = null;
     @JsonIgnore
     private String filtering = "";
+    // an index of the source files for membership checks, updated with the files added since it was created
+    @JsonIgnore
+    private SourceFileIdSet sourceFilesIdSet = null;
+    @JsonIgnore
+    private int sourceFilesIdSetCount = 0;
 
     public NamedSourceCodeAspect() {
     }
@@ -74,6 +80,19 @@ public class NamedSourceCodeAspect {
     @JsonIgnore
     public void setSourceFiles(List<SourceFile> sourceFiles) {
         this.sourceFiles = sourceFiles;
+        this.sourceFilesIdSet = null;
+    }
+
+    @JsonIgnore
+    public boolean containsSourceFile(SourceFile sourceFile) {
+        if (sourceFilesIdSet == null || sourceFilesIdSetCount > sourceFiles.size()) {
+            sourceFilesIdSet = new SourceFileIdSet();
+            sourceFilesIdSetCount = 0;
+        }
+        while (sourceFilesIdSetCount < sourceFiles.size()) {
+            sourceFilesIdSet.add(sourceFiles.get(sourceFilesIdSetCount++));
+        }
+        return sourceFilesIdSet.contains(sourceFile);
     }
 
     @JsonIgnore
@@ -96,12 +115,8 @@ public class NamedSourceCodeAspect {
     }
 
     public void remove(NamedSourceCodeAspect aspect) {
-        aspect.getSourceFiles().forEach(sourceFile -> {
-            SourceFile existingSourceFile = getSourceFile(sourceFile.getFile());
-            if (existingSourceFile != null) {
-                sourceFiles.remove(existingSourceFile);
-            }
-        });
+        sourceFiles.removeIf(aspect::containsSourceFile);
+        sourceFilesIdSet = null;
     }
 
     @JsonIgnore
@@ -10,6 +10,8 @@ import java.util.List;
 public class CleanedContent {
     private String cleanedContent;
     private List<Integer> fileLineIndexes = new ArrayList<>();
+    // lines kept by the cleaner, so they are not split again
+    private List<String> lines;
 
     public CleanedContent() {
     }
@@ -28,6 +30,7 @@ public class CleanedContent {
 
     public void setCleanedContent(String cleanedContent) {
         this.cleanedContent = cleanedContent;
+        this.lines = null;
     }
 
     public List<Integer> getFileLineIndexes() {
@@ -39,6 +42,10 @@ public class CleanedContent {
     }
 
     public List<String> getLines() {
-        return SourceCodeCleanerUtils.splitInLines(cleanedContent);
+        return lines != null ? lines : SourceCodeCleanerUtils.splitInLines(cleanedContent);
+    }
+
+    void setLines(List<String> lines) {
+        this.lines = lines;
     }
 }
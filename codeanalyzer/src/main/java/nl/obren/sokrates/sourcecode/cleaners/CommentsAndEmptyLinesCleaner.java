@@ -9,12 +9,12 @@ import nl.obren.sokrates.sourcecode.CleaningResult;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Removes comments and empty lines with the configured code block parsers. The cleaning state is kept per call,
+ * so one configured cleaner can be reused for many files and from several threads.
+ */
 public class CommentsAndEmptyLinesCleaner {
     private List<CodeBlockParser> codeBlockParsers = new ArrayList<>();
-    private String content;
-    private CodeBlockParser activeHelper = null;
-
-    private int currentIndex = 0;
 
     public CommentsAndEmptyLinesCleaner() {
     }
@@ -47,22 +47,23 @@ public class CommentsAndEmptyLinesCleaner {
     }
 
     public String cleanKeepEmptyLines(String originalContent) {
-        this.content = SourceCodeCleanerUtils.normalizeLineEnds(originalContent);
+        String content = SourceCodeCleanerUtils.normalizeLineEnds(originalContent);
+        int currentIndex = 0;
 
         while (true) {
-            activeHelper = null;
-            final int index[] = {-1};
-            this.codeBlockParsers.forEach(helper -> {
+            CodeBlockParser activeHelper = null;
+            int index = -1;
+            for (CodeBlockParser helper : codeBlockParsers) {
                 int helperIndex = helper.getStringStartIndex(content, currentIndex);
 
-                if (helperIndex >= 0 && (index[0] == -1 || helperIndex < index[0])) {
-                    index[0] = helperIndex;
+                if (helperIndex >= 0 && (index == -1 || helperIndex < index)) {
+                    index = helperIndex;
                     activeHelper = helper;
                 }
-            });
+            }
 
             if (activeHelper != null) {
-                CleaningResult cleaningResult = activeHelper.cleanOrSkip(content, index[0]);
+                CleaningResult cleaningResult = activeHelper.cleanOrSkip(content, index);
                 content = cleaningResult.getContent();
                 currentIndex = cleaningResult.getCurrentIndex();
             } else {
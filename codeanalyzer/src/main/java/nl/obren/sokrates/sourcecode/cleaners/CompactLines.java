@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.sourcecode.cleaners;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list of lines kept as one string with line offsets, instead of one string object per line.
+ * It has the same lines as SourceCodeCleanerUtils.splitInLines, and is used to keep lines of many files in memory.
+ */
+public class CompactLines extends AbstractList<String> implements RandomAccess {
+    private final String text;
+    // the start of each line, followed by the end of the last line plus one
+    private final int[] lineStarts;
+    private final int size;
+
+    CompactLines(String text, int[] lineStarts, int size) {
+        this.text = text;
+        this.lineStarts = lineStarts;
+        this.size = size;
+    }
+
+    public static CompactLines split(String content) {
+        String text = SourceCodeCleanerUtils.normalizeLineEnds(content);
+
+        int[] lineStarts = new int[16];
+        int count = 0;
+        int lineStart = 0;
+        while (true) {
+            if (count + 1 >= lineStarts.length) {
+                lineStarts = Arrays.copyOf(lineStarts, lineStarts.length * 2);
+            }
+            lineStarts[count++] = lineStart;
+            int lineEnd = text.indexOf('\n', lineStart);
+            if (lineEnd < 0) {
+                lineStarts[count] = text.length() + 1;
+                break;
+            }
+            lineStart = lineEnd + 1;
+        }
+
+        // trailing empty lines are removed, as in String.split (an empty text has one empty line)
+        if (text.length() > 0) {
+            while (count > 0 && lineStarts[count] - lineStarts[count - 1] == 1) {
+                count--;
+            }
+        }
+
+        return new CompactLines(text, lineStarts, count);
+    }
+
+    @Override
+    public String get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return text.substring(lineStarts[index], lineStarts[index + 1] - 1);
+    }
+
+    public int getLineLength(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return lineStarts[index + 1] - 1 - lineStarts[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.sourcecode.cleaners;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Prepares content for duplication calculations in one pass: lines are trimmed, repeated spaces are merged,
+ * and empty lines and lines entirely matching one of the ignored patterns are removed. It gives the same result
+ * as SourceCodeCleanerUtils.trimLines, emptyLinesMatchingPattern for each pattern and cleanEmptyLinesWithLineIndexes.
+ * Analyzers create one instance per language, so the patterns are compiled once. It can be shared between threads.
+ */
+public class DuplicationLinesCleaner {
+    private static final Log LOG = LogFactory.getLog(DuplicationLinesCleaner.class);
+
+    private final List<Pattern> ignoredLinePatterns = new ArrayList<>();
+
+    public DuplicationLinesCleaner(String... ignoredLinePatterns) {
+        Arrays.stream(ignoredLinePatterns).forEach(regex -> {
+            try {
+                this.ignoredLinePatterns.add(Pattern.compile(regex));
+            } catch (PatternSyntaxException e) {
+                LOG.debug(e);
+            }
+        });
+    }
+
+    public CleanedContent clean(String content) {
+        String text = SourceCodeCleanerUtils.normalizeLineEnds(content);
+
+        StringBuilder cleanedText = new StringBuilder(text.length());
+        List<Integer> fileLineIndexes = new ArrayList<>();
+        int[] lineStarts = new int[16];
+        StringBuilder line = new StringBuilder();
+
+        int lineIndex = 0;
+        int start = 0;
+        while (start <= text.length()) {
+            int end = text.indexOf('\n', start);
+            if (end < 0) {
+                end = text.length();
+            }
+            trimLine(text, start, end, line);
+            if (line.length() > 0 && !isIgnored(line)) {
+                if (cleanedText.length() > 0) {
+                    cleanedText.append('\n');
+                }
+                if (fileLineIndexes.size() + 1 >= lineStarts.length) {
+                    lineStarts = Arrays.copyOf(lineStarts, lineStarts.length * 2);
+                }
+                lineStarts[fileLineIndexes.size()] = cleanedText.length();
+                cleanedText.append(line);
+                fileLineIndexes.add(lineIndex);
+            }
+            lineIndex++;
+            start = end + 1;
+        }
+
+        String cleaned = cleanedText.toString();
+        int linesCount = fileLineIndexes.size();
+        lineStarts[linesCount] = cleaned.length() + 1;
+
+        CleanedContent cleanedContent = new CleanedContent(cleaned);
+        cleanedContent.setFileLineIndexes(fileLineIndexes);
+        // an empty content has one empty line, as in splitInLines
+        cleanedContent.setLines(linesCount > 0 ? new CompactLines(cleaned, lineStarts, linesCount) : CompactLines.split(""));
+
+        return cleanedContent;
+    }
+
+    // the content with ignored lines emptied, for analyzers that clean the content further
+    public String emptyIgnoredLines(String content) {
+        StringBuilder result = new StringBuilder(content.length());
+        StringBuilder line = new StringBuilder();
+        SourceCodeCleanerUtils.splitInLines(content).forEach(originalLine -> {
+            trimLine(originalLine, 0, originalLine.length(), line);
+            if (!isIgnored(line)) {
+                result.append(line);
+            }
+            result.append('\n');
+        });
+        return result.toString();
+    }
+
+    // trimmed, with repeated spaces merged into one, as in SourceCodeCleanerUtils.trimLines
+    private static void trimLine(String text, int start, int end, StringBuilder line) {
+        line.setLength(0);
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c != ' ' || line.charAt(line.length() - 1) != ' ') {
+                line.append(c);
+            }
+        }
+    }
+
+    private boolean isIgnored(CharSequence line) {
+        for (Pattern pattern : ignoredLinePatterns) {
+            if (pattern.matcher(line).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
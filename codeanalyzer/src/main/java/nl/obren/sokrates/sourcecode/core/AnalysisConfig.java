@@ -74,6 +74,12 @@ public class AnalysisConfig {
     // An optional HTML code fragment to be included in a header section of generated HTML reports (e.g. Google Analytics snippet)
     private String customHtmlReportHeaderFragment = "";
 
+    // If true, images, styles and scripts are embedded in every generated HTML report (self-contained single-file pages). If false, they are written once to a shared "assets" folder.
+    private boolean inlineReportAssets = false;
+
+    // If true, analysisResults.json is saved without indentation (a smaller file, faster to write and to read)
+    private boolean compactAnalysisResultsJson = false;
+
     // If true, in feature of interest analyses, additional features of interest will be generated if there is an overlap between defined features (i.e. if several features include the same files)
     private boolean analyzeConcernOverlaps = false;
 
@@ -239,6 +245,22 @@ public class AnalysisConfig {
         this.commitFilesCountThresholds = commitFilesCountThresholds;
     }
 
+    public boolean isInlineReportAssets() {
+        return inlineReportAssets;
+    }
+
+    public void setInlineReportAssets(boolean inlineReportAssets) {
+        this.inlineReportAssets = inlineReportAssets;
+    }
+
+    public boolean isCompactAnalysisResultsJson() {
+        return compactAnalysisResultsJson;
+    }
+
+    public void setCompactAnalysisResultsJson(boolean compactAnalysisResultsJson) {
+        this.compactAnalysisResultsJson = compactAnalysisResultsJson;
+    }
+
     public String getCustomHtmlReportHeaderFragment() {
         return customHtmlReportHeaderFragment;
     }
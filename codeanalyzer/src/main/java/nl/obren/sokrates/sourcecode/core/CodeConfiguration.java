@@ -250,7 +250,7 @@ public class CodeConfiguration {
         for (SourceFile sourceFile : main.getSourceFiles()) {
             int fileAspectCount = 0;
             for (Concern aspect : concerns) {
-                if (aspect.getSourceFiles().contains(sourceFile)) {
+                if (aspect.containsSourceFile(sourceFile)) {
                     fileAspectCount++;
                 }
             }
@@ -304,7 +304,7 @@ public class CodeConfiguration {
                     sourceFile.getConcerns().forEach(concern2 -> {
                         if (concern1 != concern2 && concerns.contains(concern1) && concerns.contains(concern2)) {
                             Concern overlapConcern = getOverlapSourceCodeAspect(concern1, concern2, overlapsMap, overlaps);
-                            if (!overlapConcern.getSourceFiles().contains(sourceFile)) {
+                            if (!overlapConcern.containsSourceFile(sourceFile)) {
                                 overlapConcern.getSourceFiles().add(sourceFile);
                             }
                         }
@@ -51,7 +51,7 @@ public class CodeConfigurationUtils {
         for (SourceFile sourceFile : sourceFiles) {
             int fileAspectCount = 0;
             for (NamedSourceCodeAspect aspect : aspects) {
-                if (aspect.getSourceFiles().contains(sourceFile)) {
+                if (aspect.containsSourceFile(sourceFile)) {
                     fileAspectCount++;
                 }
             }
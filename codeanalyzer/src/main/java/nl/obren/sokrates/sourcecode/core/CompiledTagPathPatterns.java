@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.sourcecode.core;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
+
+/**
+ * Path patterns of all tags (tag rules or repository tags) compiled once and matched in one pass over the paths.
+ * All include patterns are also joined in one pattern, so a path not matching any tag is rejected with a single match.
+ * A path matches a tag if it entirely matches one of its path patterns and none of its exclude path patterns.
+ */
+public class CompiledTagPathPatterns<T> {
+    private static final Log LOG = LogFactory.getLog(CompiledTagPathPatterns.class);
+    // back references are numbered per pattern, so such patterns cannot be joined
+    private static final Pattern BACK_REFERENCE = Pattern.compile("\\\\([1-9]|k<)");
+
+    private final List<T> items = new ArrayList<>();
+    private final List<List<Pattern>> pathPatterns = new ArrayList<>();
+    private final List<List<Pattern>> excludePathPatterns = new ArrayList<>();
+    // null if there are no patterns or they cannot be joined
+    private Pattern anyPathPattern;
+
+    public CompiledTagPathPatterns(List<T> items, Function<T, List<String>> pathPatterns, Function<T, List<String>> excludePathPatterns) {
+        List<String> joinable = new ArrayList<>();
+        boolean[] canJoin = {true};
+        items.forEach(item -> {
+            List<Pattern> itemPatterns = compile(pathPatterns.apply(item));
+            itemPatterns.forEach(pattern -> {
+                joinable.add("(?:" + pattern.pattern() + ")");
+                canJoin[0] &= !BACK_REFERENCE.matcher(pattern.pattern()).find();
+            });
+            this.items.add(item);
+            this.pathPatterns.add(itemPatterns);
+            this.excludePathPatterns.add(compile(excludePathPatterns.apply(item)));
+        });
+
+        if (canJoin[0] && joinable.size() > 0) {
+            try {
+                anyPathPattern = Pattern.compile(String.join("|", joinable));
+            } catch (PatternSyntaxException e) {
+                LOG.debug(e);
+            }
+        }
+    }
+
+    private static List<Pattern> compile(List<String> regexes) {
+        List<Pattern> patterns = new ArrayList<>();
+        if (regexes != null) {
+            regexes.forEach(regex -> {
+                try {
+                    patterns.add(Pattern.compile(regex));
+                } catch (PatternSyntaxException e) {
+                    LOG.debug(e);
+                }
+            });
+        }
+        return patterns;
+    }
+
+    /**
+     * Evidence for each item (in the same order as the items): up to limit matching paths sorted alphabetically,
+     * and the number of other found paths. A path is counted once for each matching path pattern.
+     * The evidence is empty for items without matching paths.
+     */
+    public List<String> getEvidence(List<String> paths, int limit) {
+        List<EvidenceBuffer> buffers = new ArrayList<>();
+        items.forEach(item -> buffers.add(new EvidenceBuffer(limit)));
+
+        paths.forEach(path -> {
+            if (anyPathPattern != null && !anyPathPattern.matcher(path).matches()) {
+                return;
+            }
+            for (int i = 0; i < items.size(); i++) {
+                int count = countMatchingPatterns(pathPatterns.get(i), path);
+                if (count > 0 && !matchesAny(excludePathPatterns.get(i), path)) {
+                    buffers.get(i).add(path, count);
+                }
+            }
+        });
+
+        return buffers.stream().map(EvidenceBuffer::getEvidence).collect(Collectors.toList());
+    }
+
+    // items with at least one matching path, in the same order as the items
+    public Set<T> findItemsMatchingAnyPath(List<String> paths) {
+        boolean[] found = new boolean[items.size()];
+        int foundCount = 0;
+
+        for (String path : paths) {
+            if (foundCount == items.size()) {
+                break;
+            }
+            if (anyPathPattern != null && !anyPathPattern.matcher(path).matches()) {
+                continue;
+            }
+            for (int i = 0; i < items.size(); i++) {
+                if (!found[i] && matchesAny(pathPatterns.get(i), path) && !matchesAny(excludePathPatterns.get(i), path)) {
+                    found[i] = true;
+                    foundCount++;
+                }
+            }
+        }
+
+        Set<T> matching = new LinkedHashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            if (found[i]) {
+                matching.add(items.get(i));
+            }
+        }
+        return matching;
+    }
+
+    private static int countMatchingPatterns(List<Pattern> patterns, String path) {
+        int count = 0;
+        for (Pattern pattern : patterns) {
+            if (pattern.matcher(path).matches()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static boolean matchesAny(List<Pattern> patterns, String path) {
+        for (Pattern pattern : patterns) {
+            if (pattern.matcher(path).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // keeps only the first (alphabetically) paths, and counts all of them
+    private static class EvidenceBuffer {
+        private final int limit;
+        private final PriorityQueue<String> first;
+        private int count = 0;
+
+        EvidenceBuffer(int limit) {
+            this.limit = limit;
+            this.first = new PriorityQueue<>(limit + 1, Collections.reverseOrder());
+        }
+
+        void add(String path, int times) {
+            count += times;
+            for (int i = 0; i < times && limit > 0; i++) {
+                if (first.size() < limit) {
+                    first.add(path);
+                } else if (path.compareTo(first.peek()) < 0) {
+                    first.poll();
+                    first.add(path);
+                } else {
+                    break;
+                }
+            }
+        }
+
+        String getEvidence() {
+            String evidence = first.stream().sorted().collect(Collectors.joining("\n"));
+            if (count > limit) {
+                evidence += "\n...\n(found " + (count - limit) + " more files)";
+            }
+            return evidence;
+        }
+    }
+}
@@ -4,10 +4,13 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import nl.obren.sokrates.common.utils.RegexUtils;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class TagRule {
+    // the maximal number of paths listed as evidence of a found tag
+    public static final int EVIDENCE_LIMIT = 20;
+
     // A tag name
     private String tag = "";
 
@@ -63,24 +66,8 @@ public class TagRule {
 
     @JsonIgnore
     public String matchesPath(List<String> paths) {
-        List<String> foundPaths = new ArrayList<>();
-        for (String path : paths) {
-            for (String pattern : pathPatterns) {
-                if (RegexUtils.matchesEntirely(pattern, path) && !excludePath(path)) {
-                    foundPaths.add(path);
-                }
-            }
-        }
-
-        int limit = 20;
-        String evidence = foundPaths.stream().sorted().limit(limit).collect(Collectors.joining("\n"));
-
-        if (foundPaths.size() > limit) {
-            evidence += "\n...\n(found " + (foundPaths.size() - limit) + " more files)";
-        }
-
-
-        return evidence;
+        return new CompiledTagPathPatterns<>(Collections.singletonList(this), TagRule::getPathPatterns, TagRule::getExcludePathPatterns)
+                .getEvidence(paths, EVIDENCE_LIMIT).get(0);
     }
 
     @JsonIgnore
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.sourcecode.dependencies;
+
+import nl.obren.sokrates.sourcecode.CompiledSourceFileFilter;
+import nl.obren.sokrates.sourcecode.aspects.DependencyFinderPattern;
+import nl.obren.sokrates.sourcecode.aspects.MetaDependencyRule;
+import nl.obren.sokrates.sourcecode.operations.ComplexOperation;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * A dependencies finder rule with its patterns and name operations compiled once per analysis.
+ * Invalid patterns never match, as with RegexUtils.matchesEntirely.
+ */
+class CompiledFinderRule {
+    private static final Log LOG = LogFactory.getLog(CompiledFinderRule.class);
+
+    enum LinesSource {PATH, LINES, CLEANED_LINES}
+
+    private final CompiledSourceFileFilter pathFilter;
+    private final Pattern contentPattern;
+    private final LinesSource linesSource;
+    // null for simple rules, where the component is given by the rule
+    private final ComplexOperation nameOperation;
+    private final String component;
+    private final String color;
+    private final boolean reverseDirection;
+
+    private CompiledFinderRule(String pathPattern, String contentPattern, LinesSource linesSource, ComplexOperation nameOperation,
+                               String component, String color, boolean reverseDirection) {
+        this.pathFilter = new CompiledSourceFileFilter(pathPattern, "", -1);
+        this.contentPattern = compile(contentPattern);
+        this.linesSource = linesSource;
+        this.nameOperation = nameOperation;
+        this.component = component;
+        this.color = color;
+        this.reverseDirection = reverseDirection;
+    }
+
+    static CompiledFinderRule compile(DependencyFinderPattern rule) {
+        return new CompiledFinderRule(rule.getPathPattern(), rule.getContentPattern(), LinesSource.LINES, null,
+                rule.getComponent(), rule.getColor(), rule.isReverseDirection());
+    }
+
+    static CompiledFinderRule compile(MetaDependencyRule metaRule) {
+        LinesSource linesSource = metaRule.getUse().equalsIgnoreCase("path")
+                ? LinesSource.PATH
+                : metaRule.isIgnoreComments() ? LinesSource.CLEANED_LINES : LinesSource.LINES;
+        return new CompiledFinderRule(metaRule.getPathPattern(), metaRule.getContentPattern(), linesSource,
+                new ComplexOperation(metaRule.getNameOperations()), null, metaRule.getColor(), metaRule.isReverseDirection());
+    }
+
+    private static Pattern compile(String regex) {
+        try {
+            return Pattern.compile(regex);
+        } catch (PatternSyntaxException e) {
+            LOG.debug(e);
+            return null;
+        }
+    }
+
+    boolean pathMatches(String path) {
+        return pathFilter.pathMatches(path);
+    }
+
+    // as RegexUtils.matchesEntirely, a blank content pattern matches only empty lines
+    boolean contentMatches(String line) {
+        return contentPattern != null && contentPattern.matcher(line).matches();
+    }
+
+    String getComponent(String line) {
+        return nameOperation != null ? nameOperation.exec(line) : component;
+    }
+
+    LinesSource getLinesSource() {
+        return linesSource;
+    }
+
+    String getColor() {
+        return color;
+    }
+
+    boolean isReverseDirection() {
+        return reverseDirection;
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.sourcecode.dependencies;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Component dependencies indexed by their source and target components, so links can be looked up in constant time.
+ * Cycles are found as strongly connected components of the graph (Tarjan's algorithm), in linear time.
+ */
+public class ComponentDependencyGraph {
+    // from component -> to component -> dependencies (more than one if they have different colors)
+    private final Map<String, Map<String, List<ComponentDependency>>> links = new LinkedHashMap<>();
+    private List<CyclicDependencyGroup> cyclicGroups = null;
+    private final Set<String> componentsInCycles = new HashSet<>();
+
+    public ComponentDependencyGraph(List<ComponentDependency> componentDependencies) {
+        componentDependencies.forEach(dependency -> {
+            links.computeIfAbsent(dependency.getFromComponent(), from -> new LinkedHashMap<>())
+                    .computeIfAbsent(dependency.getToComponent(), to -> new ArrayList<>())
+                    .add(dependency);
+            links.computeIfAbsent(dependency.getToComponent(), to -> new LinkedHashMap<>());
+        });
+    }
+
+    public List<ComponentDependency> getDependencies(String fromComponent, String toComponent) {
+        Map<String, List<ComponentDependency>> targets = links.get(fromComponent);
+        List<ComponentDependency> dependencies = targets != null ? targets.get(toComponent) : null;
+        return dependencies != null ? dependencies : Collections.emptyList();
+    }
+
+    public boolean hasDependency(String fromComponent, String toComponent) {
+        return getDependencies(fromComponent, toComponent).size() > 0;
+    }
+
+    // pairs of components depending on each other directly (A -> B and B -> A)
+    public int getCyclicDependencyPlacesCount() {
+        int[] count = {0};
+        forEachDependency(dependency -> count[0] += getReverseDependenciesCount(dependency));
+        return count[0] / 2;
+    }
+
+    // file dependencies in the links of the components depending on each other directly
+    public int getCyclicDependencyCount() {
+        int[] count = {0};
+        forEachDependency(dependency -> count[0] += dependency.getCount() * getReverseDependenciesCount(dependency));
+        return count[0];
+    }
+
+    // groups of two or more components that directly or indirectly depend on each other, the largest first
+    public List<CyclicDependencyGroup> getCyclicGroups() {
+        if (cyclicGroups == null) {
+            cyclicGroups = findCyclicGroups();
+        }
+        return cyclicGroups;
+    }
+
+    public boolean isInCycle(String component) {
+        getCyclicGroups();
+        return componentsInCycles.contains(component);
+    }
+
+    private int getReverseDependenciesCount(ComponentDependency dependency) {
+        List<ComponentDependency> reverseDependencies = getDependencies(dependency.getToComponent(), dependency.getFromComponent());
+        return (int) reverseDependencies.stream().filter(reverseDependency -> reverseDependency != dependency).count();
+    }
+
+    private void forEachDependency(Consumer<ComponentDependency> consumer) {
+        links.values().forEach(targets -> targets.values().forEach(dependencies -> dependencies.forEach(consumer)));
+    }
+
+    private List<CyclicDependencyGroup> findCyclicGroups() {
+        List<String> components = new ArrayList<>(links.keySet());
+        Map<String, Integer> indexes = new HashMap<>();
+        Map<String, Integer> lowLinks = new HashMap<>();
+        Set<String> onStack = new HashSet<>();
+        Deque<String> stack = new ArrayDeque<>();
+        List<CyclicDependencyGroup> groups = new ArrayList<>();
+
+        // iterative depth-first search, so deep dependency chains do not overflow the call stack
+        Deque<String> visitPath = new ArrayDeque<>();
+        Deque<Iterator<String>> visitTargets = new ArrayDeque<>();
+        int index = 0;
+        for (String root : components) {
+            if (indexes.containsKey(root)) {
+                continue;
+            }
+            indexes.put(root, index);
+            lowLinks.put(root, index++);
+            stack.push(root);
+            onStack.add(root);
+            visitPath.push(root);
+            visitTargets.push(links.get(root).keySet().iterator());
+
+            while (!visitPath.isEmpty()) {
+                String component = visitPath.peek();
+                Iterator<String> targets = visitTargets.peek();
+                if (targets.hasNext()) {
+                    String target = targets.next();
+                    if (!indexes.containsKey(target)) {
+                        indexes.put(target, index);
+                        lowLinks.put(target, index++);
+                        stack.push(target);
+                        onStack.add(target);
+                        visitPath.push(target);
+                        visitTargets.push(links.get(target).keySet().iterator());
+                    } else if (onStack.contains(target)) {
+                        lowLinks.put(component, Math.min(lowLinks.get(component), indexes.get(target)));
+                    }
+                    continue;
+                }
+
+                visitPath.pop();
+                visitTargets.pop();
+                if (!visitPath.isEmpty()) {
+                    String parent = visitPath.peek();
+                    lowLinks.put(parent, Math.min(lowLinks.get(parent), lowLinks.get(component)));
+                }
+                if (lowLinks.get(component).equals(indexes.get(component))) {
+                    List<String> groupComponents = new ArrayList<>();
+                    String member;
+                    do {
+                        member = stack.pop();
+                        onStack.remove(member);
+                        groupComponents.add(member);
+                    } while (!member.equals(component));
+                    if (groupComponents.size() > 1) {
+                        groups.add(createGroup(groupComponents));
+                    }
+                }
+            }
+        }
+
+        groups.sort((a, b) -> b.getComponents().size() != a.getComponents().size()
+                ? b.getComponents().size() - a.getComponents().size()
+                : b.getDependenciesCount() - a.getDependenciesCount());
+        return groups;
+    }
+
+    private CyclicDependencyGroup createGroup(List<String> groupComponents) {
+        Collections.sort(groupComponents);
+        Set<String> members = new HashSet<>(groupComponents);
+        componentsInCycles.addAll(groupComponents);
+        CyclicDependencyGroup group = new CyclicDependencyGroup(groupComponents);
+        groupComponents.forEach(from -> links.get(from).forEach((to, dependencies) -> {
+            if (members.contains(to)) {
+                dependencies.forEach(dependency -> {
+                    group.setLinksCount(group.getLinksCount() + 1);
+                    group.setDependenciesCount(group.getDependenciesCount() + dependency.getCount());
+                });
+            }
+        }));
+        return group;
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.sourcecode.dependencies;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CyclicDependencyGroup {
+    private List<String> components = new ArrayList<>();
+    private int linksCount = 0;
+    private int dependenciesCount = 0;
+
+    public CyclicDependencyGroup() {
+    }
+
+    public CyclicDependencyGroup(List<String> components) {
+        this.components = components;
+    }
+
+    public List<String> getComponents() {
+        return components;
+    }
+
+    public void setComponents(List<String> components) {
+        this.components = components;
+    }
+
+    public int getLinksCount() {
+        return linksCount;
+    }
+
+    public void setLinksCount(int linksCount) {
+        this.linksCount = linksCount;
+    }
+
+    public int getDependenciesCount() {
+        return dependenciesCount;
+    }
+
+    public void setDependenciesCount(int dependenciesCount) {
+        this.dependenciesCount = dependenciesCount;
+    }
+}
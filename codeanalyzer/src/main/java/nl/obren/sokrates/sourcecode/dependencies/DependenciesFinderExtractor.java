@@ -4,13 +4,10 @@
 
 package nl.obren.sokrates.sourcecode.dependencies;
 
-import nl.obren.sokrates.common.utils.RegexUtils;
 import nl.obren.sokrates.sourcecode.SourceFile;
-import nl.obren.sokrates.sourcecode.SourceFileFilter;
 import nl.obren.sokrates.sourcecode.aspects.*;
 import nl.obren.sokrates.sourcecode.lang.LanguageAnalyzer;
 import nl.obren.sokrates.sourcecode.lang.LanguageAnalyzerFactory;
-import nl.obren.sokrates.sourcecode.operations.ComplexOperation;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.*;
@@ -38,62 +35,96 @@ public class DependenciesFinderExtractor {
         dependencies = new ArrayList<>();
         dependenciesMap = new HashMap<>();
 
-        aspect.getSourceFiles().forEach(sourceFile -> findComponentDependenciesViaSimpleRules(sourceFile));
         DependenciesFinder dependenciesFinder = logicalDecomposition.getDependenciesFinder();
-        List<MetaDependencyRule> metaRules = new ArrayList<>();
-        if (dependenciesFinder.isUseBuiltInDependencyFinders()) {
-            aspect.getSourceFiles().forEach(sourceFile -> {
+        List<CompiledFinderRule> simpleRules = new ArrayList<>();
+        dependenciesFinder.getRules().forEach(rule -> simpleRules.add(CompiledFinderRule.compile(rule)));
+        List<CompiledFinderRule> metaRules = compileMetaRules(dependenciesFinder.getMetaRules());
+        Map<Class, List<CompiledFinderRule>> builtInRules = new HashMap<>();
+
+        // each file is read and scanned once for all rules, but the dependencies are added in the same order as
+        // when applying the simple rules, the built-in meta rules and the configured meta rules one after another
+        List<SourceFile> sourceFiles = aspect.getSourceFiles();
+        List<List<List<FinderMatch>>> matchesPerFile = new ArrayList<>();
+        sourceFiles.forEach(sourceFile -> {
+            List<CompiledFinderRule> fileBuiltInRules = new ArrayList<>();
+            if (dependenciesFinder.isUseBuiltInDependencyFinders()) {
                 LanguageAnalyzer languageAnalyzer = LanguageAnalyzerFactory.getInstance().getLanguageAnalyzer(sourceFile);
-                findComponentDependenciesViaMetaRules(languageAnalyzer.getMetaDependencyRules(), sourceFile);
-            });
+                fileBuiltInRules = builtInRules.computeIfAbsent(languageAnalyzer.getClass(),
+                        k -> compileMetaRules(languageAnalyzer.getMetaDependencyRules()));
+            }
+            matchesPerFile.add(findMatches(sourceFile, Arrays.asList(simpleRules, fileBuiltInRules, metaRules)));
+        });
+
+        for (int phase = 0; phase < 3; phase++) {
+            for (int i = 0; i < sourceFiles.size(); i++) {
+                SourceFile sourceFile = sourceFiles.get(i);
+                matchesPerFile.get(i).get(phase).forEach(match -> {
+                    CompiledFinderRule rule = match.rule;
+                    addDependency(dependencies, dependenciesMap, sourceFile, rule.getComponent(match.line), match.line,
+                            rule.getColor(), rule.isReverseDirection());
+                });
+            }
         }
-        aspect.getSourceFiles().forEach(sourceFile -> findComponentDependenciesViaMetaRules(dependenciesFinder.getMetaRules(), sourceFile));
 
         return dependencies;
     }
 
-    private void findComponentDependenciesViaSimpleRules(SourceFile sourceFile) {
-        logicalDecomposition.getDependenciesFinder().getRules().forEach(rule -> {
-            SourceFileFilter sourceFileFilter = new SourceFileFilter(rule.getPathPattern(), "");
-
-            if (sourceFileFilter.pathMatches(sourceFile.getRelativePath())) {
-                getSimpleLines(sourceFile).forEach(line -> {
-                    if (RegexUtils.matchesEntirely(rule.getContentPattern(), line)) {
-                        addDependency(dependencies, dependenciesMap, sourceFile, rule.getComponent(), line, rule.getColor(), rule.isReverseDirection());
-                    }
-                });
-            }
-        });
+    private List<CompiledFinderRule> compileMetaRules(List<MetaDependencyRule> metaRules) {
+        List<CompiledFinderRule> compiledRules = new ArrayList<>();
+        metaRules.forEach(metaRule -> compiledRules.add(CompiledFinderRule.compile(metaRule)));
+        return compiledRules;
     }
 
-    private void findComponentDependenciesViaMetaRules(List<MetaDependencyRule> metaRules, SourceFile sourceFile) {
-        metaRules.forEach(metaRule -> {
-            SourceFileFilter sourceFileFilter = new SourceFileFilter(metaRule.getPathPattern(), "");
-
-            if (sourceFileFilter.pathMatches(sourceFile.getRelativePath())) {
-                getLines(sourceFile, metaRule).forEach(line -> {
-                    if (RegexUtils.matchesEntirely(metaRule.getContentPattern(), line)) {
-                        String component = new ComplexOperation(metaRule.getNameOperations()).exec(line);
-                        addDependency(dependencies, dependenciesMap, sourceFile, component, line, metaRule.getColor(), metaRule.isReverseDirection());
-                    }
-                });
+    // returns the matching lines per group of rules, ordered by rule and then by line
+    private List<List<FinderMatch>> findMatches(SourceFile sourceFile, List<List<CompiledFinderRule>> ruleGroups) {
+        String path = sourceFile.getRelativePath();
+        List<CompiledFinderRule> rules = new ArrayList<>();
+        List<Integer> ruleGroupIndexes = new ArrayList<>();
+        boolean[] usedSources = new boolean[CompiledFinderRule.LinesSource.values().length];
+        for (int group = 0; group < ruleGroups.size(); group++) {
+            for (CompiledFinderRule rule : ruleGroups.get(group)) {
+                // path filters are applied before any content is read
+                if (rule.pathMatches(path)) {
+                    rules.add(rule);
+                    ruleGroupIndexes.add(group);
+                    usedSources[rule.getLinesSource().ordinal()] = true;
+                }
             }
-        });
-    }
+        }
 
-    private List<String> getLines(SourceFile sourceFile, MetaRule metaRule) {
-        if (metaRule.getUse().equalsIgnoreCase("path")) {
-            return Arrays.asList(sourceFile.getRelativePath());
+        List<List<FinderMatch>> matchesPerRule = new ArrayList<>();
+        rules.forEach(rule -> matchesPerRule.add(new ArrayList<>()));
+        if (usedSources[CompiledFinderRule.LinesSource.PATH.ordinal()]) {
+            scan(Arrays.asList(path), CompiledFinderRule.LinesSource.PATH, rules, matchesPerRule);
         }
-        List<String> lines = metaRule.isIgnoreComments() ? sourceFile.getCleanedLines() : sourceFile.getLines();
-        if (lines.size() > logicalDecomposition.getMaxSearchDepthLines()) {
-            lines = lines.subList(0, logicalDecomposition.getMaxSearchDepthLines());
+        if (usedSources[CompiledFinderRule.LinesSource.LINES.ordinal()]) {
+            scan(getSearchLines(sourceFile.getLines()), CompiledFinderRule.LinesSource.LINES, rules, matchesPerRule);
         }
-        return lines;
+        if (usedSources[CompiledFinderRule.LinesSource.CLEANED_LINES.ordinal()]) {
+            scan(getSearchLines(sourceFile.getCleanedLines()), CompiledFinderRule.LinesSource.CLEANED_LINES, rules, matchesPerRule);
+        }
+
+        List<List<FinderMatch>> matchesPerGroup = new ArrayList<>();
+        ruleGroups.forEach(group -> matchesPerGroup.add(new ArrayList<>()));
+        for (int i = 0; i < rules.size(); i++) {
+            matchesPerGroup.get(ruleGroupIndexes.get(i)).addAll(matchesPerRule.get(i));
+        }
+        return matchesPerGroup;
+    }
+
+    private void scan(List<String> lines, CompiledFinderRule.LinesSource linesSource, List<CompiledFinderRule> rules,
+                      List<List<FinderMatch>> matchesPerRule) {
+        lines.forEach(line -> {
+            for (int i = 0; i < rules.size(); i++) {
+                CompiledFinderRule rule = rules.get(i);
+                if (rule.getLinesSource() == linesSource && rule.contentMatches(line)) {
+                    matchesPerRule.get(i).add(new FinderMatch(rule, line));
+                }
+            }
+        });
     }
 
-    private List<String> getSimpleLines(SourceFile sourceFile) {
-        List<String> lines = sourceFile.getLines();
+    private List<String> getSearchLines(List<String> lines) {
         if (lines.size() > logicalDecomposition.getMaxSearchDepthLines()) {
             lines = lines.subList(0, logicalDecomposition.getMaxSearchDepthLines());
         }
@@ -168,4 +199,14 @@ public class DependenciesFinderExtractor {
         fileComponentDependencies.add(duplicationKey);
         return false;
     }
+
+    private static class FinderMatch {
+        private final CompiledFinderRule rule;
+        private final String line;
+
+        FinderMatch(CompiledFinderRule rule, String line) {
+            this.rule = rule;
+            this.line = line;
+        }
+    }
 }
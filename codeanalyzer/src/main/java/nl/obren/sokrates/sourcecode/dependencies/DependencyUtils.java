@@ -9,21 +9,25 @@ import nl.obren.sokrates.sourcecode.aspects.NamedSourceCodeAspect;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public class DependencyUtils {
 
-    public static void addDependency(List<Dependency> dependencies, SourceFileDependency sourceFileDependency, DependencyAnchor sourceAnchor, DependencyAnchor targetAnchor) {
+    // the dependencies map indexes the dependencies list by the dependency string, for constant time lookups
+    public static void addDependency(List<Dependency> dependencies, Map<String, Dependency> dependenciesMap, SourceFileDependency sourceFileDependency, DependencyAnchor sourceAnchor, DependencyAnchor targetAnchor) {
         String targetKey = targetAnchor.getAnchor();
         String sourceKey = sourceAnchor.getAnchor();
         if (!targetKey.equalsIgnoreCase(sourceKey)) {
             Dependency newDependency = new Dependency(sourceAnchor, targetAnchor);
-            if (dependencies.contains(newDependency)) {
-                Dependency existingDependency = dependencies.get(dependencies.indexOf(newDependency));
+            Dependency existingDependency = dependenciesMap.get(newDependency.getDependencyString());
+            if (existingDependency != null) {
                 existingDependency.getFromFiles().add(sourceFileDependency);
             } else {
                 dependencies.add(newDependency);
+                dependenciesMap.put(newDependency.getDependencyString(), newDependency);
                 newDependency.getFromFiles().add(sourceFileDependency);
             }
         }
@@ -36,32 +40,21 @@ public class DependencyUtils {
     }
 
     public static int getCyclicDependencyPlacesCount(List<ComponentDependency> componentDependencies) {
-        int[] count = {0};
-        componentDependencies.forEach(d1 -> {
-            componentDependencies.stream().filter(d2 -> d1 != d2 && isCyclic(d1, d2)).forEach(d2 -> {
-                count[0]++;
-            });
-        });
-        return count[0] / 2;
+        return new ComponentDependencyGraph(componentDependencies).getCyclicDependencyPlacesCount();
     }
 
-    private static boolean isCyclic(ComponentDependency d1, ComponentDependency d2) {
-        return d1.getFromComponent().equals(d2.getToComponent()) && d1.getToComponent().equals(d2.getFromComponent());
+    public static int getCyclicDependencyCount(List<ComponentDependency> componentDependencies) {
+        return new ComponentDependencyGraph(componentDependencies).getCyclicDependencyCount();
     }
 
-    public static int getCyclicDependencyCount(List<ComponentDependency> componentDependencies) {
-        int[] count = {0};
-        componentDependencies.forEach(d1 -> {
-            componentDependencies.stream().filter(d2 -> d1 != d2 && isCyclic(d1, d2)).forEach(d2 -> {
-                count[0] += d1.getCount();
-            });
-        });
-        return count[0];
+    public static List<CyclicDependencyGroup> getCyclicGroups(List<ComponentDependency> componentDependencies) {
+        return new ComponentDependencyGraph(componentDependencies).getCyclicGroups();
     }
 
     public static List<ComponentDependency> getComponentDependencies(List<Dependency> dependencies, String groupName) {
         List<ComponentDependency> componentDependencies = new ArrayList<>();
-        List<String> fileToComponentLinks = new ArrayList<>();
+        Map<String, ComponentDependency> componentDependenciesMap = new HashMap<>();
+        Set<String> fileToComponentLinks = new HashSet<>();
         dependencies.forEach(dependency -> {
             dependency.getFromFiles().forEach(sourceFileDependency -> {
                 List<NamedSourceCodeAspect> fromComponents = dependency.getFromComponents(groupName);
@@ -76,10 +69,9 @@ public class DependencyUtils {
                 toComponents.forEach(targetComponent -> {
                     String fileToComponentLink = sourceFileDependency.getSourceFile().getFile().getPath() + "::" +
                             targetComponent.getName();
-                    if (!fileToComponentLinks.contains(fileToComponentLink)) {
-                        fileToComponentLinks.add(fileToComponentLink);
+                    if (fileToComponentLinks.add(fileToComponentLink)) {
                         sourceFileDependency.getSourceFile().getLogicalComponents(groupName).forEach(sourceComponent -> {
-                            addComponentDependency(sourceFileDependency, componentDependencies, sourceComponent, targetComponent);
+                            addComponentDependency(sourceFileDependency, componentDependencies, componentDependenciesMap, sourceComponent, targetComponent);
                         });
                     }
                 });
@@ -89,17 +81,20 @@ public class DependencyUtils {
         return componentDependencies;
     }
 
-    private static void addComponentDependency(SourceFileDependency sourceFileDependency, List<ComponentDependency> componentDependencies, NamedSourceCodeAspect
+    private static void addComponentDependency(SourceFileDependency sourceFileDependency, List<ComponentDependency> componentDependencies,
+                                               Map<String, ComponentDependency> componentDependenciesMap, NamedSourceCodeAspect
             sourceComponent, NamedSourceCodeAspect targetComponent) {
         if (!sourceComponent.getName().equalsIgnoreCase(targetComponent.getName())) {
             ComponentDependency componentDependency = new ComponentDependency(sourceComponent.getName(),
                     targetComponent.getName());
-            if (componentDependencies.contains(componentDependency)) {
-                componentDependency = componentDependencies.get(componentDependencies.indexOf(componentDependency));
+            ComponentDependency existingDependency = componentDependenciesMap.get(componentDependency.getDependencyString());
+            if (existingDependency != null) {
+                componentDependency = existingDependency;
                 componentDependency.setCount(componentDependency.getCount() + 1);
             } else {
                 componentDependency.setCount(1);
                 componentDependencies.add(componentDependency);
+                componentDependenciesMap.put(componentDependency.getDependencyString(), componentDependency);
             }
 
             SourceFile sourceFile = sourceFileDependency.getSourceFile();
@@ -17,6 +17,7 @@ public abstract class HeuristicDependenciesExtractor {
     public DependenciesAnalysis extractDependencies(List<SourceFile> files, ProgressFeedback progressFeedback) {
         DependenciesAnalysis dependenciesAnalysis = new DependenciesAnalysis();
         List<Dependency> dependencies = new ArrayList<>();
+        Map<String, Dependency> dependenciesMap = new HashMap<>();
         dependenciesAnalysis.setDependencies(dependencies);
         List<DependencyAnchor> anchors = getDependencyAnchors(files);
 
@@ -31,7 +32,7 @@ public abstract class HeuristicDependenciesExtractor {
             for (DependencyAnchor targetAnchor : anchors) {
                 if (sourceAnchor != targetAnchor) {
                     sourceAnchor.getSourceFiles().forEach(sourceFile -> {
-                        extractDependenciesToTargetAnchor(dependencies, sourceFile, sourceAnchor, targetAnchor);
+                        extractDependenciesToTargetAnchor(dependencies, dependenciesMap, sourceFile, sourceAnchor, targetAnchor);
                     });
                 }
             }
@@ -44,14 +45,14 @@ public abstract class HeuristicDependenciesExtractor {
         return dependenciesAnalysis;
     }
 
-    private void extractDependenciesToTargetAnchor(List<Dependency> dependencies, SourceFile sourceFile, DependencyAnchor sourceAnchor, DependencyAnchor targetAnchor) {
+    private void extractDependenciesToTargetAnchor(List<Dependency> dependencies, Map<String, Dependency> dependenciesMap, SourceFile sourceFile, DependencyAnchor sourceAnchor, DependencyAnchor targetAnchor) {
         String content = sourceFile.getContent();
         if (content.contains(targetAnchor.getAnchor())) {
             String dependencyCodeFragment = targetAnchor.getDependencyCodeFragment(content);
             if (dependencyCodeFragment != null) {
                 SourceFileDependency sourceFileDependency = new SourceFileDependency(sourceFile);
                 sourceFileDependency.setCodeFragment(dependencyCodeFragment);
-                DependencyUtils.addDependency(dependencies, sourceFileDependency, sourceAnchor, targetAnchor);
+                DependencyUtils.addDependency(dependencies, dependenciesMap, sourceFileDependency, sourceAnchor, targetAnchor);
             }
         }
     }
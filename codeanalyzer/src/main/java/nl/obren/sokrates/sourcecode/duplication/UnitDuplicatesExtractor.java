@@ -1,5 +1,6 @@
 package nl.obren.sokrates.sourcecode.duplication;
 
+import nl.obren.sokrates.sourcecode.units.UnitBodyFingerprint;
 import nl.obren.sokrates.sourcecode.units.UnitInfo;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
@@ -7,36 +8,45 @@ import org.apache.commons.logging.LogFactory;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+/**
+ * Finds units with the same normalized bodies. Units are grouped by the fingerprints of their bodies,
+ * and the bodies are compared only for units with the same fingerprint.
+ */
 public class UnitDuplicatesExtractor {
     private static final Log LOG = LogFactory.getLog(UnitDuplicatesExtractor.class);
-    private Map<String, String> cleanedUnitsMap = new HashMap<>();
 
     public List<DuplicationInstance> findDuplicatedUnits(List<UnitInfo> units, int threshold) {
         List<DuplicationInstance> duplicates = new ArrayList<>();
-        Map<String, DuplicationInstance> map = new HashMap<>();
+        Map<UnitBodyFingerprint, List<DuplicationInstance>> map = new HashMap<>();
+        Map<DuplicationInstance, Set<String>> instancePaths = new HashMap<>();
 
         units.forEach(unit1 -> {
-            String bodyForDuplication1 = getLinesCleanedForDuplication(unit1);
-            int size1 = StringUtils.countMatches(bodyForDuplication1, "\n");
+            UnitBodyFingerprint fingerprint = unit1.getBodyFingerprint();
+            int size1 = fingerprint.getBlockSize();
             if (size1 >= threshold) {
-                DuplicatedFileBlock block1 = getDuplicatedFileBlock(unit1);
-                if (map.containsKey(bodyForDuplication1)) {
-                    DuplicationInstance instance = map.get(bodyForDuplication1);
-                    if (!containsBlock(instance, block1)) {
-                        instance.getDuplicatedFileBlocks().add(block1);
+                List<DuplicationInstance> instances = map.computeIfAbsent(fingerprint, k -> new ArrayList<>(1));
+                DuplicationInstance instance = instances.stream()
+                        .filter(candidate -> UnitBodyFingerprint.sameNormalizedBody(candidate.getDisplayContent(), unit1.getCleanedBody()))
+                        .findFirst().orElse(null);
+                if (instance == null) {
+                    if (instances.size() > 0) {
+                        LOG.debug("Different unit bodies with the same fingerprint: " + unit1.getLongName());
                     }
-                } else {
-                    DuplicationInstance instance = new DuplicationInstance();
+                    instance = new DuplicationInstance();
                     instance.setDisplayContent(unit1.getCleanedBody());
                     instance.setBlockSize(size1);
-
-                    instance.getDuplicatedFileBlocks().add(block1);
                     duplicates.add(instance);
-                    map.put(bodyForDuplication1, instance);
+                    instances.add(instance);
+                }
+                String path = unit1.getSourceFile().getRelativePath().toLowerCase();
+                if (instancePaths.computeIfAbsent(instance, k -> new HashSet<>()).add(path)) {
+                    instance.getDuplicatedFileBlocks().add(getDuplicatedFileBlock(unit1));
                 }
             }
         });
@@ -45,10 +55,6 @@ public class UnitDuplicatesExtractor {
     }
 
     public String getLinesCleanedForDuplication(UnitInfo unit) {
-        String key = unit.getSourceFile().getRelativePath() + " " + unit.getStartLine() + ":" + unit.getEndLine();
-        if (cleanedUnitsMap.containsKey(key)) {
-            return cleanedUnitsMap.get(key);
-        }
         List<String> lines = new ArrayList<>();
         if (unit != null) {
             String cleanedBody = unit.getCleanedBody();
@@ -62,10 +68,7 @@ public class UnitDuplicatesExtractor {
             }
         }
 
-        String body = lines.stream().skip(1).collect(Collectors.joining("\n"));
-        cleanedUnitsMap.put(key, body);
-
-        return body;
+        return lines.stream().skip(1).collect(Collectors.joining("\n"));
     }
 
     public DuplicatedFileBlock getDuplicatedFileBlock(UnitInfo unit) {
@@ -78,14 +81,4 @@ public class UnitDuplicatesExtractor {
         block1.setSourceFileCleanedLinesOfCode(0);
         return block1;
     }
-
-    private boolean containsBlock(DuplicationInstance instance, DuplicatedFileBlock block) {
-        for (DuplicatedFileBlock duplicatedFileBlock : instance.getDuplicatedFileBlocks()) {
-            if (duplicatedFileBlock.getSourceFile().getRelativePath().equalsIgnoreCase(block.getSourceFile().getRelativePath())) {
-                return true;
-            }
-        }
-
-        return false;
-    }
 }
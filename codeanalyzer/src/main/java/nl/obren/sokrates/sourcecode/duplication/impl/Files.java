@@ -4,6 +4,7 @@
 
 package nl.obren.sokrates.sourcecode.duplication.impl;
 
+import nl.obren.sokrates.common.utils.ProcessingStopwatch;
 import nl.obren.sokrates.common.utils.ProgressFeedback;
 import nl.obren.sokrates.sourcecode.SourceFile;
 import nl.obren.sokrates.sourcecode.cleaners.CleanedContent;
@@ -78,7 +79,8 @@ public class Files {
 
     private List<Integer> getLinesAsNumbers(SourceFile sourceFile) throws IOException {
         LanguageAnalyzer languageAnalyzer = LanguageAnalyzerFactory.getInstance().getLanguageAnalyzer(sourceFile);
-        CleanedContent cleanedContent = languageAnalyzer.cleanForDuplicationCalculations(sourceFile);
+        CleanedContent cleanedContent = ProcessingStopwatch.measure("analysis/duplication/cleaning/" + languageAnalyzer.getClass().getSimpleName(),
+                () -> languageAnalyzer.cleanForDuplicationCalculations(sourceFile));
 
         pathToCleanedContent.put(sourceFile, cleanedContent);
         totalCleanedLinesOfCode += cleanedContent.getFileLineIndexes().size();
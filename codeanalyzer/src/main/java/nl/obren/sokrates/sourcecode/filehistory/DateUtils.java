@@ -9,7 +9,12 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAdjusters;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class DateUtils {
     public static final String ENV_SOKRATES_ANALYSIS_DATE = "SOKRATES_ANALYSIS_DATE";
@@ -17,9 +22,9 @@ public class DateUtils {
     public static String dateParam = null;
     private static String latestCommitDate = "";
 
-    private static Map<String, Boolean> dateInRangeCache = new HashMap<>();
-    private static Map<String, Boolean> dateBetweenCache = new HashMap<>();
-    private static Map<String, String> mondays = new HashMap<>();
+    private static Map<String, Boolean> dateInRangeCache = new ConcurrentHashMap<>();
+    private static Map<String, Boolean> dateBetweenCache = new ConcurrentHashMap<>();
+    private static Map<String, String> mondays = new ConcurrentHashMap<>();
 
     public static boolean isDateWithinRange(String date, int rangeInDays) {
         if (StringUtils.isBlank(date)) {
@@ -118,13 +123,8 @@ public class DateUtils {
             return dateBetweenCache.get(key);
         }
 
-        Calendar cal1 = DateUtils.getCalendar();
-        cal1.add(Calendar.DATE, -daysAgo1);
-        String thresholdDate1 = new SimpleDateFormat(DATE_FORMAT).format(cal1.getTime());
-
-        Calendar cal2 = DateUtils.getCalendar();
-        cal2.add(Calendar.DATE, -daysAgo2);
-        String thresholdDate2 = new SimpleDateFormat(DATE_FORMAT).format(cal2.getTime());
+        String thresholdDate1 = getDateDaysAgo(daysAgo1);
+        String thresholdDate2 = getDateDaysAgo(daysAgo2);
 
         boolean inRange = date.compareTo(thresholdDate2) >= 0 && date.compareTo(thresholdDate1) <= 0;
         dateBetweenCache.put(key, inRange);
@@ -132,6 +132,13 @@ public class DateUtils {
         return inRange;
     }
 
+    // the "yyyy-MM-dd" date the given number of days before the analysis date
+    public static String getDateDaysAgo(int daysAgo) {
+        Calendar calendar = DateUtils.getCalendar();
+        calendar.add(Calendar.DATE, -daysAgo);
+        return new SimpleDateFormat(DATE_FORMAT).format(calendar.getTime());
+    }
+
     public static Calendar getCalendar() {
         Calendar calendar = Calendar.getInstance();
 
@@ -210,6 +217,15 @@ public class DateUtils {
         if (mondays.containsKey(date)) {
             return mondays.get(date);
         }
+        if (date.length() >= 10) {
+            try {
+                String formatedDate = LocalDate.parse(date.substring(0, 10)).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).toString();
+                mondays.put(date, formatedDate);
+                return formatedDate;
+            } catch (DateTimeParseException e) {
+                // falls back to the lenient parsing below
+            }
+        }
         Calendar calendar = getCalendar(date);
 
         if (calendar != null) {
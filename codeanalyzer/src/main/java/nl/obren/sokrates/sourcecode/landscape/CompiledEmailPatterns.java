@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.sourcecode.landscape;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Email patterns of people or teams compiled once, finding the first item (in configuration order)
+ * with a pattern matching the whole email. Results are cached per email, and it can be shared between threads.
+ */
+public class CompiledEmailPatterns<T> {
+    private static final Log LOG = LogFactory.getLog(CompiledEmailPatterns.class);
+
+    private final List<T> items = new ArrayList<>();
+    private final List<List<Pattern>> patterns = new ArrayList<>();
+    private final Map<String, Optional<T>> cache = new ConcurrentHashMap<>();
+
+    public CompiledEmailPatterns(List<T> items, Function<T, List<String>> emailPatterns) {
+        items.forEach(item -> {
+            List<Pattern> itemPatterns = new ArrayList<>();
+            emailPatterns.apply(item).forEach(regex -> {
+                try {
+                    itemPatterns.add(Pattern.compile(regex));
+                } catch (PatternSyntaxException e) {
+                    LOG.debug(e);
+                }
+            });
+            this.items.add(item);
+            this.patterns.add(itemPatterns);
+        });
+    }
+
+    // null if no pattern matches
+    public T find(String email) {
+        return cache.computeIfAbsent(email, this::findFirst).orElse(null);
+    }
+
+    private Optional<T> findFirst(String email) {
+        for (int i = 0; i < items.size(); i++) {
+            for (Pattern pattern : patterns.get(i)) {
+                if (pattern.matcher(email).matches()) {
+                    return Optional.of(items.get(i));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -153,104 +153,6 @@ public class ContributorConnectionUtils {
         return dependencies;
     }
 
-    public static List<ComponentDependency> getPeopleDependencies(List<ContributorRepositories> contributors, int daysAgo1, int daysAgo2) {
-        Map<String, List<String>> repositoriesMap = new HashMap<>();
-
-        contributors.stream()
-                .forEach(contributorRepositories -> {
-                    contributorRepositories.getRepositories().stream()
-                            .filter(repository -> DateUtils.isAnyDateCommittedBetween(repository.getCommitDates(), daysAgo1, daysAgo2))
-                            .forEach(repository -> {
-                                String email = contributorRepositories.getContributor().getEmail();
-                                String repositoryName = "[" + repository.getRepositoryAnalysisResults().getAnalysisResults().getMetadata().getName() + "]";
-                                if (repositoriesMap.containsKey(repositoryName)) {
-                                    List<String> emails = repositoriesMap.get(repositoryName);
-                                    if (!emails.contains(email)) {
-                                        emails.add(email);
-                                    }
-                                } else {
-                                    repositoriesMap.put(repositoryName, new ArrayList<>(Arrays.asList(email)));
-                                }
-                            });
-                });
-
-        List<ComponentDependency> dependencies = new ArrayList<>();
-        Map<String, ComponentDependency> dependenciesMap = new HashMap<>();
-        Map<String, List<String>> repositoryNamesMap = new HashMap<>();
-
-        repositoriesMap.keySet().forEach(repositoryName -> {
-            List<String> emails = repositoriesMap.get(repositoryName);
-            emails.forEach(email1 -> {
-                emails.stream().filter(email2 -> !email1.equalsIgnoreCase(email2)).forEach(email2 -> {
-                    if (dependencies.size() > MAX_PEOPLE_DEPENDENCIES_SIZE) {
-                        return;
-                    }
-                    String key1 = email1 + "::" + email2;
-                    String key2 = email2 + "::" + email1;
-
-                    if (dependenciesMap.containsKey(key1)) {
-                        if (!repositoryNamesMap.get(key1).contains(repositoryName)) {
-                            dependenciesMap.get(key1).increment(1);
-                            repositoryNamesMap.get(key1).add(repositoryName);
-                        }
-                    } else if (dependenciesMap.containsKey(key2)) {
-                        if (!repositoryNamesMap.get(key2).contains(repositoryName)) {
-                            dependenciesMap.get(key2).increment(1);
-                            repositoryNamesMap.get(key2).add(repositoryName);
-                        }
-                    } else {
-                        ComponentDependency dependency = new ComponentDependency(email1, email2);
-                        dependenciesMap.put(key1, dependency);
-                        dependencies.add(dependency);
-                        repositoryNamesMap.put(key1, new ArrayList<>(Arrays.asList(repositoryName)));
-                    }
-                });
-            });
-        });
-
-        return dependencies;
-    }
-
-    public static List<ComponentDependency> getPeopleRepositoryDependencies(List<ContributorRepositories> contributors, int daysAgo1, int daysAgo2) {
-        List<ComponentDependency> dependencies = new ArrayList<>();
-        Map<String, ComponentDependency> dependenciesMap = new HashMap<>();
-        Map<String, List<String>> repositoryNamesMap = new HashMap<>();
-
-        contributors.stream()
-                .forEach(contributorRepositories -> {
-                    contributorRepositories.getRepositories().stream()
-                            .filter(repository -> DateUtils.isAnyDateCommittedBetween(repository.getCommitDates(), daysAgo1, daysAgo2))
-                            .forEach(repository -> {
-                                if (dependencies.size() > MAX_PEOPLE_DEPENDENCIES_SIZE) {
-                                    return;
-                                }
-                                String email = contributorRepositories.getContributor().getEmail();
-                                String repositoryName = "[" + repository.getRepositoryAnalysisResults().getAnalysisResults().getMetadata().getName() + "]";
-                                String key1 = email + "::" + repositoryName;
-                                String key2 = repositoryName + "::" + email;
-
-                                if (dependenciesMap.containsKey(key1)) {
-                                    if (!repositoryNamesMap.get(key1).contains(repositoryName)) {
-                                        dependenciesMap.get(key1).increment(1);
-                                        repositoryNamesMap.get(key1).add(repositoryName);
-                                    }
-                                } else if (dependenciesMap.containsKey(key2)) {
-                                    if (!repositoryNamesMap.get(key2).contains(repositoryName)) {
-                                        dependenciesMap.get(key2).increment(1);
-                                        repositoryNamesMap.get(key2).add(repositoryName);
-                                    }
-                                } else {
-                                    ComponentDependency dependency = new ComponentDependency(email, repositoryName);
-                                    dependenciesMap.put(key1, dependency);
-                                    dependencies.add(dependency);
-                                    repositoryNamesMap.put(key1, new ArrayList<>(Arrays.asList(repositoryName)));
-                                }
-                            });
-                });
-
-        return dependencies;
-    }
-
     public static int getRepositoryCount(List<ContributorRepositories> contributors, String email, int daysAgo1, int daysAgo2) {
         Set<String> repositoryNames = new HashSet<>();
         contributors.stream().filter(c -> c.getContributor().getEmail().equalsIgnoreCase(email)).forEach(contributorRepositories -> {
@@ -263,43 +165,6 @@ public class ContributorConnectionUtils {
         return repositoryNames.size();
     }
 
-    public static List<ContributorConnections> getConnectionsViaRepositories(List<ContributorRepositories> contributors, List<ComponentDependency> peopleDependencies, int daysAgo1, int daysAgo2) {
-        Map<String, ContributorConnections> map = new HashMap<>();
-
-        peopleDependencies.forEach(dependency -> {
-            String from = dependency.getFromComponent();
-            String to = dependency.getToComponent();
-
-            ContributorConnections contributorConnections1 = map.get(from);
-            ContributorConnections contributorConnections2 = map.get(to);
-
-            if (contributorConnections1 == null) {
-                contributorConnections1 = new ContributorConnections();
-                contributorConnections1.setEmail(from);
-                contributorConnections1.setRepositoriesCount(ContributorConnectionUtils.getRepositoryCount(contributors, from, daysAgo1, daysAgo2));
-                contributorConnections1.setConnectionsCount(1);
-                map.put(from, contributorConnections1);
-            } else {
-                contributorConnections1.setConnectionsCount(contributorConnections1.getConnectionsCount() + 1);
-            }
-
-            if (contributorConnections2 == null) {
-                contributorConnections2 = new ContributorConnections();
-                contributorConnections2.setEmail(to);
-                contributorConnections2.setRepositoriesCount(ContributorConnectionUtils.getRepositoryCount(contributors, to, daysAgo1, daysAgo2));
-                contributorConnections2.setConnectionsCount(1);
-                map.put(to, contributorConnections2);
-            } else {
-                contributorConnections2.setConnectionsCount(contributorConnections2.getConnectionsCount() + 1);
-            }
-        });
-
-        List<ContributorConnections> names = new ArrayList<>(map.values());
-        names.sort((a, b) -> b.getConnectionsCount() - a.getConnectionsCount());
-
-        return names;
-    }
-
     public static List<ComponentDependency> getRepositoryDependenciesViaPeople(List<ContributorRepositories> contributors, int daysAgo1, int daysAgo2) {
         Map<String, ComponentDependency> map = new HashMap<>();
 
@@ -335,80 +200,75 @@ public class ContributorConnectionUtils {
     }
 
     public static double getCIndex(List<ContributorConnections> contributorConnections) {
-        List<ContributorConnections> list = new ArrayList<>(contributorConnections);
-        list.sort((a, b) -> b.getConnectionsCount() - a.getConnectionsCount());
-        for (int factor = 0; factor < list.size(); factor++) {
-            if (factor == list.get(factor).getConnectionsCount()) {
-                return factor;
-            } else if (factor > list.get(factor).getConnectionsCount()) {
-                return factor - 1;
-            }
-        }
-        return 0;
+        return getIndex(getSortedConnectionsCounts(contributorConnections));
     }
 
     public static double getCMedian(List<ContributorConnections> contributorConnections) {
-        List<ContributorConnections> list = new ArrayList<>(contributorConnections);
-        list.sort((a, b) -> b.getConnectionsCount() - a.getConnectionsCount());
-        int n = list.size();
-        if (n > 0) {
-            int middle = n / 2;
-            if (n % 2 == 1) {
-                return list.get(middle).getConnectionsCount();
-            } else {
-                return (list.get(middle - 1).getConnectionsCount() + list.get(middle).getConnectionsCount()) / 2.0;
-            }
-        }
-        return 0;
+        return getMedian(getSortedConnectionsCounts(contributorConnections));
     }
 
     public static double getCMean(List<ContributorConnections> contributorConnections) {
-        List<ContributorConnections> list = new ArrayList<>(contributorConnections);
-        list.sort((a, b) -> b.getConnectionsCount() - a.getConnectionsCount());
-        if (list.size() > 0) {
-            int total[] = {0};
-            list.forEach(connections -> total[0] += connections.getConnectionsCount());
-            return (double) total[0] / list.size();
+        return getMean(getSortedConnectionsCounts(contributorConnections));
+    }
+
+    public static double getPMedian(List<ContributorConnections> contributorConnections) {
+        return getMedian(getSortedRepositoriesCounts(contributorConnections));
+    }
+
+    public static double getPMean(List<ContributorConnections> contributorConnections) {
+        return getMean(getSortedRepositoriesCounts(contributorConnections));
+    }
+
+    public static double getPIndex(List<ContributorConnections> contributorConnections) {
+        return getIndex(getSortedRepositoriesCounts(contributorConnections));
+    }
+
+    private static int[] getSortedConnectionsCounts(List<ContributorConnections> contributorConnections) {
+        int[] counts = contributorConnections.stream().mapToInt(ContributorConnections::getConnectionsCount).toArray();
+        Arrays.sort(counts);
+        return counts;
+    }
+
+    private static int[] getSortedRepositoriesCounts(List<ContributorConnections> contributorConnections) {
+        int[] counts = contributorConnections.stream().mapToInt(ContributorConnections::getRepositoriesCount).toArray();
+        Arrays.sort(counts);
+        return counts;
+    }
+
+    // h-index style factor over counts sorted in ascending order (walked from the largest count)
+    private static double getIndex(int[] sortedCounts) {
+        int n = sortedCounts.length;
+        for (int factor = 0; factor < n; factor++) {
+            int count = sortedCounts[n - 1 - factor];
+            if (factor == count) {
+                return factor;
+            } else if (factor > count) {
+                return factor - 1;
+            }
         }
         return 0;
     }
 
-    public static double getPMedian(List<ContributorConnections> contributorConnections) {
-        List<ContributorConnections> list = new ArrayList<>(contributorConnections);
-        ;
-        list.sort((a, b) -> b.getRepositoriesCount() - a.getRepositoriesCount());
-        int n = list.size();
+    private static double getMedian(int[] sortedCounts) {
+        int n = sortedCounts.length;
         if (n > 0) {
             int middle = n / 2;
             if (n % 2 == 1) {
-                return list.get(middle).getRepositoriesCount();
+                return sortedCounts[middle];
             } else {
-                return (list.get(middle - 1).getRepositoriesCount() + list.get(middle).getRepositoriesCount()) / 2.0;
+                return (sortedCounts[middle - 1] + sortedCounts[middle]) / 2.0;
             }
         }
         return 0;
     }
 
-    public static double getPMean(List<ContributorConnections> contributorConnections) {
-        List<ContributorConnections> list = new ArrayList<>(contributorConnections);
-        ;
-        if (list.size() > 0) {
-            int total[] = {0};
-            list.forEach(connections -> total[0] += connections.getRepositoriesCount());
-            return (double) total[0] / list.size();
-        }
-        return 0;
-    }
-
-    public static double getPIndex(List<ContributorConnections> contributorConnections) {
-        List<ContributorConnections> list = new ArrayList<>(contributorConnections);
-        list.sort((a, b) -> b.getRepositoriesCount() - a.getRepositoriesCount());
-        for (int factor = 0; factor < list.size(); factor++) {
-            if (factor == list.get(factor).getRepositoriesCount()) {
-                return factor;
-            } else if (factor > list.get(factor).getRepositoriesCount()) {
-                return factor - 1;
+    private static double getMean(int[] counts) {
+        if (counts.length > 0) {
+            long total = 0;
+            for (int count : counts) {
+                total += count;
             }
+            return (double) total / counts.length;
         }
         return 0;
     }
@@ -126,6 +126,15 @@ public class LandscapeConfiguration {
     // An optional HTML fragment to be included in the report HTML header (e.g. Google Analytics smippet)
     private String customHtmlReportHeaderFragment = "";
 
+    // If true, images, styles and scripts are embedded in every generated HTML page (self-contained single-file pages). If false, they are written once to a shared "assets" folder.
+    private boolean inlineReportAssets = false;
+
+    // If true, individual contributor, team and bot pages are regenerated only when their inputs changed since the previous report generation
+    private boolean skipUnchangedIndividualReports = false;
+
+    // If true, prepared repository analyses are cached in the "analysis-cache" folder next to this config, and only the repositories with changed analysis files are read again
+    private boolean cacheRepositoryAnalyses = false;
+
     // values automatically populated by Sokrates, do not change manually
     @JsonIgnore
     private List<SubLandscapeLink> subLandscapes = new ArrayList<>();
@@ -424,6 +433,30 @@ public class LandscapeConfiguration {
         this.mergeExtensions = mergeExtensions;
     }
 
+    public boolean isInlineReportAssets() {
+        return inlineReportAssets;
+    }
+
+    public void setInlineReportAssets(boolean inlineReportAssets) {
+        this.inlineReportAssets = inlineReportAssets;
+    }
+
+    public boolean isSkipUnchangedIndividualReports() {
+        return skipUnchangedIndividualReports;
+    }
+
+    public void setSkipUnchangedIndividualReports(boolean skipUnchangedIndividualReports) {
+        this.skipUnchangedIndividualReports = skipUnchangedIndividualReports;
+    }
+
+    public boolean isCacheRepositoryAnalyses() {
+        return cacheRepositoryAnalyses;
+    }
+
+    public void setCacheRepositoryAnalyses(boolean cacheRepositoryAnalyses) {
+        this.cacheRepositoryAnalyses = cacheRepositoryAnalyses;
+    }
+
     public String getCustomHtmlReportHeaderFragment() {
         return customHtmlReportHeaderFragment;
     }
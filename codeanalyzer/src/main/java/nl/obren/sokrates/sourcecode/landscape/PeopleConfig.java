@@ -1,12 +1,12 @@
 package nl.obren.sokrates.sourcecode.landscape;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
-import nl.obren.sokrates.common.utils.RegexUtils;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class PeopleConfig {
     private List<PersonConfig> people = new ArrayList<>();
@@ -14,10 +14,14 @@ public class PeopleConfig {
     public PeopleConfig() {
     }
 
+    // compiled on first use from the configured people
     @JsonIgnore
-    private static final Map<String, PersonConfig> cache = new HashMap<>();
+    private volatile CompiledEmailPatterns<PersonConfig> compiledPeople;
     @JsonIgnore
-    private static final Map<String, PersonConfig> nameCache = new HashMap<>();
+    private volatile Map<String, PersonConfig> peopleByName;
+    // people created for contributors not in the configuration, so the same object is returned each time
+    @JsonIgnore
+    private final Map<String, PersonConfig> unknownPeople = new ConcurrentHashMap<>();
 
     public List<PersonConfig> getPeople() {
         return people;
@@ -25,42 +29,49 @@ public class PeopleConfig {
 
     public void setPeople(List<PersonConfig> people) {
         this.people = people;
+        this.compiledPeople = null;
+        this.peopleByName = null;
+        this.unknownPeople.clear();
     }
 
     @JsonIgnore
     public PersonConfig getPersonFromEmailPatterns(String contributorId) {
-        if (cache.containsKey(contributorId)) {
-            return cache.get(contributorId);
-        }
-        for (PersonConfig person : people) {
-            if (RegexUtils.matchesAnyPattern(contributorId, person.getEmailPatterns())) {
-                cache.put(contributorId, person);
-                return person;
-            }
-        }
-
-        PersonConfig newPersonConfig = new PersonConfig();
-        newPersonConfig.setName(contributorId);
-        cache.put(contributorId, newPersonConfig);
-
-        return newPersonConfig;
+        PersonConfig person = getCompiledPeople().find(contributorId);
+        return person != null ? person : getUnknownPerson(contributorId);
     }
+
     @JsonIgnore
     public PersonConfig getPersonByName(String name) {
-        if (nameCache.containsKey(name)) {
-            return nameCache.get(name);
+        PersonConfig person = getPeopleByName().get(name);
+        return person != null ? person : getUnknownPerson(name);
+    }
+
+    private PersonConfig getUnknownPerson(String name) {
+        return unknownPeople.computeIfAbsent(name, k -> {
+            PersonConfig newPersonConfig = new PersonConfig();
+            newPersonConfig.setName(name);
+            return newPersonConfig;
+        });
+    }
+
+    private CompiledEmailPatterns<PersonConfig> getCompiledPeople() {
+        CompiledEmailPatterns<PersonConfig> compiled = compiledPeople;
+        if (compiled == null) {
+            compiled = new CompiledEmailPatterns<>(people, PersonConfig::getEmailPatterns);
+            compiledPeople = compiled;
         }
-        for (PersonConfig person : people) {
-            if (person.getName().equals(name)) {
-                cache.put(name, person);
-                return person;
+        return compiled;
+    }
+
+    private Map<String, PersonConfig> getPeopleByName() {
+        Map<String, PersonConfig> byName = peopleByName;
+        if (byName == null) {
+            byName = new HashMap<>();
+            for (PersonConfig person : people) {
+                byName.putIfAbsent(person.getName(), person);
             }
+            peopleByName = byName;
         }
-
-        PersonConfig newPersonConfig = new PersonConfig();
-        newPersonConfig.setName(name);
-        cache.put(name, newPersonConfig);
-
-        return newPersonConfig;
+        return byName;
     }
 }
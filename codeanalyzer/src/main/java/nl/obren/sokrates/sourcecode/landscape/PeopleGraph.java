@@ -0,0 +1,356 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.sourcecode.landscape;
+
+import nl.obren.sokrates.sourcecode.dependencies.ComponentDependency;
+import nl.obren.sokrates.sourcecode.filehistory.DateUtils;
+import nl.obren.sokrates.sourcecode.landscape.analysis.ContributorConnections;
+import nl.obren.sokrates.sourcecode.landscape.analysis.ContributorRepositories;
+import nl.obren.sokrates.sourcecode.landscape.analysis.ContributorRepositoryInfo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static nl.obren.sokrates.sourcecode.landscape.ContributorConnectionUtils.MAX_PEOPLE_DEPENDENCIES_SIZE;
+
+/**
+ * A bipartite graph of contributors and repositories, with contributors (by case-insensitive email)
+ * and repositories (by name) interned as ints.
+ * <p>
+ * Every contributor-repository edge keeps a bit mask of the periods in which the contributor committed to the repository,
+ * so connections between contributors for all periods are counted in one pass over the repositories.
+ * The weight of a connection is the number of repositories both contributors committed to in the period.
+ * As in the original per-period calculation, at most MAX_PEOPLE_DEPENDENCIES_SIZE connections are collected per period.
+ */
+public class PeopleGraph {
+    private final int[][] periods;
+    private final String[] fromDates;
+    private final String[] toDates;
+
+    private final List<String> emails = new ArrayList<>();
+    private final Map<String, Integer> contributorIds = new HashMap<>();
+    private final List<String> repositoryNames = new ArrayList<>();
+    private final Map<String, Integer> repositoryIds = new HashMap<>();
+
+    private int edgesCount = 0;
+    private int[] edgeContributors = new int[64];
+    private int[] edgeRepositories = new int[64];
+    private long[] edgeMasks = new long[64];
+
+    private int pairsCount = 0;
+    private int[] pairFrom = new int[64];
+    private int[] pairTo = new int[64];
+    private int[] pairWeights;
+
+    private final int[] activeContributorsCounts;
+    private final int[] connectionsCounts;
+    private int[][] repositoriesCounts;
+
+    public PeopleGraph(List<ContributorRepositories> contributors, int[]... periods) {
+        if (periods.length == 0 || periods.length > Long.SIZE) {
+            throw new IllegalArgumentException("The number of periods must be between 1 and " + Long.SIZE + ".");
+        }
+        this.periods = periods;
+        this.fromDates = new String[periods.length];
+        this.toDates = new String[periods.length];
+        for (int p = 0; p < periods.length; p++) {
+            toDates[p] = DateUtils.getDateDaysAgo(periods[p][0]);
+            fromDates[p] = DateUtils.getDateDaysAgo(periods[p][1]);
+        }
+        this.activeContributorsCounts = new int[periods.length];
+        this.connectionsCounts = new int[periods.length];
+        this.pairWeights = new int[64 * periods.length];
+
+        addEdges(contributors);
+        countRepositories();
+        addPairs();
+    }
+
+    private void addEdges(List<ContributorRepositories> contributors) {
+        LongIntMap edgeIndexes = new LongIntMap();
+        contributors.forEach(contributorRepositories -> {
+            String email = contributorRepositories.getContributor().getEmail();
+            int contributorId = intern(email.toLowerCase(), email, contributorIds, emails);
+            long activeMask = 0;
+            for (ContributorRepositoryInfo repository : contributorRepositories.getRepositories()) {
+                long mask = getPeriodsMask(repository.getCommitDates());
+                if (mask == 0) {
+                    continue;
+                }
+                activeMask |= mask;
+                String repositoryName = repository.getRepositoryAnalysisResults().getAnalysisResults().getMetadata().getName();
+                int repositoryId = intern(repositoryName, repositoryName, repositoryIds, repositoryNames);
+                long key = ((long) contributorId << 32) | repositoryId;
+                int edgeIndex = edgeIndexes.get(key);
+                if (edgeIndex >= 0) {
+                    edgeMasks[edgeIndex] |= mask;
+                } else {
+                    edgeIndexes.put(key, edgesCount);
+                    addEdge(contributorId, repositoryId, mask);
+                }
+            }
+            for (int p = 0; p < periods.length; p++) {
+                if ((activeMask & (1L << p)) != 0) {
+                    activeContributorsCounts[p]++;
+                }
+            }
+        });
+    }
+
+    private static int intern(String key, String value, Map<String, Integer> ids, List<String> values) {
+        Integer id = ids.get(key);
+        if (id == null) {
+            id = values.size();
+            ids.put(key, id);
+            values.add(value);
+        }
+        return id;
+    }
+
+    private long getPeriodsMask(List<String> commitDates) {
+        long mask = 0;
+        long allPeriodsMask = periods.length == Long.SIZE ? -1L : (1L << periods.length) - 1;
+        for (String date : commitDates) {
+            for (int p = 0; p < periods.length; p++) {
+                if (date.compareTo(fromDates[p]) >= 0 && date.compareTo(toDates[p]) <= 0) {
+                    mask |= 1L << p;
+                }
+            }
+            if (mask == allPeriodsMask) {
+                break;
+            }
+        }
+        return mask;
+    }
+
+    private void addEdge(int contributorId, int repositoryId, long mask) {
+        if (edgesCount == edgeContributors.length) {
+            edgeContributors = Arrays.copyOf(edgeContributors, edgesCount * 2);
+            edgeRepositories = Arrays.copyOf(edgeRepositories, edgesCount * 2);
+            edgeMasks = Arrays.copyOf(edgeMasks, edgesCount * 2);
+        }
+        edgeContributors[edgesCount] = contributorId;
+        edgeRepositories[edgesCount] = repositoryId;
+        edgeMasks[edgesCount] = mask;
+        edgesCount++;
+    }
+
+    private void countRepositories() {
+        repositoriesCounts = new int[periods.length][emails.size()];
+        for (int e = 0; e < edgesCount; e++) {
+            long mask = edgeMasks[e];
+            for (int p = 0; p < periods.length; p++) {
+                if ((mask & (1L << p)) != 0) {
+                    repositoriesCounts[p][edgeContributors[e]]++;
+                }
+            }
+        }
+    }
+
+    private void addPairs() {
+        // edges grouped by repository (stable counting sort, keeps the order of contributors)
+        int[] repositoryStart = new int[repositoryNames.size() + 1];
+        for (int e = 0; e < edgesCount; e++) {
+            repositoryStart[edgeRepositories[e] + 1]++;
+        }
+        for (int r = 0; r < repositoryNames.size(); r++) {
+            repositoryStart[r + 1] += repositoryStart[r];
+        }
+        int[] next = Arrays.copyOf(repositoryStart, repositoryNames.size());
+        int[] repositoryEdges = new int[edgesCount];
+        for (int e = 0; e < edgesCount; e++) {
+            repositoryEdges[next[edgeRepositories[e]]++] = e;
+        }
+
+        LongIntMap pairIndexes = new LongIntMap();
+        long cappedMask = 0;
+        for (int r = 0; r < repositoryNames.size(); r++) {
+            for (int i = repositoryStart[r]; i < repositoryStart[r + 1]; i++) {
+                int edge1 = repositoryEdges[i];
+                for (int j = i + 1; j < repositoryStart[r + 1]; j++) {
+                    int edge2 = repositoryEdges[j];
+                    long commonMask = edgeMasks[edge1] & edgeMasks[edge2];
+                    if (commonMask == 0) {
+                        continue;
+                    }
+                    int contributor1 = edgeContributors[edge1];
+                    int contributor2 = edgeContributors[edge2];
+                    long key = contributor1 < contributor2
+                            ? ((long) contributor1 << 32) | contributor2
+                            : ((long) contributor2 << 32) | contributor1;
+                    int pairIndex = pairIndexes.get(key);
+                    if (pairIndex < 0) {
+                        if ((commonMask & ~cappedMask) == 0) {
+                            continue;
+                        }
+                        pairIndex = addPair(contributor1, contributor2);
+                        pairIndexes.put(key, pairIndex);
+                    }
+                    cappedMask = addWeights(pairIndex, commonMask, cappedMask);
+                }
+            }
+        }
+    }
+
+    private int addPair(int contributor1, int contributor2) {
+        if (pairsCount == pairFrom.length) {
+            pairFrom = Arrays.copyOf(pairFrom, pairsCount * 2);
+            pairTo = Arrays.copyOf(pairTo, pairsCount * 2);
+            pairWeights = Arrays.copyOf(pairWeights, pairsCount * 2 * periods.length);
+        }
+        pairFrom[pairsCount] = contributor1;
+        pairTo[pairsCount] = contributor2;
+        return pairsCount++;
+    }
+
+    private long addWeights(int pairIndex, long commonMask, long cappedMask) {
+        int offset = pairIndex * periods.length;
+        for (int p = 0; p < periods.length; p++) {
+            if ((commonMask & (1L << p)) == 0) {
+                continue;
+            }
+            if (pairWeights[offset + p] == 0) {
+                if ((cappedMask & (1L << p)) != 0) {
+                    continue;
+                }
+                connectionsCounts[p]++;
+                if (connectionsCounts[p] > MAX_PEOPLE_DEPENDENCIES_SIZE) {
+                    cappedMask |= 1L << p;
+                }
+            }
+            pairWeights[offset + p]++;
+        }
+        return cappedMask;
+    }
+
+    private int getPeriodIndex(int daysAgo1, int daysAgo2) {
+        for (int p = 0; p < periods.length; p++) {
+            if (periods[p][0] == daysAgo1 && periods[p][1] == daysAgo2) {
+                return p;
+            }
+        }
+        throw new IllegalArgumentException("The period " + daysAgo1 + "-" + daysAgo2 + " days ago is not included in the graph.");
+    }
+
+    public List<ComponentDependency> getPeopleDependencies(int daysAgo1, int daysAgo2) {
+        int p = getPeriodIndex(daysAgo1, daysAgo2);
+        List<ComponentDependency> dependencies = new ArrayList<>();
+        for (int i = 0; i < pairsCount; i++) {
+            int weight = pairWeights[i * periods.length + p];
+            if (weight > 0) {
+                ComponentDependency dependency = new ComponentDependency(emails.get(pairFrom[i]), emails.get(pairTo[i]));
+                dependency.setCount(weight);
+                dependencies.add(dependency);
+            }
+        }
+        return dependencies;
+    }
+
+    public List<ComponentDependency> getPeopleRepositoryDependencies(int daysAgo1, int daysAgo2) {
+        long bit = 1L << getPeriodIndex(daysAgo1, daysAgo2);
+        List<ComponentDependency> dependencies = new ArrayList<>();
+        for (int e = 0; e < edgesCount && dependencies.size() <= MAX_PEOPLE_DEPENDENCIES_SIZE; e++) {
+            if ((edgeMasks[e] & bit) != 0) {
+                String repositoryName = "[" + repositoryNames.get(edgeRepositories[e]) + "]";
+                dependencies.add(new ComponentDependency(emails.get(edgeContributors[e]), repositoryName));
+            }
+        }
+        return dependencies;
+    }
+
+    public List<ContributorConnections> getConnectionsViaRepositories(int daysAgo1, int daysAgo2) {
+        int p = getPeriodIndex(daysAgo1, daysAgo2);
+        int[] connections = new int[emails.size()];
+        for (int i = 0; i < pairsCount; i++) {
+            if (pairWeights[i * periods.length + p] > 0) {
+                connections[pairFrom[i]]++;
+                connections[pairTo[i]]++;
+            }
+        }
+
+        List<ContributorConnections> list = new ArrayList<>();
+        for (int c = 0; c < connections.length; c++) {
+            if (connections[c] > 0) {
+                ContributorConnections contributorConnections = new ContributorConnections();
+                contributorConnections.setEmail(emails.get(c));
+                contributorConnections.setRepositoriesCount(repositoriesCounts[p][c]);
+                contributorConnections.setConnectionsCount(connections[c]);
+                list.add(contributorConnections);
+            }
+        }
+        list.sort((a, b) -> b.getConnectionsCount() - a.getConnectionsCount());
+        return list;
+    }
+
+    public int getRepositoriesCount(String email, int daysAgo1, int daysAgo2) {
+        int p = getPeriodIndex(daysAgo1, daysAgo2);
+        Integer contributorId = contributorIds.get(email.toLowerCase());
+        return contributorId != null ? repositoriesCounts[p][contributorId] : 0;
+    }
+
+    public int getActiveContributorsCount(int daysAgo1, int daysAgo2) {
+        return activeContributorsCounts[getPeriodIndex(daysAgo1, daysAgo2)];
+    }
+
+    // an open addressing hash map of non-negative int values with long keys, returning -1 for missing keys
+    private static class LongIntMap {
+        private long[] keys = new long[256];
+        private int[] values = new int[256];
+        private boolean[] used = new boolean[256];
+        private int size = 0;
+
+        int get(long key) {
+            int mask = keys.length - 1;
+            for (int i = hash(key) & mask; used[i]; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return values[i];
+                }
+            }
+            return -1;
+        }
+
+        void put(long key, int value) {
+            if ((size + 1) * 2 > keys.length) {
+                resize();
+            }
+            int mask = keys.length - 1;
+            int i = hash(key) & mask;
+            while (used[i]) {
+                if (keys[i] == key) {
+                    values[i] = value;
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+            used[i] = true;
+            keys[i] = key;
+            values[i] = value;
+            size++;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            boolean[] oldUsed = used;
+            keys = new long[oldKeys.length * 2];
+            values = new int[oldKeys.length * 2];
+            used = new boolean[oldKeys.length * 2];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldUsed[i]) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static int hash(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
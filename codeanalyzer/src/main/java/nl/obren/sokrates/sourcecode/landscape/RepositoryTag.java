@@ -2,13 +2,16 @@ package nl.obren.sokrates.sourcecode.landscape;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import nl.obren.sokrates.common.utils.RegexUtils;
+import nl.obren.sokrates.sourcecode.core.CompiledTagPathPatterns;
 import nl.obren.sokrates.sourcecode.landscape.analysis.FileExport;
 import nl.obren.sokrates.sourcecode.metrics.NumericMetric;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 public class RepositoryTag {
     private static final Log LOG = LogFactory.getLog(RepositoryTag.class);
@@ -143,15 +146,9 @@ public class RepositoryTag {
 
     @JsonIgnore
     public boolean matchesPath(List<FileExport> paths) {
-        for (FileExport path : paths) {
-            for (String pattern : pathPatterns) {
-                if (RegexUtils.matchesEntirely(pattern, path.getPath()) && !excludePath(path.getPath())) {
-                    return true;
-                }
-            }
-        }
-
-        return false;
+        List<String> pathStrings = paths.stream().map(FileExport::getPath).collect(Collectors.toList());
+        return new CompiledTagPathPatterns<>(Collections.singletonList(this), RepositoryTag::getPathPatterns, RepositoryTag::getExcludePathPatterns)
+                .findItemsMatchingAnyPath(pathStrings).size() > 0;
     }
 
     @JsonIgnore
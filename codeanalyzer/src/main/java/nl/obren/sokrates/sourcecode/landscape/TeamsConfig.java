@@ -1,7 +1,6 @@
 package nl.obren.sokrates.sourcecode.landscape;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
-import nl.obren.sokrates.common.utils.RegexUtils;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -9,6 +8,10 @@ import java.util.List;
 public class TeamsConfig {
     private List<TeamConfig> teams = new ArrayList<>();
 
+    // compiled on first use from the configured teams
+    @JsonIgnore
+    private volatile CompiledEmailPatterns<TeamConfig> compiledTeams;
+
     public TeamsConfig() {
     }
 
@@ -18,15 +21,22 @@ public class TeamsConfig {
 
     public void setTeams(List<TeamConfig> teams) {
         this.teams = teams;
+        this.compiledTeams = null;
     }
 
     @JsonIgnore
-    public String getTeam(String email) {
-        for (TeamConfig team : teams) {
-            if (RegexUtils.matchesAnyPattern(email, team.getEmailPatterns())) {
-                return team.getName();
-            }
+    public TeamConfig getTeamConfig(String email) {
+        CompiledEmailPatterns<TeamConfig> compiled = compiledTeams;
+        if (compiled == null) {
+            compiled = new CompiledEmailPatterns<>(teams, TeamConfig::getEmailPatterns);
+            compiledTeams = compiled;
         }
-        return null;
+        return compiled.find(email);
+    }
+
+    @JsonIgnore
+    public String getTeam(String email) {
+        TeamConfig team = getTeamConfig(email);
+        return team != null ? team.getName() : null;
     }
 }
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.sourcecode.landscape.analysis;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.function.IntConsumer;
+
+/**
+ * Commit days bucketed into weeks (starting on Monday), months and years.
+ * Buckets are identified by ordinals (see weekOrdinal, monthOrdinal and yearOrdinal), and counts are
+ * kept in dense arrays spanning only the active period, so reading a count is a constant-time operation.
+ */
+public class CommitActivityCalendar {
+    public static final int UNDEFINED = Integer.MIN_VALUE;
+
+    private final int commitDaysCount;
+    private final int firstWeek;
+    private final int[] weekCounts;
+    private final int firstMonth;
+    private final int[] monthCounts;
+    private final int firstYear;
+    private final int[] yearCounts;
+
+    private CommitActivityCalendar(int commitDaysCount, int firstWeek, int[] weekCounts, int firstMonth, int[] monthCounts, int firstYear, int[] yearCounts) {
+        this.commitDaysCount = commitDaysCount;
+        this.firstWeek = firstWeek;
+        this.weekCounts = weekCounts;
+        this.firstMonth = firstMonth;
+        this.monthCounts = monthCounts;
+        this.firstYear = firstYear;
+        this.yearCounts = yearCounts;
+    }
+
+    public static CommitActivityCalendar of(Collection<String> commitDates) {
+        int size = commitDates.size();
+        int[] weeks = new int[size];
+        int[] months = new int[size];
+        int[] years = new int[size];
+        int count = 0;
+        for (String date : commitDates) {
+            int week = weekOrdinal(date);
+            if (week == UNDEFINED) {
+                continue;
+            }
+            weeks[count] = week;
+            months[count] = monthOrdinal(date);
+            years[count] = yearOrdinal(date);
+            count++;
+        }
+
+        int firstWeek = min(weeks, count);
+        int firstMonth = min(months, count);
+        int firstYear = min(years, count);
+
+        return new CommitActivityCalendar(count,
+                firstWeek, bucket(weeks, count, firstWeek),
+                firstMonth, bucket(months, count, firstMonth),
+                firstYear, bucket(years, count, firstYear));
+    }
+
+    private static int min(int[] ordinals, int count) {
+        int min = Integer.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            min = Math.min(min, ordinals[i]);
+        }
+        return min;
+    }
+
+    private static int[] bucket(int[] ordinals, int count, int first) {
+        if (count == 0) {
+            return new int[0];
+        }
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            max = Math.max(max, ordinals[i]);
+        }
+        int[] counts = new int[max - first + 1];
+        for (int i = 0; i < count; i++) {
+            counts[ordinals[i] - first]++;
+        }
+        return counts;
+    }
+
+    // the number of weeks since the Monday 1969-12-29 (the week of the epoch day 0)
+    public static int weekOrdinal(String date) {
+        if (date == null || date.length() < 10) {
+            return UNDEFINED;
+        }
+        try {
+            LocalDate localDate = LocalDate.of(parse(date, 0, 4), parse(date, 5, 7), parse(date, 8, 10));
+            return (int) Math.floorDiv(localDate.toEpochDay() + 3, 7);
+        } catch (DateTimeException | NumberFormatException e) {
+            return UNDEFINED;
+        }
+    }
+
+    // works for both "yyyy-MM-dd" and "yyyy-MM" strings
+    public static int monthOrdinal(String date) {
+        if (date == null || date.length() < 7) {
+            return UNDEFINED;
+        }
+        try {
+            return parse(date, 0, 4) * 12 + parse(date, 5, 7) - 1;
+        } catch (NumberFormatException e) {
+            return UNDEFINED;
+        }
+    }
+
+    // works for both "yyyy-MM-dd" and "yyyy" strings
+    public static int yearOrdinal(String date) {
+        if (date == null || date.length() < 4) {
+            return UNDEFINED;
+        }
+        try {
+            return parse(date, 0, 4);
+        } catch (NumberFormatException e) {
+            return UNDEFINED;
+        }
+    }
+
+    // the Monday starting the week
+    public static LocalDate getWeekStart(int weekOrdinal) {
+        return LocalDate.ofEpochDay(weekOrdinal * 7L - 3);
+    }
+
+    public static LocalDate getMonthStart(int monthOrdinal) {
+        return LocalDate.of(Math.floorDiv(monthOrdinal, 12), Math.floorMod(monthOrdinal, 12) + 1, 1);
+    }
+
+    public static LocalDate getYearStart(int yearOrdinal) {
+        return LocalDate.of(yearOrdinal, 1, 1);
+    }
+
+    private static int parse(String date, int start, int end) {
+        return Integer.parseInt(date, start, end, 10);
+    }
+
+    public int getCommitDaysCount() {
+        return commitDaysCount;
+    }
+
+    public int getCommitDaysInWeek(int weekOrdinal) {
+        return get(weekCounts, weekOrdinal - firstWeek);
+    }
+
+    public int getCommitDaysInMonth(int monthOrdinal) {
+        return get(monthCounts, monthOrdinal - firstMonth);
+    }
+
+    public int getCommitDaysInYear(int yearOrdinal) {
+        return get(yearCounts, yearOrdinal - firstYear);
+    }
+
+    // calls the consumer with the ordinal of each week with at least one commit day, in chronological order
+    public void forEachActiveWeek(IntConsumer consumer) {
+        forEachActive(weekCounts, firstWeek, consumer);
+    }
+
+    public void forEachActiveMonth(IntConsumer consumer) {
+        forEachActive(monthCounts, firstMonth, consumer);
+    }
+
+    public void forEachActiveYear(IntConsumer consumer) {
+        forEachActive(yearCounts, firstYear, consumer);
+    }
+
+    private static void forEachActive(int[] counts, int first, IntConsumer consumer) {
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                consumer.accept(first + i);
+            }
+        }
+    }
+
+    private static int get(int[] counts, int index) {
+        return index >= 0 && index < counts.length ? counts[index] : 0;
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.sourcecode.landscape.analysis;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Precomputed commit activity calendars of contributors (all repositories) and of contributors per repository.
+ * Built once per landscape analysis, and read-only afterwards.
+ */
+public class LandscapeActivityIndex {
+    private final Map<ContributorRepositories, CommitActivityCalendar> contributorCalendars = new IdentityHashMap<>();
+    private final Map<ContributorRepositoryInfo, CommitActivityCalendar> contributorRepositoryCalendars = new IdentityHashMap<>();
+
+    public LandscapeActivityIndex(Collection<ContributorRepositories> contributors) {
+        contributors.forEach(this::add);
+    }
+
+    private void add(ContributorRepositories contributor) {
+        if (contributorCalendars.containsKey(contributor)) {
+            return;
+        }
+        contributorCalendars.put(contributor, CommitActivityCalendar.of(contributor.getContributor().getCommitDates()));
+        contributor.getRepositories().forEach(repository ->
+                contributorRepositoryCalendars.put(repository, CommitActivityCalendar.of(repository.getCommitDates())));
+        contributor.getMembers().forEach(this::add);
+    }
+
+    public CommitActivityCalendar getCalendar(ContributorRepositories contributor) {
+        CommitActivityCalendar calendar = contributorCalendars.get(contributor);
+        return calendar != null ? calendar : CommitActivityCalendar.of(contributor.getContributor().getCommitDates());
+    }
+
+    public CommitActivityCalendar getCalendar(ContributorRepositoryInfo contributorRepository) {
+        CommitActivityCalendar calendar = contributorRepositoryCalendars.get(contributorRepository);
+        return calendar != null ? calendar : CommitActivityCalendar.of(contributorRepository.getCommitDates());
+    }
+}
@@ -8,16 +8,15 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import nl.obren.sokrates.common.utils.RegexUtils;
 import nl.obren.sokrates.sourcecode.analysis.results.CodeAnalysisResults;
 import nl.obren.sokrates.sourcecode.analysis.results.ContributorsAnalysisResults;
-import nl.obren.sokrates.sourcecode.analysis.results.FilesHistoryAnalysisResults;
 import nl.obren.sokrates.sourcecode.analysis.results.HistoryPerExtension;
 import nl.obren.sokrates.sourcecode.contributors.ContributionTimeSlot;
 import nl.obren.sokrates.sourcecode.contributors.Contributor;
 import nl.obren.sokrates.sourcecode.dependencies.ComponentDependency;
 import nl.obren.sokrates.sourcecode.filehistory.DateUtils;
 import nl.obren.sokrates.sourcecode.githistory.CommitsPerExtension;
-import nl.obren.sokrates.sourcecode.githistory.GitHistoryUtils;
 import nl.obren.sokrates.sourcecode.landscape.LandscapeConfiguration;
 import nl.obren.sokrates.sourcecode.landscape.PeopleConfig;
+import nl.obren.sokrates.sourcecode.landscape.TeamConfig;
 import nl.obren.sokrates.sourcecode.landscape.TeamsConfig;
 import nl.obren.sokrates.sourcecode.landscape.utils.EmailTransformations;
 import nl.obren.sokrates.sourcecode.metrics.NumericMetric;
@@ -140,6 +139,8 @@ public class LandscapeAnalysisResults {
     private List<ContributorRepositories> teamsCache;
     @JsonIgnore
     private List<ContributorRepositories> botsCache;
+    @JsonIgnore
+    private LandscapeActivityIndex activityIndex;
 
     public LandscapeAnalysisResults(TeamsConfig teamsConfig, PeopleConfig peopleConfig) {
         this.teamsConfig = teamsConfig;
@@ -149,8 +150,7 @@ public class LandscapeAnalysisResults {
     public static SourceFileAgeDistribution getOverallFileLastModifiedDistribution(List<RepositoryAnalysisResults> repositoriesAnalysisResults) {
         SourceFileAgeDistribution distribution = new SourceFileAgeDistribution();
         repositoriesAnalysisResults.forEach(repositoryAnalysisResults -> {
-            FilesHistoryAnalysisResults filesHistoryAnalysisResults = repositoryAnalysisResults.getAnalysisResults().getFilesHistoryAnalysisResults();
-            SourceFileAgeDistribution repositoryDistribution = filesHistoryAnalysisResults.getOverallFileLastModifiedDistribution();
+            SourceFileAgeDistribution repositoryDistribution = getFileLastModifiedDistribution(repositoryAnalysisResults);
             if (repositoryDistribution == null) {
                 return;
             }
@@ -162,8 +162,7 @@ public class LandscapeAnalysisResults {
     public static SourceFileAgeDistribution getOverallFileFirstModifiedDistribution(List<RepositoryAnalysisResults> repositoriesAnalysisResults) {
         SourceFileAgeDistribution distribution = new SourceFileAgeDistribution();
         repositoriesAnalysisResults.forEach(repositoryAnalysisResults -> {
-            FilesHistoryAnalysisResults filesHistoryAnalysisResults = repositoryAnalysisResults.getAnalysisResults().getFilesHistoryAnalysisResults();
-            SourceFileAgeDistribution repositoryDistribution = filesHistoryAnalysisResults.getOverallFileFirstModifiedDistribution();
+            SourceFileAgeDistribution repositoryDistribution = getFileFirstModifiedDistribution(repositoryAnalysisResults);
             if (repositoryDistribution == null) {
                 return;
             }
@@ -172,6 +171,18 @@ public class LandscapeAnalysisResults {
         return distribution;
     }
 
+    private static SourceFileAgeDistribution getFileLastModifiedDistribution(RepositoryAnalysisResults repositoryAnalysisResults) {
+        RepositoryAggregates aggregates = repositoryAnalysisResults.getAggregates();
+        return aggregates != null ? aggregates.getFileLastModifiedDistribution()
+                : repositoryAnalysisResults.getAnalysisResults().getFilesHistoryAnalysisResults().getOverallFileLastModifiedDistribution();
+    }
+
+    private static SourceFileAgeDistribution getFileFirstModifiedDistribution(RepositoryAnalysisResults repositoryAnalysisResults) {
+        RepositoryAggregates aggregates = repositoryAnalysisResults.getAggregates();
+        return aggregates != null ? aggregates.getFileFirstModifiedDistribution()
+                : repositoryAnalysisResults.getAnalysisResults().getFilesHistoryAnalysisResults().getOverallFileFirstModifiedDistribution();
+    }
+
     private static void updateDistribution(SourceFileAgeDistribution distribution, SourceFileAgeDistribution repositoryDistribution) {
         distribution.setNegligibleRiskLabel(repositoryDistribution.getNegligibleRiskLabel());
         distribution.setNegligibleRiskCount(distribution.getNegligibleRiskCount() + repositoryDistribution.getNegligibleRiskCount());
@@ -197,8 +208,7 @@ public class LandscapeAnalysisResults {
     public static int getLoc1YearActive(List<RepositoryAnalysisResults> repositoriesAnalysisResults) {
         int[] count = {0};
         repositoriesAnalysisResults.forEach(repositoryAnalysisResults -> {
-            FilesHistoryAnalysisResults filesHistoryAnalysisResults = repositoryAnalysisResults.getAnalysisResults().getFilesHistoryAnalysisResults();
-            SourceFileAgeDistribution overallFileLastModifiedDistribution = filesHistoryAnalysisResults.getOverallFileLastModifiedDistribution();
+            SourceFileAgeDistribution overallFileLastModifiedDistribution = getFileLastModifiedDistribution(repositoryAnalysisResults);
             if (overallFileLastModifiedDistribution != null) {
                 count[0] += overallFileLastModifiedDistribution.getTotalValue() - overallFileLastModifiedDistribution.getVeryHighRiskValue();
             }
@@ -209,8 +219,7 @@ public class LandscapeAnalysisResults {
     public static int getLoc30DaysActive(List<RepositoryAnalysisResults> repositoriesAnalysisResults) {
         int[] count = {0};
         repositoriesAnalysisResults.forEach(repositoryAnalysisResults -> {
-            FilesHistoryAnalysisResults filesHistoryAnalysisResults = repositoryAnalysisResults.getAnalysisResults().getFilesHistoryAnalysisResults();
-            SourceFileAgeDistribution overallFileLastModifiedDistribution = filesHistoryAnalysisResults.getOverallFileLastModifiedDistribution();
+            SourceFileAgeDistribution overallFileLastModifiedDistribution = getFileLastModifiedDistribution(repositoryAnalysisResults);
             if (overallFileLastModifiedDistribution != null) {
                 count[0] += overallFileLastModifiedDistribution.getNegligibleRiskValue();
             }
@@ -221,8 +230,7 @@ public class LandscapeAnalysisResults {
     public static int getLocNew(List<RepositoryAnalysisResults> repositoriesAnalysisResults) {
         int[] count = {0};
         repositoriesAnalysisResults.forEach(repositoryAnalysisResults -> {
-            FilesHistoryAnalysisResults filesHistoryAnalysisResults = repositoryAnalysisResults.getAnalysisResults().getFilesHistoryAnalysisResults();
-            SourceFileAgeDistribution overallFileFirstModifiedDistribution = filesHistoryAnalysisResults.getOverallFileFirstModifiedDistribution();
+            SourceFileAgeDistribution overallFileFirstModifiedDistribution = getFileFirstModifiedDistribution(repositoryAnalysisResults);
             if (overallFileFirstModifiedDistribution != null) {
                 count[0] += overallFileFirstModifiedDistribution.getTotalValue() - overallFileFirstModifiedDistribution.getVeryHighRiskValue();
             }
@@ -504,16 +512,14 @@ public class LandscapeAnalysisResults {
         List<NumericMetric> linesOfCodePerExtension = new ArrayList<>();
         getFilteredRepositoryAnalysisResults().forEach(repositoryAnalysisResults -> {
             String repositoryName = repositoryAnalysisResults.getAnalysisResults().getMetadata().getName();
+            RepositoryAggregates aggregates = getAggregates(repositoryAnalysisResults);
             List<NumericMetric> repositoryLinesOfCodePerExtension;
             if (type == CodeCategory.TEST) {
-                repositoryLinesOfCodePerExtension = repositoryAnalysisResults.getAnalysisResults().getTestAspectAnalysisResults().getLinesOfCodePerExtension();
+                repositoryLinesOfCodePerExtension = aggregates.getTestLinesOfCodePerExtension();
             } else if (type == CodeCategory.OTHER) {
-                List<NumericMetric> build = repositoryAnalysisResults.getAnalysisResults().getBuildAndDeployAspectAnalysisResults().getLinesOfCodePerExtension();
-                List<NumericMetric> generated = repositoryAnalysisResults.getAnalysisResults().getGeneratedAspectAnalysisResults().getLinesOfCodePerExtension();
-                List<NumericMetric> other = repositoryAnalysisResults.getAnalysisResults().getOtherAspectAnalysisResults().getLinesOfCodePerExtension();
-                repositoryLinesOfCodePerExtension = merge(Arrays.asList(build, generated, other));
+                repositoryLinesOfCodePerExtension = aggregates.getOtherLinesOfCodePerExtension();
             } else {
-                repositoryLinesOfCodePerExtension = repositoryAnalysisResults.getAnalysisResults().getMainAspectAnalysisResults().getLinesOfCodePerExtension();
+                repositoryLinesOfCodePerExtension = aggregates.getMainLinesOfCodePerExtension();
             }
             repositoryLinesOfCodePerExtension.forEach(metric -> {
                 String id = metric.getName().toLowerCase();
@@ -534,23 +540,12 @@ public class LandscapeAnalysisResults {
         return linesOfCodePerExtension;
     }
 
-    private List<NumericMetric> merge(List<List<NumericMetric>> metricLists) {
-        List<NumericMetric> merged = new ArrayList<>();
-        Map<String, NumericMetric> mergedMap = new HashMap<>();
-
-        metricLists.forEach(list -> {
-            list.forEach(metric -> {
-                if (mergedMap.containsKey(metric.getName())) {
-                    mergedMap.get(metric.getName()).setValue(mergedMap.get(metric.getName()).getValue().doubleValue() + metric.getValue().doubleValue());
-                } else {
-                    NumericMetric newMetric = new NumericMetric(metric.getName(), metric.getValue());
-                    merged.add(newMetric);
-                    mergedMap.put(newMetric.getName(), newMetric);
-                }
-            });
-        });
-
-        return merged;
+    // prepared by the landscape analyzer, or here for repositories added otherwise
+    private RepositoryAggregates getAggregates(RepositoryAnalysisResults repositoryAnalysisResults) {
+        if (repositoryAnalysisResults.getAggregates() == null) {
+            repositoryAnalysisResults.setAggregates(RepositoryAggregates.of(repositoryAnalysisResults.getAnalysisResults(), configuration, peopleConfig));
+        }
+        return repositoryAnalysisResults.getAggregates();
     }
 
     @JsonIgnore
@@ -623,6 +618,17 @@ public class LandscapeAnalysisResults {
         return contributorRepositories;
     }
 
+    @JsonIgnore
+    public synchronized LandscapeActivityIndex getActivityIndex() {
+        if (activityIndex == null) {
+            List<ContributorRepositories> indexedContributors = new ArrayList<>(getContributors());
+            indexedContributors.addAll(getTeams());
+            indexedContributors.addAll(getBots());
+            activityIndex = new LandscapeActivityIndex(indexedContributors);
+        }
+        return activityIndex;
+    }
+
     @JsonIgnore
     public List<CommitsPerExtension> getContributorsPerExtension() {
         Map<String, CommitsPerExtension> commitsPerExtensions = new HashMap<>();
@@ -719,33 +725,25 @@ public class LandscapeAnalysisResults {
 
             if (isBot(email)) continue;
 
-            final boolean[] added = {false};
-
-            teamsConfig.getTeams().forEach(teamConfig -> {
-                if (added[0]) return;
-
+            TeamConfig teamConfig = teamsConfig.getTeamConfig(email);
+            if (teamConfig != null) {
                 String name = teamConfig.getName();
-                if (RegexUtils.matchesAnyPattern(email, teamConfig.getEmailPatterns())) {
-                    ContributorRepositories teamTemp = map.get(name);
-
-                    if (teamTemp == null) {
-                        teamTemp = new ContributorRepositories(new Contributor(name));
-                        map.put(name, teamTemp);
-                        teams.add(teamTemp);
-                    }
+                ContributorRepositories team = map.get(name);
 
-                    final ContributorRepositories team = teamTemp;
-                    team.getMembers().add(contributor);
+                if (team == null) {
+                    team = new ContributorRepositories(new Contributor(name));
+                    map.put(name, team);
+                    teams.add(team);
+                }
 
-                    contributor.getRepositories().forEach(repo -> {
-                        addRepoToTeam(repo, team);
-                    });
+                team.getMembers().add(contributor);
 
-                    added[0] = true;
+                for (ContributorRepositoryInfo repo : contributor.getRepositories()) {
+                    addRepoToTeam(repo, team);
                 }
-            });
+            }
 
-            if (!added[0] && !remainder.getMembers().contains(email)) {
+            if (teamConfig == null && !remainder.getMembers().contains(email)) {
                 remainder.getMembers().add(contributor);
                 contributor.getRepositories().forEach(repo -> {
                     addRepoToTeam(repo, remainder);
@@ -783,21 +781,13 @@ public class LandscapeAnalysisResults {
         List<ContributorRepositories> list = new ArrayList<>();
         Map<String, ContributorRepositories> map = new HashMap<>();
 
-        getFilteredRepositoryAnalysisResults().forEach(repositoryAnalysisResults -> {
-            ContributorsAnalysisResults contributorsAnalysisResults = repositoryAnalysisResults.getAnalysisResults().getContributorsAnalysisResults();
-            contributorsAnalysisResults.getContributors().forEach(contributor -> {
-                String contributorId = contributor.getEmail().toLowerCase();
-                if (GitHistoryUtils.shouldIgnore(contributorId, configuration.getIgnoreContributors())) {
-                    return;
-                }
-                contributorId = EmailTransformations.transformEmail(contributorId, configuration.getTransformContributorEmails(), peopleConfig);
-                if (GitHistoryUtils.shouldIgnore(contributorId, configuration.getIgnoreContributors())) {
-                    return;
-                }
+        // the commit days of each contributor, for fast lookups while merging repositories
+        Map<String, Set<String>> commitDaySets = new HashMap<>();
 
-                if (StringUtils.isBlank(contributorId)) {
-                    return;
-                }
+        getFilteredRepositoryAnalysisResults().forEach(repositoryAnalysisResults -> {
+            getAggregates(repositoryAnalysisResults).getContributors().forEach(contributor -> {
+                // already transformed and filtered when preparing the repository aggregates
+                String contributorId = contributor.getEmail();
 
                 int repositoryCommits = contributor.getCommitsCount();
                 List<String> commitDates = contributor.getCommitDates();
@@ -824,8 +814,9 @@ public class LandscapeAnalysisResults {
                             contributorInfo.getActiveYears().add(activeYear);
                         }
                     });
+                    Set<String> commitDaySet = commitDaySets.get(contributorId);
                     contributor.getCommitDates().forEach(commitDate -> {
-                        if (!contributorInfo.getCommitDates().contains(commitDate)) {
+                        if (commitDaySet.add(commitDate)) {
                             contributorInfo.getCommitDates().add(commitDate);
                         }
                     });
@@ -865,6 +856,7 @@ public class LandscapeAnalysisResults {
                             new ArrayList<>(commitDates));
 
                     map.put(contributorId, newContributorWithRepositories);
+                    commitDaySets.put(contributorId, new HashSet<>(newContributor.getCommitDates()));
                     list.add(newContributorWithRepositories);
                 }
             });
@@ -7,6 +7,7 @@ package nl.obren.sokrates.sourcecode.landscape.analysis;
 import com.fasterxml.jackson.core.type.TypeReference;
 import nl.obren.sokrates.common.io.JsonGenerator;
 import nl.obren.sokrates.common.io.JsonMapper;
+import nl.obren.sokrates.common.utils.ProcessingStopwatch;
 import nl.obren.sokrates.sourcecode.analysis.results.CodeAnalysisResults;
 import nl.obren.sokrates.sourcecode.contributors.Contributor;
 import nl.obren.sokrates.sourcecode.core.CodeConfiguration;
@@ -23,6 +24,7 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -30,13 +32,21 @@ import java.util.Set;
 public class LandscapeAnalyzer {
     private static final Log LOG = LogFactory.getLog(LandscapeAnalyzer.class);
 
+    public static final String ANALYSIS_CACHE_FOLDER = "analysis-cache";
+    private static final String[] SCOPE_FILES = {
+            "aspect_main.txt", "aspect_test.txt", "aspect_generated.txt", "aspect_build_and_deployment.txt", "aspect_other.txt",
+            "excluded_files_ignored_extensions.txt", "excluded_files_ignored_rules.txt"
+    };
+
     private File landscapeConfigurationFile;
     private LandscapeConfiguration landscapeConfiguration;
+    private PeopleConfig peopleConfig;
 
     public LandscapeAnalysisResults analyze(File landscapeConfigFile) {
         this.landscapeConfigurationFile = landscapeConfigFile;
 
-        LandscapeAnalysisResults landscapeAnalysisResults = new LandscapeAnalysisResults(getTeams(), getPeopleConfig());
+        this.peopleConfig = getPeopleConfig();
+        LandscapeAnalysisResults landscapeAnalysisResults = new LandscapeAnalysisResults(getTeams(), peopleConfig);
 
         Set<String> repositoryNames = new HashSet<>();
         DependenciesCreator subLandscapesViaContributors = new DependenciesCreator();
@@ -53,28 +63,30 @@ public class LandscapeAnalyzer {
                 landscapeConfiguration.setRepositories(info.getRepositories());
             }
             landscapeAnalysisResults.setConfiguration(landscapeConfiguration);
-            landscapeConfiguration.getRepositories().forEach(link -> {
-            });
+            RepositoryAnalysisCache cache = landscapeConfiguration.isCacheRepositoryAnalyses()
+                    ? new RepositoryAnalysisCache(new File(landscapeConfigFile.getParentFile(), ANALYSIS_CACHE_FOLDER), getCacheConfiguration()) : null;
+            ProcessingStopwatch.start("analyzing/repositories");
             landscapeConfiguration.getRepositories().forEach(link -> {
                 LOG.info("Analysing " + link.getAnalysisResultsPath() + "...");
-                CodeAnalysisResults repositoryAnalysisResults = this.getRepositoryAnalysisResults(link);
-                if (repositoryAnalysisResults != null) {
+                RepositoryAnalysisCacheEntry repositoryAnalysis = ProcessingStopwatch.measure("analyzing/repositories/loading",
+                        () -> this.getRepositoryAnalysis(link, cache));
+                if (repositoryAnalysis != null) {
+                    CodeAnalysisResults repositoryAnalysisResults = repositoryAnalysis.getAnalysisResults();
                     String repositoryName = repositoryAnalysisResults.getMetadata().getName();
                     if (!landscapeConfiguration.isIncludeOnlyOneRepositoryWithSameName() || !repositoryNames.contains(repositoryName)) {
                         repositoryNames.add(repositoryName);
-                        List<FileExport> files = this.getRepositoryFiles(repositoryName, link);
-                        landscapeAnalysisResults.getRepositoryAnalysisResults().add(new RepositoryAnalysisResults(link, repositoryAnalysisResults, files));
-                        repositoryAnalysisResults.getContributorsAnalysisResults().getContributors().forEach(contributor -> {
-                            contributor.getCommitDates().forEach(commitDate -> {
-                                if (landscapeAnalysisResults.getFirstCommitDate() == "" || commitDate.compareTo(landscapeAnalysisResults.getFirstCommitDate()) < 0) {
-                                    landscapeAnalysisResults.setFirstCommitDate(commitDate);
-                                }
-                                if (landscapeAnalysisResults.getLatestCommitDate() == "" || commitDate.compareTo(landscapeAnalysisResults.getLatestCommitDate()) > 0) {
-                                    landscapeAnalysisResults.setLatestCommitDate(commitDate);
-                                    DateUtils.setLatestCommitDate(commitDate);
-                                }
-                            });
-                        });
+                        RepositoryAnalysisResults repository = new RepositoryAnalysisResults(link, repositoryAnalysisResults, repositoryAnalysis.getFiles());
+                        repository.setAggregates(repositoryAnalysis.getAggregates());
+                        landscapeAnalysisResults.getRepositoryAnalysisResults().add(repository);
+                        String firstCommitDate = repositoryAnalysis.getFirstCommitDate();
+                        String latestCommitDate = repositoryAnalysis.getLatestCommitDate();
+                        if (!firstCommitDate.isEmpty() && (landscapeAnalysisResults.getFirstCommitDate() == "" || firstCommitDate.compareTo(landscapeAnalysisResults.getFirstCommitDate()) < 0)) {
+                            landscapeAnalysisResults.setFirstCommitDate(firstCommitDate);
+                        }
+                        if (!latestCommitDate.isEmpty() && (landscapeAnalysisResults.getLatestCommitDate() == "" || latestCommitDate.compareTo(landscapeAnalysisResults.getLatestCommitDate()) > 0)) {
+                            landscapeAnalysisResults.setLatestCommitDate(latestCommitDate);
+                            DateUtils.setLatestCommitDate(latestCommitDate);
+                        }
                     }
                     String level1SubLandscape = link.getAnalysisResultsPath().replaceAll("/.*", "");
                     landscapeAnalysisResults.getLevel1SubLandscapes().add(level1SubLandscape);
@@ -84,6 +96,10 @@ public class LandscapeAnalyzer {
                     subLandscapesViaSameName.add("[" + level1SubLandscape + "]", repositoryName);
                 }
             });
+            if (cache != null) {
+                cache.deleteUnusedEntries();
+            }
+            ProcessingStopwatch.end("analyzing/repositories");
             landscapeAnalysisResults.setSubLandscapeDependenciesViaRepositoriesWithSameContributors(subLandscapesViaContributors.getDependencies());
             landscapeAnalysisResults.setSubLandscapeIndirectDependenciesViaRepositoriesWithSameContributors(subLandscapesViaContributors.getIndirectDependencies());
             landscapeAnalysisResults.setSubLandscapeDependenciesViaRepositoriesWithSameName(subLandscapesViaSameName.getDependencies());
@@ -92,11 +108,19 @@ public class LandscapeAnalyzer {
             e.printStackTrace();
         }
 
+        ProcessingStopwatch.start("analyzing/people dependencies");
         updatePeopleDependencies(landscapeAnalysisResults);
+        ProcessingStopwatch.end("analyzing/people dependencies");
 
         return landscapeAnalysisResults;
     }
 
+    // the cached repository aggregates identify contributors with these settings
+    private String getCacheConfiguration() throws IOException {
+        return new JsonGenerator().generateCompressed(Arrays.asList(landscapeConfiguration.getIgnoreContributors(),
+                landscapeConfiguration.getTransformContributorEmails(), peopleConfig));
+    }
+
     private TeamsConfig getTeams() {
         File landscapePeopleConfigFile = new File(landscapeConfigurationFile.getParentFile(), "config-teams.json");
         TeamsConfig teamsConfig = new TeamsConfig();
@@ -151,21 +175,22 @@ public class LandscapeAnalyzer {
     private void updatePeopleDependencies(LandscapeAnalysisResults landscapeAnalysisResults) {
         LOG.info("Updating people dependencies....");
         List<ContributorRepositories> contributors = landscapeAnalysisResults.getContributors();
+        PeopleGraph peopleGraph = getPeopleGraph(contributors);
         LOG.info("Updating people dependencies in past 30d....");
-        List<ComponentDependency> peopleDependencies30Days = ContributorConnectionUtils.getPeopleDependencies(contributors, 0, 30);
+        List<ComponentDependency> peopleDependencies30Days = peopleGraph.getPeopleDependencies(0, 30);
         landscapeAnalysisResults.setPeopleDependencies30Days(peopleDependencies30Days);
-        List<ComponentDependency> peopleRepositoryDependencies30Days = ContributorConnectionUtils.getPeopleRepositoryDependencies(contributors, 0, 30);
+        List<ComponentDependency> peopleRepositoryDependencies30Days = peopleGraph.getPeopleRepositoryDependencies(0, 30);
         landscapeAnalysisResults.setPeopleRepositoryDependencies30Days(peopleRepositoryDependencies30Days);
         LOG.info("Updating people dependencies in past 90d....");
-        List<ComponentDependency> peopleDependencies90Days = ContributorConnectionUtils.getPeopleDependencies(contributors, 0, 90);
+        List<ComponentDependency> peopleDependencies90Days = peopleGraph.getPeopleDependencies(0, 90);
         landscapeAnalysisResults.setPeopleDependencies90Days(peopleDependencies90Days);
         LOG.info("Updating people dependencies in past 180d....");
-        List<ComponentDependency> peopleDependencies180Days = ContributorConnectionUtils.getPeopleDependencies(contributors, 0, 180);
+        List<ComponentDependency> peopleDependencies180Days = peopleGraph.getPeopleDependencies(0, 180);
         landscapeAnalysisResults.setPeopleDependencies180Days(peopleDependencies180Days);
 
-        List<ContributorConnections> connectionsViaRepositories30Days = ContributorConnectionUtils.getConnectionsViaRepositories(contributors, peopleDependencies30Days, 0, 30);
-        List<ContributorConnections> connectionsViaRepositories90Days = ContributorConnectionUtils.getConnectionsViaRepositories(contributors, peopleDependencies90Days, 0, 90);
-        List<ContributorConnections> connectionsViaRepositories180Days = ContributorConnectionUtils.getConnectionsViaRepositories(contributors, peopleDependencies180Days, 0, 180);
+        List<ContributorConnections> connectionsViaRepositories30Days = peopleGraph.getConnectionsViaRepositories(0, 30);
+        List<ContributorConnections> connectionsViaRepositories90Days = peopleGraph.getConnectionsViaRepositories(0, 90);
+        List<ContributorConnections> connectionsViaRepositories180Days = peopleGraph.getConnectionsViaRepositories(0, 180);
 
         landscapeAnalysisResults.setConnectionsViaRepositories30Days(connectionsViaRepositories30Days);
         landscapeAnalysisResults.setConnectionsViaRepositories90Days(connectionsViaRepositories90Days);
@@ -202,17 +227,28 @@ public class LandscapeAnalyzer {
         landscapeAnalysisResults.setC2pConnectionsCount30Days(connectionsViaRepositories30Days.stream().mapToInt(c -> c.getConnectionsCount()).sum());
 
         LOG.info("Adding history....");
-        addHistory(landscapeAnalysisResults);
+        addHistory(landscapeAnalysisResults, peopleGraph);
         LOG.info("Done updating people dependencies.");
     }
 
-    private void addHistory(LandscapeAnalysisResults landscapeAnalysisResults) {
-        List<ContributorRepositories> contributors = landscapeAnalysisResults.getContributors();
+    // all periods are computed in one pass over the contributors and repositories
+    private PeopleGraph getPeopleGraph(List<ContributorRepositories> contributors) {
+        List<int[]> periods = new ArrayList<>();
+        periods.add(new int[]{0, 30});
+        periods.add(new int[]{0, 90});
+        periods.add(new int[]{0, 180});
+        for (int i = 1; i < 12; i++) {
+            periods.add(new int[]{i * 30, (i + 1) * 30});
+        }
+        return new PeopleGraph(contributors, periods.toArray(new int[0][]));
+    }
+
+    private void addHistory(LandscapeAnalysisResults landscapeAnalysisResults, PeopleGraph peopleGraph) {
         for (int i = 0; i < 12; i++) {
             int daysAgo1 = i * 30;
             int daysAgo2 = (i + 1) * 30;
-            List<ComponentDependency> peopleDependencies30Days = ContributorConnectionUtils.getPeopleDependencies(contributors, daysAgo1, daysAgo2);
-            List<ContributorConnections> connectionsViaRepositories30Days = ContributorConnectionUtils.getConnectionsViaRepositories(contributors, peopleDependencies30Days, daysAgo1, daysAgo2);
+            List<ComponentDependency> peopleDependencies30Days = peopleGraph.getPeopleDependencies(daysAgo1, daysAgo2);
+            List<ContributorConnections> connectionsViaRepositories30Days = peopleGraph.getConnectionsViaRepositories(daysAgo1, daysAgo2);
             landscapeAnalysisResults.getcIndex30DaysHistory().add(ContributorConnectionUtils.getCIndex(connectionsViaRepositories30Days));
             landscapeAnalysisResults.getpIndex30DaysHistory().add(ContributorConnectionUtils.getPIndex(connectionsViaRepositories30Days));
             landscapeAnalysisResults.getcMean30DaysHistory().add(ContributorConnectionUtils.getCMean(connectionsViaRepositories30Days));
@@ -222,8 +258,56 @@ public class LandscapeAnalyzer {
             int connectionSum = connectionsViaRepositories30Days.stream().mapToInt(c -> c.getConnectionsCount()).sum();
             landscapeAnalysisResults.getConnectionsViaRepositories30DaysCountHistory().add((double) connectionSum);
             landscapeAnalysisResults.getPeopleDependenciesCount30DaysHistory().add((double) peopleDependencies30Days.size());
-            landscapeAnalysisResults.getActiveContributors30DaysHistory().add((double) ContributorConnectionUtils.getContributorsActiveInPeriodCount(contributors, daysAgo1, daysAgo2));
+            landscapeAnalysisResults.getActiveContributors30DaysHistory().add((double) peopleGraph.getActiveContributorsCount(daysAgo1, daysAgo2));
+        }
+    }
+
+    private RepositoryAnalysisCacheEntry getRepositoryAnalysis(SokratesRepositoryLink sokratesRepositoryLink, RepositoryAnalysisCache cache) {
+        if (cache == null) {
+            return prepareRepositoryAnalysis(sokratesRepositoryLink);
+        }
+
+        String digest;
+        try {
+            digest = cache.getDigest(getRepositoryInputFiles(sokratesRepositoryLink));
+        } catch (IOException e) {
+            LOG.warn(e);
+            return prepareRepositoryAnalysis(sokratesRepositoryLink);
+        }
+
+        RepositoryAnalysisCacheEntry cachedEntry = cache.load(digest);
+        if (cachedEntry != null) {
+            LOG.info("Using the cached analysis of " + sokratesRepositoryLink.getAnalysisResultsPath() + ".");
+            return cachedEntry;
+        }
+
+        RepositoryAnalysisCacheEntry entry = prepareRepositoryAnalysis(sokratesRepositoryLink);
+        if (entry != null) {
+            cache.save(digest, entry);
         }
+        return entry;
+    }
+
+    private RepositoryAnalysisCacheEntry prepareRepositoryAnalysis(SokratesRepositoryLink sokratesRepositoryLink) {
+        CodeAnalysisResults repositoryAnalysisResults = this.getRepositoryAnalysisResults(sokratesRepositoryLink);
+        if (repositoryAnalysisResults == null) {
+            return null;
+        }
+        String repositoryName = repositoryAnalysisResults.getMetadata().getName();
+        return new RepositoryAnalysisCacheEntry(repositoryAnalysisResults, this.getRepositoryFiles(repositoryName, sokratesRepositoryLink),
+                RepositoryAggregates.of(repositoryAnalysisResults, landscapeConfiguration, peopleConfig));
+    }
+
+    private List<File> getRepositoryInputFiles(SokratesRepositoryLink sokratesRepositoryLink) {
+        File analysisResultsFile = getRepositoryAnalysisFile(sokratesRepositoryLink);
+        File txtDataFolder = new File(analysisResultsFile.getParentFile(), "text");
+        List<File> files = new ArrayList<>();
+        files.add(analysisResultsFile);
+        files.add(new File(analysisResultsFile.getParentFile(), "config.json"));
+        for (String scopeFile : SCOPE_FILES) {
+            files.add(new File(txtDataFolder, scopeFile));
+        }
+        return files;
     }
 
     private CodeAnalysisResults getRepositoryAnalysisResults(SokratesRepositoryLink sokratesRepositoryLink) {
@@ -277,13 +361,9 @@ public class LandscapeAnalyzer {
     private List<FileExport> getRepositoryFiles(String repositoryName, SokratesRepositoryLink sokratesRepositoryLink) {
         List<FileExport> files = new ArrayList<>();
 
-        files.addAll(getRepositoryFilesByScope(repositoryName, sokratesRepositoryLink, "aspect_main.txt"));
-        files.addAll(getRepositoryFilesByScope(repositoryName, sokratesRepositoryLink, "aspect_test.txt"));
-        files.addAll(getRepositoryFilesByScope(repositoryName, sokratesRepositoryLink, "aspect_generated.txt"));
-        files.addAll(getRepositoryFilesByScope(repositoryName, sokratesRepositoryLink, "aspect_build_and_deployment.txt"));
-        files.addAll(getRepositoryFilesByScope(repositoryName, sokratesRepositoryLink, "aspect_other.txt"));
-        files.addAll(getRepositoryFilesByScope(repositoryName, sokratesRepositoryLink, "excluded_files_ignored_extensions.txt"));
-        files.addAll(getRepositoryFilesByScope(repositoryName, sokratesRepositoryLink, "excluded_files_ignored_rules.txt"));
+        for (String scopeFile : SCOPE_FILES) {
+            files.addAll(getRepositoryFilesByScope(repositoryName, sokratesRepositoryLink, scopeFile));
+        }
 
         return files;
     }
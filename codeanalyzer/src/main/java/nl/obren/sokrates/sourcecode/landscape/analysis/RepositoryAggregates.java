@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.sourcecode.landscape.analysis;
+
+import nl.obren.sokrates.sourcecode.analysis.results.CodeAnalysisResults;
+import nl.obren.sokrates.sourcecode.analysis.results.FilesHistoryAnalysisResults;
+import nl.obren.sokrates.sourcecode.contributors.Contributor;
+import nl.obren.sokrates.sourcecode.githistory.GitHistoryUtils;
+import nl.obren.sokrates.sourcecode.landscape.LandscapeConfiguration;
+import nl.obren.sokrates.sourcecode.landscape.PeopleConfig;
+import nl.obren.sokrates.sourcecode.landscape.utils.EmailTransformations;
+import nl.obren.sokrates.sourcecode.metrics.NumericMetric;
+import nl.obren.sokrates.sourcecode.stats.SourceFileAgeDistribution;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The inputs of the landscape aggregates (contributors, lines of code per extension and file age distributions)
+ * prepared from one repository analysis. The landscape analysis merges these per repository, so cached repositories
+ * do not have to be prepared again. Contributors are already identified as in the landscape (with emails transformed,
+ * and ignored contributors removed), so the aggregates depend on the landscape contributor configuration.
+ */
+public class RepositoryAggregates {
+    private List<Contributor> contributors = new ArrayList<>();
+    private List<NumericMetric> mainLinesOfCodePerExtension = new ArrayList<>();
+    private List<NumericMetric> testLinesOfCodePerExtension = new ArrayList<>();
+    // build and deployment, generated and other code
+    private List<NumericMetric> otherLinesOfCodePerExtension = new ArrayList<>();
+    private SourceFileAgeDistribution fileLastModifiedDistribution;
+    private SourceFileAgeDistribution fileFirstModifiedDistribution;
+
+    public RepositoryAggregates() {
+    }
+
+    public static RepositoryAggregates of(CodeAnalysisResults analysisResults, LandscapeConfiguration configuration, PeopleConfig peopleConfig) {
+        RepositoryAggregates aggregates = new RepositoryAggregates();
+
+        analysisResults.getContributorsAnalysisResults().getContributors().forEach(contributor -> {
+            String contributorId = getContributorId(contributor, configuration, peopleConfig);
+            if (contributorId != null) {
+                aggregates.contributors.add(copy(contributor, contributorId));
+            }
+        });
+
+        aggregates.mainLinesOfCodePerExtension = analysisResults.getMainAspectAnalysisResults().getLinesOfCodePerExtension();
+        aggregates.testLinesOfCodePerExtension = analysisResults.getTestAspectAnalysisResults().getLinesOfCodePerExtension();
+        aggregates.otherLinesOfCodePerExtension = merge(Arrays.asList(
+                analysisResults.getBuildAndDeployAspectAnalysisResults().getLinesOfCodePerExtension(),
+                analysisResults.getGeneratedAspectAnalysisResults().getLinesOfCodePerExtension(),
+                analysisResults.getOtherAspectAnalysisResults().getLinesOfCodePerExtension()));
+
+        FilesHistoryAnalysisResults filesHistoryAnalysisResults = analysisResults.getFilesHistoryAnalysisResults();
+        aggregates.fileLastModifiedDistribution = filesHistoryAnalysisResults.getOverallFileLastModifiedDistribution();
+        aggregates.fileFirstModifiedDistribution = filesHistoryAnalysisResults.getOverallFileFirstModifiedDistribution();
+
+        return aggregates;
+    }
+
+    // null for ignored contributors
+    private static String getContributorId(Contributor contributor, LandscapeConfiguration configuration, PeopleConfig peopleConfig) {
+        String contributorId = contributor.getEmail().toLowerCase();
+        if (GitHistoryUtils.shouldIgnore(contributorId, configuration.getIgnoreContributors())) {
+            return null;
+        }
+        contributorId = EmailTransformations.transformEmail(contributorId, configuration.getTransformContributorEmails(), peopleConfig);
+        if (GitHistoryUtils.shouldIgnore(contributorId, configuration.getIgnoreContributors())) {
+            return null;
+        }
+
+        return StringUtils.isBlank(contributorId) ? null : contributorId;
+    }
+
+    private static Contributor copy(Contributor contributor, String contributorId) {
+        Contributor copy = new Contributor(contributorId);
+        copy.setUserName(contributor.getUserName());
+        copy.setCommitsCount(contributor.getCommitsCount());
+        copy.setCommitsCount30Days(contributor.getCommitsCount30Days());
+        copy.setCommitsCount90Days(contributor.getCommitsCount90Days());
+        copy.setCommitsCount180Days(contributor.getCommitsCount180Days());
+        copy.setCommitsCount365Days(contributor.getCommitsCount365Days());
+        copy.setFirstCommitDate(contributor.getFirstCommitDate());
+        copy.setLatestCommitDate(contributor.getLatestCommitDate());
+        copy.setActiveYears(new ArrayList<>(contributor.getActiveYears()));
+        copy.setCommitDates(new ArrayList<>(contributor.getCommitDates()));
+        return copy;
+    }
+
+    private static List<NumericMetric> merge(List<List<NumericMetric>> metricLists) {
+        List<NumericMetric> merged = new ArrayList<>();
+        Map<String, NumericMetric> mergedMap = new HashMap<>();
+
+        metricLists.forEach(list -> {
+            list.forEach(metric -> {
+                if (mergedMap.containsKey(metric.getName())) {
+                    mergedMap.get(metric.getName()).setValue(mergedMap.get(metric.getName()).getValue().doubleValue() + metric.getValue().doubleValue());
+                } else {
+                    NumericMetric newMetric = new NumericMetric(metric.getName(), metric.getValue());
+                    merged.add(newMetric);
+                    mergedMap.put(newMetric.getName(), newMetric);
+                }
+            });
+        });
+
+        return merged;
+    }
+
+    public List<Contributor> getContributors() {
+        return contributors;
+    }
+
+    public void setContributors(List<Contributor> contributors) {
+        this.contributors = contributors;
+    }
+
+    public List<NumericMetric> getMainLinesOfCodePerExtension() {
+        return mainLinesOfCodePerExtension;
+    }
+
+    public void setMainLinesOfCodePerExtension(List<NumericMetric> mainLinesOfCodePerExtension) {
+        this.mainLinesOfCodePerExtension = mainLinesOfCodePerExtension;
+    }
+
+    public List<NumericMetric> getTestLinesOfCodePerExtension() {
+        return testLinesOfCodePerExtension;
+    }
+
+    public void setTestLinesOfCodePerExtension(List<NumericMetric> testLinesOfCodePerExtension) {
+        this.testLinesOfCodePerExtension = testLinesOfCodePerExtension;
+    }
+
+    public List<NumericMetric> getOtherLinesOfCodePerExtension() {
+        return otherLinesOfCodePerExtension;
+    }
+
+    public void setOtherLinesOfCodePerExtension(List<NumericMetric> otherLinesOfCodePerExtension) {
+        this.otherLinesOfCodePerExtension = otherLinesOfCodePerExtension;
+    }
+
+    public SourceFileAgeDistribution getFileLastModifiedDistribution() {
+        return fileLastModifiedDistribution;
+    }
+
+    public void setFileLastModifiedDistribution(SourceFileAgeDistribution fileLastModifiedDistribution) {
+        this.fileLastModifiedDistribution = fileLastModifiedDistribution;
+    }
+
+    public SourceFileAgeDistribution getFileFirstModifiedDistribution() {
+        return fileFirstModifiedDistribution;
+    }
+
+    public void setFileFirstModifiedDistribution(SourceFileAgeDistribution fileFirstModifiedDistribution) {
+        this.fileFirstModifiedDistribution = fileFirstModifiedDistribution;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.sourcecode.landscape.analysis;
+
+import nl.obren.sokrates.common.io.JsonGenerator;
+import nl.obren.sokrates.common.io.JsonMapper;
+import nl.obren.sokrates.common.utils.HashUtils;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A persistent cache of prepared repository analyses, stored next to the landscape configuration.
+ * Entries are keyed by the digest of the content of the repository analysis files, so repositories
+ * that were not re-analyzed since the previous landscape update are not parsed and prepared again.
+ */
+public class RepositoryAnalysisCache {
+    private static final Log LOG = LogFactory.getLog(RepositoryAnalysisCache.class);
+
+    // change when the way the entries are prepared changes, to invalidate all previously cached entries
+    private static final String FORMAT_VERSION = "3";
+    private static final String FILE_EXTENSION = ".json.gz";
+
+    private final File folder;
+    // the configuration the entries are prepared with (e.g. email transformations), also invalidating entries when changed
+    private final String configuration;
+    private final Set<String> usedFileNames = new HashSet<>();
+
+    public RepositoryAnalysisCache(File folder, String configuration) {
+        this.folder = folder;
+        this.configuration = configuration;
+    }
+
+    public String getDigest(List<File> inputFiles) throws IOException {
+        StringBuilder inputs = new StringBuilder(FORMAT_VERSION);
+        inputs.append('\n').append(HashUtils.sha256Hex(configuration));
+        for (File file : inputFiles) {
+            inputs.append('\n').append(file.getName()).append(':');
+            inputs.append(file.exists() ? HashUtils.sha256Hex(file) : "-");
+        }
+        return HashUtils.sha256Hex(inputs.toString());
+    }
+
+    public RepositoryAnalysisCacheEntry load(String digest) {
+        File file = getFile(digest);
+        usedFileNames.add(file.getName());
+        if (!file.exists()) {
+            return null;
+        }
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file.toPath()))) {
+            String json = IOUtils.toString(in, StandardCharsets.UTF_8);
+            RepositoryAnalysisCacheEntry entry = (RepositoryAnalysisCacheEntry) new JsonMapper().getObject(json, RepositoryAnalysisCacheEntry.class);
+            if (entry.getAnalysisResults() == null || entry.getAggregates() == null) {
+                return null;
+            }
+            entry.getAnalysisResults().setCodeConfiguration(entry.getCodeConfiguration());
+            return entry;
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Ignoring the unreadable cache entry " + file.getPath() + ".");
+            return null;
+        }
+    }
+
+    public void save(String digest, RepositoryAnalysisCacheEntry entry) {
+        File file = getFile(digest);
+        usedFileNames.add(file.getName());
+        folder.mkdirs();
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file.toPath()))) {
+            out.write(new JsonGenerator().generateCompressed(entry).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            LOG.error(e);
+            FileUtils.deleteQuietly(file);
+        }
+    }
+
+    public void deleteUnusedEntries() {
+        File[] files = folder.listFiles((dir, name) -> name.endsWith(FILE_EXTENSION));
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            if (!usedFileNames.contains(file.getName())) {
+                FileUtils.deleteQuietly(file);
+            }
+        }
+    }
+
+    private File getFile(String digest) {
+        return new File(folder, digest + FILE_EXTENSION);
+    }
+}
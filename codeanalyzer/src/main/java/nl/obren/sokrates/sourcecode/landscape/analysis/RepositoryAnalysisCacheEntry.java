@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.sourcecode.landscape.analysis;
+
+import nl.obren.sokrates.sourcecode.analysis.results.CodeAnalysisResults;
+import nl.obren.sokrates.sourcecode.core.CodeConfiguration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The part of a repository analysis used by the landscape analysis, as prepared from the repository analysis files,
+ * together with the repository inputs of the landscape aggregates.
+ */
+public class RepositoryAnalysisCacheEntry {
+    private CodeAnalysisResults analysisResults;
+    // not serialized as a part of the analysis results
+    private CodeConfiguration codeConfiguration;
+    private List<FileExport> files = new ArrayList<>();
+    private RepositoryAggregates aggregates;
+    private String firstCommitDate = "";
+    private String latestCommitDate = "";
+
+    public RepositoryAnalysisCacheEntry() {
+    }
+
+    public RepositoryAnalysisCacheEntry(CodeAnalysisResults analysisResults, List<FileExport> files, RepositoryAggregates aggregates) {
+        this.analysisResults = analysisResults;
+        this.codeConfiguration = analysisResults.getCodeConfiguration();
+        this.files = files;
+        this.aggregates = aggregates;
+        analysisResults.getContributorsAnalysisResults().getContributors().forEach(contributor -> {
+            contributor.getCommitDates().forEach(commitDate -> {
+                if (firstCommitDate.isEmpty() || commitDate.compareTo(firstCommitDate) < 0) {
+                    firstCommitDate = commitDate;
+                }
+                if (latestCommitDate.isEmpty() || commitDate.compareTo(latestCommitDate) > 0) {
+                    latestCommitDate = commitDate;
+                }
+            });
+        });
+    }
+
+    public CodeAnalysisResults getAnalysisResults() {
+        return analysisResults;
+    }
+
+    public void setAnalysisResults(CodeAnalysisResults analysisResults) {
+        this.analysisResults = analysisResults;
+    }
+
+    public CodeConfiguration getCodeConfiguration() {
+        return codeConfiguration;
+    }
+
+    public void setCodeConfiguration(CodeConfiguration codeConfiguration) {
+        this.codeConfiguration = codeConfiguration;
+    }
+
+    public List<FileExport> getFiles() {
+        return files;
+    }
+
+    public void setFiles(List<FileExport> files) {
+        this.files = files;
+    }
+
+    public RepositoryAggregates getAggregates() {
+        return aggregates;
+    }
+
+    public void setAggregates(RepositoryAggregates aggregates) {
+        this.aggregates = aggregates;
+    }
+
+    public String getFirstCommitDate() {
+        return firstCommitDate;
+    }
+
+    public void setFirstCommitDate(String firstCommitDate) {
+        this.firstCommitDate = firstCommitDate;
+    }
+
+    public String getLatestCommitDate() {
+        return latestCommitDate;
+    }
+
+    public void setLatestCommitDate(String latestCommitDate) {
+        this.latestCommitDate = latestCommitDate;
+    }
+}
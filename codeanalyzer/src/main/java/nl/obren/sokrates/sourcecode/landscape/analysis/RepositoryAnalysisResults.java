@@ -18,6 +18,9 @@ public class RepositoryAnalysisResults {
     @JsonIgnore
     List<FileExport> files = new ArrayList<>();
 
+    @JsonIgnore
+    private RepositoryAggregates aggregates;
+
     public RepositoryAnalysisResults() {
     }
 
@@ -50,4 +53,14 @@ public class RepositoryAnalysisResults {
     public void setFiles(List<FileExport> files) {
         this.files = files;
     }
+
+    @JsonIgnore
+    public RepositoryAggregates getAggregates() {
+        return aggregates;
+    }
+
+    @JsonIgnore
+    public void setAggregates(RepositoryAggregates aggregates) {
+        this.aggregates = aggregates;
+    }
 }
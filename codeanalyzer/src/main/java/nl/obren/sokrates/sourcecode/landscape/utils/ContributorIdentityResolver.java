@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.sourcecode.landscape.utils;
+
+import nl.obren.sokrates.sourcecode.landscape.PeopleConfig;
+import nl.obren.sokrates.sourcecode.operations.ComplexOperation;
+import nl.obren.sokrates.sourcecode.operations.OperationStatement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maps raw contributor emails to contributor ids (transformed emails, or names of configured people).
+ * The transformations and the people patterns are compiled once, and each email is resolved only once.
+ * It can be shared between threads.
+ */
+public class ContributorIdentityResolver {
+    // the content of the configuration, compared by value
+    private final List<Object> configuration;
+    private final ComplexOperation transformation;
+    private final PeopleConfig peopleConfig;
+
+    private final Map<String, String> contributorIds = new ConcurrentHashMap<>();
+
+    public ContributorIdentityResolver(List<OperationStatement> transformations, PeopleConfig peopleConfig) {
+        this.configuration = getConfiguration(transformations, peopleConfig);
+        this.transformation = transformations.size() > 0 ? new ComplexOperation(transformations) : null;
+        this.peopleConfig = peopleConfig;
+    }
+
+    public String getContributorId(String email) {
+        return contributorIds.computeIfAbsent(email, this::resolveContributorId);
+    }
+
+    private String resolveContributorId(String email) {
+        String contributorId = transformation != null ? transformation.exec(email) : email;
+        if (peopleConfig != null) {
+            contributorId = peopleConfig.getPersonFromEmailPatterns(contributorId).getName();
+        }
+        return contributorId;
+    }
+
+    public boolean isConfiguredWith(List<OperationStatement> transformations, PeopleConfig peopleConfig) {
+        return configuration.equals(getConfiguration(transformations, peopleConfig));
+    }
+
+    // operations with their parameters, and names with email patterns of people (the only inputs of the resolution)
+    private static List<Object> getConfiguration(List<OperationStatement> transformations, PeopleConfig peopleConfig) {
+        List<Object> configuration = new ArrayList<>();
+        transformations.forEach(statement -> configuration.add(Arrays.asList(statement.getOp(), copy(statement.getParams()))));
+        configuration.add(peopleConfig != null);
+        if (peopleConfig != null) {
+            peopleConfig.getPeople().forEach(person -> configuration.add(Arrays.asList(person.getName(), copy(person.getEmailPatterns()))));
+        }
+        return configuration;
+    }
+
+    private static List<String> copy(List<String> list) {
+        return list != null ? new ArrayList<>(list) : null;
+    }
+}
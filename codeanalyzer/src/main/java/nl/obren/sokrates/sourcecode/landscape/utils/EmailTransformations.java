@@ -1,38 +1,54 @@
 package nl.obren.sokrates.sourcecode.landscape.utils;
 
-import com.fasterxml.jackson.annotation.JsonIgnore;
 import nl.obren.sokrates.sourcecode.landscape.PeopleConfig;
-import nl.obren.sokrates.sourcecode.operations.ComplexOperation;
+import nl.obren.sokrates.sourcecode.landscape.PersonConfig;
 import nl.obren.sokrates.sourcecode.operations.OperationStatement;
-import org.apache.commons.logging.Log;
-import org.apache.commons.logging.LogFactory;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 public class EmailTransformations {
-    private static final Log LOG = LogFactory.getLog(EmailTransformations.class);
-    @JsonIgnore
-    private static final Map<String, String> cache = new HashMap<>();
+    // the resolver of the last used configuration, read without locking; replaced only when the configuration changes
+    private static volatile ConfiguredResolver current;
 
     public static String transformEmail(final String email, List<OperationStatement> operationStatements, PeopleConfig peopleConfig) {
-        if (cache.containsKey(email)) {
-            return cache.get(email);
-        }
+        return getResolver(operationStatements, peopleConfig).getContributorId(email);
+    }
 
-        String contributorId = email;
-        if (operationStatements.size() > 0) {
-            ComplexOperation operation = new ComplexOperation(operationStatements);
-            contributorId = operation.exec(contributorId);
+    private static ContributorIdentityResolver getResolver(List<OperationStatement> operationStatements, PeopleConfig peopleConfig) {
+        ConfiguredResolver configured = current;
+        if (configured != null && configured.isSameConfiguration(operationStatements, peopleConfig)) {
+            return configured.resolver;
         }
-
-        if (peopleConfig != null) {
-            contributorId = peopleConfig.getPersonFromEmailPatterns(contributorId).getName();
+        synchronized (EmailTransformations.class) {
+            configured = current;
+            if (configured != null && configured.isSameConfiguration(operationStatements, peopleConfig)) {
+                return configured.resolver;
+            }
+            // other configuration objects with the same content keep the already resolved emails
+            ContributorIdentityResolver resolver = configured != null && configured.resolver.isConfiguredWith(operationStatements, peopleConfig)
+                    ? configured.resolver : new ContributorIdentityResolver(operationStatements, peopleConfig);
+            current = new ConfiguredResolver(operationStatements, peopleConfig, resolver);
+            return resolver;
         }
+    }
 
-        cache.put(email, contributorId);
+    // a cheap identity check of the configuration objects, before comparing their content
+    private static class ConfiguredResolver {
+        private final List<OperationStatement> operationStatements;
+        private final PeopleConfig peopleConfig;
+        private final List<PersonConfig> people;
+        private final ContributorIdentityResolver resolver;
+
+        ConfiguredResolver(List<OperationStatement> operationStatements, PeopleConfig peopleConfig, ContributorIdentityResolver resolver) {
+            this.operationStatements = operationStatements;
+            this.peopleConfig = peopleConfig;
+            this.people = peopleConfig != null ? peopleConfig.getPeople() : null;
+            this.resolver = resolver;
+        }
 
-        return contributorId;
+        boolean isSameConfiguration(List<OperationStatement> operationStatements, PeopleConfig peopleConfig) {
+            return this.operationStatements == operationStatements && this.peopleConfig == peopleConfig
+                    && (peopleConfig == null || this.people == peopleConfig.getPeople());
+        }
     }
 }
@@ -41,4 +41,9 @@ public abstract class LanguageAnalyzer {
     public List<MetaDependencyRule> getMetaDependencyRules() {
         return new ArrayList<>();
     }
+
+    // one instance is shared by all files and threads, unless the analyzer keeps state between its calls
+    public boolean isReusable() {
+        return true;
+    }
 }
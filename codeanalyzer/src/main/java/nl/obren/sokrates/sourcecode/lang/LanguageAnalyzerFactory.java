@@ -59,6 +59,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class LanguageAnalyzerFactory {
     private static final Log LOG = LogFactory.getLog(LanguageAnalyzerFactory.class);
@@ -67,6 +68,12 @@ public class LanguageAnalyzerFactory {
     private Map<String, Class> analyzersMap = new HashMap<>();
     private List<AnalyzerOverride> overrides = new ArrayList<>();
 
+    // analyzers are reused for all files (see LanguageAnalyzer.isReusable)
+    private final Map<Class, LanguageAnalyzer> analyzers = new ConcurrentHashMap<>();
+    private final LanguageAnalyzer defaultAnalyzer = new DefaultLanguageAnalyzer();
+    // the override filters may read the file content, so they are evaluated once per file (path -> analyzer key)
+    private final Map<String, String> overriddenAnalyzerKeys = new ConcurrentHashMap<>();
+
     private LanguageAnalyzerFactory() {
         // java
         analyzersMap.put("java", JavaAnalyzer.class);
@@ -597,26 +604,43 @@ public class LanguageAnalyzerFactory {
 
     public void setOverrides(List<AnalyzerOverride> overrides) {
         this.overrides = overrides;
+        this.overriddenAnalyzerKeys.clear();
     }
 
     public LanguageAnalyzer getLanguageAnalyzerByExtension(String extension) {
-        try {
-            Class aClass = analyzersMap.get(extension);
-            if (aClass != null) {
-                return (LanguageAnalyzer) aClass.newInstance();
-            }
-        } catch (InstantiationException | IllegalAccessException e) {
-            throw new RuntimeException("Error");
+        Class aClass = analyzersMap.get(extension);
+        if (aClass != null) {
+            LanguageAnalyzer analyzer = analyzers.computeIfAbsent(aClass, this::createAnalyzer);
+            return analyzer.isReusable() ? analyzer : createAnalyzer(aClass);
         }
 
-        return new DefaultLanguageAnalyzer();
+        return defaultAnalyzer;
     }
 
     public LanguageAnalyzer getLanguageAnalyzer(SourceFile sourceFile) {
         return getLanguageAnalyzerByExtension(getAnalyzerKey(sourceFile));
     }
 
+    private LanguageAnalyzer createAnalyzer(Class aClass) {
+        try {
+            return (LanguageAnalyzer) aClass.newInstance();
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new RuntimeException("Error");
+        }
+    }
+
     private String getAnalyzerKey(SourceFile sourceFile) {
+        String extension = ExtensionGroupExtractor.getExtension(sourceFile.getFile().getPath()).toLowerCase();
+        if (overrides.isEmpty()) {
+            return extension;
+        }
+        return overriddenAnalyzerKeys.computeIfAbsent(sourceFile.getFile().getPath(), path -> {
+            String overriddenKey = getOverriddenAnalyzerKey(sourceFile);
+            return overriddenKey != null ? overriddenKey : extension;
+        });
+    }
+
+    private String getOverriddenAnalyzerKey(SourceFile sourceFile) {
         for (AnalyzerOverride override : overrides) {
             boolean overridden = false;
             for (SourceFileFilter sourceFileFilter : override.getFilters()) {
@@ -631,7 +655,7 @@ public class LanguageAnalyzerFactory {
                 return override.getAnalyzer();
             }
         }
-        return ExtensionGroupExtractor.getExtension(sourceFile.getFile().getPath()).toLowerCase();
+        return null;
     }
 
 }
@@ -9,7 +9,7 @@ import nl.obren.sokrates.sourcecode.SourceFile;
 import nl.obren.sokrates.sourcecode.aspects.MetaDependencyRule;
 import nl.obren.sokrates.sourcecode.cleaners.CleanedContent;
 import nl.obren.sokrates.sourcecode.cleaners.CommentsAndEmptyLinesCleaner;
-import nl.obren.sokrates.sourcecode.cleaners.SourceCodeCleanerUtils;
+import nl.obren.sokrates.sourcecode.cleaners.DuplicationLinesCleaner;
 import nl.obren.sokrates.sourcecode.dependencies.DependenciesAnalysis;
 import nl.obren.sokrates.sourcecode.lang.LanguageAnalyzer;
 import nl.obren.sokrates.sourcecode.operations.OperationStatement;
@@ -21,12 +21,15 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 public class AbapAnalyzer extends LanguageAnalyzer {
+    private static final DuplicationLinesCleaner DUPLICATION_LINES_CLEANER = new DuplicationLinesCleaner();
+    private final CommentsAndEmptyLinesCleaner cleaner = createCleaner();
+
     public AbapAnalyzer() {
     }
 
     @Override
     public CleanedContent cleanForLinesOfCodeCalculations(SourceFile sourceFile) {
-        return getCleaner().clean(getLinesWithoutComments(sourceFile));
+        return cleaner.clean(getLinesWithoutComments(sourceFile));
     }
 
 
@@ -44,7 +47,7 @@ public class AbapAnalyzer extends LanguageAnalyzer {
     }
 
   
-    private CommentsAndEmptyLinesCleaner getCleaner() {
+    private static CommentsAndEmptyLinesCleaner createCleaner() {
         CommentsAndEmptyLinesCleaner cleaner = new CommentsAndEmptyLinesCleaner();
 
         cleaner.addCommentBlockHelper("\"", "\n");
@@ -54,11 +57,9 @@ public class AbapAnalyzer extends LanguageAnalyzer {
 
     @Override
     public CleanedContent cleanForDuplicationCalculations(SourceFile sourceFile) {
-        String content = getCleaner().cleanKeepEmptyLines(getLinesWithoutComments(sourceFile));
-
-        content = SourceCodeCleanerUtils.trimLines(content);
+        String content = cleaner.cleanKeepEmptyLines(getLinesWithoutComments(sourceFile));
 
-        return SourceCodeCleanerUtils.cleanEmptyLinesWithLineIndexes(content);
+        return DUPLICATION_LINES_CLEANER.clean(content);
     }
 
     @Override
@@ -9,6 +9,7 @@ import nl.obren.sokrates.sourcecode.SourceFile;
 import nl.obren.sokrates.sourcecode.aspects.MetaDependencyRule;
 import nl.obren.sokrates.sourcecode.cleaners.CleanedContent;
 import nl.obren.sokrates.sourcecode.cleaners.CommentsAndEmptyLinesCleaner;
+import nl.obren.sokrates.sourcecode.cleaners.DuplicationLinesCleaner;
 import nl.obren.sokrates.sourcecode.cleaners.SourceCodeCleanerUtils;
 import nl.obren.sokrates.sourcecode.dependencies.DependenciesAnalysis;
 import nl.obren.sokrates.sourcecode.lang.LanguageAnalyzer;
@@ -22,6 +23,9 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 public class AdabasNaturalAnalyzer extends LanguageAnalyzer {
+    private static final DuplicationLinesCleaner DUPLICATION_LINES_CLEANER = new DuplicationLinesCleaner();
+    private final CommentsAndEmptyLinesCleaner cleaner = createCleaner();
+
     private CleanedContent cleanedContent;
 
     private List<String> cleanedLines;
@@ -38,9 +42,15 @@ public class AdabasNaturalAnalyzer extends LanguageAnalyzer {
             " ACCEPT", " REJECT", " AT BREAK", " BEFORE BREAK PROCESSING", " DECIDE FOR", " DECIDE ON", " IF", " FOR",
             " REPEAT");
 
+    // the cleaned content and the units are kept between the calls for the same file
+    @Override
+    public boolean isReusable() {
+        return false;
+    }
+
     @Override
     public CleanedContent cleanForLinesOfCodeCalculations(SourceFile sourceFile) {
-        cleanedContent = getCleaner().clean(getLinesWithoutDataDefinitionAndComments(sourceFile));
+        cleanedContent = cleaner.clean(getLinesWithoutDataDefinitionAndComments(sourceFile));
         return cleanedContent;
     }
 
@@ -61,7 +71,7 @@ public class AdabasNaturalAnalyzer extends LanguageAnalyzer {
         String startDataDifinition = "DEFINE DATA";
         String endDataDifinition = "END-DEFINE";
         ArrayList<String> lines = new ArrayList(SourceCodeCleanerUtils
-                .splitInLines(getCleaner().clean(getLinesWithoutComments(sourceFile)).getCleanedContent()));
+                .splitInLines(cleaner.clean(getLinesWithoutComments(sourceFile)).getCleanedContent()));
         int removeLinesBelowLineNo = 0;
         int removeLinesAboveLineNo = 0;
         for (int lineIndex = 0; lineIndex < lines.size(); lineIndex++) {
@@ -82,7 +92,7 @@ public class AdabasNaturalAnalyzer extends LanguageAnalyzer {
 
     }
 
-    private CommentsAndEmptyLinesCleaner getCleaner() {
+    private static CommentsAndEmptyLinesCleaner createCleaner() {
         CommentsAndEmptyLinesCleaner cleaner = new CommentsAndEmptyLinesCleaner();
 
         cleaner.addCommentBlockHelper("/*", "\n");
@@ -92,11 +102,9 @@ public class AdabasNaturalAnalyzer extends LanguageAnalyzer {
 
     @Override
     public CleanedContent cleanForDuplicationCalculations(SourceFile sourceFile) {
-        String content = getCleaner().cleanKeepEmptyLines(getLinesWithoutDataDefinitionAndComments(sourceFile));
-
-        content = SourceCodeCleanerUtils.trimLines(content);
+        String content = cleaner.cleanKeepEmptyLines(getLinesWithoutDataDefinitionAndComments(sourceFile));
 
-        return SourceCodeCleanerUtils.cleanEmptyLinesWithLineIndexes(content);
+        return DUPLICATION_LINES_CLEANER.clean(content);
     }
 
     @Override
@@ -8,7 +8,7 @@ import nl.obren.sokrates.common.utils.ProgressFeedback;
 import nl.obren.sokrates.sourcecode.SourceFile;
 import nl.obren.sokrates.sourcecode.cleaners.CleanedContent;
 import nl.obren.sokrates.sourcecode.cleaners.CommentsAndEmptyLinesCleaner;
-import nl.obren.sokrates.sourcecode.cleaners.SourceCodeCleanerUtils;
+import nl.obren.sokrates.sourcecode.cleaners.DuplicationLinesCleaner;
 import nl.obren.sokrates.sourcecode.dependencies.DependenciesAnalysis;
 import nl.obren.sokrates.sourcecode.lang.LanguageAnalyzer;
 import nl.obren.sokrates.sourcecode.units.CStyleHeuristicUnitsExtractor;
@@ -18,15 +18,18 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class CSharpAnalyzer extends LanguageAnalyzer {
+    private static final DuplicationLinesCleaner DUPLICATION_LINES_CLEANER = new DuplicationLinesCleaner("namespace .*", "using .*", "[{]", "[}]");
+    private final CommentsAndEmptyLinesCleaner cleaner = createCleaner();
+
     public CSharpAnalyzer() {
     }
 
     @Override
     public CleanedContent cleanForLinesOfCodeCalculations(SourceFile sourceFile) {
-        return getCleaner().clean(sourceFile.getContent());
+        return cleaner.clean(sourceFile.getContent());
     }
 
-    private CommentsAndEmptyLinesCleaner getCleaner() {
+    private static CommentsAndEmptyLinesCleaner createCleaner() {
         CommentsAndEmptyLinesCleaner cleaner = new CommentsAndEmptyLinesCleaner();
 
         cleaner.addCommentBlockHelper("/*", "*/");
@@ -40,15 +43,9 @@ public class CSharpAnalyzer extends LanguageAnalyzer {
 
     @Override
     public CleanedContent cleanForDuplicationCalculations(SourceFile sourceFile) {
-        String content = getCleaner().cleanKeepEmptyLines(sourceFile.getContent());
-
-        content = SourceCodeCleanerUtils.trimLines(content);
-        content = SourceCodeCleanerUtils.emptyLinesMatchingPattern("namespace .*", content);
-        content = SourceCodeCleanerUtils.emptyLinesMatchingPattern("using .*", content);
-        content = SourceCodeCleanerUtils.emptyLinesMatchingPattern("[{]", content);
-        content = SourceCodeCleanerUtils.emptyLinesMatchingPattern("[}]", content);
+        String content = cleaner.cleanKeepEmptyLines(sourceFile.getContent());
 
-        return SourceCodeCleanerUtils.cleanEmptyLinesWithLineIndexes(content);
+        return DUPLICATION_LINES_CLEANER.clean(content);
     }
 
     @Override
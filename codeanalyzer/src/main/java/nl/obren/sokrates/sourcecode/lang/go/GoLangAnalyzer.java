@@ -8,7 +8,7 @@ import nl.obren.sokrates.common.utils.ProgressFeedback;
 import nl.obren.sokrates.sourcecode.SourceFile;
 import nl.obren.sokrates.sourcecode.cleaners.CleanedContent;
 import nl.obren.sokrates.sourcecode.cleaners.CommentsAndEmptyLinesCleaner;
-import nl.obren.sokrates.sourcecode.cleaners.SourceCodeCleanerUtils;
+import nl.obren.sokrates.sourcecode.cleaners.DuplicationLinesCleaner;
 import nl.obren.sokrates.sourcecode.dependencies.DependenciesAnalysis;
 import nl.obren.sokrates.sourcecode.lang.LanguageAnalyzer;
 import nl.obren.sokrates.sourcecode.units.UnitInfo;
@@ -17,16 +17,19 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class GoLangAnalyzer extends LanguageAnalyzer {
+    private static final DuplicationLinesCleaner DUPLICATION_LINES_CLEANER = new DuplicationLinesCleaner("import .*", "package.*", "[{]", "[}]");
+    private final CommentsAndEmptyLinesCleaner cleaner = createCleaner();
+    private final CommentsAndEmptyLinesCleaner duplicationCleaner = createDuplicationCleaner();
+
     public GoLangAnalyzer() {
     }
 
     @Override
     public CleanedContent cleanForLinesOfCodeCalculations(SourceFile sourceFile) {
-        CommentsAndEmptyLinesCleaner cleaner = getCleaner();
         return cleaner.clean(sourceFile.getContent());
     }
 
-    private CommentsAndEmptyLinesCleaner getCleaner() {
+    private static CommentsAndEmptyLinesCleaner createCleaner() {
         CommentsAndEmptyLinesCleaner cleaner = new CommentsAndEmptyLinesCleaner();
 
         cleaner.addCommentBlockHelper("/*", "*/");
@@ -38,20 +41,17 @@ public class GoLangAnalyzer extends LanguageAnalyzer {
         return cleaner;
     }
 
-    @Override
-    public CleanedContent cleanForDuplicationCalculations(SourceFile sourceFile) {
-        CommentsAndEmptyLinesCleaner cleaner = getCleaner();
+    private static CommentsAndEmptyLinesCleaner createDuplicationCleaner() {
+        CommentsAndEmptyLinesCleaner cleaner = createCleaner();
         cleaner.addCommentBlockHelper("import (", ")", "");
+        return cleaner;
+    }
 
-        String content = cleaner.cleanKeepEmptyLines(sourceFile.getContent());
-
-        content = SourceCodeCleanerUtils.trimLines(content);
-        content = SourceCodeCleanerUtils.emptyLinesMatchingPattern("import .*", content);
-        content = SourceCodeCleanerUtils.emptyLinesMatchingPattern("package.*", content);
-        content = SourceCodeCleanerUtils.emptyLinesMatchingPattern("[{]", content);
-        content = SourceCodeCleanerUtils.emptyLinesMatchingPattern("[}]", content);
+    @Override
+    public CleanedContent cleanForDuplicationCalculations(SourceFile sourceFile) {
+        String content = duplicationCleaner.cleanKeepEmptyLines(sourceFile.getContent());
 
-        return SourceCodeCleanerUtils.cleanEmptyLinesWithLineIndexes(content);
+        return DUPLICATION_LINES_CLEANER.clean(content);
     }
 
     @Override
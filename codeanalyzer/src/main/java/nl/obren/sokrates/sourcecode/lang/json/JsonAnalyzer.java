@@ -7,6 +7,7 @@ package nl.obren.sokrates.sourcecode.lang.json;
 import nl.obren.sokrates.common.utils.ProgressFeedback;
 import nl.obren.sokrates.sourcecode.SourceFile;
 import nl.obren.sokrates.sourcecode.cleaners.CleanedContent;
+import nl.obren.sokrates.sourcecode.cleaners.DuplicationLinesCleaner;
 import nl.obren.sokrates.sourcecode.cleaners.SourceCodeCleanerUtils;
 import nl.obren.sokrates.sourcecode.dependencies.DependenciesAnalysis;
 import nl.obren.sokrates.sourcecode.lang.LanguageAnalyzer;
@@ -16,6 +17,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class JsonAnalyzer extends LanguageAnalyzer {
+    private static final DuplicationLinesCleaner DUPLICATION_LINES_CLEANER = new DuplicationLinesCleaner("[{]", "[}]", "\\[", "\\]");
+
     public JsonAnalyzer() {
     }
 
@@ -26,13 +29,7 @@ public class JsonAnalyzer extends LanguageAnalyzer {
 
     @Override
     public CleanedContent cleanForDuplicationCalculations(SourceFile sourceFile) {
-        String content =  SourceCodeCleanerUtils.trimLines(sourceFile.getContent());
-        content = SourceCodeCleanerUtils.emptyLinesMatchingPattern("[{]", content);
-        content = SourceCodeCleanerUtils.emptyLinesMatchingPattern("[}]", content);
-        content = SourceCodeCleanerUtils.emptyLinesMatchingPattern("\\[", content);
-        content = SourceCodeCleanerUtils.emptyLinesMatchingPattern("\\]", content);
-
-        return SourceCodeCleanerUtils.cleanEmptyLinesWithLineIndexes(content);
+        return DUPLICATION_LINES_CLEANER.clean(sourceFile.getContent());
     }
 
     @Override
@@ -103,14 +103,8 @@ public class LuaHeuristicUnitsExtractor {
         loc = 1;
     }
 
-    private CommentsAndEmptyLinesCleaner getCommentsAndEmptyLinesCleanerExtraString() {
-        CommentsAndEmptyLinesCleaner cleaner = analyzer.getCommentsAndEmptyLinesCleaner();
-        cleaner.getCodeBlockParsers().forEach(codeBlockParser -> codeBlockParser.setRemoveWhenCleaning(true));
-        return cleaner;
-    }
-
     private void updateParamsAndMcCabeIndex(String body) {
-        CommentsAndEmptyLinesCleaner cleaner = getCommentsAndEmptyLinesCleanerExtraString();
+        CommentsAndEmptyLinesCleaner cleaner = analyzer.getCommentsAndEmptyLinesCleanerExtraString();
         String content = cleaner.cleanKeepEmptyLines(body);
 
         String bodyForSearch = " " + content.replace("\n", " ");
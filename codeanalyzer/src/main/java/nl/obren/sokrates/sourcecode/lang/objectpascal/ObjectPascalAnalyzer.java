@@ -8,7 +8,7 @@ import nl.obren.sokrates.common.utils.ProgressFeedback;
 import nl.obren.sokrates.sourcecode.SourceFile;
 import nl.obren.sokrates.sourcecode.cleaners.CleanedContent;
 import nl.obren.sokrates.sourcecode.cleaners.CommentsAndEmptyLinesCleaner;
-import nl.obren.sokrates.sourcecode.cleaners.SourceCodeCleanerUtils;
+import nl.obren.sokrates.sourcecode.cleaners.DuplicationLinesCleaner;
 import nl.obren.sokrates.sourcecode.dependencies.DependenciesAnalysis;
 import nl.obren.sokrates.sourcecode.lang.LanguageAnalyzer;
 import nl.obren.sokrates.sourcecode.units.UnitInfo;
@@ -17,6 +17,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class ObjectPascalAnalyzer extends LanguageAnalyzer {
+    private static final DuplicationLinesCleaner DUPLICATION_LINES_CLEANER = new DuplicationLinesCleaner("end;", "end[.]");
+    private final CommentsAndEmptyLinesCleaner cleaner = createCleaner();
+    private final CommentsAndEmptyLinesCleaner extraStringCleaner = createExtraStringCleaner();
+
     public ObjectPascalAnalyzer() {
     }
 
@@ -26,6 +30,21 @@ public class ObjectPascalAnalyzer extends LanguageAnalyzer {
     }
 
     protected CommentsAndEmptyLinesCleaner getCommentsAndEmptyLinesCleaner() {
+        return cleaner;
+    }
+
+    // the same cleaner, but also removing the strings (used to find unit parameters and conditions)
+    protected CommentsAndEmptyLinesCleaner getCommentsAndEmptyLinesCleanerExtraString() {
+        return extraStringCleaner;
+    }
+
+    private static CommentsAndEmptyLinesCleaner createExtraStringCleaner() {
+        CommentsAndEmptyLinesCleaner cleaner = createCleaner();
+        cleaner.getCodeBlockParsers().forEach(codeBlockParser -> codeBlockParser.setRemoveWhenCleaning(true));
+        return cleaner;
+    }
+
+    private static CommentsAndEmptyLinesCleaner createCleaner() {
         CommentsAndEmptyLinesCleaner cleaner = new CommentsAndEmptyLinesCleaner();
 
         cleaner.addCommentBlockHelper("{", "}");
@@ -40,11 +59,7 @@ public class ObjectPascalAnalyzer extends LanguageAnalyzer {
     public CleanedContent cleanForDuplicationCalculations(SourceFile sourceFile) {
         String content = getCommentsAndEmptyLinesCleaner().cleanKeepEmptyLines(sourceFile.getContent());
 
-        content = SourceCodeCleanerUtils.trimLines(content);
-        content = SourceCodeCleanerUtils.emptyLinesMatchingPattern("end;", content);
-        content = SourceCodeCleanerUtils.emptyLinesMatchingPattern("end[.]", content);
-
-        return SourceCodeCleanerUtils.cleanEmptyLinesWithLineIndexes(content);
+        return DUPLICATION_LINES_CLEANER.clean(content);
     }
 
     @Override
@@ -8,7 +8,7 @@ import nl.obren.sokrates.common.utils.ProgressFeedback;
 import nl.obren.sokrates.sourcecode.SourceFile;
 import nl.obren.sokrates.sourcecode.cleaners.CleanedContent;
 import nl.obren.sokrates.sourcecode.cleaners.CommentsAndEmptyLinesCleaner;
-import nl.obren.sokrates.sourcecode.cleaners.SourceCodeCleanerUtils;
+import nl.obren.sokrates.sourcecode.cleaners.DuplicationLinesCleaner;
 import nl.obren.sokrates.sourcecode.dependencies.DependenciesAnalysis;
 import nl.obren.sokrates.sourcecode.lang.LanguageAnalyzer;
 import nl.obren.sokrates.sourcecode.units.UnitInfo;
@@ -18,12 +18,15 @@ import java.util.Arrays;
 import java.util.List;
 
 public class PerlAnalyzer extends LanguageAnalyzer {
+    private static final DuplicationLinesCleaner DUPLICATION_LINES_CLEANER = new DuplicationLinesCleaner("use .*;", "package .*");
+    private final CommentsAndEmptyLinesCleaner cleaner = createCleaner();
+
     public PerlAnalyzer() {
     }
 
     @Override
     public CleanedContent cleanForLinesOfCodeCalculations(SourceFile sourceFile) {
-        return getCleaner().clean(removePerlBlockComments(sourceFile));
+        return cleaner.clean(removePerlBlockComments(sourceFile));
     }
 
     private String removePerlBlockComments(SourceFile sourceFile) {
@@ -51,7 +54,7 @@ public class PerlAnalyzer extends LanguageAnalyzer {
         return stringBuilder.toString();
     }
 
-    private CommentsAndEmptyLinesCleaner getCleaner() {
+    private static CommentsAndEmptyLinesCleaner createCleaner() {
         CommentsAndEmptyLinesCleaner cleaner = new CommentsAndEmptyLinesCleaner();
 
         cleaner.addCommentBlockHelper("#", "\n");
@@ -65,13 +68,9 @@ public class PerlAnalyzer extends LanguageAnalyzer {
 
     @Override
     public CleanedContent cleanForDuplicationCalculations(SourceFile sourceFile) {
-        String content = getCleaner().cleanKeepEmptyLines(removePerlBlockComments(sourceFile));
-
-        content = SourceCodeCleanerUtils.trimLines(content);
-        content = SourceCodeCleanerUtils.emptyLinesMatchingPattern("use .*;", content);
-        content = SourceCodeCleanerUtils.emptyLinesMatchingPattern("package .*", content);
+        String content = cleaner.cleanKeepEmptyLines(removePerlBlockComments(sourceFile));
 
-        return SourceCodeCleanerUtils.cleanEmptyLinesWithLineIndexes(content);
+        return DUPLICATION_LINES_CLEANER.clean(content);
     }
 
     @Override
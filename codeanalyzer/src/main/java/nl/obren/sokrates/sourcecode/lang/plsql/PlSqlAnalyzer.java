@@ -4,6 +4,7 @@ import nl.obren.sokrates.common.utils.ProgressFeedback;
 import nl.obren.sokrates.sourcecode.SourceFile;
 import nl.obren.sokrates.sourcecode.cleaners.CleanedContent;
 import nl.obren.sokrates.sourcecode.cleaners.CommentsAndEmptyLinesCleaner;
+import nl.obren.sokrates.sourcecode.cleaners.DuplicationLinesCleaner;
 import nl.obren.sokrates.sourcecode.cleaners.SourceCodeCleanerUtils;
 import nl.obren.sokrates.sourcecode.dependencies.DependenciesAnalysis;
 import nl.obren.sokrates.sourcecode.lang.LanguageAnalyzer;
@@ -15,13 +16,16 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 public class PlSqlAnalyzer extends LanguageAnalyzer {
+    private static final DuplicationLinesCleaner DUPLICATION_LINES_CLEANER = new DuplicationLinesCleaner();
+    private final CommentsAndEmptyLinesCleaner cleaner = createCleaner();
+
     public PlSqlAnalyzer() {
     }
 
     @Override
     public CleanedContent cleanForLinesOfCodeCalculations(SourceFile sourceFile) {
 
-        return getCleaner().clean(
+        return cleaner.clean(
                 SourceCodeCleanerUtils.emptyLinesMatchingPattern("/\n", sourceFile.getContent())
         );
 //        return getCleaner().clean(getLinesWithoutComments(sourceFile));
@@ -42,7 +46,7 @@ public class PlSqlAnalyzer extends LanguageAnalyzer {
         return String.join("\n", linesWithoutComments);
     }
 
-    private CommentsAndEmptyLinesCleaner getCleaner() {
+    private static CommentsAndEmptyLinesCleaner createCleaner() {
 
         CommentsAndEmptyLinesCleaner cleaner = new CommentsAndEmptyLinesCleaner();
 
@@ -55,12 +59,10 @@ public class PlSqlAnalyzer extends LanguageAnalyzer {
 
     @Override
     public CleanedContent cleanForDuplicationCalculations(SourceFile sourceFile) {
-        String content = getCleaner().cleanKeepEmptyLines(sourceFile.getContent());
+        String content = cleaner.cleanKeepEmptyLines(sourceFile.getContent());
 //        String content = getCleaner().cleanKeepEmptyLines(getLinesWithoutComments(sourceFile));
 
-        content = SourceCodeCleanerUtils.trimLines(content);
-
-        return SourceCodeCleanerUtils.cleanEmptyLinesWithLineIndexes(content);
+        return DUPLICATION_LINES_CLEANER.clean(content);
     }
 
     @Override
@@ -8,6 +8,7 @@ import nl.obren.sokrates.common.utils.ProgressFeedback;
 import nl.obren.sokrates.sourcecode.SourceFile;
 import nl.obren.sokrates.sourcecode.cleaners.CleanedContent;
 import nl.obren.sokrates.sourcecode.cleaners.CommentsAndEmptyLinesCleaner;
+import nl.obren.sokrates.sourcecode.cleaners.DuplicationLinesCleaner;
 import nl.obren.sokrates.sourcecode.cleaners.SourceCodeCleanerUtils;
 import nl.obren.sokrates.sourcecode.dependencies.DependenciesAnalysis;
 import nl.obren.sokrates.sourcecode.lang.LanguageAnalyzer;
@@ -18,6 +19,10 @@ import java.util.Arrays;
 import java.util.List;
 
 public class VisualBasicAnalyzer extends LanguageAnalyzer {
+    private static final DuplicationLinesCleaner DUPLICATION_LINES_CLEANER = new DuplicationLinesCleaner("[ ]*End [A-Z][a-z]+[ ]*", "[ ]*Imports .*");
+    private final CommentsAndEmptyLinesCleaner cleaner = createCleaner();
+    private final CommentsAndEmptyLinesCleaner extraStringCleaner = createExtraStringCleaner();
+
     public VisualBasicAnalyzer() {
     }
 
@@ -29,6 +34,21 @@ public class VisualBasicAnalyzer extends LanguageAnalyzer {
     }
 
     protected CommentsAndEmptyLinesCleaner getCommentsAndEmptyLinesCleaner() {
+        return cleaner;
+    }
+
+    // the same cleaner, but also removing the strings (used to find unit parameters and conditions)
+    protected CommentsAndEmptyLinesCleaner getCommentsAndEmptyLinesCleanerExtraString() {
+        return extraStringCleaner;
+    }
+
+    private static CommentsAndEmptyLinesCleaner createExtraStringCleaner() {
+        CommentsAndEmptyLinesCleaner cleaner = createCleaner();
+        cleaner.getCodeBlockParsers().forEach(codeBlockParser -> codeBlockParser.setRemoveWhenCleaning(true));
+        return cleaner;
+    }
+
+    private static CommentsAndEmptyLinesCleaner createCleaner() {
         CommentsAndEmptyLinesCleaner cleaner = new CommentsAndEmptyLinesCleaner();
 
         cleaner.addCommentBlockHelper("\n REM ", "\n");
@@ -38,20 +58,12 @@ public class VisualBasicAnalyzer extends LanguageAnalyzer {
         return cleaner;
     }
 
-    protected CommentsAndEmptyLinesCleaner getCommentsAndEmptyLinesCleanerExtraString() {
-        CommentsAndEmptyLinesCleaner cleaner = getCommentsAndEmptyLinesCleaner();
-        cleaner.getCodeBlockParsers().forEach(codeBlockParser -> codeBlockParser.setRemoveWhenCleaning(true));
-        return cleaner;
-    }
-
     @Override
     public CleanedContent cleanForDuplicationCalculations(SourceFile sourceFile) {
         CommentsAndEmptyLinesCleaner cleaner = getCommentsAndEmptyLinesCleaner();
 
         String content = cleaner.cleanKeepEmptyLines(sourceFile.getContent());
-        content = SourceCodeCleanerUtils.trimLines(content);
-        content = SourceCodeCleanerUtils.emptyLinesMatchingPattern("[ ]*End [A-Z][a-z]+[ ]*", content);
-        content = SourceCodeCleanerUtils.emptyLinesMatchingPattern("[ ]*Imports .*", content);
+        content = DUPLICATION_LINES_CLEANER.emptyIgnoredLines(content);
 
         return SourceCodeCleanerUtils.cleanSingleLineCommentsAndEmptyLines(content, Arrays.asList("'", "REM "));
     }
@@ -9,7 +9,8 @@ import java.util.List;
 
 public class ComplexOperation extends StringOperation {
     private List<OperationStatement> operations = new ArrayList<>();
-    private StringOperationFactory factory = new StringOperationFactory();
+    // created once, so the operations (and their patterns) are reused for all inputs
+    private List<StringOperation> compiledOperations = new ArrayList<>();
 
     public ComplexOperation() {
         super("sequence");
@@ -18,16 +19,18 @@ public class ComplexOperation extends StringOperation {
     public ComplexOperation(List<OperationStatement> operations) {
         this();
         this.operations = operations;
+        StringOperationFactory factory = new StringOperationFactory();
+        operations.forEach(op -> compiledOperations.add(factory.getOperation(op)));
     }
 
     @Override
     public String exec(String input) {
-        final String[] result = {input};
+        String result = input;
 
-        this.operations.forEach(op -> {
-            result[0] = factory.getOperation(op).exec(result[0]);
-        });
+        for (StringOperation operation : compiledOperations) {
+            result = operation.exec(result);
+        }
 
-        return result[0];
+        return result;
     }
 }
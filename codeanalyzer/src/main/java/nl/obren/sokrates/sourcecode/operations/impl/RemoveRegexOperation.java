@@ -4,6 +4,7 @@
 
 package nl.obren.sokrates.sourcecode.operations.impl;
 
+import nl.obren.sokrates.common.utils.RegexUtils;
 import nl.obren.sokrates.sourcecode.operations.StringOperation;
 
 import java.util.List;
@@ -23,7 +24,7 @@ public class RemoveRegexOperation extends StringOperation {
         final String[] result = {input};
 
         getParams().forEach(regex -> {
-            result[0] = result[0].replaceAll(regex, "");
+            result[0] = RegexUtils.getPattern(regex).matcher(result[0]).replaceAll("");
         });
 
         return result[0];
@@ -4,6 +4,7 @@
 
 package nl.obren.sokrates.sourcecode.operations.impl;
 
+import nl.obren.sokrates.common.utils.RegexUtils;
 import nl.obren.sokrates.sourcecode.operations.StringOperation;
 
 import java.util.List;
@@ -33,7 +34,7 @@ public class ReplaceOperation extends StringOperation {
             if (regex.equals(".*"))
                 result = replacement;
             else
-                result = result.replaceAll(regex, replacement);
+                result = RegexUtils.getPattern(regex).matcher(result).replaceAll(replacement);
         }
 
         return result;
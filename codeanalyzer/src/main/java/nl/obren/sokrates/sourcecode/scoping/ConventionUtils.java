@@ -4,39 +4,123 @@
 
 package nl.obren.sokrates.sourcecode.scoping;
 
+import nl.obren.sokrates.common.utils.BoundedExecutor;
+import nl.obren.sokrates.sourcecode.CompiledSourceFileFilter;
 import nl.obren.sokrates.sourcecode.SourceFile;
 import nl.obren.sokrates.sourcecode.SourceFileFilter;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 public class ConventionUtils {
     private static final Log LOG = LogFactory.getLog(ConventionUtils.class);
+    private static final int FILES_PER_TASK = 1000;
 
     public static void addConventions(List<Convention> conventions, List<SourceFileFilter> sourceFileFilters, List<SourceFile> sourceFiles) {
-        int index[] = {0};
-        sourceFiles.forEach(sourceFile -> {
-            index[0] += 1;
-            conventions.stream().sorted(Comparator.comparingInt(a -> a.getContentPattern().length())).forEach(convention -> {
-                String prefix = index[0] + " / " + sourceFiles.size() + ": ";
-                if (isNotAdded(convention, sourceFileFilters) && convention.matches(sourceFile)) {
-                    sourceFileFilters.add(convention);
+        addConventions(Arrays.asList(new ConventionsGroup("", conventions, sourceFileFilters)), sourceFiles);
+    }
+
+    // adds the conventions matching at least one file, in the order of the first file they match
+    // (and then the length of their content patterns); all groups are evaluated in one pass over the files
+    public static void addConventions(List<ConventionsGroup> groups, List<SourceFile> sourceFiles) {
+        List<Candidate> candidates = new ArrayList<>();
+        groups.forEach(group -> {
+            Set<String> addedKeys = getKeys(group.getSourceFileFilters());
+            List<Convention> sortedConventions = new ArrayList<>(group.getConventions());
+            sortedConventions.sort(Comparator.comparingInt(a -> a.getContentPattern().length()));
+            sortedConventions.stream()
+                    .filter(convention -> !addedKeys.contains(getKey(convention)))
+                    .forEach(convention -> candidates.add(new Candidate(group, convention)));
+        });
+
+        // the index of the first file matching each candidate
+        AtomicIntegerArray firstMatches = new AtomicIntegerArray(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            firstMatches.set(i, Integer.MAX_VALUE);
+        }
+
+        try (BoundedExecutor executor = new BoundedExecutor("conventions")) {
+            for (int start = 0; start < sourceFiles.size(); start += FILES_PER_TASK) {
+                int from = start;
+                int to = Math.min(sourceFiles.size(), start + FILES_PER_TASK);
+                executor.submit(() -> findFirstMatches(candidates, firstMatches, sourceFiles, from, to));
+            }
+            executor.awaitCompletion();
+        }
+
+        groups.forEach(group -> {
+            if (!group.getName().isEmpty()) {
+                LOG.info("Adding " + group.getName() + " conventions:");
+            }
+            List<Integer> matchedIndexes = new ArrayList<>();
+            for (int i = 0; i < candidates.size(); i++) {
+                if (candidates.get(i).group == group && firstMatches.get(i) != Integer.MAX_VALUE) {
+                    matchedIndexes.add(i);
+                }
+            }
+            matchedIndexes.sort(Comparator.comparingInt(firstMatches::get));
+
+            Set<String> addedKeys = getKeys(group.getSourceFileFilters());
+            matchedIndexes.forEach(i -> {
+                Convention convention = candidates.get(i).convention;
+                if (addedKeys.add(getKey(convention))) {
+                    group.getSourceFileFilters().add(convention);
+                    String prefix = (firstMatches.get(i) + 1) + " / " + sourceFiles.size() + ": ";
                     LOG.info(prefix + "  - path like \"" + convention.getPathPattern() + "\" / content like \"" + convention.getContentPattern() + "\"");
-                    return;
                 }
             });
         });
     }
 
-    private static boolean isNotAdded(SourceFileFilter filter, List<SourceFileFilter> sourceFileFilters) {
-        for (SourceFileFilter sourceFileFilter : sourceFileFilters) {
-            if (sourceFileFilter.getPathPattern().equals(filter.getPathPattern())
-                    && sourceFileFilter.getContentPattern().equals(filter.getContentPattern())) {
-                return false;
+    private static void findFirstMatches(List<Candidate> candidates, AtomicIntegerArray firstMatches, List<SourceFile> sourceFiles, int from, int to) {
+        for (int fileIndex = from; fileIndex < to; fileIndex++) {
+            SourceFile sourceFile = sourceFiles.get(fileIndex);
+            List<List<String>> lines = new ArrayList<>(1);
+            for (int i = 0; i < candidates.size(); i++) {
+                // a candidate already matching an earlier file is not evaluated any more
+                if (firstMatches.get(i) <= fileIndex) {
+                    continue;
+                }
+                boolean matches = candidates.get(i).filter.matches(sourceFile, () -> {
+                    if (lines.isEmpty()) {
+                        lines.add(sourceFile.getLines());
+                    }
+                    return lines.get(0);
+                });
+                if (matches) {
+                    firstMatches.accumulateAndGet(i, fileIndex, Math::min);
+                }
             }
         }
-        return true;
+    }
+
+    private static Set<String> getKeys(List<SourceFileFilter> sourceFileFilters) {
+        Set<String> keys = new HashSet<>();
+        sourceFileFilters.forEach(filter -> keys.add(getKey(filter)));
+        return keys;
+    }
+
+    // filters with the same path and content patterns are added only once
+    private static String getKey(SourceFileFilter filter) {
+        return filter.getPathPattern() + "\n" + filter.getContentPattern();
+    }
+
+    private static class Candidate {
+        private final ConventionsGroup group;
+        private final Convention convention;
+        private final CompiledSourceFileFilter filter;
+
+        Candidate(ConventionsGroup group, Convention convention) {
+            this.group = group;
+            this.convention = convention;
+            this.filter = new CompiledSourceFileFilter(convention);
+        }
     }
 }
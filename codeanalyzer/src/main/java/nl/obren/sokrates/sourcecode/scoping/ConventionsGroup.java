@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.sourcecode.scoping;
+
+import nl.obren.sokrates.sourcecode.SourceFileFilter;
+
+import java.util.List;
+
+public class ConventionsGroup {
+    private String name;
+    private List<Convention> conventions;
+    // the filters the conventions matching some of the files are added to
+    private List<SourceFileFilter> sourceFileFilters;
+
+    public ConventionsGroup(String name, List<Convention> conventions, List<SourceFileFilter> sourceFileFilters) {
+        this.name = name;
+        this.conventions = conventions;
+        this.sourceFileFilters = sourceFileFilters;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<Convention> getConventions() {
+        return conventions;
+    }
+
+    public List<SourceFileFilter> getSourceFileFilters() {
+        return sourceFileFilters;
+    }
+}
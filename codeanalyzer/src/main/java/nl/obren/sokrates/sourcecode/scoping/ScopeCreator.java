@@ -27,6 +27,7 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class ScopeCreator {
@@ -84,11 +85,13 @@ public class ScopeCreator {
 
     private void expandScopeWithCustomConventions(CodeConfiguration codeConfiguration, SourceCodeFiles sourceCodeFiles) {
         List<SourceFile> sourceFiles = sourceCodeFiles.getFilesInBroadScope();
-        ConventionUtils.addConventions(customScopingConventions.getIgnoredFilesConventions(), codeConfiguration.getIgnore(), sourceFiles);
-        ConventionUtils.addConventions(customScopingConventions.getTestFilesConventions(), codeConfiguration.getTest().getSourceFileFilters(), sourceFiles);
-        ConventionUtils.addConventions(customScopingConventions.getGeneratedFilesConventions(), codeConfiguration.getGenerated().getSourceFileFilters(), sourceFiles);
-        ConventionUtils.addConventions(customScopingConventions.getBuildAndDeploymentFilesConventions(), codeConfiguration.getBuildAndDeployment().getSourceFileFilters(), sourceFiles);
-        ConventionUtils.addConventions(customScopingConventions.getOtherFilesConventions(), codeConfiguration.getOther().getSourceFileFilters(), sourceFiles);
+        ConventionUtils.addConventions(Arrays.asList(
+                new ConventionsGroup("custom ignore", customScopingConventions.getIgnoredFilesConventions(), codeConfiguration.getIgnore()),
+                new ConventionsGroup("custom test files", customScopingConventions.getTestFilesConventions(), codeConfiguration.getTest().getSourceFileFilters()),
+                new ConventionsGroup("custom generated files", customScopingConventions.getGeneratedFilesConventions(), codeConfiguration.getGenerated().getSourceFileFilters()),
+                new ConventionsGroup("custom build & deployment", customScopingConventions.getBuildAndDeploymentFilesConventions(), codeConfiguration.getBuildAndDeployment().getSourceFileFilters()),
+                new ConventionsGroup("custom other files", customScopingConventions.getOtherFilesConventions(), codeConfiguration.getOther().getSourceFileFilters())
+        ), sourceFiles);
 
         List<ConcernsGroup> concernGroups = codeConfiguration.getConcernGroups();
         if (customScopingConventions.isRemoveStandardConcerns()) {
@@ -10,6 +10,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 // based on:
@@ -50,16 +51,13 @@ public class ScopingConventions {
     }
 
     public void addConventions(CodeConfiguration codeConfiguration, List<SourceFile> sourceFiles) {
-        LOG.info("Adding ignore conventions:");
-        ConventionUtils.addConventions(ignoredFilesConventions, codeConfiguration.getIgnore(), sourceFiles);
-        LOG.info("Adding test files conventions:");
-        ConventionUtils.addConventions(testFilesConventions, codeConfiguration.getTest().getSourceFileFilters(), sourceFiles);
-        LOG.info("Adding generated files conventions:");
-        ConventionUtils.addConventions(generatedFilesConventions, codeConfiguration.getGenerated().getSourceFileFilters(), sourceFiles);
-        LOG.info("Adding build & deployment conventions:");
-        ConventionUtils.addConventions(buildAndDeploymentFilesConventions, codeConfiguration.getBuildAndDeployment().getSourceFileFilters(), sourceFiles);
-        LOG.info("Adding other files conventions:");
-        ConventionUtils.addConventions(otherFilesConventions, codeConfiguration.getOther().getSourceFileFilters(), sourceFiles);
+        ConventionUtils.addConventions(Arrays.asList(
+                new ConventionsGroup("ignore", ignoredFilesConventions, codeConfiguration.getIgnore()),
+                new ConventionsGroup("test files", testFilesConventions, codeConfiguration.getTest().getSourceFileFilters()),
+                new ConventionsGroup("generated files", generatedFilesConventions, codeConfiguration.getGenerated().getSourceFileFilters()),
+                new ConventionsGroup("build & deployment", buildAndDeploymentFilesConventions, codeConfiguration.getBuildAndDeployment().getSourceFileFilters()),
+                new ConventionsGroup("other files", otherFilesConventions, codeConfiguration.getOther().getSourceFileFilters())
+        ), sourceFiles);
     }
 
     private void addOtherConventions() {
@@ -14,10 +14,18 @@ import org.apache.commons.lang3.StringUtils;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public class CStyleHeuristicUnitsExtractor {
+    private static final String IDENTIFIER_PATTERN = "[a-zA-Z0-9_$?:~]+";
+    private static final Pattern START_UNIT_PATTERN = Pattern.compile("(" + IDENTIFIER_PATTERN + "[ ]+)+" + IDENTIFIER_PATTERN + "[ ]*[(]");
+
+    private static final Pattern AT_STRING_PATTERN = Pattern.compile("@\".*?\"");
+    private static final Pattern STRING_PATTERN = Pattern.compile("\".*?\"");
+    private static final Pattern CHAR_PATTERN = Pattern.compile("'.*?'");
+    private static final Pattern SLASHES_PATTERN = Pattern.compile("/.+?/");
+    private static final Pattern ANGLE_BRACKETS_PATTERN = Pattern.compile("[<].*?[>]");
+
     private boolean extractRecursively = false;
 
     private SourceFile sourceFile;
@@ -28,6 +36,13 @@ public class CStyleHeuristicUnitsExtractor {
     private List<String> cleanedLines;
     private List<UnitInfo> previousUnits;
 
+    // computed once per file, so units are not scanned again for bodies, braces and decision points
+    private String cleanedText;
+    private int[] cleanedLineStarts;
+    private int[] openingBraces;
+    private int[] closingBraces;
+    private McCabeIndexCounter mcCabeIndexCounter;
+
     private List<String> mcCabeIndexLiterals = Arrays.asList(
             " if ",
             " while ",
@@ -67,10 +82,10 @@ public class CStyleHeuristicUnitsExtractor {
         if (isValidLineRange(lineIndex, endOfUnitBodyIndex)) {
             UnitInfo unit = createUnitInfo(lineIndex, endOfUnitBodyIndex);
 
-            String cleanedBody = getCleanedBody(cleanedLines, lineIndex, endOfUnitBodyIndex);
+            String cleanedBody = cleanedText.substring(cleanedLineStarts[lineIndex], cleanedLineStarts[endOfUnitBodyIndex + 1]);
             unit.setCleanedBody(cleanedBody);
             unit.setBody(getNormalBody(cleanedContent, normalLines, lineIndex, endOfUnitBodyIndex));
-            unit.setMcCabeIndex(getMcCabeIndex(cleanedBody));
+            unit.setMcCabeIndex(mcCabeIndexCounter.getMcCabeIndex(lineIndex, endOfUnitBodyIndex));
 
             setNameAndParameters(line, unit, cleanedBody);
 
@@ -100,6 +115,27 @@ public class CStyleHeuristicUnitsExtractor {
         normalLines = sourceFile.getLines();
         cleanedLines = SourceCodeCleanerUtils.splitInLines(cleanedContent.getCleanedContent());
         previousUnits = new ArrayList<>();
+        indexCleanedLines();
+    }
+
+    private void indexCleanedLines() {
+        int linesCount = cleanedLines.size();
+        cleanedLineStarts = new int[linesCount + 1];
+        openingBraces = new int[linesCount];
+        closingBraces = new int[linesCount];
+
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < linesCount; i++) {
+            String line = cleanedLines.get(i);
+            cleanedLineStarts[i] = text.length();
+            text.append(line).append('\n');
+            openingBraces[i] = StringUtils.countMatches(line, '{');
+            closingBraces[i] = StringUtils.countMatches(line, '}');
+        }
+        cleanedLineStarts[linesCount] = text.length();
+        cleanedText = text.toString();
+
+        mcCabeIndexCounter = new McCabeIndexCounter(cleanedLines, getMcCabeIndexLiterals());
     }
 
     private void addChildren(List<UnitInfo> previousUnits, UnitInfo unit) {
@@ -147,8 +183,9 @@ public class CStyleHeuristicUnitsExtractor {
         if (isValidLineRange(lineIndex, endOfUnitBodyIndex) && isValidPhysicalFileLineRange(cleanedContent,
                 lineIndex, endOfUnitBodyIndex)) {
             List<Integer> lineIndexes = cleanedContent.getFileLineIndexes();
-            for (int bodyIndex = lineIndexes.get(lineIndex); bodyIndex < normalLines.size() && bodyIndex <= lineIndexes.get(endOfUnitBodyIndex); bodyIndex++) {
-                body.append(normalLines.get(bodyIndex) + "\n");
+            int endIndex = lineIndexes.get(endOfUnitBodyIndex);
+            for (int bodyIndex = lineIndexes.get(lineIndex); bodyIndex < normalLines.size() && bodyIndex <= endIndex; bodyIndex++) {
+                body.append(normalLines.get(bodyIndex)).append('\n');
             }
         }
         return body.toString();
@@ -228,12 +265,12 @@ public class CStyleHeuristicUnitsExtractor {
     protected String extraCleanContent(String content) {
         String cleanedContent = content.replace("\\\"", "");
         cleanedContent = cleanedContent.replace("://", ":/ /");
-        cleanedContent = cleanedContent.replaceAll("@\".*?\"", "\"\"");
-        cleanedContent = cleanedContent.replaceAll("\".*?\"", "\"\"");
-        cleanedContent = cleanedContent.replaceAll("'.*?'", "''");
-        cleanedContent = cleanedContent.replaceAll("/.+?/", "\"\"");
+        cleanedContent = AT_STRING_PATTERN.matcher(cleanedContent).replaceAll("\"\"");
+        cleanedContent = STRING_PATTERN.matcher(cleanedContent).replaceAll("\"\"");
+        cleanedContent = CHAR_PATTERN.matcher(cleanedContent).replaceAll("''");
+        cleanedContent = SLASHES_PATTERN.matcher(cleanedContent).replaceAll("\"\"");
         cleanedContent = cleanedContent.replace("://", ":/ /");
-        cleanedContent = cleanedContent.replaceAll("[<].*?[>]", "");
+        cleanedContent = ANGLE_BRACKETS_PATTERN.matcher(cleanedContent).replaceAll("");
         cleanedContent = cleanedContent.replace("\t", " ");
         cleanedContent = SourceCodeCleanerUtils.normalizeLineEnds(cleanedContent);
 
@@ -241,14 +278,18 @@ public class CStyleHeuristicUnitsExtractor {
     }
 
     protected int getEndOfUnitBodyIndex(List<String> lines, int startIndex) {
-        StringBuilder unitBody = new StringBuilder();
+        boolean indexed = lines == cleanedLines;
         int startCount = 0;
         int endCount = 0;
         for (int i = startIndex; i < lines.size(); i++) {
-            String line = lines.get(i).trim();
-            unitBody.append(line + "\n");
-            startCount += StringUtils.countMatches(line, "{");
-            endCount += StringUtils.countMatches(line, "}");
+            if (indexed) {
+                startCount += openingBraces[i];
+                endCount += closingBraces[i];
+            } else {
+                String line = lines.get(i);
+                startCount += StringUtils.countMatches(line, '{');
+                endCount += StringUtils.countMatches(line, '}');
+            }
 
             boolean hasValidBody = startCount > 0 && startCount == endCount;
 
@@ -261,15 +302,15 @@ public class CStyleHeuristicUnitsExtractor {
     }
 
     protected boolean isUnitSignature(String line) {
+        // cleaning never adds brackets
+        if (line.indexOf('(') < 0) {
+            return false;
+        }
         line = extraCleanContent(line);
         if (line.contains("(") && !line.contains(";") && !line.contains("new ") && !line.trim().startsWith("else ")
                 && !line.contains("return ") && !line.trim().startsWith("?") && !line.trim().startsWith(":")) {
             line = line.substring(0, line.indexOf("(") + 1);
-            String identifierPattern = "[a-zA-Z0-9_$?:~]+";
-            String startUnitRegex = "(" + identifierPattern + "[ ]+)+" + identifierPattern + "[ ]*[(]";
-            Pattern pattern = Pattern.compile(startUnitRegex);
-            Matcher matcher = pattern.matcher(line);
-            if (matcher.matches()) {
+            if (START_UNIT_PATTERN.matcher(line).matches()) {
                 return true;
             }
         }
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.sourcecode.units;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Counts McCabe index literals in any range of lines of a file, with the same result as counting them in the joined
+ * body of the lines (newlines as spaces, spaces before brackets). The positions of the literals are found once per file,
+ * so counting for a unit is proportional to the number of decision points in it and not to its length.
+ */
+class McCabeIndexCounter {
+    private final List<String> literals;
+    // for each literal, all (possibly overlapping) positions in the searched text
+    private final int[][] positions;
+    // the start of each line in the searched text, followed by the end of the text
+    private final int[] lineStarts;
+
+    McCabeIndexCounter(List<String> lines, List<String> literals) {
+        this.literals = literals;
+        this.lineStarts = new int[lines.size() + 1];
+
+        StringBuilder text = new StringBuilder(" ");
+        for (int i = 0; i < lines.size(); i++) {
+            lineStarts[i] = text.length();
+            appendForSearch(text, lines.get(i));
+            text.append(' ');
+        }
+        lineStarts[lines.size()] = text.length();
+
+        String searchText = text.toString();
+        this.positions = new int[literals.size()][];
+        for (int i = 0; i < literals.size(); i++) {
+            positions[i] = findAll(searchText, literals.get(i));
+        }
+    }
+
+    private static void appendForSearch(StringBuilder text, String line) {
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '\n') {
+                text.append(' ');
+            } else {
+                if (c == '(' || c == '{') {
+                    text.append(' ');
+                }
+                text.append(c);
+            }
+        }
+    }
+
+    private static int[] findAll(String text, String literal) {
+        if (literal.isEmpty()) {
+            return new int[0];
+        }
+        int[] found = new int[16];
+        int count = 0;
+        int index = text.indexOf(literal);
+        while (index >= 0) {
+            if (count == found.length) {
+                found = Arrays.copyOf(found, count * 2);
+            }
+            found[count++] = index;
+            index = text.indexOf(literal, index + 1);
+        }
+        return Arrays.copyOf(found, count);
+    }
+
+    // lines from startLine to endLine, both included
+    int getMcCabeIndex(int startLine, int endLine) {
+        // the body starts with the space before its first line
+        int from = lineStarts[startLine] - 1;
+        int to = lineStarts[endLine + 1];
+
+        int mcCabeIndex = 1;
+        for (int i = 0; i < literals.size(); i++) {
+            mcCabeIndex += countMatches(positions[i], literals.get(i).length(), from, to);
+        }
+        return mcCabeIndex;
+    }
+
+    // non-overlapping matches from the start of the range, as in StringUtils.countMatches
+    private static int countMatches(int[] positions, int length, int from, int to) {
+        int index = Arrays.binarySearch(positions, from);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        int count = 0;
+        int nextAllowed = from;
+        for (; index < positions.length && positions[index] + length <= to; index++) {
+            if (positions[index] >= nextAllowed) {
+                count++;
+                nextAllowed = positions[index] + length;
+            }
+        }
+        return count;
+    }
+}
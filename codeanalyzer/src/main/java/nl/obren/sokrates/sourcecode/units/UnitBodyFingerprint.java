@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.sourcecode.units;
+
+/**
+ * A 128-bit hash of a unit body normalized for duplication: trimmed non-blank lines of the cleaned body,
+ * without the first one (the unit signature). It is computed without building the normalized body,
+ * so units can be grouped by fingerprints instead of keeping and hashing their whole bodies.
+ */
+public final class UnitBodyFingerprint {
+    private final long hash1;
+    private final long hash2;
+    private final int linesCount;
+
+    private UnitBodyFingerprint(long hash1, long hash2, int linesCount) {
+        this.hash1 = hash1;
+        this.hash2 = hash2;
+        this.linesCount = linesCount;
+    }
+
+    public static UnitBodyFingerprint of(String cleanedBody) {
+        long hash1 = 0xcbf29ce484222325L;
+        long hash2 = 0x9E3779B97F4A7C15L;
+        int linesCount = 0;
+        NormalizedLines lines = new NormalizedLines(cleanedBody);
+        while (lines.next()) {
+            if (linesCount > 0) {
+                hash1 = (hash1 ^ '\n') * 0x100000001b3L;
+                hash2 = Long.rotateLeft(hash2 ^ ('\n' * 0xC2B2AE3D27D4EB4FL), 31) * 0x9E3779B97F4A7C15L;
+            }
+            for (int i = lines.start; i < lines.end; i++) {
+                char c = cleanedBody.charAt(i);
+                hash1 = (hash1 ^ c) * 0x100000001b3L;
+                hash2 = Long.rotateLeft(hash2 ^ (c * 0xC2B2AE3D27D4EB4FL), 31) * 0x9E3779B97F4A7C15L;
+            }
+            linesCount++;
+        }
+        return new UnitBodyFingerprint(mix(hash1 ^ linesCount), mix(hash2 + linesCount), linesCount);
+    }
+
+    // compares the normalized bodies line by line, to verify units with the same fingerprint
+    public static boolean sameNormalizedBody(String cleanedBody1, String cleanedBody2) {
+        NormalizedLines lines1 = new NormalizedLines(cleanedBody1);
+        NormalizedLines lines2 = new NormalizedLines(cleanedBody2);
+        while (true) {
+            boolean hasNext1 = lines1.next();
+            boolean hasNext2 = lines2.next();
+            if (hasNext1 != hasNext2) {
+                return false;
+            }
+            if (!hasNext1) {
+                return true;
+            }
+            int length = lines1.end - lines1.start;
+            if (length != lines2.end - lines2.start
+                    || !cleanedBody1.regionMatches(lines1.start, cleanedBody2, lines2.start, length)) {
+                return false;
+            }
+        }
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    // the number of normalized lines minus one, as the number of line breaks in the normalized body
+    public int getBlockSize() {
+        return Math.max(0, linesCount - 1);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof UnitBodyFingerprint)) {
+            return false;
+        }
+        UnitBodyFingerprint that = (UnitBodyFingerprint) other;
+        return hash1 == that.hash1 && hash2 == that.hash2 && linesCount == that.linesCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (hash1 ^ (hash1 >>> 32));
+    }
+
+    // iterates over the trimmed non-blank lines of a cleaned body, skipping the first one
+    private static class NormalizedLines {
+        private final String content;
+        private int position = 0;
+        private boolean firstSkipped = false;
+        private int start;
+        private int end;
+
+        NormalizedLines(String content) {
+            this.content = content != null ? content : "";
+        }
+
+        boolean next() {
+            while (position < content.length()) {
+                int lineEnd = content.indexOf('\n', position);
+                if (lineEnd < 0) {
+                    lineEnd = content.length();
+                }
+                int lineStart = position;
+                position = lineEnd + 1;
+
+                if (!isNotBlank(lineStart, lineEnd)) {
+                    continue;
+                }
+                if (!firstSkipped) {
+                    firstSkipped = true;
+                    continue;
+                }
+                // the same as String.trim()
+                while (lineStart < lineEnd && content.charAt(lineStart) <= ' ') {
+                    lineStart++;
+                }
+                while (lineEnd > lineStart && content.charAt(lineEnd - 1) <= ' ') {
+                    lineEnd--;
+                }
+                start = lineStart;
+                end = lineEnd;
+                return true;
+            }
+            return false;
+        }
+
+        // the same as StringUtils.isNotBlank
+        private boolean isNotBlank(int from, int to) {
+            for (int i = from; i < to; i++) {
+                if (!Character.isWhitespace(content.charAt(i))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -26,6 +26,8 @@ public class UnitInfo {
     private String cleanedBody;
     @JsonIgnore
     private String body = "";
+    @JsonIgnore
+    private UnitBodyFingerprint bodyFingerprint;
     private List<UnitInfo> children = new ArrayList<>();
 
     public String getShortName() {
@@ -124,6 +126,16 @@ public class UnitInfo {
     @JsonIgnore
     public void setCleanedBody(String cleanedBody) {
         this.cleanedBody = cleanedBody;
+        this.bodyFingerprint = null;
+    }
+
+    // the fingerprint of the cleaned body, used to find duplicated units
+    @JsonIgnore
+    public UnitBodyFingerprint getBodyFingerprint() {
+        if (bodyFingerprint == null) {
+            bodyFingerprint = UnitBodyFingerprint.of(cleanedBody);
+        }
+        return bodyFingerprint;
     }
 
     @JsonIgnore
@@ -4,6 +4,7 @@
 
 package nl.obren.sokrates.sourcecode.units;
 
+import nl.obren.sokrates.common.utils.ProcessingStopwatch;
 import nl.obren.sokrates.common.utils.ProgressFeedback;
 import nl.obren.sokrates.sourcecode.SourceFile;
 import nl.obren.sokrates.sourcecode.lang.LanguageAnalyzer;
@@ -28,7 +29,12 @@ public class UnitsExtractor {
                         ": " + sourceFile.getRelativePath());
             }
             LanguageAnalyzer languageAnalyzer = LanguageAnalyzerFactory.getInstance().getLanguageAnalyzer(sourceFile);
-            units.addAll(languageAnalyzer.extractUnits(sourceFile));
+            units.addAll(ProcessingStopwatch.measure("analysis/units/extracting/" + languageAnalyzer.getClass().getSimpleName(), () -> {
+                List<UnitInfo> fileUnits = languageAnalyzer.extractUnits(sourceFile);
+                // fingerprinted once, so finding duplicated units does not need to clean the bodies again
+                fileUnits.forEach(UnitInfo::getBodyFingerprint);
+                return fileUnits;
+            }));
         });
 
         return units;
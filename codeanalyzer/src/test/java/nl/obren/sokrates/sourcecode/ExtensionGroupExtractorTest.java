@@ -92,6 +92,31 @@ public class ExtensionGroupExtractorTest {
 
     }
 
+    @Test
+    public void extractExtensionsInfoFromNestedDirectories() throws Exception {
+        ExtensionGroupExtractor extractor = new ExtensionGroupExtractor();
+
+        Path tempDirectoryPath = Files.createTempDirectory("test");
+        Path deepDirectoryPath = Files.createDirectories(tempDirectoryPath.resolve("a/b/c/d"));
+        Path shallowDirectoryPath = Files.createDirectories(tempDirectoryPath.resolve("e"));
+
+        createTempFile(tempDirectoryPath, "TestClass", ".java", "java");
+        createTempFile(shallowDirectoryPath, "TestClass", ".java", "java");
+        createTempFile(deepDirectoryPath, "TestClass", ".JAVA", "java");
+        createTempFile(deepDirectoryPath, "TestEmpty", ".java", "");
+        createTempFile(deepDirectoryPath, "TestYml", ".yml", "a: b");
+        createTempFile(deepDirectoryPath, "TestEmpty", ".txt", "");
+        createTempFile(deepDirectoryPath, "TestZip", ".zip", "zip");
+
+        extractor.extractExtensionsInfo(tempDirectoryPath.toFile());
+
+        assertEquals(extractor.getExtensionsList().size(), 2);
+        assertEquals(extractor.getExtensionsList().get(0).toString(), "java: 4 files");
+        assertEquals(extractor.getExtensionsList().get(0).getTotalSizeInBytes(), 12);
+        assertEquals(extractor.getExtensionsList().get(1).toString(), "yaml: 1 files");
+        assertEquals(extractor.getExtensionsList().get(1).getTotalSizeInBytes(), 4);
+    }
+
     private void createTempFile(Path root, String prefix, String suffix, String content) throws IOException {
         Path tempFile = Files.createTempFile(root, prefix, suffix);
         FileUtils.writeStringToFile(tempFile.toFile(), content, UTF_8);
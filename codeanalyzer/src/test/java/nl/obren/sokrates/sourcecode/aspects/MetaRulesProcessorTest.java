@@ -116,4 +116,31 @@ public class MetaRulesProcessorTest {
         assertEquals("abc 2", concerns.get(4).getName());
         assertEquals(2, concerns.get(4).getSourceFiles().size());
     }
+
+    @Test
+    public void extractComponentsFromManyFiles() {
+        NamedSourceCodeAspect aspect = new NamedSourceCodeAspect("main");
+        for (int i = 0; i < 2500; i++) {
+            String content = i % 2 == 0 ? "package a" + (i % 3) + ";\nclass A {}" : "class B {}";
+            aspect.getSourceFiles().add(newSourceFile("src/p" + (i % 5) + "/File" + i + ".java", content));
+        }
+
+        MetaRulesProcessor processor = MetaRulesProcessor.getLogicalDecompositionInstance();
+
+        MetaRule packageRule = new MetaRule(".*[.]java", "package .*;", "content");
+        packageRule.getNameOperations().add(new OperationStatement("extract", Arrays.asList("a[0-9]+")));
+        MetaRule pathRule = new MetaRule("src/p[0-9]+/.*", "", "path");
+        pathRule.getNameOperations().add(new OperationStatement("extract", Arrays.asList("p[0-9]+")));
+        List<MetaRule> rules = Arrays.asList(packageRule, pathRule);
+
+        List<NamedSourceCodeAspect> components = processor.extractAspects(aspect.getSourceFiles(), rules);
+
+        assertEquals(8, components.size());
+        assertEquals("a0", components.get(0).getName());
+        assertEquals("p1", components.get(1).getName());
+        assertEquals("a2", components.get(2).getName());
+        assertEquals("p3", components.get(3).getName());
+        assertEquals(2500, components.stream().mapToInt(c -> c.getSourceFiles().size()).sum());
+        assertEquals(417, components.get(0).getSourceFiles().size());
+    }
 }
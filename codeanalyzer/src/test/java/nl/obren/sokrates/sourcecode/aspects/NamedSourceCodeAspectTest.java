@@ -63,6 +63,28 @@ public class NamedSourceCodeAspectTest {
         assertEquals(aspect2.getSourceFiles().size(), 3);
     }
 
+    @Test
+    public void containsSourceFile() throws Exception {
+        NamedSourceCodeAspect aspect = new NamedSourceCodeAspect();
+        SourceFile sourceFile1 = new SourceFile(new File("/testdir/A.java"));
+        sourceFile1.setId(0);
+        SourceFile sourceFile2 = new SourceFile(new File("/testdir/B.java"));
+        sourceFile2.setId(1);
+        SourceFile sourceFile3 = new SourceFile(new File("/testdir/C.java"));
+
+        aspect.getSourceFiles().add(sourceFile1);
+        assertTrue(aspect.containsSourceFile(sourceFile1));
+        assertFalse(aspect.containsSourceFile(sourceFile2));
+
+        aspect.getSourceFiles().add(sourceFile2);
+        aspect.getSourceFiles().add(sourceFile3);
+        assertTrue(aspect.containsSourceFile(sourceFile2));
+        assertTrue(aspect.containsSourceFile(new SourceFile(new File("/testdir/C.java"))));
+
+        aspect.getSourceFiles().clear();
+        assertFalse(aspect.containsSourceFile(sourceFile1));
+    }
+
     @Test
     public void getAspectsPerExtensions() throws Exception {
         NamedSourceCodeAspect aspect = new NamedSourceCodeAspect();
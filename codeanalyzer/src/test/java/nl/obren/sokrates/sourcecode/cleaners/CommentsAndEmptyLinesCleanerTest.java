@@ -28,4 +28,12 @@ public class CommentsAndEmptyLinesCleanerTest {
                 "    return add(x, add(x,x));\n" +
                 "}", cleaner.clean(code).getCleanedContent());
     }
+
+    @Test
+    public void cleanReused() {
+        CommentsAndEmptyLinesCleaner cleaner = new CommentsAndEmptyLinesCleaner("//", "/*", "*/", "\"", "\\");
+
+        assertEquals("int a = 1;\nint b = 2;", cleaner.clean("// first\nint a = 1;\n/* second */\nint b = 2;\n").getCleanedContent());
+        assertEquals("x++;", cleaner.clean("/* a */ // b\nx++;").getCleanedContent());
+    }
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.sourcecode.cleaners;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+
+public class DuplicationLinesCleanerTest {
+    @Test
+    public void clean() throws Exception {
+        String code = "package a;\r\n"
+                + "\n"
+                + "import b.C;\n"
+                + "class A {\n"
+                + "\tvoid  a(int   x)   {\n"
+                + "        x++;\f\n"
+                + "    }\n"
+                + "   \n"
+                + "}\n"
+                + "\n";
+
+        CleanedContent cleanedContent = new DuplicationLinesCleaner("import .*;", "package .*", "[{]", "[}]", "[invalid").clean(code);
+
+        assertEquals("class A {\nvoid a(int x) {\nx++;", cleanedContent.getCleanedContent());
+        assertEquals(Arrays.asList(3, 4, 5), cleanedContent.getFileLineIndexes());
+        assertEquals(Arrays.asList("class A {", "void a(int x) {", "x++;"), cleanedContent.getLines());
+
+        String content = SourceCodeCleanerUtils.trimLines(code);
+        content = SourceCodeCleanerUtils.emptyLinesMatchingPattern("import .*;", content);
+        content = SourceCodeCleanerUtils.emptyLinesMatchingPattern("package .*", content);
+        content = SourceCodeCleanerUtils.emptyLinesMatchingPattern("[{]", content);
+        content = SourceCodeCleanerUtils.emptyLinesMatchingPattern("[}]", content);
+        CleanedContent expected = SourceCodeCleanerUtils.cleanEmptyLinesWithLineIndexes(content);
+        assertEquals(expected.getCleanedContent(), cleanedContent.getCleanedContent());
+        assertEquals(expected.getFileLineIndexes(), cleanedContent.getFileLineIndexes());
+    }
+
+    @Test
+    public void cleanEmptyContent() throws Exception {
+        CleanedContent cleanedContent = new DuplicationLinesCleaner().clean(" \n\t\n");
+
+        assertEquals("", cleanedContent.getCleanedContent());
+        assertEquals(0, cleanedContent.getFileLineIndexes().size());
+        assertEquals(Arrays.asList(""), cleanedContent.getLines());
+    }
+}
@@ -143,5 +143,15 @@ public class SourceCodeCleanerUtilsTest {
         assertEquals(SourceCodeCleanerUtils.normalizeLineEnds("\ta\r\tb\r\tc"), "    a\n    b\n    c");
     }
 
-
+    @Test
+    public void compactLines() throws Exception {
+        String[] contents = {"", "a", "a\nb", "a\r\n\r\nb\n", "a\n\n\n", "\n\n", "\n", "\na\n\tb  \n"};
+        for (String content : contents) {
+            CompactLines lines = CompactLines.split(content);
+            assertEquals(lines, SourceCodeCleanerUtils.splitInLines(content));
+            for (int i = 0; i < lines.size(); i++) {
+                assertEquals(lines.getLineLength(i), lines.get(i).length());
+            }
+        }
+    }
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.sourcecode.core;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class CompiledTagPathPatternsTest {
+    @Test
+    public void getEvidence() throws Exception {
+        TagRule maven = new TagRule("maven", "", Arrays.asList("(|.*/)pom[.]xml"));
+        maven.setExcludePathPatterns(Arrays.asList("test/.*"));
+        TagRule xml = new TagRule("xml", "", Arrays.asList(".*[.]xml", ".*pom[.]xml"));
+        TagRule vue = new TagRule("vue", "", Arrays.asList(".*[.]vue", "[invalid"));
+        List<TagRule> rules = Arrays.asList(maven, xml, vue);
+
+        List<String> paths = Arrays.asList("b/pom.xml", "pom.xml", "test/pom.xml", "a.java", "a/web.xml");
+        CompiledTagPathPatterns<TagRule> compiled = new CompiledTagPathPatterns<>(rules, TagRule::getPathPatterns, TagRule::getExcludePathPatterns);
+
+        assertEquals(Arrays.asList("b/pom.xml\npom.xml",
+                "a/web.xml\nb/pom.xml\nb/pom.xml\npom.xml\n...\n(found 3 more files)",
+                ""), compiled.getEvidence(paths, 4));
+        assertEquals(Arrays.asList(maven, xml), new ArrayList<>(compiled.findItemsMatchingAnyPath(paths)));
+    }
+
+    @Test
+    public void evidenceIsLimited() throws Exception {
+        List<String> paths = new ArrayList<>();
+        for (int i = 30; i > 0; i--) {
+            paths.add("src/file" + (char) ('A' + i) + ".vue");
+        }
+        TagRule vue = new TagRule("vue", "", Arrays.asList(".*[.]vue"));
+
+        String evidence = vue.matchesPath(paths);
+
+        assertEquals(TagRule.EVIDENCE_LIMIT + 2, evidence.split("\n").length);
+        assertEquals("src/fileB.vue", evidence.split("\n")[0]);
+        assertEquals("(found 10 more files)", evidence.split("\n")[TagRule.EVIDENCE_LIMIT + 1]);
+    }
+}
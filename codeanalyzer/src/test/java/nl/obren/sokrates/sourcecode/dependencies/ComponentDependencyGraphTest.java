@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.sourcecode.dependencies;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static junit.framework.TestCase.*;
+
+public class ComponentDependencyGraphTest {
+    private static ComponentDependency dependency(String from, String to, int count) {
+        ComponentDependency dependency = new ComponentDependency(from, to);
+        dependency.setCount(count);
+        return dependency;
+    }
+
+    @Test
+    public void cyclicDependencyPlaces() throws Exception {
+        List<ComponentDependency> dependencies = Arrays.asList(
+                dependency("a", "b", 3), dependency("b", "a", 2),
+                dependency("b", "c", 1), dependency("c", "d", 5), dependency("d", "c", 1));
+        ComponentDependencyGraph graph = new ComponentDependencyGraph(dependencies);
+
+        assertEquals(graph.getCyclicDependencyPlacesCount(), 2);
+        assertEquals(graph.getCyclicDependencyCount(), 11);
+        assertTrue(graph.hasDependency("c", "d"));
+        assertFalse(graph.hasDependency("c", "b"));
+
+        assertEquals(DependencyUtils.getCyclicDependencyPlacesCount(dependencies), 2);
+        assertEquals(DependencyUtils.getCyclicDependencyCount(dependencies), 11);
+    }
+
+    @Test
+    public void cyclicGroups() throws Exception {
+        List<ComponentDependency> dependencies = Arrays.asList(
+                dependency("a", "b", 1), dependency("b", "c", 2), dependency("c", "a", 3),
+                dependency("c", "d", 1), dependency("d", "e", 1), dependency("e", "d", 4));
+        ComponentDependencyGraph graph = new ComponentDependencyGraph(dependencies);
+
+        List<CyclicDependencyGroup> groups = graph.getCyclicGroups();
+        assertEquals(groups.size(), 2);
+        assertEquals(groups.get(0).getComponents(), Arrays.asList("a", "b", "c"));
+        assertEquals(groups.get(0).getLinksCount(), 3);
+        assertEquals(groups.get(0).getDependenciesCount(), 6);
+        assertEquals(groups.get(1).getComponents(), Arrays.asList("d", "e"));
+        assertEquals(groups.get(1).getDependenciesCount(), 5);
+
+        assertTrue(graph.isInCycle("a"));
+        assertFalse(graph.isInCycle("x"));
+        assertEquals(graph.getCyclicDependencyPlacesCount(), 1);
+    }
+
+    @Test
+    public void longChainWithoutCycles() throws Exception {
+        List<ComponentDependency> dependencies = new ArrayList<>();
+        for (int i = 0; i < 100000; i++) {
+            dependencies.add(dependency("c" + i, "c" + (i + 1), 1));
+        }
+        ComponentDependencyGraph graph = new ComponentDependencyGraph(dependencies);
+
+        assertEquals(graph.getCyclicGroups().size(), 0);
+        assertEquals(graph.getCyclicDependencyPlacesCount(), 0);
+
+        dependencies.add(dependency("c100000", "c0", 1));
+        assertEquals(new ComponentDependencyGraph(dependencies).getCyclicGroups().get(0).getComponents().size(), 100001);
+    }
+}
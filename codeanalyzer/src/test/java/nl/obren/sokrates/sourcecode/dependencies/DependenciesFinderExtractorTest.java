@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.sourcecode.dependencies;
+
+import nl.obren.sokrates.sourcecode.SourceFile;
+import nl.obren.sokrates.sourcecode.aspects.DependencyFinderPattern;
+import nl.obren.sokrates.sourcecode.aspects.LogicalDecomposition;
+import nl.obren.sokrates.sourcecode.aspects.MetaDependencyRule;
+import nl.obren.sokrates.sourcecode.aspects.NamedSourceCodeAspect;
+import nl.obren.sokrates.sourcecode.operations.OperationStatement;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+
+import static junit.framework.TestCase.assertEquals;
+
+public class DependenciesFinderExtractorTest {
+    private static SourceFile sourceFile(String path, String content, NamedSourceCodeAspect component) {
+        SourceFile sourceFile = new SourceFile(new File(path), content);
+        sourceFile.setRelativePath(path);
+        sourceFile.getLogicalComponents().add(component);
+        return sourceFile;
+    }
+
+    private static DependencyFinderPattern rule(String pathPattern, String contentPattern, String component) {
+        DependencyFinderPattern rule = new DependencyFinderPattern();
+        rule.setPathPattern(pathPattern);
+        rule.setContentPattern(contentPattern);
+        rule.setComponent(component);
+        return rule;
+    }
+
+    @Test
+    public void findComponentDependencies() throws Exception {
+        LogicalDecomposition logicalDecomposition = new LogicalDecomposition("primary");
+        logicalDecomposition.setIncludeExternalComponents(true);
+        logicalDecomposition.getDependenciesFinder().setUseBuiltInDependencyFinders(false);
+        logicalDecomposition.getDependenciesFinder().setRules(Arrays.asList(
+                rule(".*[.]java", "import b.*", "b"),
+                rule("", "import c.*", "c"),
+                rule(".*[.]js", "import b.*", "js")));
+        MetaDependencyRule metaRule = new MetaDependencyRule("", "import [a-z]+[.].*", "content");
+        metaRule.setNameOperations(Arrays.asList(
+                new OperationStatement("extract", Arrays.asList("import [a-z]+")),
+                new OperationStatement("remove", Arrays.asList("import "))));
+        logicalDecomposition.getDependenciesFinder().setMetaRules(Arrays.asList(metaRule));
+
+        NamedSourceCodeAspect component = new NamedSourceCodeAspect("a");
+        component.setFiltering("primary");
+        component.getSourceFiles().add(sourceFile("a/A.java", "import c.C;\nimport b.B;\nimport d.D;\n", component));
+        component.getSourceFiles().add(sourceFile("a/B.java", "import b.B;\n", component));
+
+        List<ComponentDependency> dependencies = new DependenciesFinderExtractor(logicalDecomposition).findComponentDependencies(component);
+
+        assertEquals(dependencies.size(), 3);
+        assertEquals(dependencies.get(0).getDependencyString(), "a -> b");
+        assertEquals(dependencies.get(0).getCount(), 2);
+        assertEquals(dependencies.get(1).getDependencyString(), "a -> c");
+        assertEquals(dependencies.get(2).getDependencyString(), "a -> d");
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.sourcecode.duplication;
+
+import nl.obren.sokrates.sourcecode.SourceFile;
+import nl.obren.sokrates.sourcecode.units.UnitBodyFingerprint;
+import nl.obren.sokrates.sourcecode.units.UnitInfo;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class UnitDuplicatesExtractorTest {
+    private static UnitInfo unit(String path, String cleanedBody) {
+        SourceFile sourceFile = new SourceFile(new File(path));
+        sourceFile.setRelativePath(path);
+        UnitInfo unit = new UnitInfo();
+        unit.setSourceFile(sourceFile);
+        unit.setCleanedBody(cleanedBody);
+        return unit;
+    }
+
+    @Test
+    public void findDuplicatedUnits() throws Exception {
+        String body = "void a() {\n  x++;\n\n  y++;\n  z++;\n}\n";
+        List<UnitInfo> units = Arrays.asList(
+                unit("a/A.java", body),
+                unit("b/B.java", "void b() {\nx++;\n   y++;  \nz++;\n}"),
+                unit("b/B.java", body),
+                unit("c/C.java", "void c() {\n  x++;\n  y--;\n  z++;\n}\n"));
+
+        List<DuplicationInstance> duplicates = new UnitDuplicatesExtractor().findDuplicatedUnits(units, 3);
+
+        assertEquals(1, duplicates.size());
+        assertEquals(3, duplicates.get(0).getBlockSize());
+        assertEquals(2, duplicates.get(0).getDuplicatedFileBlocks().size());
+        assertEquals(0, new UnitDuplicatesExtractor().findDuplicatedUnits(units, 4).size());
+    }
+
+    @Test
+    public void fingerprint() throws Exception {
+        String body = "void a() {\n  x++;\n\n  y++;\n}";
+        UnitInfo unit = unit("a/A.java", body);
+
+        assertEquals(UnitBodyFingerprint.of(body), UnitBodyFingerprint.of("void b() {\nx++;\ny++;\n}\n"));
+        assertNotEquals(UnitBodyFingerprint.of(body), UnitBodyFingerprint.of("void b() {\nx++;\ny--;\n}\n"));
+        assertEquals(new UnitDuplicatesExtractor().getLinesCleanedForDuplication(unit).split("\n").length - 1,
+                unit.getBodyFingerprint().getBlockSize());
+        assertTrue(UnitBodyFingerprint.sameNormalizedBody(body, " void c()\nx++;\n y++;\n}"));
+        assertFalse(UnitBodyFingerprint.sameNormalizedBody(body, "void c()\nx++;\ny++;"));
+    }
+}
@@ -0,0 +1,177 @@
+package nl.obren.sokrates.sourcecode.landscape;
+
+import nl.obren.sokrates.sourcecode.Metadata;
+import nl.obren.sokrates.sourcecode.analysis.results.CodeAnalysisResults;
+import nl.obren.sokrates.sourcecode.contributors.Contributor;
+import nl.obren.sokrates.sourcecode.dependencies.ComponentDependency;
+import nl.obren.sokrates.sourcecode.filehistory.DateUtils;
+import nl.obren.sokrates.sourcecode.landscape.analysis.ContributorConnections;
+import nl.obren.sokrates.sourcecode.landscape.analysis.ContributorRepositories;
+import nl.obren.sokrates.sourcecode.landscape.analysis.RepositoryAnalysisResults;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PeopleGraphTest {
+
+    @Before
+    public void setUp() {
+        DateUtils.reset();
+        DateUtils.setDateParam("2021-06-30");
+    }
+
+    @After
+    public void tearDown() {
+        DateUtils.setDateParam(null);
+        DateUtils.reset();
+    }
+
+    @Test
+    public void connections() {
+        RepositoryAnalysisResults repo1 = repository("repo1");
+        RepositoryAnalysisResults repo2 = repository("repo2");
+        RepositoryAnalysisResults repo3 = repository("repo3");
+
+        ContributorRepositories alice = contributor("alice@example.com");
+        alice.addRepository(repo1, "2021-06-20", "2021-06-20", 1, 1, 1, 1, 1, dates("2021-06-20"));
+        alice.addRepository(repo2, "2021-06-25", "2021-06-25", 1, 1, 1, 1, 1, dates("2021-06-25"));
+        ContributorRepositories bob = contributor("bob@example.com");
+        bob.addRepository(repo1, "2021-06-21", "2021-06-21", 1, 1, 1, 1, 1, dates("2021-06-21"));
+        bob.addRepository(repo2, "2021-04-15", "2021-04-15", 1, 0, 1, 1, 1, dates("2021-04-15"));
+        ContributorRepositories carol = contributor("carol@example.com");
+        carol.addRepository(repo3, "2021-06-01", "2021-06-01", 1, 1, 1, 1, 1, dates("2021-06-10"));
+        ContributorRepositories dave = contributor("dave@example.com");
+        dave.addRepository(repo1, "2020-01-01", "2020-01-01", 1, 0, 0, 0, 0, dates("2020-01-01"));
+
+        List<ContributorRepositories> contributors = Arrays.asList(alice, bob, carol, dave);
+        PeopleGraph graph = new PeopleGraph(contributors, new int[]{0, 30}, new int[]{0, 90}, new int[]{60, 90});
+
+        List<ComponentDependency> dependencies30Days = graph.getPeopleDependencies(0, 30);
+        assertEquals(1, dependencies30Days.size());
+        assertEquals("alice@example.com", dependencies30Days.get(0).getFromComponent());
+        assertEquals("bob@example.com", dependencies30Days.get(0).getToComponent());
+        assertEquals(1, dependencies30Days.get(0).getCount());
+
+        List<ComponentDependency> dependencies90Days = graph.getPeopleDependencies(0, 90);
+        assertEquals(1, dependencies90Days.size());
+        assertEquals(2, dependencies90Days.get(0).getCount());
+
+        assertEquals(0, graph.getPeopleDependencies(60, 90).size());
+
+        assertEquals(4, graph.getPeopleRepositoryDependencies(0, 30).size());
+        assertEquals(5, graph.getPeopleRepositoryDependencies(0, 90).size());
+
+        List<ContributorConnections> connections90Days = graph.getConnectionsViaRepositories(0, 90);
+        assertEquals(2, connections90Days.size());
+        assertEquals(1, connections90Days.get(0).getConnectionsCount());
+        assertEquals(2, connections90Days.get(0).getRepositoriesCount());
+
+        assertEquals(1, graph.getRepositoriesCount("BOB@example.com", 0, 30));
+        assertEquals(0, graph.getRepositoriesCount("unknown@example.com", 0, 30));
+
+        assertEquals(3, graph.getActiveContributorsCount(0, 30));
+        assertEquals(1, graph.getActiveContributorsCount(60, 90));
+    }
+
+    @Test
+    public void sameDependenciesAsPerRepositoryEmailLists() {
+        Random random = new Random(42);
+        List<RepositoryAnalysisResults> repositories = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            repositories.add(repository("repo" + i));
+        }
+        List<ContributorRepositories> contributors = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            ContributorRepositories contributor = contributor("person" + i + "@example.com");
+            for (RepositoryAnalysisResults repository : repositories) {
+                if (random.nextInt(2) == 0) {
+                    List<String> commitDates = new ArrayList<>();
+                    for (int j = 1 + random.nextInt(5); j > 0; j--) {
+                        commitDates.add(DateUtils.getDateDaysAgo(random.nextInt(200)));
+                    }
+                    contributor.addRepository(repository, commitDates.get(0), commitDates.get(0), 1, 1, 1, 1, 1, commitDates);
+                }
+            }
+            contributors.add(contributor);
+        }
+
+        int[][] periods = {{0, 30}, {0, 90}, {0, 180}, {30, 60}, {60, 90}};
+        PeopleGraph graph = new PeopleGraph(contributors, periods);
+        for (int[] period : periods) {
+            Map<String, Integer> expected = getPeopleDependenciesWithPerRepositoryEmailLists(contributors, period[0], period[1]);
+            assertFalse(expected.isEmpty());
+            assertEquals(expected, toMap(graph.getPeopleDependencies(period[0], period[1])));
+        }
+    }
+
+    // the people dependencies computed from lists of emails per repository, as before the people graph
+    private static Map<String, Integer> getPeopleDependenciesWithPerRepositoryEmailLists(List<ContributorRepositories> contributors, int daysAgo1, int daysAgo2) {
+        Map<String, List<String>> repositoriesMap = new HashMap<>();
+        contributors.forEach(contributorRepositories -> {
+            contributorRepositories.getRepositories().stream()
+                    .filter(repository -> DateUtils.isAnyDateCommittedBetween(repository.getCommitDates(), daysAgo1, daysAgo2))
+                    .forEach(repository -> {
+                        String email = contributorRepositories.getContributor().getEmail();
+                        String repositoryName = repository.getRepositoryAnalysisResults().getAnalysisResults().getMetadata().getName();
+                        List<String> emails = repositoriesMap.computeIfAbsent(repositoryName, name -> new ArrayList<>());
+                        if (!emails.contains(email)) {
+                            emails.add(email);
+                        }
+                    });
+        });
+
+        Map<String, Integer> dependencies = new HashMap<>();
+        repositoriesMap.values().forEach(emails -> {
+            emails.forEach(email1 -> {
+                emails.stream().filter(email2 -> email1.compareTo(email2) < 0).forEach(email2 -> {
+                    dependencies.merge(email1 + "::" + email2, 1, Integer::sum);
+                });
+            });
+        });
+        return dependencies;
+    }
+
+    private static Map<String, Integer> toMap(List<ComponentDependency> dependencies) {
+        Map<String, Integer> map = new HashMap<>();
+        dependencies.forEach(dependency -> {
+            String from = dependency.getFromComponent();
+            String to = dependency.getToComponent();
+            String key = from.compareTo(to) < 0 ? from + "::" + to : to + "::" + from;
+            assertNull(map.put(key, dependency.getCount()));
+        });
+        return map;
+    }
+
+    @Test
+    public void unknownPeriod() {
+        PeopleGraph graph = new PeopleGraph(new ArrayList<>(), new int[]{0, 30});
+        assertThrows(IllegalArgumentException.class, () -> graph.getPeopleDependencies(0, 90));
+    }
+
+    private static ContributorRepositories contributor(String email) {
+        return new ContributorRepositories(new Contributor(email));
+    }
+
+    private static RepositoryAnalysisResults repository(String name) {
+        Metadata metadata = new Metadata();
+        metadata.setName(name);
+        CodeAnalysisResults analysisResults = new CodeAnalysisResults();
+        analysisResults.setMetadata(metadata);
+        RepositoryAnalysisResults repositoryAnalysisResults = new RepositoryAnalysisResults();
+        repositoryAnalysisResults.setAnalysisResults(analysisResults);
+        return repositoryAnalysisResults;
+    }
+
+    private static List<String> dates(String... dates) {
+        return new ArrayList<>(Arrays.asList(dates));
+    }
+}
@@ -0,0 +1,68 @@
+package nl.obren.sokrates.sourcecode.landscape.analysis;
+
+import nl.obren.sokrates.sourcecode.filehistory.DateUtils;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CommitActivityCalendarTest {
+
+    @Test
+    public void weekOrdinal() {
+        assertEquals(CommitActivityCalendar.weekOrdinal("2021-03-01"), CommitActivityCalendar.weekOrdinal("2021-03-07"));
+        assertEquals(CommitActivityCalendar.weekOrdinal("2021-03-01") + 1, CommitActivityCalendar.weekOrdinal("2021-03-08"));
+        assertEquals(CommitActivityCalendar.weekOrdinal("2020-12-31"), CommitActivityCalendar.weekOrdinal(DateUtils.getWeekMonday("2020-12-31")));
+        assertEquals(CommitActivityCalendar.UNDEFINED, CommitActivityCalendar.weekOrdinal("2021-03"));
+        assertEquals(CommitActivityCalendar.UNDEFINED, CommitActivityCalendar.weekOrdinal("abcd-ef-gh"));
+    }
+
+    @Test
+    public void counts() {
+        List<String> dates = Arrays.asList("2020-12-28", "2020-12-31", "2021-01-01", "2021-01-04", "2021-02-15", "invalid");
+        CommitActivityCalendar calendar = CommitActivityCalendar.of(dates);
+
+        assertEquals(5, calendar.getCommitDaysCount());
+
+        assertEquals(3, calendar.getCommitDaysInWeek(CommitActivityCalendar.weekOrdinal("2020-12-28")));
+        assertEquals(1, calendar.getCommitDaysInWeek(CommitActivityCalendar.weekOrdinal("2021-01-04")));
+        assertEquals(0, calendar.getCommitDaysInWeek(CommitActivityCalendar.weekOrdinal("2021-01-11")));
+        assertEquals(0, calendar.getCommitDaysInWeek(CommitActivityCalendar.weekOrdinal("2019-01-11")));
+
+        assertEquals(2, calendar.getCommitDaysInMonth(CommitActivityCalendar.monthOrdinal("2020-12")));
+        assertEquals(2, calendar.getCommitDaysInMonth(CommitActivityCalendar.monthOrdinal("2021-01")));
+        assertEquals(1, calendar.getCommitDaysInMonth(CommitActivityCalendar.monthOrdinal("2021-02")));
+
+        assertEquals(2, calendar.getCommitDaysInYear(CommitActivityCalendar.yearOrdinal("2020")));
+        assertEquals(3, calendar.getCommitDaysInYear(CommitActivityCalendar.yearOrdinal("2021")));
+        assertEquals(0, calendar.getCommitDaysInYear(CommitActivityCalendar.yearOrdinal("2022")));
+    }
+
+    @Test
+    public void empty() {
+        CommitActivityCalendar calendar = CommitActivityCalendar.of(Arrays.asList());
+        assertEquals(0, calendar.getCommitDaysCount());
+        assertEquals(0, calendar.getCommitDaysInWeek(CommitActivityCalendar.weekOrdinal("2021-01-04")));
+        assertEquals(0, calendar.getCommitDaysInYear(CommitActivityCalendar.UNDEFINED));
+    }
+
+    @Test
+    public void activeSlots() {
+        CommitActivityCalendar calendar = CommitActivityCalendar.of(Arrays.asList("2021-03-02", "2021-01-04", "2021-01-05", "2020-12-31"));
+
+        List<String> weeks = new ArrayList<>();
+        calendar.forEachActiveWeek(week -> weeks.add(CommitActivityCalendar.getWeekStart(week).toString()));
+        assertEquals(Arrays.asList("2020-12-28", "2021-01-04", "2021-03-01"), weeks);
+
+        List<String> months = new ArrayList<>();
+        calendar.forEachActiveMonth(month -> months.add(CommitActivityCalendar.getMonthStart(month).toString()));
+        assertEquals(Arrays.asList("2020-12-01", "2021-01-01", "2021-03-01"), months);
+
+        List<String> years = new ArrayList<>();
+        calendar.forEachActiveYear(year -> years.add(CommitActivityCalendar.getYearStart(year).toString()));
+        assertEquals(Arrays.asList("2020-01-01", "2021-01-01"), years);
+    }
+}
@@ -0,0 +1,117 @@
+package nl.obren.sokrates.sourcecode.landscape.analysis;
+
+import nl.obren.sokrates.sourcecode.Metadata;
+import nl.obren.sokrates.sourcecode.analysis.results.CodeAnalysisResults;
+import nl.obren.sokrates.sourcecode.contributors.Contributor;
+import nl.obren.sokrates.sourcecode.core.CodeConfiguration;
+import nl.obren.sokrates.sourcecode.landscape.LandscapeConfiguration;
+import nl.obren.sokrates.sourcecode.landscape.PeopleConfig;
+import nl.obren.sokrates.sourcecode.metrics.NumericMetric;
+import org.apache.commons.io.FileUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RepositoryAnalysisCacheTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void digest() throws IOException {
+        File input = temporaryFolder.newFile("analysisResults.json");
+        File missing = new File(temporaryFolder.getRoot(), "config.json");
+        RepositoryAnalysisCache cache = new RepositoryAnalysisCache(temporaryFolder.newFolder("cache"), "");
+
+        FileUtils.write(input, "{}", StandardCharsets.UTF_8);
+        String digest1 = cache.getDigest(Arrays.asList(input, missing));
+        assertEquals(digest1, cache.getDigest(Arrays.asList(input, missing)));
+
+        FileUtils.write(input, "{ }", StandardCharsets.UTF_8);
+        assertNotEquals(digest1, cache.getDigest(Arrays.asList(input, missing)));
+
+        assertNotEquals(cache.getDigest(Arrays.asList(input)), new RepositoryAnalysisCache(temporaryFolder.newFolder("cache2"), "other").getDigest(Arrays.asList(input)));
+    }
+
+    @Test
+    public void digestChangesWithContentOfSameSizeAndModificationTime() throws IOException {
+        File folder = temporaryFolder.newFolder("cache");
+        File input = temporaryFolder.newFile("analysisResults.json");
+        FileUtils.write(input, "{\"a\": 1}", StandardCharsets.UTF_8);
+        input.setLastModified(1000000000000L);
+        String digest = new RepositoryAnalysisCache(folder, "").getDigest(Arrays.asList(input));
+
+        FileUtils.write(input, "{\"a\": 2}", StandardCharsets.UTF_8);
+        input.setLastModified(1000000000000L);
+        assertNotEquals(digest, new RepositoryAnalysisCache(folder, "").getDigest(Arrays.asList(input)));
+    }
+
+    @Test
+    public void saveAndLoad() throws IOException {
+        File folder = temporaryFolder.newFolder("cache");
+        RepositoryAnalysisCache cache = new RepositoryAnalysisCache(folder, "");
+        assertNull(cache.load("abc"));
+
+        CodeAnalysisResults analysisResults = new CodeAnalysisResults();
+        Metadata metadata = new Metadata();
+        metadata.setName("repo");
+        analysisResults.setMetadata(metadata);
+        analysisResults.setCodeConfiguration(new CodeConfiguration());
+        Contributor contributor = new Contributor("alice@example.com");
+        contributor.getCommitDates().addAll(Arrays.asList("2021-02-01", "2020-05-03", "2021-01-15"));
+        analysisResults.getContributorsAnalysisResults().getContributors().add(contributor);
+        List<FileExport> files = Arrays.asList(new FileExport("repo", "src/a.java", "aspect_main.txt", 10));
+
+        cache.save("abc", new RepositoryAnalysisCacheEntry(analysisResults, files, RepositoryAggregates.of(analysisResults, new LandscapeConfiguration(), new PeopleConfig())));
+
+        RepositoryAnalysisCacheEntry entry = new RepositoryAnalysisCache(folder, "").load("abc");
+        assertNotNull(entry);
+        assertEquals("repo", entry.getAnalysisResults().getMetadata().getName());
+        assertNotNull(entry.getAnalysisResults().getCodeConfiguration());
+        assertEquals(1, entry.getFiles().size());
+        assertEquals(10, entry.getFiles().get(0).getLinesOfCode());
+        assertEquals("2020-05-03", entry.getFirstCommitDate());
+        assertEquals("2021-02-01", entry.getLatestCommitDate());
+        assertEquals(1, entry.getAggregates().getContributors().size());
+        assertEquals(3, entry.getAggregates().getContributors().get(0).getCommitDates().size());
+    }
+
+    @Test
+    public void aggregates() {
+        CodeAnalysisResults analysisResults = new CodeAnalysisResults();
+        analysisResults.getContributorsAnalysisResults().getContributors().add(new Contributor("Alice@Example.com"));
+        analysisResults.getContributorsAnalysisResults().getContributors().add(new Contributor("ci@example.com"));
+        analysisResults.getBuildAndDeployAspectAnalysisResults().getLinesOfCodePerExtension().add(new NumericMetric("xml", 10));
+        analysisResults.getOtherAspectAnalysisResults().getLinesOfCodePerExtension().add(new NumericMetric("xml", 5));
+        LandscapeConfiguration configuration = new LandscapeConfiguration();
+        configuration.getIgnoreContributors().add("ci@.*");
+
+        RepositoryAggregates aggregates = RepositoryAggregates.of(analysisResults, configuration, new PeopleConfig());
+
+        assertEquals(1, aggregates.getContributors().size());
+        assertEquals("alice@example.com", aggregates.getContributors().get(0).getEmail());
+        assertEquals(1, aggregates.getOtherLinesOfCodePerExtension().size());
+        assertEquals(15, aggregates.getOtherLinesOfCodePerExtension().get(0).getValue().intValue());
+    }
+
+    @Test
+    public void deleteUnusedEntries() throws IOException {
+        File folder = temporaryFolder.newFolder("cache");
+        FileUtils.write(new File(folder, "old.json.gz"), "", StandardCharsets.UTF_8);
+        FileUtils.write(new File(folder, "used.json.gz"), "", StandardCharsets.UTF_8);
+
+        RepositoryAnalysisCache cache = new RepositoryAnalysisCache(folder, "");
+        cache.load("used");
+        cache.deleteUnusedEntries();
+
+        assertFalse(new File(folder, "old.json.gz").exists());
+        assertTrue(new File(folder, "used.json.gz").exists());
+    }
+}
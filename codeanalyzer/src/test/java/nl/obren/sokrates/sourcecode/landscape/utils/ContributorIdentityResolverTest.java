@@ -0,0 +1,94 @@
+package nl.obren.sokrates.sourcecode.landscape.utils;
+
+import nl.obren.sokrates.sourcecode.landscape.PeopleConfig;
+import nl.obren.sokrates.sourcecode.landscape.PersonConfig;
+import nl.obren.sokrates.sourcecode.landscape.TeamConfig;
+import nl.obren.sokrates.sourcecode.landscape.TeamsConfig;
+import nl.obren.sokrates.sourcecode.operations.OperationStatement;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ContributorIdentityResolverTest {
+    private static PersonConfig person(String name, String... emailPatterns) {
+        PersonConfig person = new PersonConfig();
+        person.setName(name);
+        person.setEmailPatterns(Arrays.asList(emailPatterns));
+        return person;
+    }
+
+    private static TeamConfig team(String name, String... emailPatterns) {
+        TeamConfig team = new TeamConfig();
+        team.setName(name);
+        team.setEmailPatterns(Arrays.asList(emailPatterns));
+        return team;
+    }
+
+    @Test
+    public void getContributorId() {
+        PeopleConfig peopleConfig = new PeopleConfig();
+        peopleConfig.setPeople(Arrays.asList(person("Ann", "ann@.*", "[invalid"), person("Bob", "bob@.*", "ann@b.com")));
+        List<OperationStatement> transformations = Arrays.asList(new OperationStatement("replace", Arrays.asList("@old[.]com", "@new.com")));
+
+        ContributorIdentityResolver resolver = new ContributorIdentityResolver(transformations, peopleConfig);
+
+        assertEquals("Ann", resolver.getContributorId("ann@b.com"));
+        assertEquals("Bob", resolver.getContributorId("bob@old.com"));
+        assertEquals("carl@new.com", resolver.getContributorId("carl@old.com"));
+        assertEquals("carl@new.com", new ContributorIdentityResolver(new ArrayList<>(), null).getContributorId("carl@new.com"));
+
+        assertSame(peopleConfig.getPersonFromEmailPatterns("dan@x.com"), peopleConfig.getPersonFromEmailPatterns("dan@x.com"));
+        assertSame(peopleConfig.getPeople().get(1), peopleConfig.getPersonByName("Bob"));
+        assertEquals("Eve", peopleConfig.getPersonByName("Eve").getName());
+    }
+
+    @Test
+    public void transformEmailFollowsConfiguration() {
+        List<OperationStatement> transformations = Arrays.asList(new OperationStatement("replace", Arrays.asList("@old[.]com", "@new.com")));
+
+        assertEquals("a@new.com", EmailTransformations.transformEmail("a@old.com", transformations, null));
+        assertEquals("a@old.com", EmailTransformations.transformEmail("a@old.com", new ArrayList<>(), null));
+    }
+
+    @Test
+    public void isConfiguredWithComparesContent() {
+        PeopleConfig peopleConfig = new PeopleConfig();
+        peopleConfig.setPeople(Arrays.asList(person("Ann", "ann@.*")));
+        ContributorIdentityResolver resolver = new ContributorIdentityResolver(
+                Arrays.asList(new OperationStatement("lowercase", new ArrayList<>())), peopleConfig);
+
+        PeopleConfig samePeopleConfig = new PeopleConfig();
+        samePeopleConfig.setPeople(Arrays.asList(person("Ann", "ann@.*")));
+        assertTrue(resolver.isConfiguredWith(Arrays.asList(new OperationStatement("lowercase", new ArrayList<>())), samePeopleConfig));
+
+        assertFalse(resolver.isConfiguredWith(Arrays.asList(new OperationStatement("uppercase", new ArrayList<>())), samePeopleConfig));
+        assertFalse(resolver.isConfiguredWith(Arrays.asList(new OperationStatement("lowercase", new ArrayList<>())), null));
+        samePeopleConfig.setPeople(Arrays.asList(person("Ann", "ann@.*", "a@b.com")));
+        assertFalse(resolver.isConfiguredWith(Arrays.asList(new OperationStatement("lowercase", new ArrayList<>())), samePeopleConfig));
+    }
+
+    @Test
+    public void transformEmailFollowsChangedPeople() {
+        PeopleConfig peopleConfig = new PeopleConfig();
+        peopleConfig.setPeople(Arrays.asList(person("Ann", "ann@.*")));
+        List<OperationStatement> transformations = new ArrayList<>();
+
+        assertEquals("Ann", EmailTransformations.transformEmail("ann@b.com", transformations, peopleConfig));
+        peopleConfig.setPeople(Arrays.asList(person("Anna", "ann@.*")));
+        assertEquals("Anna", EmailTransformations.transformEmail("ann@b.com", transformations, peopleConfig));
+    }
+
+    @Test
+    public void getTeam() {
+        TeamsConfig teamsConfig = new TeamsConfig();
+        teamsConfig.setTeams(Arrays.asList(team("Core", ".*@core[.]com"), team("All", ".*")));
+
+        assertEquals("Core", teamsConfig.getTeam("a@core.com"));
+        assertEquals("All", teamsConfig.getTeam("a@other.com"));
+        assertNull(new TeamsConfig().getTeam("a@core.com"));
+    }
+}
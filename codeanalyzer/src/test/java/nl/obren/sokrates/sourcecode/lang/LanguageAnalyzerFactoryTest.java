@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.sourcecode.lang;
+
+import nl.obren.sokrates.sourcecode.SourceFile;
+import nl.obren.sokrates.sourcecode.SourceFileFilter;
+import nl.obren.sokrates.sourcecode.analysis.AnalyzerOverride;
+import nl.obren.sokrates.sourcecode.lang.adabasnatural.AdabasNaturalAnalyzer;
+import nl.obren.sokrates.sourcecode.lang.java.JavaAnalyzer;
+import nl.obren.sokrates.sourcecode.lang.js.JavaScriptAnalyzer;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class LanguageAnalyzerFactoryTest {
+    @After
+    public void tearDown() {
+        LanguageAnalyzerFactory.getInstance().setOverrides(new ArrayList<>());
+    }
+
+    @Test
+    public void getLanguageAnalyzerByExtension() {
+        LanguageAnalyzerFactory factory = LanguageAnalyzerFactory.getInstance();
+
+        assertTrue(factory.getLanguageAnalyzerByExtension("java") instanceof JavaAnalyzer);
+        assertSame(factory.getLanguageAnalyzerByExtension("java"), factory.getLanguageAnalyzerByExtension("java"));
+        assertSame(factory.getLanguageAnalyzerByExtension("unknown"), factory.getLanguageAnalyzerByExtension("other"));
+        assertNotSame(factory.getLanguageAnalyzerByExtension("nsp"), factory.getLanguageAnalyzerByExtension("nsp"));
+        assertTrue(factory.getLanguageAnalyzerByExtension("nsp") instanceof AdabasNaturalAnalyzer);
+    }
+
+    @Test
+    public void getLanguageAnalyzerWithOverrides() {
+        LanguageAnalyzerFactory factory = LanguageAnalyzerFactory.getInstance();
+        AnalyzerOverride override = new AnalyzerOverride();
+        override.setAnalyzer("js");
+        override.getFilters().add(new SourceFileFilter(".*/scripts/.*", ""));
+        factory.setOverrides(Arrays.asList(override));
+
+        assertTrue(factory.getLanguageAnalyzer(new SourceFile(new File("/a/scripts/A.java"))) instanceof JavaScriptAnalyzer);
+        assertTrue(factory.getLanguageAnalyzer(new SourceFile(new File("/a/src/A.java"))) instanceof JavaAnalyzer);
+
+        factory.setOverrides(new ArrayList<>());
+        assertTrue(factory.getLanguageAnalyzer(new SourceFile(new File("/a/scripts/A.java"))) instanceof JavaAnalyzer);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.sourcecode.scoping;
+
+import nl.obren.sokrates.sourcecode.SourceFile;
+import nl.obren.sokrates.sourcecode.SourceFileFilter;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static junit.framework.TestCase.assertEquals;
+
+public class ConventionUtilsTest {
+    @Test
+    public void addConventions() throws Exception {
+        List<SourceFile> sourceFiles = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            sourceFiles.add(new SourceFile(new File("/root/src/A" + i + ".java"), "class A" + i + " {}"));
+        }
+        sourceFiles.add(new SourceFile(new File("/root/test/ATest.java"), "// generated\nclass ATest {}"));
+        sourceFiles.add(new SourceFile(new File("/root/README.md"), "# readme"));
+
+        List<SourceFileFilter> ignore = new ArrayList<>();
+        ignore.add(new SourceFileFilter(".*/README[.]md", ""));
+        List<SourceFileFilter> test = new ArrayList<>();
+        List<SourceFileFilter> generated = new ArrayList<>();
+
+        ConventionUtils.addConventions(Arrays.asList(
+                new ConventionsGroup("ignore", Arrays.asList(
+                        new Convention(".*/README[.]md", "", "Readme"),
+                        new Convention(".*[.]md", "", "Markdown")), ignore),
+                new ConventionsGroup("test", Arrays.asList(
+                        new Convention(".*/test/.*", "", "Test folder"),
+                        new Convention(".*Test[.]java", "", "Test classes"),
+                        new Convention(".*/test/.*", "", "Test folder again"),
+                        new Convention(".*[.]py", "", "Python")), test),
+                new ConventionsGroup("generated", Arrays.asList(
+                        new Convention("", "// generated", "Generated"),
+                        new Convention("", "class A1[0-9]* [{][}]", "Classes starting with A1")), generated)
+        ), sourceFiles);
+
+        assertEquals(ignore.size(), 2);
+        assertEquals(ignore.get(1).getNote(), "Markdown");
+        assertEquals(test.size(), 2);
+        assertEquals(test.get(0).getNote(), "Test folder");
+        assertEquals(test.get(1).getNote(), "Test classes");
+        assertEquals(generated.size(), 2);
+        assertEquals(generated.get(0).getNote(), "Classes starting with A1");
+        assertEquals(generated.get(1).getNote(), "Generated");
+    }
+}
@@ -330,5 +330,28 @@ public class CStyleHeuristicUnitsExtractorTest {
                 "}\n";
     }
 
+    @Test
+    public void mcCabeIndexOfEachUnit() throws Exception {
+        CStyleHeuristicUnitsExtractor unitParser = new CStyleHeuristicUnitsExtractor();
 
+        List<UnitInfo> units = unitParser.extractUnits(new SourceFile(new File("test"), "class A {\n" +
+                "    public void a() {\n" +
+                "        doA();\n" +
+                "    }\n" +
+                "    public void b(int x, int y) {\n" +
+                "        while (x > 0 && y > 0) {\n" +
+                "            x--;\n" +
+                "        }\n" +
+                "        if\n" +
+                "        (y) { y++; }\n" +
+                "    }\n" +
+                "}"));
+
+        Assert.assertEquals(units.size(), 2);
+        Assert.assertEquals(units.get(0).getMcCabeIndex(), 1);
+        Assert.assertEquals(units.get(0).getCleanedBody(), "    public void a() {\n        doA();\n    }\n");
+        Assert.assertEquals(units.get(1).getMcCabeIndex(), 4);
+        Assert.assertEquals(units.get(1).getLinesOfCode(), 7);
+        Assert.assertEquals(units.get(1).getNumberOfParameters(), 2);
+    }
 }
@@ -11,6 +11,7 @@ import javafx.geometry.Orientation;
 import javafx.scene.control.*;
 import javafx.scene.layout.BorderPane;
 import javafx.stage.Stage;
+import nl.obren.sokrates.codeexplorer.common.BackgroundTaskRunner;
 import nl.obren.sokrates.codeexplorer.configuration.CodeConfigurationView;
 import nl.obren.sokrates.codeexplorer.console.WebViewConsole;
 import nl.obren.sokrates.common.io.UserProperties;
@@ -32,7 +33,6 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.Executors;
 
 import static nl.obren.sokrates.codeexplorer.configuration.CodeConfigurationView.RECENT_CONFIGURATION_FILES_PROPERTY;
 
@@ -54,6 +54,7 @@ public class CodeBrowserPane extends SplitPane {
     private BorderPane mainPane = new BorderPane();
 
     private WebViewConsole console = new WebViewConsole();
+    private final BackgroundTaskRunner backgroundTasks = new BackgroundTaskRunner();
 
     private Findings findings;
     private File findingsFile;
@@ -166,9 +167,8 @@ public class CodeBrowserPane extends SplitPane {
         codeConfiguration = codeConfigurationView.getConfigurationFromEditor();
         if (codeConfiguration != null) {
             clearViews();
-            Executors.newCachedThreadPool().execute(() -> {
-                load(codeConfiguration);
-            });
+            CodeConfiguration configurationToLoad = codeConfiguration;
+            backgroundTasks.run(task -> load(configurationToLoad, task));
         }
     }
 
@@ -182,17 +182,26 @@ public class CodeBrowserPane extends SplitPane {
     }
 
     public void load(CodeConfiguration codeConfiguration) {
+        backgroundTasks.cancel();
+        load(codeConfiguration, null);
+    }
+
+    // task is null when loading synchronously
+    private void load(CodeConfiguration codeConfiguration, BackgroundTaskRunner.Task task) {
         this.codeConfiguration = codeConfiguration;
         File codeConfigurationFile = codeConfigurationView.getFile();
         this.findingsFile = CodeConfigurationUtils.getDefaultSokratesFindingsFile(codeConfigurationFile.getParentFile());
 
-        ProgressFeedback progressFeedback = console.getProgressFeedback();
+        ProgressFeedback progressFeedback = task != null ? task.wrap(console.getProgressFeedback()) : console.getProgressFeedback();
         progressFeedback.clear();
         progressFeedback.setDetailedText("");
 
         sourceCodeFiles = new SourceCodeFiles();
         sourceCodeFiles.load(new File(CodeConfiguration.getAbsoluteSrcRoot(codeConfiguration.getSrcRoot(), codeConfigurationFile)), progressFeedback);
         codeConfiguration.load(sourceCodeFiles, codeConfigurationFile);
+        if (task != null && task.isCanceled()) {
+            return;
+        }
 
         List<NamedSourceCodeAspect> scopesWithExtensions = codeConfiguration.getScopesWithExtensions();
 
@@ -222,7 +231,7 @@ public class CodeBrowserPane extends SplitPane {
             });
         });
 
-        Platform.runLater(() -> {
+        Runnable updateViews = () -> {
             scopeAspectsTablePane.refresh(scopesWithExtensions, codeConfiguration.getMain());
             logicalComponentsTablePane.setAspectSelections(logicalDecompositionPairs);
             logicalComponentsTablePane.refresh(logicalComponents, codeConfiguration.getMain());
@@ -230,7 +239,12 @@ public class CodeBrowserPane extends SplitPane {
             if (concerns.size() > 0) {
                 concernAspectsTablePane.refresh(allConcerns, codeConfiguration.getMain());
             }
-        });
+        };
+        if (task != null) {
+            task.runLater(updateViews);
+        } else {
+            Platform.runLater(updateViews);
+        }
 
         progressFeedback.setText("Done.");
     }
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.codeexplorer.common;
+
+import javafx.application.Platform;
+import nl.obren.sokrates.common.utils.ProgressFeedback;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Runs background computations of one view (e.g. a pane) on a small executor shared by the whole explorer.
+ * The latest request wins: starting a new task cancels the previous one of the same view. A canceled task
+ * is not started if still queued, its progress feedback reports it as canceled, and its UI updates are dropped.
+ */
+public class BackgroundTaskRunner {
+    private static final Log LOG = LogFactory.getLog(BackgroundTaskRunner.class);
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(getThreadsCount(), threadFactory());
+
+    private final AtomicLong generation = new AtomicLong();
+    private Future<?> current;
+
+    private static int getThreadsCount() {
+        return Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "sokrates-explorer-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public synchronized void run(Consumer<Task> work) {
+        cancel();
+        Task task = new Task(generation.get());
+        current = EXECUTOR.submit(() -> {
+            if (task.isCanceled()) {
+                return;
+            }
+            try {
+                work.accept(task);
+            } catch (Throwable e) {
+                // the future is never read, so failures (including errors) are reported here
+                LOG.error("Background task failed", e);
+                task.endProgress();
+            }
+        });
+    }
+
+    public synchronized void cancel() {
+        generation.incrementAndGet();
+        if (current != null) {
+            // running tasks stop at their next cancellation check
+            current.cancel(false);
+            current = null;
+        }
+    }
+
+    public class Task {
+        private final long id;
+        private final List<ProgressFeedback> progressFeedbacks = new CopyOnWriteArrayList<>();
+
+        private Task(long id) {
+            this.id = id;
+        }
+
+        public boolean isCanceled() {
+            return generation.get() != id;
+        }
+
+        // runs the update on the JavaFX thread, unless the task has been canceled in the meantime
+        public void runLater(Runnable update) {
+            Platform.runLater(() -> {
+                if (!isCanceled()) {
+                    update.run();
+                }
+            });
+        }
+
+        // ends the progress of a failed task, so the progress bar does not stay visible
+        private void endProgress() {
+            if (isCanceled()) {
+                // a newer task owns the progress feedback
+                return;
+            }
+            progressFeedbacks.forEach(progressFeedback -> {
+                try {
+                    progressFeedback.end();
+                } catch (Throwable e) {
+                    LOG.error(e);
+                }
+            });
+        }
+
+        // reports the task as canceled and ignores the feedback of a canceled task
+        public ProgressFeedback wrap(ProgressFeedback progressFeedback) {
+            progressFeedbacks.add(progressFeedback);
+            return new ProgressFeedback() {
+                @Override
+                public void clear() {
+                    if (!isCanceled()) {
+                        progressFeedback.clear();
+                    }
+                }
+
+                @Override
+                public void start() {
+                    if (!isCanceled()) {
+                        progressFeedback.start();
+                    }
+                }
+
+                @Override
+                public void end() {
+                    if (!isCanceled()) {
+                        progressFeedback.end();
+                    }
+                }
+
+                @Override
+                public void setText(String text) {
+                    if (!isCanceled()) {
+                        progressFeedback.setText(text);
+                    }
+                }
+
+                @Override
+                public void setDetailedText(String text) {
+                    if (!isCanceled()) {
+                        progressFeedback.setDetailedText(text);
+                    }
+                }
+
+                @Override
+                public boolean canceled() {
+                    return isCanceled() || progressFeedback.canceled();
+                }
+
+                @Override
+                public void progress(int currentValue, int endValue) {
+                    if (!isCanceled()) {
+                        progressFeedback.progress(currentValue, endValue);
+                    }
+                }
+            };
+        }
+    }
+}
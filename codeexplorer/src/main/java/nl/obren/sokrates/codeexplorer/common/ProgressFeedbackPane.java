@@ -15,12 +15,18 @@ import javafx.scene.text.Text;
 import nl.obren.sokrates.common.utils.ProgressFeedback;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+
 public class ProgressFeedbackPane extends BorderPane {
     private final Text label = new Text();
     private BorderPane pane = new BorderPane();
     private ProgressBar progressBar = new ProgressBar();
     private boolean cancel = false;
     private Button cancelButton = UXUtils.getButtonWithoutStyle(SvgIcons.SVG_CANCEL);
+    // the latest text and progress, shown with at most one pending update on the JavaFX thread
+    private volatile String pendingText;
+    private volatile double pendingProgress = ProgressIndicator.INDETERMINATE_PROGRESS;
+    private final AtomicBoolean updateScheduled = new AtomicBoolean(false);
 
     public ProgressFeedbackPane() {
         progressBar.prefWidthProperty().bind(widthProperty());
@@ -37,6 +43,7 @@ public class ProgressFeedbackPane extends BorderPane {
             @Override
             public void start() {
                 cancel = false;
+                pendingProgress = ProgressIndicator.INDETERMINATE_PROGRESS;
                 Platform.runLater(() -> {
                     progressBar.setProgress(-1);
                     ProgressFeedbackPane.this.setCenter(pane);
@@ -45,20 +52,14 @@ public class ProgressFeedbackPane extends BorderPane {
 
             @Override
             public void setText(String text) {
-                Platform.runLater(() -> {
-                    label.setText(StringUtils.abbreviateMiddle(text, " ... ", 40));
-                });
+                pendingText = text;
+                scheduleUpdate();
             }
 
             @Override
             public void progress(int currentValue, int endValue) {
-                Platform.runLater(() -> {
-                    if (endValue <= 0) {
-                        progressBar.setProgress(ProgressIndicator.INDETERMINATE_PROGRESS);
-                    } else {
-                        progressBar.setProgress((double) currentValue / endValue);
-                    }
-                });
+                pendingProgress = endValue <= 0 ? ProgressIndicator.INDETERMINATE_PROGRESS : (double) currentValue / endValue;
+                scheduleUpdate();
             }
 
             @Override
@@ -75,5 +76,16 @@ public class ProgressFeedbackPane extends BorderPane {
         };
     }
 
-
+    private void scheduleUpdate() {
+        if (updateScheduled.compareAndSet(false, true)) {
+            Platform.runLater(() -> {
+                updateScheduled.set(false);
+                String text = pendingText;
+                if (text != null) {
+                    label.setText(StringUtils.abbreviateMiddle(text, " ... ", 40));
+                }
+                progressBar.setProgress(pendingProgress);
+            });
+        }
+    }
 }
@@ -4,124 +4,287 @@
 
 package nl.obren.sokrates.codeexplorer.dependencies;
 
+import javafx.geometry.Orientation;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.control.Tooltip;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
 import javafx.scene.layout.BorderPane;
-import javafx.scene.web.WebView;
-import nl.obren.sokrates.codeexplorer.common.UXUtils;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
 import nl.obren.sokrates.sourcecode.dependencies.ComponentDependency;
-import org.apache.commons.text.StringEscapeUtils;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.List;
 
+/**
+ * A dependency matrix drawn on a canvas. Only the cells in the visible region are drawn, so scrolling
+ * and zooming (ctrl + mouse wheel) do not depend on the number of components.
+ */
 public class DependenciesMatrix extends BorderPane {
     public static final String ARROW = "->";
-    protected WebView webView = new WebView();
+    private static final double CELL_SIZE = 102;
+    private static final double ROW_HEADER_WIDTH = 220;
+    private static final double COLUMN_HEADER_HEIGHT = 160;
+    private static final double MIN_ZOOM = 0.05;
+    private static final double MAX_ZOOM = 3;
+    private static final Color GRID_COLOR = Color.rgb(200, 200, 200);
+    private static final Color CIRCLE_COLOR = Color.SKYBLUE;
+
+    private final Canvas canvas = new Canvas();
+    private final ScrollBar horizontalScrollBar = new ScrollBar();
+    private final ScrollBar verticalScrollBar = new ScrollBar();
+    private final Tooltip tooltip = new Tooltip();
+    private DependenciesMatrixModel model = new DependenciesMatrixModel(new ArrayList<>());
+    private double zoom = 0.9;
 
     public DependenciesMatrix() {
-        webView.setZoom(0.9);
-        UXUtils.addCopyHandler(webView);
-        setCenter(webView);
+        Pane canvasPane = new Pane(canvas);
+        canvasPane.setMinSize(0, 0);
+        canvas.widthProperty().bind(canvasPane.widthProperty());
+        canvas.heightProperty().bind(canvasPane.heightProperty());
+        canvas.widthProperty().addListener((observable, oldValue, newValue) -> refresh());
+        canvas.heightProperty().addListener((observable, oldValue, newValue) -> refresh());
+
+        verticalScrollBar.setOrientation(Orientation.VERTICAL);
+        horizontalScrollBar.valueProperty().addListener((observable, oldValue, newValue) -> draw());
+        verticalScrollBar.valueProperty().addListener((observable, oldValue, newValue) -> draw());
+
+        canvas.setOnScroll(this::onScroll);
+        canvas.setOnMouseMoved(this::updateTooltip);
+        Tooltip.install(canvas, tooltip);
+
+        setCenter(canvasPane);
+        setRight(verticalScrollBar);
+        setBottom(horizontalScrollBar);
     }
 
     public void load(List<ComponentDependency> dependencies) {
+        model = new DependenciesMatrixModel(dependencies);
+        horizontalScrollBar.setValue(0);
+        verticalScrollBar.setValue(0);
+        refresh();
+    }
 
-        List<String> rows = getRows(dependencies);
-        List<String> columns = getColumns(dependencies);
-        Map<String, ComponentDependency> dependenciesMap = getDependencyMap(dependencies);
-
-        int maxCount[] = {0};
-        dependenciesMap.values().forEach(dependency -> maxCount[0] = Math.max(maxCount[0], dependency.getCount()));
-        String html = getHtml(rows, columns, dependenciesMap, maxCount[0]);
-
-        webView.getEngine().loadContent(html);
-    }
-
-    private String getHtml(List<String> rows, List<String> columns, Map<String, ComponentDependency> dependenciesMap, int maxCount) {
-        StringBuilder html = new StringBuilder(UXUtils.DEFAULT_HTML_HEADER);
-
-        html.append("<table>\n");
-        html.append("<th></th>\n");
-        columns.forEach(column -> {
-            html.append("<th style='white-space: nowrap;'> " + StringEscapeUtils.escapeHtml4(column) + " -></th>\n");
-        });
-        rows.forEach(row -> {
-            html.append("<tr>\n");
-            html.append("<td style='white-space: nowrap;'><b>-> " + StringEscapeUtils.escapeHtml4(row) + "</b></td>\n");
-            columns.forEach(column -> {
-                String key = row + ARROW + column;
-                html.append("<td>\n");
-                if (dependenciesMap.containsKey(key)) {
-                    int count = dependenciesMap.get(key).getCount();
-                    html.append(getSvg(count, maxCount));
-                } else {
-                    html.append(getEmptySvg());
-                }
-                html.append("</td>\n");
-            });
-            html.append("</tr>\n");
-        });
-        html.append("</table>\n");
+    private void onScroll(ScrollEvent event) {
+        if (event.isControlDown()) {
+            setZoom(zoom * Math.pow(1.1, event.getDeltaY() / 40.0));
+        } else {
+            scrollBy(horizontalScrollBar, -event.getDeltaX());
+            scrollBy(verticalScrollBar, -event.getDeltaY());
+        }
+        event.consume();
+    }
 
-        return html.toString();
+    private void setZoom(double newZoom) {
+        double relativeX = getRelativePosition(horizontalScrollBar);
+        double relativeY = getRelativePosition(verticalScrollBar);
+        zoom = Math.max(MIN_ZOOM, Math.min(MAX_ZOOM, newZoom));
+        updateScrollBars();
+        horizontalScrollBar.setValue(relativeX * horizontalScrollBar.getMax());
+        verticalScrollBar.setValue(relativeY * verticalScrollBar.getMax());
+        draw();
     }
 
-    private String getSvg(int count, int maxCount) {
-        int r = (int) (50.0 * Math.sqrt(Math.min(count, maxCount) / (double) maxCount));
-        r = Math.max(r, 7);
+    private double getRelativePosition(ScrollBar scrollBar) {
+        return scrollBar.getMax() > 0 ? scrollBar.getValue() / scrollBar.getMax() : 0;
+    }
+
+    private void scrollBy(ScrollBar scrollBar, double delta) {
+        scrollBar.setValue(Math.max(0, Math.min(scrollBar.getMax(), scrollBar.getValue() + delta)));
+    }
 
-        String svg = "<svg height=\"102\" width=\"102\">\n";
-        svg += getCross();
-        svg += "<circle cx=\"" + 51 + "\" cy=\"" + 51 + "\" r=\"" + r + "\" fill=\"skyblue\" />";
-        svg += "<text x=\"50%\" y=\"53%\" text-anchor=\"middle\">" + count + "</text>";
-        svg += "</svg>";
+    private void refresh() {
+        updateScrollBars();
+        draw();
+    }
 
-        return svg;
+    private void updateScrollBars() {
+        double cellSize = getCellSize();
+        double visibleWidth = Math.max(0, canvas.getWidth() - getRowHeaderWidth());
+        double visibleHeight = Math.max(0, canvas.getHeight() - getColumnHeaderHeight());
+        updateScrollBar(horizontalScrollBar, model.getColumns().size() * cellSize, visibleWidth, cellSize);
+        updateScrollBar(verticalScrollBar, model.getRows().size() * cellSize, visibleHeight, cellSize);
     }
 
-    private String getEmptySvg() {
-        String svg = "<svg height=\"102\" width=\"102\">\n";
-        svg += getCross();
-        svg += "</svg>";
-        return svg;
+    private void updateScrollBar(ScrollBar scrollBar, double contentSize, double visibleSize, double cellSize) {
+        double max = Math.max(0, contentSize - visibleSize);
+        scrollBar.setMax(max);
+        scrollBar.setVisibleAmount(max > 0 ? max * visibleSize / contentSize : 0);
+        scrollBar.setUnitIncrement(cellSize / 2);
+        scrollBar.setBlockIncrement(Math.max(cellSize, visibleSize));
+        scrollBar.setValue(Math.min(scrollBar.getValue(), max));
     }
 
-    private String getCross() {
-        String svg = "<line x1=\"0%\" y1=\"50%\" x2=\"100%\" y2=\"50%\" style=\"stroke:rgb(200,200,200);stroke-width:2\"/>";
-        svg += "<line x1=\"50%\" y1=\"0%\" x2=\"50%\" y2=\"100%\" style=\"stroke:rgb(200,200,200);stroke-width:2\"/>";
-        return svg;
+    private double getCellSize() {
+        return CELL_SIZE * zoom;
     }
 
-    private Map<String, ComponentDependency> getDependencyMap(List<ComponentDependency> dependencies) {
-        Map<String, ComponentDependency> dependenciesMap = new HashMap<>();
-        dependencies.forEach(dependency -> {
-            String key = dependency.getToComponent() + ARROW + dependency.getFromComponent();
-            dependenciesMap.put(key, dependency);
-        });
-        return dependenciesMap;
+    private double getRowHeaderWidth() {
+        return ROW_HEADER_WIDTH * Math.max(zoom, 0.5);
     }
 
-    private List<String> getRows(List<ComponentDependency> dependencies) {
-        List<String> rows = new ArrayList<>();
-        Map<String, Integer> rowsCountMap = new HashMap<>();
-        dependencies.forEach(dependency -> {
-            String toComponent = dependency.getToComponent();
-            if (!rows.contains(toComponent)) {
-                rows.add(toComponent);
-            }
-            rowsCountMap.put(toComponent, rowsCountMap.containsKey(toComponent)
-                    ? rowsCountMap.get(toComponent) + dependency.getCount()
-                    : dependency.getCount());
-        });
-        Collections.sort(rows, (o1, o2) -> new Integer(rowsCountMap.get(o2)).compareTo(rowsCountMap.get(o1)));
-        return rows;
-    }
-
-    private List<String> getColumns(List<ComponentDependency> dependencies) {
-        List<String> columns = new ArrayList<>();
-        dependencies.forEach(dependency -> {
-            if (!columns.contains(dependency.getFromComponent())) {
-                columns.add(dependency.getFromComponent());
+    private double getColumnHeaderHeight() {
+        return COLUMN_HEADER_HEIGHT * Math.max(zoom, 0.5);
+    }
+
+    private double getFontSize() {
+        return 12 * Math.max(zoom, 0.5);
+    }
+
+    private void draw() {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        double width = canvas.getWidth();
+        double height = canvas.getHeight();
+        gc.setFill(Color.WHITE);
+        gc.fillRect(0, 0, width, height);
+
+        List<String> rows = model.getRows();
+        List<String> columns = model.getColumns();
+        if (rows.isEmpty() || columns.isEmpty()) {
+            return;
+        }
+
+        double cellSize = getCellSize();
+        double left = getRowHeaderWidth();
+        double top = getColumnHeaderHeight();
+        double scrollX = horizontalScrollBar.getValue();
+        double scrollY = verticalScrollBar.getValue();
+
+        int firstColumn = (int) (scrollX / cellSize);
+        int lastColumn = Math.min(columns.size() - 1, (int) ((scrollX + Math.max(0, width - left)) / cellSize));
+        int firstRow = (int) (scrollY / cellSize);
+        int lastRow = Math.min(rows.size() - 1, (int) ((scrollY + Math.max(0, height - top)) / cellSize));
+
+        drawCells(gc, firstRow, lastRow, firstColumn, lastColumn, left - scrollX, top - scrollY, width, height);
+        drawColumnHeaders(gc, firstColumn, lastColumn, left - scrollX, width);
+        drawRowHeaders(gc, firstRow, lastRow, top - scrollY, height);
+    }
+
+    private void drawCells(GraphicsContext gc, int firstRow, int lastRow, int firstColumn, int lastColumn,
+                           double originX, double originY, double width, double height) {
+        double cellSize = getCellSize();
+        double left = getRowHeaderWidth();
+        double top = getColumnHeaderHeight();
+
+        gc.save();
+        gc.beginPath();
+        gc.rect(left, top, width - left, height - top);
+        gc.clip();
+
+        gc.setStroke(GRID_COLOR);
+        gc.setLineWidth(Math.max(1, 2 * zoom));
+        double gridRight = Math.min(width, originX + (lastColumn + 1) * cellSize);
+        double gridBottom = Math.min(height, originY + (lastRow + 1) * cellSize);
+        for (int row = firstRow; row <= lastRow; row++) {
+            double y = originY + row * cellSize + cellSize / 2;
+            gc.strokeLine(left, y, gridRight, y);
+        }
+        for (int column = firstColumn; column <= lastColumn; column++) {
+            double x = originX + column * cellSize + cellSize / 2;
+            gc.strokeLine(x, top, x, gridBottom);
+        }
+
+        int maxCount = model.getMaxCount();
+        boolean showCounts = cellSize >= 30;
+        gc.setFont(Font.font(getFontSize()));
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setTextBaseline(VPos.CENTER);
+        for (int row = firstRow; row <= lastRow; row++) {
+            double centerY = originY + row * cellSize + cellSize / 2;
+            for (int cell = model.firstCellIndex(row, firstColumn); cell < model.cellsCount(row); cell++) {
+                int column = model.cellColumn(row, cell);
+                if (column > lastColumn) {
+                    break;
+                }
+                int count = model.cellCount(row, cell);
+                double centerX = originX + column * cellSize + cellSize / 2;
+                double radius = getRadius(count, maxCount) * zoom;
+                gc.setFill(CIRCLE_COLOR);
+                gc.fillOval(centerX - radius, centerY - radius, radius * 2, radius * 2);
+                if (showCounts) {
+                    gc.setFill(Color.BLACK);
+                    gc.fillText("" + count, centerX, centerY);
+                }
             }
-        });
-        return columns;
+        }
+
+        gc.restore();
+    }
+
+    private double getRadius(int count, int maxCount) {
+        int r = (int) (50.0 * Math.sqrt(Math.min(count, maxCount) / (double) maxCount));
+        return Math.max(r, 7);
+    }
+
+    private void drawColumnHeaders(GraphicsContext gc, int firstColumn, int lastColumn, double originX, double width) {
+        double cellSize = getCellSize();
+        double left = getRowHeaderWidth();
+        double top = getColumnHeaderHeight();
+        if (cellSize < getFontSize()) {
+            return;
+        }
+
+        gc.save();
+        gc.beginPath();
+        gc.rect(left, 0, width - left, top);
+        gc.clip();
+        gc.setFill(Color.BLACK);
+        gc.setFont(Font.font(getFontSize()));
+        gc.setTextAlign(TextAlignment.LEFT);
+        gc.setTextBaseline(VPos.CENTER);
+        for (int column = firstColumn; column <= lastColumn; column++) {
+            gc.save();
+            gc.translate(originX + column * cellSize + cellSize / 2, top - 4);
+            gc.rotate(-90);
+            gc.fillText(model.getColumns().get(column) + " " + ARROW, 0, 0, top - 8);
+            gc.restore();
+        }
+        gc.restore();
+    }
+
+    private void drawRowHeaders(GraphicsContext gc, int firstRow, int lastRow, double originY, double height) {
+        double cellSize = getCellSize();
+        double left = getRowHeaderWidth();
+        double top = getColumnHeaderHeight();
+        if (cellSize < getFontSize()) {
+            return;
+        }
+
+        gc.save();
+        gc.beginPath();
+        gc.rect(0, top, left, height - top);
+        gc.clip();
+        gc.setFill(Color.BLACK);
+        gc.setFont(Font.font(null, FontWeight.BOLD, getFontSize()));
+        gc.setTextAlign(TextAlignment.LEFT);
+        gc.setTextBaseline(VPos.CENTER);
+        for (int row = firstRow; row <= lastRow; row++) {
+            gc.fillText(ARROW + " " + model.getRows().get(row), 4, originY + row * cellSize + cellSize / 2, left - 8);
+        }
+        gc.restore();
+    }
+
+    private void updateTooltip(MouseEvent event) {
+        double cellSize = getCellSize();
+        double x = event.getX() - getRowHeaderWidth() + horizontalScrollBar.getValue();
+        double y = event.getY() - getColumnHeaderHeight() + verticalScrollBar.getValue();
+        int column = (int) Math.floor(x / cellSize);
+        int row = (int) Math.floor(y / cellSize);
+
+        if (x < 0 || y < 0 || row >= model.getRows().size() || column >= model.getColumns().size()) {
+            tooltip.setText("");
+            return;
+        }
+
+        String text = model.getColumns().get(column) + " " + ARROW + " " + model.getRows().get(row);
+        int count = model.getCount(row, column);
+        tooltip.setText(count > 0 ? text + ": " + count : text);
     }
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.codeexplorer.dependencies;
+
+import nl.obren.sokrates.sourcecode.dependencies.ComponentDependency;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rows (target components, by total dependency count), columns (source components, in order of appearance)
+ * and a sparse index of the counts in the cells of a dependency matrix. For each row, the non-empty cells are
+ * sorted by column, so the cells in a visible range of columns are found with a binary search.
+ */
+class DependenciesMatrixModel {
+    private final List<String> rows = new ArrayList<>();
+    private final List<String> columns = new ArrayList<>();
+    private int[][] cellColumns;
+    private int[][] cellCounts;
+    private int maxCount = 0;
+
+    DependenciesMatrixModel(List<ComponentDependency> dependencies) {
+        Map<String, Integer> rowTotals = new LinkedHashMap<>();
+        Map<String, Integer> columnIndexes = new LinkedHashMap<>();
+        dependencies.forEach(dependency -> {
+            rowTotals.merge(dependency.getToComponent(), dependency.getCount(), Integer::sum);
+            columnIndexes.putIfAbsent(dependency.getFromComponent(), columnIndexes.size());
+        });
+
+        rows.addAll(rowTotals.keySet());
+        rows.sort((o1, o2) -> Integer.compare(rowTotals.get(o2), rowTotals.get(o1)));
+        columns.addAll(columnIndexes.keySet());
+
+        Map<String, Integer> rowIndexes = new HashMap<>();
+        rows.forEach(row -> rowIndexes.put(row, rowIndexes.size()));
+
+        // the last dependency between the same components is shown
+        List<Map<Integer, Integer>> cells = new ArrayList<>();
+        rows.forEach(row -> cells.add(new HashMap<>()));
+        dependencies.forEach(dependency -> cells.get(rowIndexes.get(dependency.getToComponent()))
+                .put(columnIndexes.get(dependency.getFromComponent()), dependency.getCount()));
+
+        cellColumns = new int[rows.size()][];
+        cellCounts = new int[rows.size()][];
+        for (int row = 0; row < rows.size(); row++) {
+            Map<Integer, Integer> rowCells = cells.get(row);
+            int[] rowColumns = rowCells.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+            int[] rowCounts = new int[rowColumns.length];
+            for (int i = 0; i < rowColumns.length; i++) {
+                rowCounts[i] = rowCells.get(rowColumns[i]);
+                maxCount = Math.max(maxCount, rowCounts[i]);
+            }
+            cellColumns[row] = rowColumns;
+            cellCounts[row] = rowCounts;
+        }
+    }
+
+    List<String> getRows() {
+        return rows;
+    }
+
+    List<String> getColumns() {
+        return columns;
+    }
+
+    int getMaxCount() {
+        return maxCount;
+    }
+
+    // 0 for an empty cell
+    int getCount(int row, int column) {
+        int index = Arrays.binarySearch(cellColumns[row], column);
+        return index >= 0 ? cellCounts[row][index] : 0;
+    }
+
+    // the first non-empty cell in the row with the column not smaller than the given column
+    int firstCellIndex(int row, int column) {
+        int index = Arrays.binarySearch(cellColumns[row], column);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    int cellsCount(int row) {
+        return cellColumns[row].length;
+    }
+
+    int cellColumn(int row, int cellIndex) {
+        return cellColumns[row][cellIndex];
+    }
+
+    int cellCount(int row, int cellIndex) {
+        return cellCounts[row][cellIndex];
+    }
+}
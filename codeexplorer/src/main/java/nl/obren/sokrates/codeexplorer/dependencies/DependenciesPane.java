@@ -4,7 +4,6 @@
 
 package nl.obren.sokrates.codeexplorer.dependencies;
 
-import javafx.application.Platform;
 import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.value.ObservableValue;
@@ -19,6 +18,7 @@ import javafx.stage.Stage;
 import javafx.util.Callback;
 import nl.obren.sokrates.codeexplorer.codebrowser.TableViewUtils;
 import nl.obren.sokrates.codeexplorer.common.NumericBarCellFactory;
+import nl.obren.sokrates.codeexplorer.common.BackgroundTaskRunner;
 import nl.obren.sokrates.codeexplorer.common.ProgressFeedbackPane;
 import nl.obren.sokrates.codeexplorer.common.UXUtils;
 import nl.obren.sokrates.common.renderingutils.GraphvizUtil;
@@ -36,7 +36,6 @@ import org.apache.commons.logging.LogFactory;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.Executors;
 
 public class DependenciesPane extends BorderPane {
     private static final Log LOG = LogFactory.getLog(DependenciesPane.class);
@@ -49,6 +48,7 @@ public class DependenciesPane extends BorderPane {
     private TableView<Dependency> table = new TableView<>();
     private BorderPane topPane = new BorderPane();
     private ProgressFeedbackPane progressFeedbackPane = new ProgressFeedbackPane();
+    private final BackgroundTaskRunner backgroundTasks = new BackgroundTaskRunner();
     private Number maxCount;
     private List<ComponentDependency> componentDependencies;
     private boolean renderGraphviz;
@@ -196,12 +196,12 @@ public class DependenciesPane extends BorderPane {
 
     private void loadDependencies(NamedSourceCodeAspect namedSourceCodeAspect, List<String> componentNames) {
         if (namedSourceCodeAspect != null) {
-            Executors.newCachedThreadPool().execute(() -> {
+            backgroundTasks.run(task -> {
                 ObservableList<Dependency> items = FXCollections.observableArrayList();
                 List<Dependency> allDependencies = new ArrayList<>();
 
                 if (logicalDecomposition.getDependenciesFinder().isUseBuiltInDependencyFinders()) {
-                    ProgressFeedback progressFeedback = getProgressFeedback(componentNames, items);
+                    ProgressFeedback progressFeedback = getProgressFeedback(componentNames, items, task);
                     progressFeedback.start();
 
                     SourceCodeAspectUtils.getAspectsPerExtensions(namedSourceCodeAspect).forEach(langAspect -> {
@@ -221,7 +221,7 @@ public class DependenciesPane extends BorderPane {
                 DependenciesFinderExtractor finder = new DependenciesFinderExtractor(logicalDecomposition);
                 List<ComponentDependency> finderDependencies = finder.findComponentDependencies(namedSourceCodeAspect);
 
-                Platform.runLater(() -> {
+                task.runLater(() -> {
                     showDependencyDiagram(allDependencies, finderDependencies, logicalDecomposition.getName(), componentNames);
                     table.setItems(items);
                 });
@@ -232,8 +232,8 @@ public class DependenciesPane extends BorderPane {
         }
     }
 
-    private ProgressFeedback getProgressFeedback(List<String> componentNames, ObservableList<Dependency> items) {
-        ProgressFeedback progressFeedbackInPane = progressFeedbackPane.getProgressFeedback();
+    private ProgressFeedback getProgressFeedback(List<String> componentNames, ObservableList<Dependency> items, BackgroundTaskRunner.Task task) {
+        ProgressFeedback progressFeedbackInPane = task.wrap(progressFeedbackPane.getProgressFeedback());
         DependencyProgressFeedback progressFeedback = new DependencyProgressFeedback() {
             private long lastUpdate = System.currentTimeMillis();
 
@@ -256,7 +256,7 @@ public class DependenciesPane extends BorderPane {
             public void progress(int currentValue, int endValue) {
                 if (System.currentTimeMillis() - lastUpdate > 100) {
                     lastUpdate = System.currentTimeMillis();
-                    Platform.runLater(() -> {
+                    task.runLater(() -> {
                         showDependencyDiagram(getCurrentDependencies(), new ArrayList<>(), logicalDecomposition.getName(), componentNames);
                         table.setItems(items);
                     });
@@ -4,7 +4,6 @@
 
 package nl.obren.sokrates.codeexplorer.duplication;
 
-import javafx.application.Platform;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
@@ -21,6 +20,7 @@ import nl.obren.sokrates.codeexplorer.codebrowser.TableViewUtils;
 import nl.obren.sokrates.codeexplorer.preview.SimpleCodePreviewView;
 import nl.obren.sokrates.common.utils.FormattingUtils;
 import nl.obren.sokrates.common.utils.ProgressFeedback;
+import nl.obren.sokrates.codeexplorer.common.BackgroundTaskRunner;
 import nl.obren.sokrates.codeexplorer.common.ProgressFeedbackPane;
 import nl.obren.sokrates.sourcecode.SourceFile;
 import nl.obren.sokrates.sourcecode.duplication.DuplicatedFileBlock;
@@ -29,7 +29,6 @@ import nl.obren.sokrates.sourcecode.duplication.DuplicationInstance;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.Executors;
 
 public class DuplicatesPane extends BorderPane {
     private static Stage stage;
@@ -42,6 +41,7 @@ public class DuplicatesPane extends BorderPane {
     private TableView<DuplicationInstance> table = new TableView<>();
     private BorderPane topPane = new BorderPane();
     private ProgressFeedbackPane progressFeedbackPane = new ProgressFeedbackPane();
+    private final BackgroundTaskRunner backgroundTasks = new BackgroundTaskRunner();
     private DuplicationInstance selection;
 
     private DuplicatesPane() {
@@ -197,18 +197,21 @@ public class DuplicatesPane extends BorderPane {
 
     private void loadDuplicates(List<SourceFile> sourceFiles) {
         if (sourceFiles != null) {
-            Executors.newCachedThreadPool().execute(() -> {
-                ProgressFeedback progressFeedback = progressFeedbackPane.getProgressFeedback();
+            backgroundTasks.run(task -> {
+                ProgressFeedback progressFeedback = task.wrap(progressFeedbackPane.getProgressFeedback());
                 progressFeedback.start();
                 DuplicationEngine duplicationEngine = new DuplicationEngine();
                 //DuplicationEngine duplicationEngine = new DuplicationEngine();
                 List<DuplicationInstance> duplicates = duplicationEngine.findDuplicates(sourceFiles, 6, progressFeedback);
                 int duplicatedLinesOfCode = duplicationEngine.getNumberOfDuplicatedLines();
                 int totalCleanedLinesOfCode = duplicationEngine.getTotalCleanedLinesOfCode();
-                Platform.runLater(() -> setTop(getPieChart(duplicatedLinesOfCode, totalCleanedLinesOfCode)));
+                if (task.isCanceled()) {
+                    return;
+                }
+                task.runLater(() -> setTop(getPieChart(duplicatedLinesOfCode, totalCleanedLinesOfCode)));
                 ObservableList<DuplicationInstance> items = FXCollections.observableArrayList();
                 duplicates.forEach(items::add);
-                Platform.runLater(() -> {
+                task.runLater(() -> {
                     table.setItems(items);
                 });
                 progressFeedback.end();
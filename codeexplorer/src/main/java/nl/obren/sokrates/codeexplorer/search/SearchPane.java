@@ -17,6 +17,7 @@ import nl.obren.sokrates.codeexplorer.codebrowser.CodeBrowserPane;
 import nl.obren.sokrates.codeexplorer.common.SvgIcons;
 import nl.obren.sokrates.codeexplorer.common.UXUtils;
 import nl.obren.sokrates.common.utils.ProgressFeedback;
+import nl.obren.sokrates.codeexplorer.common.BackgroundTaskRunner;
 import nl.obren.sokrates.codeexplorer.common.ProgressFeedbackPane;
 import nl.obren.sokrates.sourcecode.SearcheableFilesCache;
 import nl.obren.sokrates.sourcecode.SourceFileFilter;
@@ -26,12 +27,12 @@ import nl.obren.sokrates.sourcecode.search.SearchExpression;
 import nl.obren.sokrates.sourcecode.search.SearchRequest;
 import nl.obren.sokrates.sourcecode.search.SearchResult;
 
-import java.util.concurrent.Executors;
 
 
 public class SearchPane extends BorderPane {
     private final Button moreButton;
     private final ProgressFeedbackPane progressFeedbackPane;
+    private final BackgroundTaskRunner backgroundTasks = new BackgroundTaskRunner();
     private TextField pathFilterField = new TextField();
     private TextField contentFilterField = new TextField();
     private GridPane gridPane = new GridPane();
@@ -142,9 +143,9 @@ public class SearchPane extends BorderPane {
     public void search(SearchRequest searchRequest, ProgressFeedback progressFeedback) {
         if (searcheableFilesCache != null) {
             setBottom(progressFeedbackPane);
-            Executors.newCachedThreadPool().execute(() -> {
-                ObservableList<SourceFileWithSearchData> cachedFiles = getCachedFiles(searchRequest, progressFeedback);
-                Platform.runLater(() -> {
+            backgroundTasks.run(task -> {
+                ObservableList<SourceFileWithSearchData> cachedFiles = getCachedFiles(searchRequest, task.wrap(progressFeedback));
+                task.runLater(() -> {
                     codeBrowserPane.getAspectFilesBrowserPane().setItems(aspect.getName(), searcheableFilesCache.getSourceFiles(), searchResult, cachedFiles);
                     setBottom(new SearchSummaryPane(codeBrowserPane, aspect, cachedFiles));
                 });
@@ -4,7 +4,6 @@
 
 package nl.obren.sokrates.codeexplorer.units;
 
-import javafx.application.Platform;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
@@ -18,6 +17,7 @@ import javafx.scene.layout.BorderPane;
 import javafx.stage.Stage;
 import nl.obren.sokrates.codeexplorer.charts.ChartUtils;
 import nl.obren.sokrates.codeexplorer.codebrowser.TableViewUtils;
+import nl.obren.sokrates.codeexplorer.common.BackgroundTaskRunner;
 import nl.obren.sokrates.codeexplorer.common.NumericBarCellFactory;
 import nl.obren.sokrates.codeexplorer.common.ProgressFeedbackPane;
 import nl.obren.sokrates.common.renderingutils.Threshold;
@@ -36,7 +36,6 @@ import org.apache.commons.lang3.math.NumberUtils;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.Executors;
 
 public class UnitsPane extends BorderPane {
     private static Stage stage;
@@ -45,6 +44,7 @@ public class UnitsPane extends BorderPane {
     private TableView<UnitInfo> table = new TableView<>();
     private BorderPane topPane = new BorderPane();
     private ProgressFeedbackPane progressFeedbackPane = new ProgressFeedbackPane();
+    private final BackgroundTaskRunner backgroundTasks = new BackgroundTaskRunner();
     private Number maxLinesOfCode = 0;
     private Number maxMcCabe = 0;
     private Number maxNumberOfParameters = 0;
@@ -214,16 +214,20 @@ public class UnitsPane extends BorderPane {
 
     private void loadUnits(List<SourceFile> sourceFiles) {
         if (sourceFiles != null) {
-            Executors.newCachedThreadPool().execute(() -> {
-                ProgressFeedback progressFeedback = progressFeedbackPane.getProgressFeedback();
+            backgroundTasks.run(task -> {
+                ProgressFeedback progressFeedback = task.wrap(progressFeedbackPane.getProgressFeedback());
                 progressFeedback.start();
 
-                units = new UnitsExtractor().getUnits(sourceFiles, progressFeedback);
-                Platform.runLater(() -> updateCharts(units));
-                calculateMaxValues(units);
+                List<UnitInfo> extractedUnits = new UnitsExtractor().getUnits(sourceFiles, progressFeedback);
+                if (task.isCanceled()) {
+                    return;
+                }
+                units = extractedUnits;
+                task.runLater(() -> updateCharts(extractedUnits));
+                calculateMaxValues(extractedUnits);
 
-                ObservableList<UnitInfo> items = FXCollections.observableArrayList(units);
-                Platform.runLater(() -> {
+                ObservableList<UnitInfo> items = FXCollections.observableArrayList(extractedUnits);
+                task.runLater(() -> {
                     table.setItems(items);
                     TableColumn locColumn = table.getColumns().get(2);
                     table.getSortOrder().add(locColumn);
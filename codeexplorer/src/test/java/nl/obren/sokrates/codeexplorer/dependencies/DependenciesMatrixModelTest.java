@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.codeexplorer.dependencies;
+
+import nl.obren.sokrates.sourcecode.dependencies.ComponentDependency;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+
+public class DependenciesMatrixModelTest {
+    private static ComponentDependency dependency(String from, String to, int count) {
+        ComponentDependency dependency = new ComponentDependency(from, to);
+        dependency.setCount(count);
+        return dependency;
+    }
+
+    @Test
+    public void rowsColumnsAndCells() throws Exception {
+        DependenciesMatrixModel model = new DependenciesMatrixModel(Arrays.asList(
+                dependency("A", "X", 1),
+                dependency("B", "Y", 5),
+                dependency("C", "X", 2),
+                dependency("A", "Y", 3)));
+
+        assertEquals(Arrays.asList("Y", "X"), model.getRows());
+        assertEquals(Arrays.asList("A", "B", "C"), model.getColumns());
+        assertEquals(5, model.getMaxCount());
+
+        assertEquals(3, model.getCount(0, 0));
+        assertEquals(5, model.getCount(0, 1));
+        assertEquals(0, model.getCount(0, 2));
+        assertEquals(1, model.getCount(1, 0));
+        assertEquals(0, model.getCount(1, 1));
+        assertEquals(2, model.getCount(1, 2));
+
+        assertEquals(2, model.cellsCount(1));
+        assertEquals(1, model.firstCellIndex(1, 1));
+        assertEquals(2, model.cellColumn(1, model.firstCellIndex(1, 1)));
+        assertEquals(2, model.cellCount(1, 1));
+    }
+}
@@ -6,13 +6,45 @@ package nl.obren.sokrates.common.io;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 
 public class JsonGenerator {
+    // object mappers and writers are thread-safe once configured, and expensive to create
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .disable(com.fasterxml.jackson.core.JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    private static final ObjectWriter PRETTY_WRITER = OBJECT_MAPPER.writerWithDefaultPrettyPrinter();
+    private static final ObjectWriter COMPACT_WRITER = OBJECT_MAPPER.writer();
+
     public String generate(Object data) throws JsonProcessingException {
-        return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(data);
+        return PRETTY_WRITER.writeValueAsString(data);
     }
 
     public String generateCompressed(Object data) throws JsonProcessingException {
-        return new ObjectMapper().writer().writeValueAsString(data);
+        return COMPACT_WRITER.writeValueAsString(data);
+    }
+
+    // streams the JSON to the output, without building it in memory; the output is flushed but not closed
+    public void generate(Object data, OutputStream out, boolean compact) throws IOException {
+        (compact ? COMPACT_WRITER : PRETTY_WRITER).writeValue(out, data);
+    }
+
+    public void generate(Object data, File file) throws IOException {
+        generate(data, file, false);
+    }
+
+    public void generate(Object data, File file, boolean compact) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file), 64 * 1024)) {
+            generate(data, out, compact);
+        }
     }
 }
@@ -14,9 +14,16 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
 
 public class JsonMapper {
     private static final Log LOG = LogFactory.getLog(JsonMapper.class);
+    private static final ObjectMapper LENIENT_OBJECT_MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .configure(DeserializationFeature.FAIL_ON_INVALID_SUBTYPE, false)
+            .configure(DeserializationFeature.FAIL_ON_UNRESOLVED_OBJECT_IDS, false)
+            .configure(DeserializationFeature.FAIL_ON_MISSING_EXTERNAL_TYPE_ID_PROPERTY, false);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
     public Object getObject(String json, Class clazz) throws IOException {
         try {
@@ -32,11 +39,23 @@ public class JsonMapper {
         }
     }
 
+    // binds the JSON while reading it, without first loading it as a string
+    public Object getObject(InputStream in, Class clazz) throws IOException {
+        try {
+            return getObjectMapper().readValue(in, clazz);
+        } catch (JsonParseException e) {
+            throw new IllegalArgumentException(getMessage(e.getMessage(), e.getLocation()));
+        } catch (JsonMappingException e) {
+            LOG.error(e);
+            throw new IllegalArgumentException(getMessage(e.getMessage(), e.getLocation()));
+        }
+    }
+
     public static <T> T getObject(final String json, final TypeReference<T> type) {
         T data = null;
 
         try {
-            data = new ObjectMapper().readValue(json, type);
+            data = OBJECT_MAPPER.readValue(json, type);
         } catch (Exception e) {
             LOG.error(e);
         }
@@ -44,13 +63,7 @@ public class JsonMapper {
     }
 
     private ObjectMapper getObjectMapper() {
-        ObjectMapper mapper = new ObjectMapper()
-                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
-                .configure(DeserializationFeature.FAIL_ON_INVALID_SUBTYPE, false)
-                .configure(DeserializationFeature.FAIL_ON_UNRESOLVED_OBJECT_IDS, false)
-                .configure(DeserializationFeature.FAIL_ON_MISSING_EXTERNAL_TYPE_ID_PROPERTY, false);
-
-        return mapper;
+        return LENIENT_OBJECT_MAPPER;
     }
 
     protected String getMessage(String message, JsonLocation jsonLocation) {
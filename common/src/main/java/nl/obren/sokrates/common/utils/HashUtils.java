@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.common.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+public class HashUtils {
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    public static String sha256Hex(String content) {
+        return sha256Hex(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String sha256Hex(byte[] content) {
+        MessageDigest digest = getSha256Digest();
+        return toHex(digest.digest(content));
+    }
+
+    public static String sha256Hex(File file) throws IOException {
+        MessageDigest digest = getSha256Digest();
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    public static String shortHash(byte[] content) {
+        return sha256Hex(content).substring(0, 12);
+    }
+
+    public static String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int value = bytes[i] & 0xFF;
+            chars[i * 2] = HEX_DIGITS[value >>> 4];
+            chars[i * 2 + 1] = HEX_DIGITS[value & 0x0F];
+        }
+        return new String(chars);
+    }
+
+    private static MessageDigest getSha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package nl.obren.sokrates.common.utils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * One running execution of a processing step. CPU time and allocations are measured for the thread
+ * that started the step, so they are only recorded when the step ends on the same thread.
+ */
+class ProcessingInvocation {
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+    private static final boolean CPU_TIME_SUPPORTED = enableCpuTime();
+    private static final boolean ALLOCATIONS_SUPPORTED = enableAllocatedMemory();
+
+    private final ProcessingTimes times;
+    private final Thread thread;
+    private final long startNanos;
+    private final long startCpuTimeNanos;
+    private final long startAllocatedBytes;
+    private volatile long peakHeapBytes;
+
+    ProcessingInvocation(ProcessingTimes times) {
+        this.times = times;
+        this.thread = Thread.currentThread();
+        this.startCpuTimeNanos = getCurrentThreadCpuTime();
+        this.startAllocatedBytes = getCurrentThreadAllocatedBytes();
+        this.peakHeapBytes = getUsedHeapBytes();
+        this.startNanos = System.nanoTime();
+        times.started();
+    }
+
+    static long getUsedHeapBytes() {
+        return MEMORY.getHeapMemoryUsage().getUsed();
+    }
+
+    Thread getThread() {
+        return thread;
+    }
+
+    ProcessingTimes getTimes() {
+        return times;
+    }
+
+    void sampleHeap(long usedHeapBytes) {
+        if (usedHeapBytes > peakHeapBytes) {
+            peakHeapBytes = usedHeapBytes;
+        }
+    }
+
+    void end() {
+        long wallTimeNanos = System.nanoTime() - startNanos;
+        sampleHeap(getUsedHeapBytes());
+        boolean sameThread = thread == Thread.currentThread();
+        long cpuTimeNanos = sameThread && startCpuTimeNanos >= 0 ? getCurrentThreadCpuTime() - startCpuTimeNanos : 0;
+        long allocatedBytes = sameThread && startAllocatedBytes >= 0 ? getCurrentThreadAllocatedBytes() - startAllocatedBytes : 0;
+        times.add(wallTimeNanos, cpuTimeNanos, allocatedBytes, peakHeapBytes);
+    }
+
+    private static long getCurrentThreadCpuTime() {
+        return CPU_TIME_SUPPORTED ? THREADS.getCurrentThreadCpuTime() : -1;
+    }
+
+    private static long getCurrentThreadAllocatedBytes() {
+        if (ALLOCATIONS_SUPPORTED) {
+            return ((com.sun.management.ThreadMXBean) THREADS).getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    private static boolean enableCpuTime() {
+        try {
+            if (THREADS.isCurrentThreadCpuTimeSupported()) {
+                THREADS.setThreadCpuTimeEnabled(true);
+                return true;
+            }
+        } catch (UnsupportedOperationException | SecurityException e) {
+            // measured only when available
+        }
+        return false;
+    }
+
+    private static boolean enableAllocatedMemory() {
+        try {
+            if (THREADS instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) THREADS;
+                if (threads.isThreadAllocatedMemorySupported()) {
+                    threads.setThreadAllocatedMemoryEnabled(true);
+                    return true;
+                }
+            }
+        } catch (UnsupportedOperationException | SecurityException e) {
+            // measured only when available
+        }
+        return false;
+    }
+}
@@ -0,0 +1,120 @@
+package nl.obren.sokrates.common.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A processing step in the hierarchy built from the "/" separated step names (e.g. "analysis/units").
+ * Steps that were never measured themselves, only their sub-steps, have no invocations.
+ */
+public class ProcessingProfileNode {
+    private String name = "";
+    private String path = "";
+    private int invocationsCount;
+    private boolean running;
+    private long wallTimeMs;
+    private long cpuTimeMs;
+    private long allocatedBytes;
+    private long peakHeapBytes;
+    private List<ProcessingProfileNode> children = new ArrayList<>();
+
+    public ProcessingProfileNode() {
+    }
+
+    public ProcessingProfileNode(String name, String path) {
+        this.name = name;
+        this.path = path;
+    }
+
+    void setTimes(ProcessingTimes times) {
+        this.invocationsCount = times.getInvocationsCount();
+        this.running = times.isRunning();
+        this.wallTimeMs = times.getDurationMs();
+        this.cpuTimeMs = times.getCpuTimeMs();
+        this.allocatedBytes = times.getAllocatedBytes();
+        this.peakHeapBytes = times.getPeakHeapBytes();
+    }
+
+    ProcessingProfileNode getOrAddChild(String name, String path) {
+        for (ProcessingProfileNode child : children) {
+            if (child.name.equals(name)) {
+                return child;
+            }
+        }
+        ProcessingProfileNode child = new ProcessingProfileNode(name, path);
+        children.add(child);
+        return child;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public int getInvocationsCount() {
+        return invocationsCount;
+    }
+
+    public void setInvocationsCount(int invocationsCount) {
+        this.invocationsCount = invocationsCount;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public void setRunning(boolean running) {
+        this.running = running;
+    }
+
+    public long getWallTimeMs() {
+        return wallTimeMs;
+    }
+
+    public void setWallTimeMs(long wallTimeMs) {
+        this.wallTimeMs = wallTimeMs;
+    }
+
+    public long getCpuTimeMs() {
+        return cpuTimeMs;
+    }
+
+    public void setCpuTimeMs(long cpuTimeMs) {
+        this.cpuTimeMs = cpuTimeMs;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public void setAllocatedBytes(long allocatedBytes) {
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    public long getPeakHeapBytes() {
+        return peakHeapBytes;
+    }
+
+    public void setPeakHeapBytes(long peakHeapBytes) {
+        this.peakHeapBytes = peakHeapBytes;
+    }
+
+    public List<ProcessingProfileNode> getChildren() {
+        return children;
+    }
+
+    public void setChildren(List<ProcessingProfileNode> children) {
+        this.children = children;
+    }
+}
@@ -1,21 +1,44 @@
 package nl.obren.sokrates.common.utils;
 
+import nl.obren.sokrates.common.io.JsonGenerator;
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Measures processing steps, named as paths (e.g. "analysis/units"), so they form a hierarchy.
+ * For each step it records the wall time, the CPU time and the allocated bytes of the measuring thread,
+ * and the peak heap usage while the step was running. It can be used from several threads at the same time.
+ */
 public class ProcessingStopwatch {
     private static final Log LOG = LogFactory.getLog(ProcessingStopwatch.class);
 
     public static final String EVERYTHING = "everything";
+    public static final String PROFILE_JSON_FILE_NAME = "executionProfile.json";
+    public static final String PROFILE_PROMETHEUS_FILE_NAME = "executionProfile.prom";
+
+    // the heap usage is sampled while steps are running, to find their peaks
+    private static final long HEAP_SAMPLING_INTERVAL_MS = 100;
 
-    private static List<ProcessingTimes> monitors = new ArrayList<>();
-    private static Map<String, ProcessingTimes> monitorsMap = new HashMap<>();
-    private static ProcessingTimes referenceTimes = null;
+    private static final List<ProcessingTimes> monitors = new CopyOnWriteArrayList<>();
+    private static final Map<String, ProcessingTimes> monitorsMap = new ConcurrentHashMap<>();
+    private static final Map<String, Deque<ProcessingInvocation>> runningInvocations = new ConcurrentHashMap<>();
+    private static volatile ProcessingTimes referenceTimes = null;
+    private static volatile Thread heapSampler = null;
 
     public static void startAsReference(String processingName) {
         ProcessingTimes times = start(processingName);
@@ -23,10 +46,7 @@ public class ProcessingStopwatch {
     }
 
     public static ProcessingTimes start(String processingName) {
-        ProcessingTimes times = new ProcessingTimes(processingName);
-
-        monitors.add(times);
-        monitorsMap.put(processingName, times);
+        ProcessingTimes times = startQuietly(processingName);
 
         if (!processingName.equalsIgnoreCase(EVERYTHING)) {
             LOG.info("Starting " + processingName);
@@ -36,28 +56,47 @@ public class ProcessingStopwatch {
     }
 
     public static void end(String processingName) {
-        if (monitorsMap.containsKey(processingName)) {
-            ProcessingTimes times = monitorsMap.get(processingName);
-            times.end();
+        ProcessingInvocation invocation = endQuietly(processingName);
+        if (invocation != null) {
             if (!processingName.equalsIgnoreCase(EVERYTHING)) {
-                LOG.info("Done '" + times.getProcessing() + "' in " + times.getDurationMs() + "ms");
+                LOG.info("Done '" + processingName + "' in " + invocation.getTimes().getDurationMs() + "ms");
             }
         } else {
             LOG.error("No processing with the name '" + processingName + "'");
         }
     }
 
+    // for fine-grained steps executed many times (e.g. per file), measured without logging
+    public static <T> T measure(String processingName, Supplier<T> processing) {
+        startQuietly(processingName);
+        try {
+            return processing.get();
+        } finally {
+            endQuietly(processingName);
+        }
+    }
+
     public static List<ProcessingTimes> getMonitors() {
-        return monitors;
+        return new ArrayList<>(monitors);
+    }
+
+    public static void reset() {
+        monitors.clear();
+        monitorsMap.clear();
+        runningInvocations.clear();
+        referenceTimes = null;
     }
 
     public static void print() {
         LOG.info("Processing times summary:");
         monitors.forEach(monitor -> {
             long duration = monitor.getDurationMs();
-            if (duration >= 0) {
+            if (!monitor.isRunning() || monitor.getInvocationsCount() > 0) {
                 String percentageString = getPercentage(duration);
-                LOG.info("Executed '" + monitor.getProcessing() + "' in " + duration + "ms " + percentageString);
+                LOG.info("Executed '" + monitor.getProcessing() + "' in " + duration + "ms " + percentageString
+                        + " (cpu " + monitor.getCpuTimeMs() + "ms, allocated " + FormattingUtils.formatCount((int) (monitor.getAllocatedBytes() / (1024 * 1024))) + "MB"
+                        + ", peak heap " + FormattingUtils.formatCount((int) (monitor.getPeakHeapBytes() / (1024 * 1024))) + "MB"
+                        + (monitor.getInvocationsCount() > 1 ? ", " + monitor.getInvocationsCount() + " times" : "") + ")");
             } else {
                 LOG.info("Executing '" + monitor.getProcessing() + "' not finished");
             }
@@ -67,12 +106,123 @@ public class ProcessingStopwatch {
     public static String getPercentage(long duration) {
         String percentageString = "";
         if (duration >= 0) {
-            if (referenceTimes != null && referenceTimes.getDurationMs() > 0) {
-                percentageString = "(" + FormattingUtils.getFormattedPercentage(100.0 * duration / referenceTimes.getDurationMs(), "<1") + "%)";
+            ProcessingTimes reference = referenceTimes;
+            if (reference != null && reference.getDurationMs() > 0) {
+                percentageString = "(" + FormattingUtils.getFormattedPercentage(100.0 * duration / reference.getDurationMs(), "<1") + "%)";
             }
         }
 
         return percentageString;
     }
-}
 
+    public static ProcessingProfileNode getProfile() {
+        ProcessingProfileNode root = new ProcessingProfileNode();
+        monitors.forEach(monitor -> {
+            ProcessingProfileNode node = root;
+            StringBuilder path = new StringBuilder();
+            for (String name : monitor.getProcessing().split("/")) {
+                path.append(path.length() > 0 ? "/" : "").append(name);
+                node = node.getOrAddChild(name, path.toString());
+            }
+            node.setTimes(monitor);
+        });
+        return root;
+    }
+
+    public static String getPrometheusText() {
+        StringBuilder text = new StringBuilder();
+        appendPrometheusMetric(text, "sokrates_processing_invocations", "Number of executions of the processing step.",
+                monitor -> String.valueOf(monitor.getInvocationsCount()));
+        appendPrometheusMetric(text, "sokrates_processing_wall_seconds", "Total wall time of the processing step.",
+                monitor -> String.valueOf(monitor.getDurationMs() / 1000.0));
+        appendPrometheusMetric(text, "sokrates_processing_cpu_seconds", "Total CPU time of the processing step.",
+                monitor -> String.valueOf(monitor.getCpuTimeMs() / 1000.0));
+        appendPrometheusMetric(text, "sokrates_processing_allocated_bytes", "Total bytes allocated by the processing step.",
+                monitor -> String.valueOf(monitor.getAllocatedBytes()));
+        appendPrometheusMetric(text, "sokrates_processing_peak_heap_bytes", "Peak used heap while the processing step was running.",
+                monitor -> String.valueOf(monitor.getPeakHeapBytes()));
+        return text.toString();
+    }
+
+    // saves the profile as JSON and as Prometheus text exposition format
+    public static void exportProfile(File folder) {
+        folder.mkdirs();
+        try {
+            new JsonGenerator().generate(getProfile().getChildren(), new File(folder, PROFILE_JSON_FILE_NAME));
+            FileUtils.write(new File(folder, PROFILE_PROMETHEUS_FILE_NAME), getPrometheusText(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            LOG.error(e);
+        }
+    }
+
+    private static ProcessingTimes startQuietly(String processingName) {
+        ProcessingTimes times = monitorsMap.computeIfAbsent(processingName, name -> {
+            ProcessingTimes newTimes = new ProcessingTimes(name);
+            monitors.add(newTimes);
+            return newTimes;
+        });
+
+        if (heapSampler == null) {
+            startHeapSampler();
+        }
+        runningInvocations.computeIfAbsent(processingName, name -> new ConcurrentLinkedDeque<>()).push(new ProcessingInvocation(times));
+
+        return times;
+    }
+
+    // ends the latest invocation started by the current thread, or by any thread if there is none
+    private static ProcessingInvocation endQuietly(String processingName) {
+        Deque<ProcessingInvocation> invocations = runningInvocations.get(processingName);
+        if (invocations == null) {
+            return null;
+        }
+        ProcessingInvocation invocation = null;
+        Iterator<ProcessingInvocation> iterator = invocations.iterator();
+        while (iterator.hasNext()) {
+            ProcessingInvocation candidate = iterator.next();
+            if (candidate.getThread() == Thread.currentThread() && invocations.removeFirstOccurrence(candidate)) {
+                invocation = candidate;
+                break;
+            }
+        }
+        if (invocation == null) {
+            invocation = invocations.pollFirst();
+        }
+        if (invocation != null) {
+            invocation.end();
+        }
+        return invocation;
+    }
+
+    private static synchronized void startHeapSampler() {
+        if (heapSampler != null) {
+            return;
+        }
+        heapSampler = new Thread(() -> {
+            while (true) {
+                try {
+                    Thread.sleep(HEAP_SAMPLING_INTERVAL_MS);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                long usedHeapBytes = ProcessingInvocation.getUsedHeapBytes();
+                runningInvocations.values().forEach(invocations -> invocations.forEach(invocation -> invocation.sampleHeap(usedHeapBytes)));
+            }
+        }, "processing-stopwatch-heap-sampler");
+        heapSampler.setDaemon(true);
+        heapSampler.start();
+    }
+
+    private static void appendPrometheusMetric(StringBuilder text, String metric, String help, Function<ProcessingTimes, String> value) {
+        text.append("# HELP ").append(metric).append(" ").append(help).append("\n");
+        text.append("# TYPE ").append(metric).append(" gauge\n");
+        monitors.forEach(monitor -> {
+            text.append(metric).append("{step=\"").append(escapeLabelValue(monitor.getProcessing())).append("\"} ");
+            text.append(value.apply(monitor)).append("\n");
+        });
+    }
+
+    private static String escapeLabelValue(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -1,26 +1,57 @@
 package nl.obren.sokrates.common.utils;
 
+/**
+ * Totals of all invocations of one processing step. A step may be executed several times, also concurrently
+ * (e.g. per repository or per language), so the durations are sums and may be longer than the elapsed time.
+ */
 public class ProcessingTimes {
     private String processing = "";
     private long startMs;
     private long endMs;
+    private int invocationsCount;
+    private int runningCount;
+    private long wallTimeNanos;
+    private long cpuTimeNanos;
+    private long allocatedBytes;
+    private long peakHeapBytes;
 
     public ProcessingTimes(String processing) {
         this.processing = processing;
         this.start();
     }
 
-    public void start() {
+    public synchronized void start() {
         this.startMs = System.currentTimeMillis();
         this.endMs = 0;
     }
 
-    public void end() {
+    public synchronized void end() {
         this.endMs = System.currentTimeMillis();
     }
 
-    public long getDurationMs() {
-        return endMs >= startMs ? endMs - startMs : System.currentTimeMillis() - startMs;
+    synchronized void started() {
+        runningCount++;
+    }
+
+    synchronized void add(long wallTimeNanos, long cpuTimeNanos, long allocatedBytes, long peakHeapBytes) {
+        this.runningCount = Math.max(0, runningCount - 1);
+        this.invocationsCount++;
+        this.wallTimeNanos += wallTimeNanos;
+        this.cpuTimeNanos += Math.max(0, cpuTimeNanos);
+        this.allocatedBytes += Math.max(0, allocatedBytes);
+        this.peakHeapBytes = Math.max(this.peakHeapBytes, peakHeapBytes);
+        this.endMs = System.currentTimeMillis();
+    }
+
+    public synchronized long getDurationMs() {
+        if (invocationsCount == 0) {
+            return endMs >= startMs ? endMs - startMs : System.currentTimeMillis() - startMs;
+        }
+        return wallTimeNanos / 1_000_000;
+    }
+
+    public synchronized boolean isRunning() {
+        return runningCount > 0;
     }
 
     public String getProcessing() {
@@ -31,19 +62,35 @@ public class ProcessingTimes {
         this.processing = processing;
     }
 
-    public long getStartMs() {
+    public synchronized long getStartMs() {
         return startMs;
     }
 
-    public void setStartMs(long startMs) {
+    public synchronized void setStartMs(long startMs) {
         this.startMs = startMs;
     }
 
-    public long getEndMs() {
+    public synchronized long getEndMs() {
         return endMs;
     }
 
-    public void setEndMs(long endMs) {
+    public synchronized void setEndMs(long endMs) {
         this.endMs = endMs;
     }
+
+    public synchronized int getInvocationsCount() {
+        return invocationsCount;
+    }
+
+    public synchronized long getCpuTimeMs() {
+        return cpuTimeNanos / 1_000_000;
+    }
+
+    public synchronized long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public synchronized long getPeakHeapBytes() {
+        return peakHeapBytes;
+    }
 }
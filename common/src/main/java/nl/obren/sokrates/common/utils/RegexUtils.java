@@ -9,9 +9,9 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -19,17 +19,21 @@ import java.util.regex.PatternSyntaxException;
 public class RegexUtils {
     public static final int MAX_TEXT_LENGTH = 1000;
     private static final Log LOG = LogFactory.getLog(RegexUtils.class);
-    private static Map<String, Pattern> compiledPatterns = new HashMap<>();
+    private static Map<String, Pattern> compiledPatterns = new ConcurrentHashMap<>();
+
+    // compiled once and shared between threads, throws PatternSyntaxException for invalid patterns
+    public static Pattern getPattern(String regex) {
+        Pattern pattern = compiledPatterns.get(regex);
+        if (pattern == null) {
+            pattern = Pattern.compile(regex);
+            compiledPatterns.put(regex, pattern);
+        }
+        return pattern;
+    }
+
     public static boolean matchesEntirely(String regexPattern, String content) {
         try {
-            String key = regexPattern + " ::->:: " + content;
-            Pattern pattern = compiledPatterns.get(regexPattern);
-            if (pattern == null) {
-                pattern = Pattern.compile(regexPattern);
-                compiledPatterns.put(regexPattern, pattern);
-            }
-            boolean matches = pattern.matcher(content).matches();
-            return matches;
+            return getPattern(regexPattern).matcher(content).matches();
         } catch (PatternSyntaxException e) {
             LOG.debug(e);
             return false;
@@ -43,7 +47,7 @@ public class RegexUtils {
     public static boolean matchesAnyPattern(String line, List<String> patterns) {
         for (String patternString : patterns) {
             try {
-                if (Pattern.compile(patternString).matcher(line).matches()) {
+                if (getPattern(patternString).matcher(line).matches()) {
                     return true;
                 }
             } catch (PatternSyntaxException e) {
@@ -55,8 +59,7 @@ public class RegexUtils {
 
     public static String getMatchedRegex(String text, String regex) {
         try {
-            Pattern soe = Pattern.compile(regex);
-            Matcher matcher = soe.matcher(StringUtils.left(text, MAX_TEXT_LENGTH));
+            Matcher matcher = getPattern(regex).matcher(StringUtils.left(text, MAX_TEXT_LENGTH));
 
             if (matcher.find()) {
                 int start = matcher.start();
@@ -6,7 +6,13 @@ package nl.obren.sokrates.common.io;
 
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 public class JsonGeneratorTest {
 
@@ -27,4 +33,36 @@ public class JsonGeneratorTest {
         String json = new JsonGenerator().generate(new A());
         assertEquals(json, "{" + System.lineSeparator() + "  \"a\" : \"a\"" + System.lineSeparator() + "}");
     }
+
+    public static class B {
+        private String b = "b";
+
+        public String getB() {
+            return b;
+        }
+
+        public void setB(String b) {
+            this.b = b;
+        }
+    }
+
+    @Test
+    public void testGenerateJsonToStream() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new JsonGenerator().generate(new B(), out, true);
+        out.write('\n');
+        new JsonGenerator().generate(new B(), out, false);
+
+        assertEquals("{\"b\":\"b\"}\n" + new JsonGenerator().generate(new B()), out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testGenerateJsonToFile() throws Exception {
+        File folder = Files.createTempDirectory("json").toFile();
+        File file = new File(new File(folder, "sub"), "b.json");
+        new JsonGenerator().generate(new B(), file);
+
+        assertTrue(file.exists());
+        assertEquals(new JsonGenerator().generate(new B()), Files.readString(file.toPath()));
+    }
 }
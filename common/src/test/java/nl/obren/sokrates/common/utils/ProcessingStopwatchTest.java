@@ -0,0 +1,91 @@
+package nl.obren.sokrates.common.utils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProcessingStopwatchTest {
+    @Before
+    public void setUp() {
+        ProcessingStopwatch.reset();
+    }
+
+    @After
+    public void tearDown() {
+        ProcessingStopwatch.reset();
+    }
+
+    @Test
+    public void profile() {
+        ProcessingStopwatch.start("analysis");
+        ProcessingStopwatch.start("analysis/units");
+        List<String> allocated = ProcessingStopwatch.measure("analysis/units/extracting/JavaAnalyzer", () -> {
+            List<String> strings = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                strings.add("unit" + i);
+            }
+            return strings;
+        });
+        ProcessingStopwatch.end("analysis/units");
+        ProcessingStopwatch.start("reporting/duplication");
+        ProcessingStopwatch.end("reporting/duplication");
+        ProcessingStopwatch.end("analysis");
+
+        assertEquals(1000, allocated.size());
+
+        ProcessingProfileNode root = ProcessingStopwatch.getProfile();
+        assertEquals(2, root.getChildren().size());
+        ProcessingProfileNode analysis = root.getChildren().get(0);
+        assertEquals("analysis", analysis.getPath());
+        assertEquals(1, analysis.getInvocationsCount());
+        ProcessingProfileNode extracting = analysis.getChildren().get(0).getChildren().get(0);
+        assertEquals("extracting", extracting.getName());
+        assertEquals(0, extracting.getInvocationsCount());
+        ProcessingProfileNode javaAnalyzer = extracting.getChildren().get(0);
+        assertEquals("analysis/units/extracting/JavaAnalyzer", javaAnalyzer.getPath());
+        assertEquals(1, javaAnalyzer.getInvocationsCount());
+        assertTrue(javaAnalyzer.getPeakHeapBytes() > 0);
+
+        ProcessingProfileNode reporting = root.getChildren().get(1);
+        assertEquals("reporting", reporting.getName());
+        assertEquals("duplication", reporting.getChildren().get(0).getName());
+    }
+
+    @Test
+    public void concurrentInvocations() throws InterruptedException {
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < 100; j++) {
+                    ProcessingStopwatch.measure("analysis/repository",
+                            () -> ProcessingStopwatch.measure("analysis/repository/file", () -> Boolean.TRUE));
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        List<ProcessingTimes> monitors = ProcessingStopwatch.getMonitors();
+        assertEquals(2, monitors.size());
+        assertEquals(800, monitors.get(0).getInvocationsCount());
+        assertEquals(800, monitors.get(1).getInvocationsCount());
+        assertFalse(monitors.get(0).isRunning());
+    }
+
+    @Test
+    public void prometheusText() {
+        ProcessingStopwatch.start("saving report/\"quoted\"");
+        ProcessingStopwatch.end("saving report/\"quoted\"");
+
+        String text = ProcessingStopwatch.getPrometheusText();
+        assertTrue(text.contains("# TYPE sokrates_processing_wall_seconds gauge\n"));
+        assertTrue(text.contains("sokrates_processing_invocations{step=\"saving report/\\\"quoted\\\"\"} 1\n"));
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.reports.core;
+
+import nl.obren.sokrates.common.utils.HashUtils;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps images, styles and scripts shared by all generated HTML pages.
+ * <p>
+ * In the shared mode each asset is written once to a common assets folder, under a content-hashed file name,
+ * and pages reference it with an URL relative to the page folder. This is the mode reports are generated in
+ * by default, as the inlineReportAssets analysis and landscape configuration flags are false by default.
+ * In the inline mode assets are embedded in each page as data URIs and inline style/script blocks. Pages
+ * are generated in the inline mode when the flag is set, or before {@link #configure(File, boolean)} is called.
+ */
+public class ReportAssets {
+    private static final Log LOG = LogFactory.getLog(ReportAssets.class);
+
+    public static final String ASSETS_FOLDER_NAME = "assets";
+    public static final String ASSETS_URL_PLACEHOLDER = "__SOKRATES_ASSETS_URL__";
+
+    private static volatile File assetsFolder = null;
+    private static final Map<String, String> assetUrls = new ConcurrentHashMap<>();
+    private static volatile String sharedHtmlHeader = null;
+
+    public static synchronized void useSharedAssets(File folder) {
+        assetsFolder = folder;
+        assetUrls.clear();
+        sharedHtmlHeader = null;
+        assetsFolder.mkdirs();
+    }
+
+    public static synchronized void useInlineAssets() {
+        assetsFolder = null;
+        assetUrls.clear();
+        sharedHtmlHeader = null;
+    }
+
+    public static void configure(File reportsFolder, boolean inline) {
+        if (inline) {
+            useInlineAssets();
+        } else {
+            useSharedAssets(new File(reportsFolder, ASSETS_FOLDER_NAME));
+        }
+    }
+
+    public static boolean isInline() {
+        return assetsFolder == null;
+    }
+
+    public static File getAssetsFolder() {
+        return assetsFolder;
+    }
+
+    public static String getHtmlHeader() {
+        if (isInline()) {
+            return ReportConstants.REPORTS_HTML_HEADER;
+        }
+        if (sharedHtmlHeader == null) {
+            String cssUrl = getAssetUrl("sokrates.css", ReportConstants.REPORTS_CSS.getBytes(StandardCharsets.UTF_8));
+            String jsUrl = getAssetUrl("sokrates.js", ReportConstants.REPORTS_JS.getBytes(StandardCharsets.UTF_8));
+            sharedHtmlHeader = ReportConstants.REPORTS_HTML_HEADER_START +
+                    "    <style type=\"text/css\" media=\"all\">\n" +
+                    ReportConstants.REPORTS_HTML_MARGINS_STYLE +
+                    "    </style>\n" +
+                    "    <link rel=\"stylesheet\" href=\"" + cssUrl + "\">\n" +
+                    ReportConstants.REPORTS_HTML_FONTS +
+                    "    <script type=\"text/javascript\" src=\"" + jsUrl + "\"></script>\n" +
+                    ReportConstants.REPORTS_HTML_HEADER_END;
+        }
+        return sharedHtmlHeader;
+    }
+
+    public static String getImageSrc(String key, String dataUri) {
+        if (isInline() || dataUri == null) {
+            return dataUri;
+        }
+        return assetUrls.computeIfAbsent(key, k -> {
+            String base64 = StringUtils.substringAfter(dataUri, ";base64,");
+            String extension = StringUtils.substringBetween(dataUri, "data:image/", ";");
+            byte[] content = Base64.getDecoder().decode(base64);
+            return writeAsset(k + "." + extension, content);
+        });
+    }
+
+    public static String getAssetUrl(String fileName, byte[] content) {
+        if (isInline()) {
+            return null;
+        }
+        return assetUrls.computeIfAbsent(fileName, k -> writeAsset(fileName, content));
+    }
+
+    public static String resolveUrls(String html, String relativeAssetsUrl) {
+        if (html == null || isInline()) {
+            return html;
+        }
+        return StringUtils.replace(html, ASSETS_URL_PLACEHOLDER, relativeAssetsUrl);
+    }
+
+    public static String getRelativeAssetsUrl(File pageFolder) {
+        if (isInline()) {
+            return "";
+        }
+        String path = pageFolder.getAbsoluteFile().toPath().normalize()
+                .relativize(assetsFolder.getAbsoluteFile().toPath().normalize()).toString();
+        path = path.replace('\\', '/');
+        return path.isEmpty() ? "." : path;
+    }
+
+    private static String writeAsset(String fileName, byte[] content) {
+        String hashedFileName = FilenameUtils.getBaseName(fileName) + "." + HashUtils.shortHash(content)
+                + "." + FilenameUtils.getExtension(fileName);
+        File assetFile = new File(assetsFolder, hashedFileName);
+        if (!assetFile.exists()) {
+            try {
+                FileUtils.writeByteArrayToFile(assetFile, content);
+            } catch (IOException e) {
+                LOG.error(e);
+            }
+        }
+        return ASSETS_URL_PLACEHOLDER + "/" + hashedFileName;
+    }
+}
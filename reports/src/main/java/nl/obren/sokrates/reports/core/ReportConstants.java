@@ -83,16 +83,8 @@ public class ReportConstants {
             "  border-top: none;\n" +
             "}";
 
-    public final static String REPORTS_HTML_HEADER = "<!DOCTYPE html>\n" +
-            "<html lang=\"en\">\n" +
-            "<head>\n" +
-            "    <meta charset=\"utf-8\">\n" +
-            "    <title></title>\n" +
-            "    <style type=\"text/css\" media=\"all\">\n" +
-            "        body {\n" +
+    public final static String REPORTS_CSS = "        body {\n" +
             "            font-family: Roboto, Vollkorn, Ubuntu, Optima, Segoe, Segoe UI, Candara, Calibri, Arial, sans-serif;\n" +
-            "            margin-left: ${margin-left};\n" +
-            "            margin-right: ${margin-right};\n" +
             "        }\n" +
             "\n" +
             "        table {\n" +
@@ -198,12 +190,9 @@ public class ReportConstants {
             "        .sectionBody {\n" +
             "            margin: 20px;\n" +
             "        }" +
-            "\n\n" + TAB_STYLE + "\n\n" +
-            "    </style>\n" +
-            "    <link rel=\"stylesheet\" href=\"https://fonts.googleapis.com/css?family=Ubuntu\">\n" +
-            "    <link rel=\"stylesheet\" href=\"https://fonts.googleapis.com/css?family=Lato\">\n" +
-            "    <script type=\"text/javascript\">\n" +
-            "        function showHide(id) {\n" +
+            "\n\n" + TAB_STYLE + "\n\n";
+
+    public final static String REPORTS_JS = "        function showHide(id) {\n" +
             "            var e = document.getElementById(id);\n" +
             "            e.style.display = (e.style.display == 'block') ? 'none' : 'block';\n" +
             "        }\n" +
@@ -225,8 +214,34 @@ public class ReportConstants {
             "          }\n" +
             "          document.getElementById(tabName).style.display = \"block\";\n" +
             "          evt.currentTarget.className += \" active\";\n" +
+            "        }\n";
+
+    public final static String REPORTS_HTML_HEADER_START = "<!DOCTYPE html>\n" +
+            "<html lang=\"en\">\n" +
+            "<head>\n" +
+            "    <meta charset=\"utf-8\">\n" +
+            "    <title></title>\n";
+
+    public final static String REPORTS_HTML_MARGINS_STYLE = "        body {\n" +
+            "            margin-left: ${margin-left};\n" +
+            "            margin-right: ${margin-right};\n" +
             "        }\n" +
-            "    </script>\n" +
-            "    <!-- CUSTOM HEADER FRAGMENT -->\n" +
+            "\n";
+
+    public final static String REPORTS_HTML_FONTS = "    <link rel=\"stylesheet\" href=\"https://fonts.googleapis.com/css?family=Ubuntu\">\n" +
+            "    <link rel=\"stylesheet\" href=\"https://fonts.googleapis.com/css?family=Lato\">\n";
+
+    public final static String REPORTS_HTML_HEADER_END = "    <!-- CUSTOM HEADER FRAGMENT -->\n" +
             "</head>\n";
+
+    public final static String REPORTS_HTML_HEADER = REPORTS_HTML_HEADER_START +
+            "    <style type=\"text/css\" media=\"all\">\n" +
+            REPORTS_HTML_MARGINS_STYLE +
+            REPORTS_CSS +
+            "    </style>\n" +
+            REPORTS_HTML_FONTS +
+            "    <script type=\"text/javascript\">\n" +
+            REPORTS_JS +
+            "    </script>\n" +
+            REPORTS_HTML_HEADER_END;
 }
@@ -41,7 +41,8 @@ public class ReportFileExporter {
 
     public static void exportHtml(File folder, String subFolder, RichTextReport report, String customHeaderFragment) {
         htmlReportsSubFolder = subFolder;
-        File htmlReportsFolder = getHtmlReportsFolder(folder);
+        File htmlReportsFolder = new File(folder, subFolder);
+        htmlReportsFolder.mkdirs();
         String reportFileName = getReportFileName(report);
         export(htmlReportsFolder, report, reportFileName, customHeaderFragment);
     }
@@ -51,7 +52,8 @@ public class ReportFileExporter {
         try {
             PrintWriter out = new PrintWriter(reportFile);
             String titleText = extractTitle(report.getDisplayName());
-            String reportsHtmlHeader = ReportConstants.REPORTS_HTML_HEADER.replace(
+            String assetsUrl = ReportAssets.getRelativeAssetsUrl(folder);
+            String reportsHtmlHeader = ReportAssets.getHtmlHeader().replace(
                     "<title></title>",
                     "<title>" + titleText + "</title>"
             );
@@ -63,9 +65,9 @@ public class ReportFileExporter {
                 reportsHtmlHeader = reportsHtmlHeader.replace(" ${margin-left}", "5%");
                 reportsHtmlHeader = reportsHtmlHeader.replace(" ${margin-right}", "5%");
             }
-            reportsHtmlHeader = minimize(reportsHtmlHeader);
+            reportsHtmlHeader = minimize(ReportAssets.resolveUrls(reportsHtmlHeader, assetsUrl));
             out.println(reportsHtmlHeader + "\n<body><div id=\"report\">\n" + "\n");
-            new ReportRenderer().render(report, getReportRenderingClient(out, folder));
+            new ReportRenderer().render(report, getReportRenderingClient(out, folder, assetsUrl));
             out.println("</div>\n</body>\n</html>");
             out.flush();
             out.close();
@@ -84,11 +86,11 @@ public class ReportFileExporter {
         return html;
     }
 
-    private static ReportRenderingClient getReportRenderingClient(PrintWriter out, File reportsFolder) {
+    private static ReportRenderingClient getReportRenderingClient(PrintWriter out, File reportsFolder, String assetsUrl) {
         return new ReportRenderingClient() {
             @Override
             public void append(String text) {
-                out.println(text);
+                out.println(ReportAssets.resolveUrls(text, assetsUrl));
             }
 
             @Override
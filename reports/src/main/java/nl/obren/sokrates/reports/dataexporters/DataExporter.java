@@ -15,8 +15,10 @@ import nl.obren.sokrates.reports.dataexporters.duplication.DuplicateFileBlockExp
 import nl.obren.sokrates.reports.dataexporters.duplication.DuplicationExportInfo;
 import nl.obren.sokrates.reports.dataexporters.duplication.DuplicationExporter;
 import nl.obren.sokrates.reports.dataexporters.files.FileListExporter;
+import nl.obren.sokrates.reports.dataexporters.trends.AnalysisResultsSummary;
 import nl.obren.sokrates.reports.dataexporters.trends.MetricsTrendExporter;
 import nl.obren.sokrates.reports.dataexporters.units.UnitListExporter;
+import nl.obren.sokrates.reports.utils.HtmlTemplate;
 import nl.obren.sokrates.reports.utils.HtmlTemplateUtils;
 import nl.obren.sokrates.reports.utils.ZipUtils;
 import nl.obren.sokrates.sourcecode.ExtensionGroupExtractor;
@@ -45,16 +47,22 @@ import nl.obren.sokrates.sourcecode.lang.LanguageAnalyzerFactory;
 import nl.obren.sokrates.sourcecode.search.FoundLine;
 import nl.obren.sokrates.sourcecode.units.UnitInfo;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.output.TeeOutputStream;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.commons.text.StringEscapeUtils;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
@@ -585,23 +593,13 @@ public class DataExporter {
     }
 
     private void exportJson() throws IOException {
-        String analysisResultsJson = new JsonGenerator().generate(analysisResults);
-        FileUtils.write(new File(dataFolder, "analysisResults.json"), analysisResultsJson, UTF_8);
-
         String configJson = FileUtils.readFileToString(sokratesConfigFile, UTF_8);
         FileUtils.write(new File(dataFolder, "config.json"), configJson, UTF_8);
 
-        if (codeConfiguration.getTrendAnalysis().isSaveHistory()) {
-            ZipUtils.stringToZipFile(new File(getTodayHistoryFolder(), "analysisResults.zip"),
-                    new String[][]{{"config.json", configJson},
-                            {"analysisResults.json", analysisResultsJson}});
-            ZipUtils.stringToZipFile(new File(getLatestHistoryFolder(), "analysisResults.zip"),
-                    new String[][]{{"config.json", configJson},
-                            {"analysisResults.json", analysisResultsJson}});
-        }
+        exportAnalysisResultsJson(configJson);
 
         List<SourceFile> mainSourceFiles = analysisResults.getMainAspectAnalysisResults().getAspect().getSourceFiles();
-        FileUtils.write(new File(dataFolder, "mainFiles.json"), new JsonGenerator().generate(mainSourceFiles), UTF_8);
+        new JsonGenerator().generate(mainSourceFiles, new File(dataFolder, "mainFiles.json"));
 
         if (codeConfiguration.getFileHistoryAnalysis().filesHistoryImportPathExists(sokratesConfigFile.getParentFile())) {
             saveExtraAnalysesConfig();
@@ -616,24 +614,24 @@ public class DataExporter {
             List<SourceFile> buildAndDeploymentSourceFiles = analysisResults.getBuildAndDeployAspectAnalysisResults().getAspect().getSourceFiles();
             List<SourceFile> otherSourceFiles = analysisResults.getOtherAspectAnalysisResults().getAspect().getSourceFiles();
 
-            FileUtils.write(new File(dataFolder, "testFiles.json"), new JsonGenerator().generate(testSourceFile), UTF_8);
-            FileUtils.write(new File(dataFolder, "generatedFiles.json"), new JsonGenerator().generate(generatedSourceFiles), UTF_8);
-            FileUtils.write(new File(dataFolder, "buildAndDeploymentFiles.json"), new JsonGenerator().generate(buildAndDeploymentSourceFiles), UTF_8);
-            FileUtils.write(new File(dataFolder, "otherFiles.json"), new JsonGenerator().generate(otherSourceFiles), UTF_8);
+            new JsonGenerator().generate(testSourceFile, new File(dataFolder, "testFiles.json"));
+            new JsonGenerator().generate(generatedSourceFiles, new File(dataFolder, "generatedFiles.json"));
+            new JsonGenerator().generate(buildAndDeploymentSourceFiles, new File(dataFolder, "buildAndDeploymentFiles.json"));
+            new JsonGenerator().generate(otherSourceFiles, new File(dataFolder, "otherFiles.json"));
 
-            FileUtils.write(new File(dataFolder, "units.json"), new JsonGenerator().generate(new UnitListExporter(analysisResults.getUnitsAnalysisResults().getAllUnits()).getAllUnitsData()), UTF_8);
+            new JsonGenerator().generate(new UnitListExporter(analysisResults.getUnitsAnalysisResults().getAllUnits()).getAllUnitsData(), new File(dataFolder, "units.json"));
             FileUtils.write(new File(dataFolder, "files.json"), new FileListExporter(analysisResults.getFilesAnalysisResults().getAllFiles()).getJson(), UTF_8);
             List<DuplicationInstance> allDuplicates = analysisResults.getDuplicationAnalysisResults().getAllDuplicates();
             Collections.sort(allDuplicates, (a, b) -> b.getBlockSize() - a.getBlockSize());
             allDuplicates = allDuplicates.stream().limit(10000).collect(Collectors.toList());
-            FileUtils.write(new File(dataFolder, "duplicates.json"), new JsonGenerator().generate(new DuplicationExporter(
-                    allDuplicates).getDuplicationExportInfo()), UTF_8);
-            FileUtils.write(new File(dataFolder, "logical_decompositions.json"), new JsonGenerator().generate(
-                    analysisResults.getLogicalDecompositionsAnalysisResults()), UTF_8);
-            FileUtils.write(new File(dataFolder, "dependencies.json"), new JsonGenerator().generate(
-                    new DependenciesExporter(analysisResults.getAllDependencies()).getDependenciesExportInfo()), UTF_8);
-            FileUtils.write(new File(dataFolder, "contributors.json"), new JsonGenerator().generate(analysisResults.getContributorsAnalysisResults().getContributors()), UTF_8);
-            FileUtils.write(new File(dataFolder, "concerns.json"), new JsonGenerator().generate(analysisResults.getConcernsAnalysisResults()), UTF_8);
+            new JsonGenerator().generate(new DuplicationExporter(
+                    allDuplicates).getDuplicationExportInfo(), new File(dataFolder, "duplicates.json"));
+            new JsonGenerator().generate(
+                    analysisResults.getLogicalDecompositionsAnalysisResults(), new File(dataFolder, "logical_decompositions.json"));
+            new JsonGenerator().generate(
+                    new DependenciesExporter(analysisResults.getAllDependencies()).getDependenciesExportInfo(), new File(dataFolder, "dependencies.json"));
+            new JsonGenerator().generate(analysisResults.getContributorsAnalysisResults().getContributors(), new File(dataFolder, "contributors.json"));
+            new JsonGenerator().generate(analysisResults.getConcernsAnalysisResults(), new File(dataFolder, "concerns.json"));
 
             File zipFolder = new File(dataFolder, "zips");
             zipFolder.mkdirs();
@@ -678,7 +676,7 @@ public class DataExporter {
         try {
             String jsonContent = FileUtils.readFileToString(sokratesConfigFile, UTF_8);
 
-            FileUtils.write(new File(extraAnalysisDataFolder, "config_original.json"), new JsonGenerator().generate(codeConfiguration), UTF_8);
+            new JsonGenerator().generate(codeConfiguration, new File(extraAnalysisDataFolder, "config_original.json"));
 
             saveConfigByFileChangeFrequency(jsonContent);
             saveConfigByFileAge(jsonContent);
@@ -694,7 +692,7 @@ public class DataExporter {
 
         codeConfiguration.getFileHistoryAnalysis().setImportPath("");
 
-        FileUtils.write(new File(extraAnalysisDataFolder, "config_by_file_change_frequency.json"), new JsonGenerator().generate(codeConfiguration), UTF_8);
+        new JsonGenerator().generate(codeConfiguration, new File(extraAnalysisDataFolder, "config_by_file_change_frequency.json"));
     }
 
     private void saveConfigByFileAge(String jsonContent) throws IOException {
@@ -703,7 +701,7 @@ public class DataExporter {
 
         codeConfiguration.getFileHistoryAnalysis().setImportPath("");
 
-        FileUtils.write(new File(extraAnalysisDataFolder, "config_by_file_age.json"), new JsonGenerator().generate(codeConfiguration), UTF_8);
+        new JsonGenerator().generate(codeConfiguration, new File(extraAnalysisDataFolder, "config_by_file_age.json"));
     }
 
     private void saveConfigByFileFreshness(String jsonContent) throws IOException {
@@ -712,7 +710,7 @@ public class DataExporter {
 
         codeConfiguration.getFileHistoryAnalysis().setImportPath("");
 
-        FileUtils.write(new File(extraAnalysisDataFolder, "config_by_file_freshness.json"), new JsonGenerator().generate(codeConfiguration), UTF_8);
+        new JsonGenerator().generate(codeConfiguration, new File(extraAnalysisDataFolder, "config_by_file_freshness.json"));
     }
 
     private String getFilesAsTxt(List<SourceFile> sourceFiles) {
@@ -776,38 +774,33 @@ public class DataExporter {
         return builder.toString();
     }
 
-    private void saveUnitFragmentFiles(List<UnitInfo> units, String fragmentType) throws IOException {
-
-        File fragmentsFolder = recreateFolder("fragments/" + fragmentType);
-
+    private void saveUnitFragmentFiles(List<UnitInfo> units, String fragmentType) {
         detailedInfo(" - saving source code cache for the " + fragmentType + "fragments");
-        int count[] = {0};
-        units.forEach(unit -> {
-            count[0]++;
-            saveUnitAsHtml(fragmentType, fragmentsFolder, count, unit);
-        });
+        try (FragmentWriter writer = new FragmentWriter(new File(codeCacheFolder, "fragments/" + fragmentType))) {
+            HtmlTemplate template = HtmlTemplateUtils.getTemplate("/templates/CodeFragmentUnit.html");
+            int count = 0;
+            for (UnitInfo unit : units) {
+                count++;
+                String fileName = fragmentType + "_" + count + "." + unit.getSourceFile().getExtension();
+                writer.write(fileName + ".html", () -> getUnitHtml(template, unit));
+            }
+            writer.finish();
+        }
     }
 
-    private void saveUnitAsHtml(String fragmentType, File fragmentsFolder, int[] count, UnitInfo unit) {
-        try {
-            String fileName = fragmentType + "_" + count[0] + "." + unit.getSourceFile().getExtension();
-            String fileAndLines = unit.getSourceFile().getRelativePath() + " [" + unit.getStartLine() + ":" + unit.getEndLine() + "]";
-
-            String htmlTemplate = HtmlTemplateUtils.getResource("/templates/CodeFragmentUnit.html");
-            String html = htmlTemplate.replace("${title}", unit.getShortName());
-            html = html.replace("${unit-name}", unit.getShortName());
-            html = html.replace("${file-and-lines}", fileAndLines);
-            html = html.replace("${language}", unit.getSourceFile().getExtension());
-            html = html.replace("${code}", StringEscapeUtils.escapeHtml4(unit.getBody()));
-            html = html.replace("${lines-of-code}", FormattingUtils.formatCount(unit.getLinesOfCode()));
-            html = html.replace("${mccabe-index}", FormattingUtils.formatCount(unit.getMcCabeIndex()));
-
-            File htmlFile = new File(fragmentsFolder, fileName + ".html");
-            FileUtils.write(htmlFile, html, UTF_8);
+    private String getUnitHtml(HtmlTemplate template, UnitInfo unit) {
+        String fileAndLines = unit.getSourceFile().getRelativePath() + " [" + unit.getStartLine() + ":" + unit.getEndLine() + "]";
 
-        } catch (IOException e) {
-            LOG.warn(e);
-        }
+        Map<String, String> values = new HashMap<>();
+        values.put("title", unit.getShortName());
+        values.put("unit-name", unit.getShortName());
+        values.put("file-and-lines", fileAndLines);
+        values.put("language", unit.getSourceFile().getExtension());
+        values.put("code", StringEscapeUtils.escapeHtml4(unit.getBody()));
+        values.put("lines-of-code", FormattingUtils.formatCount(unit.getLinesOfCode()));
+        values.put("mccabe-index", FormattingUtils.formatCount(unit.getMcCabeIndex()));
+
+        return template.render(values);
     }
 
     private void saveStructureFile() {
@@ -823,72 +816,60 @@ public class DataExporter {
         }
     }
 
-    private void saveFileAsHtml(File htmlFile, SourceFile sourceFile) {
-        try {
-
-            String htmlTemplate = HtmlTemplateUtils.getResource("/templates/CodeFragmentFile.html");
-            String html = htmlTemplate.replace("${title}", sourceFile.getRelativePath());
-            html = html.replace("${file-path}", sourceFile.getRelativePath());
-            html = html.replace("${file-name}", sourceFile.getFile().getName());
-            String langName = LanguageAnalyzerFactory.getInstance().getLanguageAnalyzer(sourceFile).getClass().getSimpleName().replace("Analyzer", "").toLowerCase();
-            String defaultLangName = DefaultLanguageAnalyzer.class.getSimpleName().replace("Analyzer", "");
-            html = html.replace("${language}", langName.equalsIgnoreCase(defaultLangName) ? sourceFile.getExtension() : langName);
-            html = html.replace("${code}", StringEscapeUtils.escapeHtml4(sourceFile.getContent()));
-            html = html.replace("${lines-of-code}", FormattingUtils.formatCount(sourceFile.getLinesOfCode()));
+    private String getFileHtml(HtmlTemplate template, SourceFile sourceFile, String content) {
+        String langName = LanguageAnalyzerFactory.getInstance().getLanguageAnalyzer(sourceFile).getClass().getSimpleName().replace("Analyzer", "").toLowerCase();
+        String defaultLangName = DefaultLanguageAnalyzer.class.getSimpleName().replace("Analyzer", "");
 
-            FileUtils.write(htmlFile, html, UTF_8);
+        Map<String, String> values = new HashMap<>();
+        values.put("title", sourceFile.getRelativePath());
+        values.put("file-path", sourceFile.getRelativePath());
+        values.put("file-name", sourceFile.getFile().getName());
+        values.put("language", langName.equalsIgnoreCase(defaultLangName) ? sourceFile.getExtension() : langName);
+        values.put("code", StringEscapeUtils.escapeHtml4(content));
+        values.put("lines-of-code", FormattingUtils.formatCount(sourceFile.getLinesOfCode()));
 
-        } catch (IOException e) {
-            LOG.warn(e);
-        }
+        return template.render(values);
     }
 
-    private void saveDuplicateFragmentFiles(List<DuplicationInstance> duplicates, String fragmentType) throws IOException {
-        File fragmentsFolder = recreateFolder("fragments/" + fragmentType);
-
+    private void saveDuplicateFragmentFiles(List<DuplicationInstance> duplicates, String fragmentType) {
         detailedInfo(" - saving source code cache for the " + fragmentType + "fragments");
-        int count[] = {0};
-        duplicates.forEach(duplicate -> {
-            count[0]++;
-            try {
+        try (FragmentWriter writer = new FragmentWriter(new File(codeCacheFolder, "fragments/" + fragmentType))) {
+            int count = 0;
+            for (DuplicationInstance duplicate : duplicates) {
+                count++;
                 DuplicatedFileBlock firstFileBlock = duplicate.getDuplicatedFileBlocks().get(0);
                 String extension = firstFileBlock.getSourceFile().getExtension();
-                String fileName = fragmentType + "_" + count[0] + "." + extension;
-                File file = new File(fragmentsFolder, fileName);
-
-                StringBuilder body = new StringBuilder();
-
-                duplicate.getDuplicatedFileBlocks().forEach(block -> {
-                    List<String> lines = block.getSourceFile().getLines();
-                    int fromIndex = block.getStartLine() - 1;
-                    int endLine = block.getEndLine();
-                    if (fromIndex >= 0 && endLine > fromIndex && endLine < lines.size()) {
-                        body.append(block.getSourceFile().getRelativePath() + " [" + block.getStartLine() + ":" + endLine + "]:\n");
-                        body.append(SEPARATOR);
-                        body.append(lines.subList(fromIndex, endLine).stream().collect(Collectors.joining("\n")) + "\n" + SEPARATOR + "\n\n\n");
-                    }
-                });
-
-                FileUtils.write(file, body.toString(), UTF_8);
-            } catch (IllegalArgumentException e) {
-                duplicate.getDuplicatedFileBlocks().forEach(block -> {
-                    LOG.info(block.getSourceFile().getRelativePath() + " [" + block.getStartLine() + ":" + block.getEndLine() + "]:\n");
-                });
-                LOG.warn(e);
-                System.exit(0);
-            } catch (IOException e) {
-                LOG.warn(e);
+                String fileName = fragmentType + "_" + count + "." + extension;
+                writer.write(fileName, () -> getDuplicateBody(duplicate));
             }
-        });
+            writer.finish();
+        }
     }
 
-    private File recreateFolder(String folderName) throws IOException {
-        File fragmentsFolder = new File(codeCacheFolder, folderName);
-        if (fragmentsFolder.exists()) {
-            FileUtils.deleteDirectory(fragmentsFolder);
+    private String getDuplicateBody(DuplicationInstance duplicate) {
+        try {
+            StringBuilder body = new StringBuilder();
+
+            duplicate.getDuplicatedFileBlocks().forEach(block -> {
+                List<String> lines = block.getSourceFile().getLines();
+                int fromIndex = block.getStartLine() - 1;
+                int endLine = block.getEndLine();
+                if (fromIndex >= 0 && endLine > fromIndex && endLine < lines.size()) {
+                    body.append(block.getSourceFile().getRelativePath() + " [" + block.getStartLine() + ":" + endLine + "]:\n");
+                    body.append(SEPARATOR);
+                    body.append(lines.subList(fromIndex, endLine).stream().collect(Collectors.joining("\n")) + "\n" + SEPARATOR + "\n\n\n");
+                }
+            });
+
+            return body.toString();
+        } catch (IllegalArgumentException e) {
+            duplicate.getDuplicatedFileBlocks().forEach(block -> {
+                LOG.info(block.getSourceFile().getRelativePath() + " [" + block.getStartLine() + ":" + block.getEndLine() + "]:\n");
+            });
+            LOG.warn(e);
+            System.exit(0);
+            return "";
         }
-        fragmentsFolder.mkdirs();
-        return fragmentsFolder;
     }
 
     private void saveAspectJsonFiles(NamedSourceCodeAspect aspect, String aspectName, Set<SourceFile> referencedFiles) throws IOException {
@@ -898,21 +879,24 @@ public class DataExporter {
         aspect.getSourceFiles().forEach(sourceFile -> {
             files.add(sourceFile.getRelativePath());
         });
-        FileUtils.write(filesListFile, new JsonGenerator().generate(files), UTF_8);
-
-        File aspectCodeCacheFolder = recreateFolder(aspectName);
+        new JsonGenerator().generate(files, filesListFile);
 
-        Map<String, List<String>> contents = new HashMap<>();
+        File aspectCodeCacheFolder = new File(codeCacheFolder, aspectName);
         detailedInfo(" - saving source code cache for the <b>" + aspectName + "</b> aspect in <a href='" + aspectCodeCacheFolder.getPath() + "'>" + aspectCodeCacheFolder.getPath() + "</a>");
-        aspect.getSourceFiles().stream().filter(f -> referencedFiles.contains(f)).forEach(sourceFile -> {
-            contents.put(sourceFile.getRelativePath(), sourceFile.getLines());
-            try {
-                FileUtils.write(new File(aspectCodeCacheFolder, sourceFile.getRelativePath()), sourceFile.getContent(), UTF_8);
-                saveFileAsHtml(new File(aspectCodeCacheFolder, sourceFile.getRelativePath() + ".html"), sourceFile);
-            } catch (IOException e) {
-                LOG.warn(e);
-            }
-        });
+        try (FragmentWriter writer = new FragmentWriter(aspectCodeCacheFolder)) {
+            HtmlTemplate template = HtmlTemplateUtils.getTemplate("/templates/CodeFragmentFile.html");
+            aspect.getSourceFiles().stream().filter(f -> referencedFiles.contains(f)).forEach(sourceFile -> {
+                writer.writeAll(() -> {
+                    // the content is read once, for both the source file copy and its html page
+                    String content = sourceFile.getContent();
+                    Map<String, String> contents = new HashMap<>();
+                    contents.put(sourceFile.getRelativePath(), content);
+                    contents.put(sourceFile.getRelativePath() + ".html", getFileHtml(template, sourceFile, content));
+                    return contents;
+                });
+            });
+            writer.finish();
+        }
     }
 
     public File getCodeCacheFolder() {
@@ -933,6 +917,37 @@ public class DataExporter {
         return dataFolder;
     }
 
+    // the results are serialized once, streamed both to the data folder and to the history zip
+    private void exportAnalysisResultsJson(String configJson) throws IOException {
+        boolean compact = codeConfiguration.getAnalysis().isCompactAnalysisResultsJson();
+        boolean saveHistory = codeConfiguration.getTrendAnalysis().isSaveHistory();
+        File historyZipFile = saveHistory ? new File(getTodayHistoryFolder(), "analysisResults.zip") : null;
+
+        OutputStream out = new BufferedOutputStream(new FileOutputStream(new File(dataFolder, "analysisResults.json")), 64 * 1024);
+        try {
+            ZipOutputStream zipOut = null;
+            if (saveHistory) {
+                zipOut = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(historyZipFile), 64 * 1024));
+                out = new TeeOutputStream(out, zipOut);
+                zipOut.putNextEntry(new ZipEntry("config.json"));
+                zipOut.write(configJson.getBytes(UTF_8));
+                zipOut.putNextEntry(new ZipEntry("analysisResults.json"));
+            }
+            new JsonGenerator().generate(analysisResults, out, compact);
+            if (zipOut != null) {
+                // the compact version loaded by trend reports, so they do not need to parse the full results
+                zipOut.putNextEntry(new ZipEntry(AnalysisResultsSummary.ENTRY_NAME));
+                AnalysisResultsSummary.write(analysisResults, zipOut);
+            }
+        } finally {
+            out.close();
+        }
+
+        if (saveHistory) {
+            FileUtils.copyFile(historyZipFile, new File(getLatestHistoryFolder(), "analysisResults.zip"));
+        }
+    }
+
     public File getDataHistoryFolder() {
         File folder = new File(reportsFolder, HISTORY_FOLDER_NAME);
         folder.mkdirs();
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.reports.dataexporters;
+
+import nl.obren.sokrates.common.utils.BoundedExecutor;
+import nl.obren.sokrates.common.utils.HashUtils;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Writes many small files to one folder in parallel, with a bounded number of pending files.
+ * Files whose content is already on disk are not rewritten, and files from previous runs
+ * that were not written again are deleted when finished, so the folder has only the current files.
+ */
+public class FragmentWriter implements AutoCloseable {
+    private static final Log LOG = LogFactory.getLog(FragmentWriter.class);
+
+    private final File folder;
+    private final BoundedExecutor executor;
+    private final Set<String> writtenPaths = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger skippedCount = new AtomicInteger();
+
+    public FragmentWriter(File folder) {
+        this.folder = folder;
+        this.executor = new BoundedExecutor("fragments-" + folder.getName());
+        folder.mkdirs();
+    }
+
+    // the content is created in a worker thread
+    public void write(String relativePath, Supplier<String> content) {
+        writeAll(() -> Collections.singletonMap(relativePath, content.get()));
+    }
+
+    // several files created together (relative path -> content), e.g. from the content of the same source file
+    public void writeAll(Supplier<Map<String, String>> contents) {
+        executor.submit(() -> contents.get().forEach((relativePath, content) -> {
+            File file = new File(folder, relativePath);
+            writtenPaths.add(file.getAbsolutePath());
+            try {
+                writeIfChanged(file, content.getBytes(StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                LOG.warn(e);
+            }
+        }));
+    }
+
+    private void writeIfChanged(File file, byte[] bytes) throws IOException {
+        if (file.exists() && file.length() == bytes.length && HashUtils.sha256Hex(file).equals(HashUtils.sha256Hex(bytes))) {
+            skippedCount.incrementAndGet();
+            return;
+        }
+        FileUtils.writeByteArrayToFile(file, bytes);
+    }
+
+    public void finish() {
+        executor.awaitCompletion();
+        deleteStaleFiles();
+    }
+
+    public int getSkippedCount() {
+        return skippedCount.get();
+    }
+
+    private void deleteStaleFiles() {
+        List<Path> paths;
+        try (Stream<Path> stream = Files.walk(folder.toPath())) {
+            paths = stream.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+        } catch (IOException e) {
+            LOG.warn(e);
+            return;
+        }
+        paths.forEach(path -> {
+            File file = path.toFile();
+            if (file.equals(folder)) {
+                return;
+            }
+            if (file.isDirectory()) {
+                String[] children = file.list();
+                if (children != null && children.length == 0) {
+                    file.delete();
+                }
+            } else if (!writtenPaths.contains(file.getAbsolutePath())) {
+                FileUtils.deleteQuietly(file);
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.reports.dataexporters.trends;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import nl.obren.sokrates.sourcecode.analysis.results.*;
+import nl.obren.sokrates.sourcecode.contributors.Contributor;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A compact version of the analysis results, saved with each history snapshot for trend reports.
+ * It keeps the metrics and the aggregated distributions used when comparing with the current analysis,
+ * but leaves out the lists of individual files, units, duplicates, dependencies and commit dates.
+ */
+public class AnalysisResultsSummary {
+    public static final String ENTRY_NAME = "analysisResultsSummary.json";
+
+    private static final ObjectWriter WRITER = new ObjectMapper()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .addMixIn(CodeAnalysisResults.class, CodeAnalysisResultsMixIn.class)
+            .addMixIn(FilesAnalysisResults.class, FilesAnalysisResultsMixIn.class)
+            .addMixIn(UnitsAnalysisResults.class, UnitsAnalysisResultsMixIn.class)
+            .addMixIn(DuplicationAnalysisResults.class, DuplicationAnalysisResultsMixIn.class)
+            .addMixIn(FilesHistoryAnalysisResults.class, FilesHistoryAnalysisResultsMixIn.class)
+            .addMixIn(LogicalDecompositionAnalysisResults.class, LogicalDecompositionAnalysisResultsMixIn.class)
+            .addMixIn(ContributorsAnalysisResults.class, ContributorsAnalysisResultsMixIn.class)
+            .addMixIn(Contributor.class, ContributorMixIn.class)
+            .writer();
+
+    // the output is flushed but not closed
+    public static void write(CodeAnalysisResults analysisResults, OutputStream out) throws IOException {
+        WRITER.writeValue(out, analysisResults);
+    }
+
+    @JsonIgnoreProperties({"foundTags"})
+    private abstract static class CodeAnalysisResultsMixIn {
+    }
+
+    @JsonIgnoreProperties({"longestFiles", "filesWithMostUnits"})
+    private abstract static class FilesAnalysisResultsMixIn {
+    }
+
+    @JsonIgnoreProperties({"longestUnits", "mostComplexUnits"})
+    private abstract static class UnitsAnalysisResultsMixIn {
+    }
+
+    @JsonIgnoreProperties({"longestDuplicates", "mostFrequentDuplicates"})
+    private abstract static class DuplicationAnalysisResultsMixIn {
+    }
+
+    @JsonIgnoreProperties({"oldestFiles", "youngestFiles", "mostRecentlyChangedFiles", "mostPreviouslyChangedFiles",
+            "mostChangedFiles", "filesWithMostContributors", "filesWithLeastContributors"})
+    private abstract static class FilesHistoryAnalysisResultsMixIn {
+    }
+
+    @JsonIgnoreProperties({"componentDependencies", "componentDependenciesErrors"})
+    private abstract static class LogicalDecompositionAnalysisResultsMixIn {
+    }
+
+    @JsonIgnoreProperties({"contributorsPerDay", "contributorsPerWeek", "peopleFileDependencies30Days",
+            "peopleFileDependencies90Days", "peopleFileDependencies180Days", "peopleFileDependencies365Days"})
+    private abstract static class ContributorsAnalysisResultsMixIn {
+    }
+
+    // contributors are kept, as the commit counts are summed from them
+    @JsonIgnoreProperties({"commitDates"})
+    private abstract static class ContributorMixIn {
+    }
+}
@@ -7,6 +7,7 @@ package nl.obren.sokrates.reports.dataexporters.trends;
 import nl.obren.sokrates.common.utils.RegexUtils;
 import nl.obren.sokrates.reports.utils.ReportUtils;
 import nl.obren.sokrates.sourcecode.analysis.results.CodeAnalysisResults;
+import nl.obren.sokrates.sourcecode.core.ReferenceAnalysisResult;
 import nl.obren.sokrates.sourcecode.core.TrendAnalysisConfig;
 import nl.obren.sokrates.sourcecode.metrics.Metric;
 import nl.obren.sokrates.sourcecode.metrics.MetricsList;
@@ -25,13 +26,15 @@ public class MetricsTrendExporter {
         labels.add("Current");
 
         TrendAnalysisConfig trendAnalysis = currentAnalysisResults.getCodeConfiguration().getTrendAnalysis();
-        trendAnalysis.getReferenceAnalyses(codeConfigurationFile.getParentFile()).forEach(refAnalysis -> {
-            CodeAnalysisResults refData = new ReferenceResultsLoader().getRefData(refAnalysis.getAnalysisResultsZipFile());
+        List<ReferenceAnalysisResult> referenceAnalyses = trendAnalysis.getReferenceAnalyses(codeConfigurationFile.getParentFile());
+        List<CodeAnalysisResults> refDataList = new ReferenceResultsLoader().getRefData(referenceAnalyses);
+        for (int i = 0; i < referenceAnalyses.size(); i++) {
+            CodeAnalysisResults refData = refDataList.get(i);
             if (refData != null) {
                 analysisResultsList.add(refData);
-                labels.add(refAnalysis.getLabel());
+                labels.add(referenceAnalyses.get(i).getLabel());
             }
-        });
+        }
     }
 
     public List<MetricsTrendInfo> getMetricTrends() {
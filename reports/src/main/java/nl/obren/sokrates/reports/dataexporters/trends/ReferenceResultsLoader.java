@@ -5,51 +5,117 @@
 package nl.obren.sokrates.reports.dataexporters.trends;
 
 import nl.obren.sokrates.common.io.JsonMapper;
-import nl.obren.sokrates.reports.utils.ZipEntryContent;
-import nl.obren.sokrates.reports.utils.ZipUtils;
+import nl.obren.sokrates.common.utils.BoundedExecutor;
 import nl.obren.sokrates.sourcecode.ExtensionGroupExtractor;
 import nl.obren.sokrates.sourcecode.analysis.results.CodeAnalysisResults;
 import nl.obren.sokrates.sourcecode.core.CodeConfiguration;
+import nl.obren.sokrates.sourcecode.core.ReferenceAnalysisResult;
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
-import java.util.Map;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 public class ReferenceResultsLoader {
+    private static final Log LOG = LogFactory.getLog(ReferenceResultsLoader.class);
+
+    // full snapshots without a summary can be large, so only a few are loaded at the same time
+    private static final int MAX_PARALLEL_LOADS = 4;
+
     public CodeAnalysisResults getRefData(File file) {
         CodeAnalysisResults refData = null;
         try {
             if (file.exists()) {
                 refData = getAnalysisResultsFromJson(file);
             }
-        } catch (IOException e) {
+        } catch (IOException | RuntimeException e) {
             e.printStackTrace();
         }
         return refData;
     }
 
+    // loads each of the reference results once, in parallel; the returned list is in the same order, with nulls for missing results
+    public List<CodeAnalysisResults> getRefData(List<ReferenceAnalysisResult> referenceResults) {
+        CodeAnalysisResults[] refData = new CodeAnalysisResults[referenceResults.size()];
+        int threadsCount = Math.min(MAX_PARALLEL_LOADS, BoundedExecutor.defaultThreadsCount());
+        try (BoundedExecutor executor = new BoundedExecutor("trend-snapshots", threadsCount, threadsCount)) {
+            for (int i = 0; i < refData.length; i++) {
+                int index = i;
+                executor.submit(() -> refData[index] = getRefData(referenceResults.get(index).getAnalysisResultsZipFile()));
+            }
+            executor.awaitCompletion();
+        }
+        return new ArrayList<>(Arrays.asList(refData));
+    }
+
     private CodeAnalysisResults getAnalysisResultsFromJson(File file) throws IOException {
         if (file.isDirectory()) {
             file = new File(file, "analysisResults.zip");
         }
 
-        if (ExtensionGroupExtractor.getExtension(file.getName()).equalsIgnoreCase("zip")) {
-            Map<String, ZipEntryContent> entries = ZipUtils.unzipAllEntriesAsStrings(file);
+        if (!ExtensionGroupExtractor.getExtension(file.getName()).equalsIgnoreCase("zip")) {
+            return null;
+        }
+
+        try (ZipFile zipFile = new ZipFile(file)) {
+            ZipEntry resultsEntry = zipFile.getEntry("analysisResults.json");
+            if (resultsEntry == null) {
+                return null;
+            }
 
-            if (entries.get("analysisResults.json") != null) {
-                String resultsJson = entries.get("analysisResults.json").getContent();
-                CodeAnalysisResults results = (CodeAnalysisResults) new JsonMapper().getObject(resultsJson, CodeAnalysisResults.class);
-                if (entries.get("config.json") != null) {
-                    String configJson = entries.get("config.json").getContent();
-                    CodeConfiguration codeConfiguration = (CodeConfiguration) new JsonMapper().getObject(configJson, CodeConfiguration.class);
-                    results.setCodeConfiguration(codeConfiguration);
+            CodeAnalysisResults results;
+            ZipEntry summaryEntry = zipFile.getEntry(AnalysisResultsSummary.ENTRY_NAME);
+            File summaryFile = getSummaryFile(file);
+            if (summaryEntry != null) {
+                results = read(zipFile, summaryEntry, CodeAnalysisResults.class);
+            } else if (summaryFile.exists() && summaryFile.lastModified() >= file.lastModified()) {
+                try (InputStream in = new BufferedInputStream(new FileInputStream(summaryFile))) {
+                    results = (CodeAnalysisResults) new JsonMapper().getObject(in, CodeAnalysisResults.class);
                 }
+            } else {
+                // snapshots saved before the summaries were introduced are fully loaded only once
+                results = read(zipFile, resultsEntry, CodeAnalysisResults.class);
+                saveSummary(results, summaryFile);
+            }
 
-                return results;
+            ZipEntry configEntry = zipFile.getEntry("config.json");
+            if (configEntry != null) {
+                results.setCodeConfiguration(read(zipFile, configEntry, CodeConfiguration.class));
             }
+
+            return results;
+        }
+    }
+
+    private <T> T read(ZipFile zipFile, ZipEntry entry, Class<T> type) throws IOException {
+        try (InputStream in = new BufferedInputStream(zipFile.getInputStream(entry))) {
+            return type.cast(new JsonMapper().getObject(in, type));
         }
+    }
+
+    private File getSummaryFile(File zipFile) {
+        return new File(zipFile.getParentFile(), FilenameUtils.getBaseName(zipFile.getName()) + "Summary.json");
+    }
 
-        return null;
+    private void saveSummary(CodeAnalysisResults results, File summaryFile) {
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(summaryFile))) {
+            AnalysisResultsSummary.write(results, out);
+        } catch (IOException e) {
+            LOG.warn("Could not save the trend summary " + summaryFile.getPath() + ".");
+            FileUtils.deleteQuietly(summaryFile);
+        }
     }
 }
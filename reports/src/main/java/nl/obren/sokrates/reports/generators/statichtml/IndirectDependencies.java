@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.reports.generators.statichtml;
+
+import nl.obren.sokrates.sourcecode.dependencies.ComponentDependency;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Undirected dependencies between components that depend on the same target (shared targets)
+ * or are used by the same source (shared sources). The count of an indirect dependency is the number
+ * of components shared by the pair. Components are looked up in an index grouped by the shared component,
+ * so the work is proportional to the number of found pairs and not to the square of all dependencies.
+ */
+class IndirectDependencies {
+    private final Map<String, Integer> componentIds = new HashMap<>();
+    private final List<ComponentDependency> indirect = new ArrayList<>();
+    private final Map<Long, ComponentDependency> indirectByPair = new HashMap<>();
+    // pairs already counted for each shared component
+    private final Map<String, LongSet> coveredPairs = new HashMap<>();
+
+    private IndirectDependencies() {
+    }
+
+    static List<ComponentDependency> viaSharedTargets(List<ComponentDependency> dependencies) {
+        return new IndirectDependencies().find(dependencies, ComponentDependency::getToComponent, ComponentDependency::getFromComponent);
+    }
+
+    static List<ComponentDependency> viaSharedSources(List<ComponentDependency> dependencies) {
+        return new IndirectDependencies().find(dependencies, ComponentDependency::getFromComponent, ComponentDependency::getToComponent);
+    }
+
+    private List<ComponentDependency> find(List<ComponentDependency> dependencies,
+                                           Function<ComponentDependency, String> shared,
+                                           Function<ComponentDependency, String> other) {
+        // shared components are compared ignoring case
+        Map<String, Set<String>> othersByShared = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        Map<String, ComponentDependency> distinctDependencies = new LinkedHashMap<>();
+        dependencies.forEach(dependency -> {
+            othersByShared.computeIfAbsent(shared.apply(dependency), k -> new LinkedHashSet<>()).add(other.apply(dependency));
+            distinctDependencies.putIfAbsent(dependency.getFromComponent() + " -> " + dependency.getToComponent(), dependency);
+        });
+
+        distinctDependencies.values().forEach(dependency -> {
+            String sharedComponent = shared.apply(dependency);
+            String component1 = other.apply(dependency);
+            LongSet covered = coveredPairs.computeIfAbsent(sharedComponent, k -> new LongSet());
+            othersByShared.get(sharedComponent).forEach(component2 -> {
+                if (!component1.equals(component2) && covered.add(getPairKey(component1, component2))) {
+                    addIndirectDependency(component1, component2);
+                }
+            });
+        });
+
+        return indirect;
+    }
+
+    private void addIndirectDependency(String component1, String component2) {
+        long pairKey = getPairKey(component1, component2);
+        ComponentDependency indirectDependency = indirectByPair.get(pairKey);
+        if (indirectDependency != null) {
+            indirectDependency.increment(1);
+        } else {
+            indirectDependency = new ComponentDependency(component1, component2);
+            indirectByPair.put(pairKey, indirectDependency);
+            indirect.add(indirectDependency);
+        }
+    }
+
+    // the same key for both directions
+    private long getPairKey(String component1, String component2) {
+        long id1 = getId(component1);
+        long id2 = getId(component2);
+        return id1 < id2 ? (id1 << 32) | id2 : (id2 << 32) | id1;
+    }
+
+    private int getId(String component) {
+        return componentIds.computeIfAbsent(component, k -> componentIds.size() + 1);
+    }
+
+    // an open addressing hash set of non-zero longs
+    private static class LongSet {
+        private long[] keys = new long[16];
+        private int size = 0;
+
+        boolean add(long key) {
+            if ((size + 1) * 2 > keys.length) {
+                grow();
+            }
+            int mask = keys.length - 1;
+            int index = hash(key) & mask;
+            while (keys[index] != 0) {
+                if (keys[index] == key) {
+                    return false;
+                }
+                index = (index + 1) & mask;
+            }
+            keys[index] = key;
+            size++;
+            return true;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            keys = new long[oldKeys.length * 2];
+            int mask = keys.length - 1;
+            for (long key : oldKeys) {
+                if (key != 0) {
+                    int index = hash(key) & mask;
+                    while (keys[index] != 0) {
+                        index = (index + 1) & mask;
+                    }
+                    keys[index] = key;
+                }
+            }
+        }
+
+        private static int hash(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
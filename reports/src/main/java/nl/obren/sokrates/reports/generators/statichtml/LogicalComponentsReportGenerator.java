@@ -21,6 +21,8 @@ import nl.obren.sokrates.sourcecode.analysis.results.HistoryPerExtension;
 import nl.obren.sokrates.sourcecode.analysis.results.LogicalDecompositionAnalysisResults;
 import nl.obren.sokrates.sourcecode.aspects.*;
 import nl.obren.sokrates.sourcecode.dependencies.ComponentDependency;
+import nl.obren.sokrates.sourcecode.dependencies.ComponentDependencyGraph;
+import nl.obren.sokrates.sourcecode.dependencies.CyclicDependencyGroup;
 import nl.obren.sokrates.sourcecode.dependencies.DependencyEvidence;
 import nl.obren.sokrates.sourcecode.dependencies.DependencyUtils;
 import nl.obren.sokrates.sourcecode.filehistory.FilePairChangedTogether;
@@ -259,13 +261,31 @@ public class LogicalComponentsReportGenerator {
         report.endSection();
     }
 
+    private void addCyclicDependencyGroups(List<CyclicDependencyGroup> cyclicGroups) {
+        if (cyclicGroups.size() == 0) {
+            return;
+        }
+        String numberOfGroupsText = cyclicGroups.size() == 1
+                ? "is <b>1</b> group"
+                : "are <b>" + cyclicGroups.size() + "</b> groups";
+        report.addListItem("There " + numberOfGroupsText + " of components that directly or indirectly depend on each other (<b>cyclic</b> groups):");
+        report.startUnorderedList();
+        cyclicGroups.forEach(group -> {
+            report.addListItem("<b>" + group.getComponents().size() + "</b> components: "
+                    + group.getComponents().stream().collect(Collectors.joining(", "))
+                    + " (" + group.getLinksCount() + " links, " + group.getDependenciesCount() + " file dependencies)");
+        });
+        report.endUnorderedList();
+    }
+
     private void addComponentDependenciesSection(LogicalDecompositionAnalysisResults logicalDecomposition, List<ComponentDependency> componentDependencies) {
         report.startUnorderedList();
         report.addListItem("Analyzed system has <b>" + componentDependencies.size() + "</b> links (arrows) between components.");
         report.addListItem("The number on the arrow represents the number of files from referring component that depend on files in referred component.");
         report.addListItem("These " + componentDependencies.size() + " links contain <a href='../data/text/" + DataExporter.dependenciesFileNamePrefix("", "", logicalDecomposition.getKey()) + ".txt'><b>" + DependencyUtils.getDependenciesCount(componentDependencies) + "</b> dependencies</a>.");
-        int cyclicDependencyPlacesCount = DependencyUtils.getCyclicDependencyPlacesCount(componentDependencies);
-        int cyclicDependencyCount = DependencyUtils.getCyclicDependencyCount(componentDependencies);
+        ComponentDependencyGraph dependencyGraph = new ComponentDependencyGraph(componentDependencies);
+        int cyclicDependencyPlacesCount = dependencyGraph.getCyclicDependencyPlacesCount();
+        int cyclicDependencyCount = dependencyGraph.getCyclicDependencyCount();
         if (cyclicDependencyPlacesCount > 0) {
             String numberOfPlacesText = cyclicDependencyPlacesCount == 1
                     ? "is <b>1</b> place"
@@ -273,6 +293,7 @@ public class LogicalComponentsReportGenerator {
             report.addListItem("There " + numberOfPlacesText + " (" + (cyclicDependencyPlacesCount * 2) + " links) with <b>cyclic</b> dependencies (<b>" + cyclicDependencyCount + "</b> " +
                     "file dependencies).");
         }
+        addCyclicDependencyGroups(dependencyGraph.getCyclicGroups());
 
         describeDependencyFinder(logicalDecomposition);
 
@@ -391,8 +412,8 @@ public class LogicalComponentsReportGenerator {
     private void renderIndirectDependencies(List<String> componentNames, GraphvizDependencyRenderer graphvizDependencyRenderer, RenderingOptions renderingOptions, boolean renderWithoutDependencies, List<ComponentDependency> dependencies) {
         if (renderingOptions.isRenderIndirectDependencies()) {
             report.startSubSection("Indirect Dependencies", "Dependecies via shared target or source components.");
-            renderIndirectDependencies("Shared Targets", componentNames, graphvizDependencyRenderer, renderWithoutDependencies, getIndirectViaTargetsDependencies(dependencies));
-            renderIndirectDependencies("Shared Sources", componentNames, graphvizDependencyRenderer, renderWithoutDependencies, getIndirectViaSourcesDependencies(dependencies));
+            renderIndirectDependencies("Shared Targets", componentNames, graphvizDependencyRenderer, renderWithoutDependencies, IndirectDependencies.viaSharedTargets(dependencies));
+            renderIndirectDependencies("Shared Sources", componentNames, graphvizDependencyRenderer, renderWithoutDependencies, IndirectDependencies.viaSharedSources(dependencies));
 
             if (renderingOptions.isRenderInternalIndirectDependencies()) {
                 renderInternalsOfIndirectDependencies("Targets", componentNames, graphvizDependencyRenderer, renderWithoutDependencies, getDependenciesWithSharedTargets(dependencies));
@@ -438,86 +459,6 @@ public class LogicalComponentsReportGenerator {
         }
     }
 
-    private List<ComponentDependency> getIndirectViaTargetsDependencies(List<ComponentDependency> dependencies) {
-        ArrayList<ComponentDependency> indirect = new ArrayList<>();
-        Map<String, ComponentDependency> map = new HashMap<>();
-
-        List<String> alreadyCovered = new ArrayList<>();
-
-        getMergedDependencies(dependencies).forEach(dependency1 -> {
-            dependencies.stream()
-                    .filter(dependency2 -> !dependency1.getFromComponent().equals(dependency2.getFromComponent()))
-                    .filter(dependency2 -> dependency1.getToComponent().equalsIgnoreCase(dependency2.getToComponent()))
-                    .forEach(dependency2 -> {
-                        String coverKey1 = dependency1.getFromComponent() + " --" + dependency1.getToComponent() + "--> " + dependency2.getFromComponent();
-                        String coverKey2 = dependency2.getFromComponent() + " --" + dependency1.getToComponent() + "--> " + dependency1.getFromComponent();
-                        if (!(alreadyCovered.contains(coverKey1) || alreadyCovered.contains(coverKey2))) {
-                            alreadyCovered.add(coverKey1);
-                            addIndirectInternalDependency(indirect, map, dependency1.getFromComponent(), dependency2.getFromComponent());
-                        }
-                    });
-        });
-
-        return indirect;
-    }
-
-    private List<ComponentDependency> getMergedDependencies(List<ComponentDependency> dependencies) {
-        Map<String, ComponentDependency> mergeMap = new HashMap<>();
-        List<ComponentDependency> mergedDependencies = new ArrayList<>();
-        dependencies.forEach(dependency -> {
-            String key = dependency.getFromComponent() + " -> " + dependency.getToComponent();
-            if (mergeMap.containsKey(key)) {
-                mergeMap.get(key).increment(dependency.getCount());
-            } else {
-                ComponentDependency newDependency = new ComponentDependency();
-                newDependency.setFromComponent(dependency.getFromComponent());
-                newDependency.setToComponent(dependency.getToComponent());
-                newDependency.setCount(1);
-                mergedDependencies.add(newDependency);
-                mergeMap.put(key, newDependency);
-            }
-        });
-        return mergedDependencies;
-    }
-
-    private List<ComponentDependency> getIndirectViaSourcesDependencies(List<ComponentDependency> dependencies) {
-        ArrayList<ComponentDependency> indirect = new ArrayList<>();
-        Map<String, ComponentDependency> map = new HashMap<>();
-
-        List<String> alreadyCovered = new ArrayList<>();
-
-        getMergedDependencies(dependencies).forEach(dependency1 -> {
-            dependencies.stream()
-                    .filter(dependency2 -> !dependency1.getToComponent().equals(dependency2.getToComponent()))
-                    .filter(dependency2 -> dependency1.getFromComponent().equalsIgnoreCase(dependency2.getFromComponent()))
-                    .forEach(dependency2 -> {
-                        String coverKey1 = dependency1.getToComponent() + " --" + dependency1.getFromComponent() + "--> " + dependency2.getToComponent();
-                        String coverKey2 = dependency2.getToComponent() + " --" + dependency1.getFromComponent() + "--> " + dependency1.getToComponent();
-                        if (!(alreadyCovered.contains(coverKey1) || alreadyCovered.contains(coverKey2))) {
-                            alreadyCovered.add(coverKey1);
-                            addIndirectInternalDependency(indirect, map, dependency1.getToComponent(), dependency2.getToComponent());
-                        }
-                    });
-        });
-
-        return indirect;
-    }
-
-    private void addIndirectInternalDependency(ArrayList<ComponentDependency> indirect, Map<String, ComponentDependency> map, String component1, String component2) {
-        String key1 = component1 + "::" + component2;
-        String key2 = component2 + "::" + component1;
-
-        if (map.containsKey(key1)) {
-            map.get(key1).increment(1);
-        } else if (map.containsKey(key2)) {
-            map.get(key2).increment(1);
-        } else {
-            ComponentDependency indirectDependency = new ComponentDependency(component1, component2);
-            map.put(key1, indirectDependency);
-            indirect.add(indirectDependency);
-        }
-    }
-
     private List<ComponentDependency> getDependenciesWithSharedTargets(List<ComponentDependency> dependencies) {
         Map<String, Set<String>> map = new HashMap<>();
         dependencies.forEach(d -> {
@@ -51,17 +51,18 @@ public class TrendReportGenerator {
             return report;
         }
 
-        summarize(codeAnalysisResults, report, referenceResults);
+        List<CodeAnalysisResults> refDataList = new ReferenceResultsLoader().getRefData(referenceResults);
 
-        referenceResults.forEach(result -> {
-            CodeAnalysisResults refData = new ReferenceResultsLoader().getRefData(result.getAnalysisResultsZipFile());
-            processReferenceResults(codeAnalysisResults, refData, report, result);
-        });
+        summarize(codeAnalysisResults, report, referenceResults, refDataList);
+
+        for (int i = 0; i < referenceResults.size(); i++) {
+            processReferenceResults(codeAnalysisResults, refDataList.get(i), report, referenceResults.get(i));
+        }
 
         return report;
     }
 
-    private void summarize(CodeAnalysisResults currentAnalysisResults, RichTextReport report, List<ReferenceAnalysisResult> referenceResults) {
+    private void summarize(CodeAnalysisResults currentAnalysisResults, RichTextReport report, List<ReferenceAnalysisResult> referenceResults, List<CodeAnalysisResults> refDataList) {
         List<CodeAnalysisResults> analysisResultsList = new ArrayList<>();
         List<String> labels = new ArrayList<>();
         analysisResultsList.add(currentAnalysisResults);
@@ -69,11 +70,11 @@ public class TrendReportGenerator {
         int maxMainLoc[] = {currentAnalysisResults.getMainAspectAnalysisResults().getLinesOfCode()};
         int maxTestLoc[] = {currentAnalysisResults.getTestAspectAnalysisResults().getLinesOfCode()};
         int maxTotalLoc[] = {maxMainLoc[0] + maxTestLoc[0]};
-        referenceResults.forEach(result -> {
-            CodeAnalysisResults refData = new ReferenceResultsLoader().getRefData(result.getAnalysisResultsZipFile());
+        for (int i = 0; i < referenceResults.size(); i++) {
+            CodeAnalysisResults refData = refDataList.get(i);
             if (refData != null && refData.getCodeConfiguration() != null) {
                 analysisResultsList.add(refData);
-                labels.add(result.getLabel());
+                labels.add(referenceResults.get(i).getLabel());
 
                 int refLocMain = refData.getMainAspectAnalysisResults().getLinesOfCode();
                 int refLocTest = refData.getTestAspectAnalysisResults().getLinesOfCode();
@@ -82,7 +83,7 @@ public class TrendReportGenerator {
                 maxTestLoc[0] = Math.max(refLocTest, maxTestLoc[0]);
                 maxTotalLoc[0] = Math.max(refLocMain + refLocTest, maxTotalLoc[0]);
             }
-        });
+        }
         addCodeVolumeSummarySection(report, analysisResultsList, labels, maxTotalLoc[0]);
     }
 
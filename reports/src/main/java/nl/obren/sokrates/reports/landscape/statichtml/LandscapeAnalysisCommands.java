@@ -8,6 +8,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import nl.obren.sokrates.common.io.JsonGenerator;
 import nl.obren.sokrates.common.io.JsonMapper;
 import nl.obren.sokrates.common.utils.ProcessingStopwatch;
+import nl.obren.sokrates.reports.core.ReportAssets;
 import nl.obren.sokrates.reports.core.ReportFileExporter;
 import nl.obren.sokrates.reports.core.RichTextReport;
 import nl.obren.sokrates.reports.landscape.utils.LandscapeVisualsGenerator;
@@ -52,14 +53,6 @@ public class LandscapeAnalysisCommands {
     public static void generateReport(File analysisRoot, File landscapeConfigFile) {
         File reportsFolder = Paths.get(landscapeConfigFile.getParent(), "").toFile();
         reportsFolder.mkdirs();
-        File individualReportsFolder = new File(reportsFolder, "contributors");
-        try {
-            FileUtils.deleteDirectory(individualReportsFolder);
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-        individualReportsFolder.mkdirs();
-
         LandscapeAnalyzer analyzer = new LandscapeAnalyzer();
 
         ProcessingStopwatch.start("analyzing");
@@ -67,7 +60,19 @@ public class LandscapeAnalysisCommands {
         List<TagGroup> tagGroups = getTagGroups(analysisRoot, landscapeConfigFile);
         ProcessingStopwatch.end("analyzing");
 
+        boolean incremental = landscapeAnalysisResults.getConfiguration().isSkipUnchangedIndividualReports();
+        File individualReportsFolder = new File(reportsFolder, "contributors");
+        if (!incremental) {
+            try {
+                FileUtils.deleteDirectory(individualReportsFolder);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        individualReportsFolder.mkdirs();
+
         ProcessingStopwatch.start("reporting");
+        ReportAssets.configure(reportsFolder, landscapeAnalysisResults.getConfiguration().isInlineReportAssets());
         LandscapeReportGenerator reportGenerator = new LandscapeReportGenerator(landscapeAnalysisResults, tagGroups, landscapeConfigFile.getParentFile(), reportsFolder);
         List<RichTextReport> reports = reportGenerator.report();
 
@@ -83,19 +88,14 @@ public class LandscapeAnalysisCommands {
             ProcessingStopwatch.end("reporting/saving/reports");
 
             ProcessingStopwatch.start("reporting/saving/contributors");
-            File finalIndividualReportsFolder = individualReportsFolder;
-            reportGenerator.getIndividualContributorReports().forEach(individualReport -> {
-                LOG.info("Exporting person " + individualReport.getFileName() + ".");
-                ReportFileExporter.exportHtml(finalIndividualReportsFolder, "", individualReport, customHtmlReportHeaderFragment);
-            });
-            reportGenerator.getIndividualTeamReports().forEach(individualReport -> {
-                LOG.info("Exporting team " + individualReport.getFileName() + ".");
-                ReportFileExporter.exportHtml(finalIndividualReportsFolder, "", individualReport, customHtmlReportHeaderFragment);
-            });
-            reportGenerator.getIndividualBotReports().forEach(individualReport -> {
-                LOG.info("Exporting bot " + individualReport.getFileName() + ".");
-                ReportFileExporter.exportHtml(finalIndividualReportsFolder, "", individualReport, customHtmlReportHeaderFragment);
-            });
+            LandscapeIndividualContributorsReports individualReportsGenerator = new LandscapeIndividualContributorsReports(landscapeAnalysisResults, reportsFolder);
+            File digestsFile = new File(new File(reportsFolder, "data"), LandscapeIndividualReportsExporter.DIGESTS_FILE_NAME);
+            LandscapeIndividualReportsExporter individualReportsExporter = new LandscapeIndividualReportsExporter(individualReportsGenerator,
+                    individualReportsFolder, digestsFile, customHtmlReportHeaderFragment, incremental);
+            individualReportsExporter.export("person", reportGenerator.getIndividualContributors());
+            individualReportsExporter.export("team", reportGenerator.getIndividualTeams());
+            individualReportsExporter.export("bot", reportGenerator.getIndividualBots());
+            individualReportsExporter.finish();
             ProcessingStopwatch.end("reporting/saving/contributors");
 
             ProcessingStopwatch.start("reporting/saving/generating visuals");
@@ -109,6 +109,7 @@ public class LandscapeAnalysisCommands {
             e.printStackTrace();
         }
         ProcessingStopwatch.end("reporting");
+        ProcessingStopwatch.exportProfile(new File(reportsFolder, "data"));
     }
 
     private static List<TagGroup> getTagGroups(File analysisRoot, File landscapeConfigFile) {
@@ -9,7 +9,6 @@ import nl.obren.sokrates.reports.utils.DataImageUtils;
 import nl.obren.sokrates.sourcecode.landscape.ContributorTag;
 import nl.obren.sokrates.sourcecode.landscape.PeopleConfig;
 import nl.obren.sokrates.sourcecode.landscape.PersonConfig;
-import nl.obren.sokrates.sourcecode.landscape.TeamConfig;
 import nl.obren.sokrates.sourcecode.landscape.analysis.ContributorRepositories;
 import nl.obren.sokrates.sourcecode.landscape.analysis.ContributorRepositoryInfo;
 import nl.obren.sokrates.sourcecode.landscape.analysis.LandscapeAnalysisResults;
@@ -141,7 +140,7 @@ public class LandscapeContributorsReport {
         } else {
             avatarUrl = this.getAvatarUrl(contributorId, this.landscapeAnalysisResults.getConfiguration().getContributorAvatarLinkTemplate());
         }
-        String defaultAvatar = contributor.getMembers().size() > 0 ? DataImageUtils.TEAM : DataImageUtils.DEVELOPER;
+        String defaultAvatar = contributor.getMembers().size() > 0 ? DataImageUtils.getTeamImage() : DataImageUtils.getDeveloperImage();
         if (avatarUrl != null) {
             avatarHtml = "<div style='vertical-align: middle; display: inline-block; width: 48px; margin-top: 2px;'>" +
                     "<img style='border-radius: 50%; height: 38px; width: 38px; margin-right: 10px;' src='" + avatarUrl + "' " +
@@ -246,12 +245,6 @@ public class LandscapeContributorsReport {
     }
 
     private String getTeam(String contributorId) {
-        for (TeamConfig teamConfig : landscapeAnalysisResults.getTeamsConfig().getTeams()) {
-            if (RegexUtils.matchesAnyPattern(contributorId, teamConfig.getEmailPatterns())) {
-                return teamConfig.getName();
-            }
-        }
-
-        return null;
+        return landscapeAnalysisResults.getTeamsConfig().getTeam(contributorId);
     }
 }
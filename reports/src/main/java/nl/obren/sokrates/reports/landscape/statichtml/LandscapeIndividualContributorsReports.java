@@ -1,7 +1,11 @@
 package nl.obren.sokrates.reports.landscape.statichtml;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import nl.obren.sokrates.common.io.JsonGenerator;
 import nl.obren.sokrates.common.utils.FormattingUtils;
+import nl.obren.sokrates.common.utils.HashUtils;
 import nl.obren.sokrates.common.utils.SystemUtils;
+import nl.obren.sokrates.reports.core.ReportAssets;
 import nl.obren.sokrates.reports.core.RichTextReport;
 import nl.obren.sokrates.reports.landscape.utils.ContributorPerExtensionHelper;
 import nl.obren.sokrates.reports.utils.DataImageUtils;
@@ -11,9 +15,12 @@ import nl.obren.sokrates.sourcecode.filehistory.DateUtils;
 import nl.obren.sokrates.sourcecode.githistory.ContributorPerExtensionStats;
 import nl.obren.sokrates.sourcecode.landscape.PeopleConfig;
 import nl.obren.sokrates.sourcecode.landscape.PersonConfig;
+import nl.obren.sokrates.sourcecode.landscape.analysis.CommitActivityCalendar;
 import nl.obren.sokrates.sourcecode.landscape.analysis.ContributorRepositories;
 import nl.obren.sokrates.sourcecode.landscape.analysis.ContributorRepositoryInfo;
+import nl.obren.sokrates.sourcecode.landscape.analysis.LandscapeActivityIndex;
 import nl.obren.sokrates.sourcecode.landscape.analysis.LandscapeAnalysisResults;
+import nl.obren.sokrates.sourcecode.landscape.analysis.RepositoryAnalysisResults;
 import nl.obren.sokrates.sourcecode.metrics.NumericMetric;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
@@ -26,9 +33,12 @@ import java.util.List;
 import static nl.obren.sokrates.reports.core.ReportFileExporter.getDetailsIcon;
 
 public class LandscapeIndividualContributorsReports {
+    // part of the input digest; increase when the content or the layout of individual reports changes
+    private static final String REPORT_FORMAT_VERSION = "2";
+
     private LandscapeAnalysisResults landscapeAnalysisResults;
     private final File reportsFolder;
-    private List<RichTextReport> reports = new ArrayList<>();
+    private String globalInputs;
 
     public LandscapeIndividualContributorsReports(LandscapeAnalysisResults landscapeAnalysisResults, File reportsFolder) {
         this.landscapeAnalysisResults = landscapeAnalysisResults;
@@ -39,15 +49,89 @@ public class LandscapeIndividualContributorsReports {
         return SystemUtils.getSafeFileName(email).toLowerCase() + ".html";
     }
 
-    public List<RichTextReport> getIndividualReports(List<ContributorRepositories> contributors) {
-        contributors.forEach(contributor -> {
-            reports.add(getIndividualReport(contributor));
+    // a digest of all data shown in the individual report, used to skip regenerating unchanged reports
+    public String getInputDigest(ContributorRepositories contributorRepositories) {
+        StringBuilder inputs = new StringBuilder(getGlobalInputs());
+        appendInputs(inputs, contributorRepositories);
+        appendExtensionInputs(inputs, contributorRepositories);
+        contributorRepositories.getMembers().forEach(member -> {
+            appendInputs(inputs, member);
+            // the members table shows the most used extension of each member
+            appendExtensionInputs(inputs, member);
         });
+        return HashUtils.sha256Hex(inputs.toString());
+    }
 
-        return reports;
+    private synchronized String getGlobalInputs() {
+        if (globalInputs == null) {
+            StringBuilder inputs = new StringBuilder(REPORT_FORMAT_VERSION).append('|');
+            // the version of Sokrates, if running from a packaged jar
+            inputs.append(getClass().getPackage().getImplementationVersion()).append('\n');
+            try {
+                JsonGenerator jsonGenerator = new JsonGenerator();
+                inputs.append(jsonGenerator.generate(landscapeAnalysisResults.getConfiguration())).append('\n');
+                inputs.append(jsonGenerator.generate(landscapeAnalysisResults.getPeopleConfig())).append('\n');
+            } catch (JsonProcessingException e) {
+                inputs.append(System.nanoTime());
+            }
+            inputs.append(landscapeAnalysisResults.getLatestCommitDate()).append('\n');
+            inputs.append(ReportAssets.isInline()).append('\n');
+            globalInputs = inputs.toString();
+        }
+        return globalInputs;
     }
 
-    private RichTextReport getIndividualReport(ContributorRepositories contributorRepositories) {
+    private void appendInputs(StringBuilder inputs, ContributorRepositories contributorRepositories) {
+        Contributor contributor = contributorRepositories.getContributor();
+        inputs.append(contributor.getEmail()).append('|')
+                .append(contributor.getFirstCommitDate()).append('|')
+                .append(contributor.getLatestCommitDate()).append('|')
+                .append(contributor.getCommitsCount30Days()).append('|')
+                .append(contributor.getCommitsCount90Days()).append('|')
+                .append(contributor.getCommitsCount180Days()).append('|')
+                .append(contributor.getCommitsCount365Days()).append('|')
+                .append(contributor.getCommitsCount()).append('|')
+                .append(contributorRepositories.getMembers().size()).append('\n');
+        contributorRepositories.getRepositories().forEach(repository -> {
+            RepositoryAnalysisResults repositoryResults = repository.getRepositoryAnalysisResults();
+            AspectAnalysisResults main = repositoryResults.getAnalysisResults().getMainAspectAnalysisResults();
+            inputs.append(repositoryResults.getAnalysisResults().getMetadata().getName()).append('|')
+                    .append(repositoryResults.getSokratesRepositoryLink().getHtmlReportsRoot()).append('|')
+                    .append(repositoryResults.getAnalysisResults().getContributorsAnalysisResults().getLatestCommitDate()).append('|')
+                    .append(main.getLinesOfCodePerExtension().size() > 0 ? main.getLinesOfCodePerExtension().get(0).getName() : "").append('|')
+                    .append(repository.getFirstCommitDate()).append('|')
+                    .append(repository.getLatestCommitDate()).append('|')
+                    .append(repository.getCommits30Days()).append('|')
+                    .append(repository.getCommits90Days()).append('|')
+                    .append(repository.getCommits180Days()).append('|')
+                    .append(repository.getCommits365Days()).append('|')
+                    .append(repository.getCommitsCount()).append('|')
+                    .append(String.join(",", repository.getCommitDates())).append('\n');
+        });
+    }
+
+    // file updates per extension, as shown in the report
+    private void appendExtensionInputs(StringBuilder inputs, ContributorRepositories contributorRepositories) {
+        new ContributorPerExtensionHelper().getContributorStatsPerExtension(landscapeAnalysisResults.getConfiguration(),
+                contributorRepositories, landscapeAnalysisResults.getPeopleConfig()).forEach(extensionStats -> {
+            ContributorPerExtensionStats stats = extensionStats.getRight();
+            inputs.append(extensionStats.getLeft()).append('|')
+                    .append(stats.getFileUpdates30Days()).append('|')
+                    .append(stats.getFileUpdates90Days()).append('|')
+                    .append(stats.getFileUpdates()).append('\n');
+        });
+    }
+
+    // sorts repositories in place, so it has to be called before the reports are generated in parallel
+    public void sortRepositories(List<ContributorRepositories> contributors) {
+        contributors.forEach(contributorRepositories -> {
+            Collections.sort(contributorRepositories.getRepositories(), (a, b) -> 10000 * (b.getCommits30Days() - a.getCommits30Days()) +
+                    100 * (b.getCommits90Days() - a.getCommits90Days()) +
+                    (b.getCommitsCount() - a.getCommitsCount()));
+        });
+    }
+
+    public RichTextReport getIndividualReport(ContributorRepositories contributorRepositories) {
         Contributor contributor = contributorRepositories.getContributor();
         RichTextReport report = new RichTextReport(contributor.getEmail(), getContributorIndividualReportFileName(contributor.getEmail()));
         report.setRenderLogo(false);
@@ -64,7 +148,7 @@ public class LandscapeIndividualContributorsReports {
         } else {
             avatarUrl = LandscapeContributorsReport.getAvatarUrl(contributor.getEmail(), landscapeAnalysisResults.getConfiguration().getContributorAvatarLinkTemplate());
         }
-        String defaultAvatar = contributorRepositories.getMembers().size() > 0 ? DataImageUtils.TEAM : DataImageUtils.DEVELOPER;
+        String defaultAvatar = contributorRepositories.getMembers().size() > 0 ? DataImageUtils.getTeamImage() : DataImageUtils.getDeveloperImage();
         if (avatarUrl != null) {
             avatarHtml = "<div style='vertical-align: middle; display: inline-block; width: 88px; margin-top: 2px;'>" +
                     "<img style='border-radius: 50%; height: 80px; width: 80px; margin-right: 10px;' src='" + avatarUrl + "' " +
@@ -158,10 +242,6 @@ public class LandscapeIndividualContributorsReports {
         }
         report.endTabGroup();
 
-        Collections.sort(contributorRepositories.getRepositories(), (a, b) -> 10000 * (b.getCommits30Days() - a.getCommits30Days()) +
-                100 * (b.getCommits90Days() - a.getCommits90Days()) +
-                (b.getCommitsCount() - a.getCommitsCount()));
-
         report.startTabContentSection("week", false);
         addPerWeek(contributorRepositories, report);
         report.endTabContentSection();
@@ -261,20 +341,13 @@ public class LandscapeIndividualContributorsReports {
         report.addTableCell("Commits<br>(3m)", "max-width: 100px; text-align: center; border: none");
         report.addTableCell("Commit<br>Days", "max-width: 100px; text-align: center; border: none");
         List<ContributorRepositoryInfo> repositories = new ArrayList<>(contributorRepositories.getRepositories());
+        LandscapeActivityIndex activityIndex = landscapeAnalysisResults.getActivityIndex();
         pastWeeks.forEach(pastWeek -> {
+            int week = CommitActivityCalendar.weekOrdinal(pastWeek);
             int repositoryCount[] = {0};
             repositories.forEach(repository -> {
-                boolean found[] = {false};
-                repository.getCommitDates().forEach(date -> {
-                    String weekMonday = DateUtils.getWeekMonday(date);
-                    if (weekMonday.equals(pastWeek)) {
-                        found[0] = true;
-                        return;
-                    }
-                });
-                if (found[0]) {
+                if (activityIndex.getCalendar(repository).getCommitDaysInWeek(week) > 0) {
                     repositoryCount[0] += 1;
-                    return;
                 }
             });
             String tooltip = "Week of " + pastWeek + ": " + repositoryCount[0] + (repositoryCount[0] == 1 ? " repository" : " repositories");
@@ -287,15 +360,10 @@ public class LandscapeIndividualContributorsReports {
         List<ContributorRepositoryInfo> activeRepositories = new ArrayList<>();
 
         repositories.forEach(repository -> {
+            CommitActivityCalendar calendar = activityIndex.getCalendar(repository);
             int daysCount[] = {0};
             pastWeeks.forEach(pastWeek -> {
-                repository.getCommitDates().forEach(date -> {
-                    String weekMonday = DateUtils.getWeekMonday(date);
-                    if (weekMonday.equals(pastWeek)) {
-                        daysCount[0] += 1;
-                    }
-                });
-
+                daysCount[0] += calendar.getCommitDaysInWeek(CommitActivityCalendar.weekOrdinal(pastWeek));
             });
             if (daysCount[0] > 0) {
                 activeRepositories.add(repository);
@@ -323,16 +391,11 @@ public class LandscapeIndividualContributorsReports {
             report.endTableCell();
             report.addTableCell(repository.getCommits90Days() > 0 ? repository.getCommits90Days() + "" : "-", "text-align: center; border: none; " + textOpacity);
             report.addTableCell(repository.getCommitDates().size() + "", "text-align: center; border: none; " + textOpacity);
+            CommitActivityCalendar calendar = activityIndex.getCalendar(repository);
             int index[] = {0};
             pastWeeks.forEach(pastWeek -> {
-                int daysCount[] = {0};
+                int daysCount[] = {calendar.getCommitDaysInWeek(CommitActivityCalendar.weekOrdinal(pastWeek))};
                 index[0] += 1;
-                repository.getCommitDates().forEach(date -> {
-                    String weekMonday = DateUtils.getWeekMonday(date);
-                    if (weekMonday.equals(pastWeek)) {
-                        daysCount[0] += 1;
-                    }
-                });
                 report.startTableCell("text-align: center; padding: 0; border: none; vertical-align: middle");
                 if (daysCount[0] > 0) {
                     int size = 10 + daysCount[0] * 4;
@@ -362,20 +425,13 @@ public class LandscapeIndividualContributorsReports {
         report.addTableCell("", "min-width: 200px; border: none");
         report.addTableCell("Commits<br>(3m)", "max-width: 100px; text-align: center; border: none");
         report.addTableCell("Commit<br>Days", "max-width: 100px; text-align: center; border: none");
+        LandscapeActivityIndex activityIndex = landscapeAnalysisResults.getActivityIndex();
         pastMonths.forEach(pastMonth -> {
+            int month = CommitActivityCalendar.monthOrdinal(pastMonth);
             int repositoryCount[] = {0};
             contributorRepositories.getRepositories().forEach(repository -> {
-                boolean found[] = {false};
-                repository.getCommitDates().forEach(date -> {
-                    String weekMonday = DateUtils.getMonth(date);
-                    if (weekMonday.equals(pastMonth)) {
-                        found[0] = true;
-                        return;
-                    }
-                });
-                if (found[0]) {
+                if (activityIndex.getCalendar(repository).getCommitDaysInMonth(month) > 0) {
                     repositoryCount[0] += 1;
-                    return;
                 }
             });
             String tooltip = "Month " + pastMonth + ": " + repositoryCount[0] + (repositoryCount[0] == 1 ? " repository" : " repositories");
@@ -406,15 +462,10 @@ public class LandscapeIndividualContributorsReports {
             report.endTableCell();
             report.addTableCell(repository.getCommits90Days() > 0 ? repository.getCommits90Days() + "" : "-", "text-align: center; border: none; " + textOpacity);
             report.addTableCell(repository.getCommitDates().size() + "", "text-align: center; border: none; " + textOpacity);
+            CommitActivityCalendar calendar = activityIndex.getCalendar(repository);
             int index[] = {0};
             pastMonths.forEach(pastMonth -> {
-                int count[] = {0};
-                repository.getCommitDates().forEach(date -> {
-                    String month = DateUtils.getMonth(date);
-                    if (month.equals(pastMonth)) {
-                        count[0] += 1;
-                    }
-                });
+                int count[] = {calendar.getCommitDaysInMonth(CommitActivityCalendar.monthOrdinal(pastMonth))};
                 index[0] += 1;
                 report.startTableCell("text-align: center; padding: 0; border: none; vertical-align: middle;");
                 if (count[0] > 0) {
@@ -461,44 +512,27 @@ public class LandscapeIndividualContributorsReports {
         report.addTableCell("", "min-width: 200px; border: none; max-width: 500px; white-space: nowrap; overflow: hidden");
         report.addTableCell("Commits<br>(3m)", "max-width: 100px; text-align: center; border: none");
         report.addTableCell("Commit<br>Days", "max-width: 100px; text-align: center; border: none");
+        LandscapeActivityIndex activityIndex = landscapeAnalysisResults.getActivityIndex();
+        int yearsCount = pastYears.size();
+        int repositoryCounts[] = new int[yearsCount];
+        int repositoryDaysPerYear[] = new int[yearsCount];
         int maxRepositoryDays[] = {1};
-        pastYears.forEach(pastYear -> {
-            int repositoryCount[] = {0};
-            int repositoryDays[] = {0};
-            contributorRepositories.getRepositories().forEach(repository -> {
-                boolean found[] = {false};
-                repository.getCommitDates().forEach(date -> {
-                    String year = DateUtils.getYear(date);
-                    if (year.equals(pastYear)) {
-                        found[0] = true;
-                        return;
-                    }
-                });
-                if (found[0]) {
-                    repositoryCount[0] += 1;
-                    repositoryDays[0] += repository.getCommitDates().stream().filter(date -> date.startsWith(pastYear + "-")).count();
-                    return;
+        for (int i = 0; i < yearsCount; i++) {
+            int year = CommitActivityCalendar.yearOrdinal(pastYears.get(i));
+            for (ContributorRepositoryInfo repository : contributorRepositories.getRepositories()) {
+                int days = activityIndex.getCalendar(repository).getCommitDaysInYear(year);
+                if (days > 0) {
+                    repositoryCounts[i] += 1;
+                    repositoryDaysPerYear[i] += days;
                 }
-            });
-
-            maxRepositoryDays[0] = Math.max(repositoryDays[0], maxRepositoryDays[0]);
-        });
+            }
+            maxRepositoryDays[0] = Math.max(repositoryDaysPerYear[i], maxRepositoryDays[0]);
+        }
+        int yearIndex[] = {0};
         pastYears.forEach(pastYear -> {
-            int repositoryCount[] = {0};
-            int repositoryDays[] = {0};
-            contributorRepositories.getRepositories().forEach(repository -> {
-                boolean found[] = {false};
-                repository.getCommitDates().forEach(date -> {
-                    String year = DateUtils.getYear(date);
-                    if (year.equals(pastYear)) {
-                        found[0] = true;
-                    }
-                });
-                if (found[0]) {
-                    repositoryCount[0] += 1;
-                    repositoryDays[0] += repository.getCommitDates().stream().filter(date -> date.startsWith(pastYear + "-")).count();
-                }
-            });
+            int repositoryCount[] = {repositoryCounts[yearIndex[0]]};
+            int repositoryDays[] = {repositoryDaysPerYear[yearIndex[0]]};
+            yearIndex[0] += 1;
             String tooltip = "Month " + pastYear + ": " + repositoryCount[0] + (repositoryCount[0] == 1 ? " repository" : " repositories"
                     + ", " + repositoryDays[0] + " commit " + (repositoryDays[0] == 1 ? "day" : "days"));
             report.startTableCell("vertical-align: bottom; font-size: 70%; border: none; color: lightgrey; text-align: center");
@@ -534,15 +568,10 @@ public class LandscapeIndividualContributorsReports {
             report.endTableCell();
             report.addTableCell(repository.getCommits90Days() > 0 ? repository.getCommits90Days() + "" : "-", "text-align: center; border: none; " + textOpacity);
             report.addTableCell(repository.getCommitDates().size() + "", "text-align: center; border: none; " + textOpacity);
+            CommitActivityCalendar calendar = activityIndex.getCalendar(repository);
             int index[] = {0};
             pastYears.forEach(pastYear -> {
-                int count[] = {0};
-                repository.getCommitDates().forEach(date -> {
-                    String year = DateUtils.getYear(date);
-                    if (year.equals(pastYear)) {
-                        count[0] += 1;
-                    }
-                });
+                int count[] = {calendar.getCommitDaysInYear(CommitActivityCalendar.yearOrdinal(pastYear))};
                 index[0] += 1;
                 report.startTableCell("text-align: center; padding: 0; border: none; vertical-align: middle;");
                 if (count[0] > 0) {
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.reports.landscape.statichtml;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import nl.obren.sokrates.common.io.JsonGenerator;
+import nl.obren.sokrates.common.io.JsonMapper;
+import nl.obren.sokrates.common.utils.BoundedExecutor;
+import nl.obren.sokrates.reports.core.ReportFileExporter;
+import nl.obren.sokrates.reports.core.RichTextReport;
+import nl.obren.sokrates.sourcecode.landscape.analysis.ContributorRepositories;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates and saves individual contributor, team and bot pages with a pool of workers,
+ * one page at a time, without keeping generated reports in memory.
+ * <p>
+ * The digest of the inputs of each page is saved next to the landscape data. In the incremental mode,
+ * pages whose inputs did not change since the previous landscape update are not regenerated.
+ */
+public class LandscapeIndividualReportsExporter {
+    private static final Log LOG = LogFactory.getLog(LandscapeIndividualReportsExporter.class);
+
+    public static final String DIGESTS_FILE_NAME = "individualReportsDigests.json";
+
+    private final File folder;
+    private final File digestsFile;
+    private final String customHeaderFragment;
+    private final boolean incremental;
+    private final LandscapeIndividualContributorsReports reportsGenerator;
+    private final Map<String, String> previousDigests;
+    private final Map<String, String> digests = new ConcurrentHashMap<>();
+    private final AtomicInteger skippedCount = new AtomicInteger();
+
+    public LandscapeIndividualReportsExporter(LandscapeIndividualContributorsReports reportsGenerator, File folder, File digestsFile,
+                                              String customHeaderFragment, boolean incremental) {
+        this.reportsGenerator = reportsGenerator;
+        this.folder = folder;
+        this.digestsFile = digestsFile;
+        this.customHeaderFragment = customHeaderFragment;
+        this.incremental = incremental;
+        this.previousDigests = incremental ? loadDigests() : new TreeMap<>();
+    }
+
+    public void export(String type, List<ContributorRepositories> contributors) {
+        LOG.info("Exporting " + contributors.size() + " " + type + " report(s).");
+        reportsGenerator.sortRepositories(contributors);
+        try (BoundedExecutor executor = new BoundedExecutor("landscape-" + type + "-reports")) {
+            contributors.forEach(contributor -> executor.submit(() -> export(type, contributor)));
+            executor.awaitCompletion();
+        }
+    }
+
+    private void export(String type, ContributorRepositories contributor) {
+        String email = contributor.getContributor().getEmail();
+        String fileName = LandscapeIndividualContributorsReports.getContributorIndividualReportFileName(email);
+        String digest = reportsGenerator.getInputDigest(contributor);
+        digests.put(fileName, digest);
+
+        if (incremental && digest.equals(previousDigests.get(fileName)) && new File(folder, fileName).exists()) {
+            skippedCount.incrementAndGet();
+            return;
+        }
+
+        LOG.info("Exporting " + type + " " + fileName + ".");
+        RichTextReport report = reportsGenerator.getIndividualReport(contributor);
+        ReportFileExporter.exportHtml(folder, "", report, customHeaderFragment);
+    }
+
+    public void finish() {
+        if (incremental) {
+            LOG.info("Skipped " + skippedCount.get() + " unchanged individual report(s).");
+            deleteStaleReports();
+        }
+        saveDigests();
+    }
+
+    private void deleteStaleReports() {
+        File[] files = folder.listFiles((dir, name) -> name.endsWith(".html"));
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            if (!digests.containsKey(file.getName())) {
+                LOG.info("Deleting stale report " + file.getName() + ".");
+                FileUtils.deleteQuietly(file);
+            }
+        }
+    }
+
+    private Map<String, String> loadDigests() {
+        if (digestsFile.exists()) {
+            try {
+                String json = FileUtils.readFileToString(digestsFile, StandardCharsets.UTF_8);
+                Map<String, String> loaded = JsonMapper.getObject(json, new TypeReference<Map<String, String>>() {
+                });
+                if (loaded != null) {
+                    return loaded;
+                }
+            } catch (IOException e) {
+                LOG.warn("Cannot read " + digestsFile.getPath() + ", regenerating all individual reports.");
+            }
+        }
+        return new TreeMap<>();
+    }
+
+    private void saveDigests() {
+        try {
+            FileUtils.write(digestsFile, new JsonGenerator().generate(new TreeMap<>(digests)), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            LOG.error(e);
+        }
+    }
+}
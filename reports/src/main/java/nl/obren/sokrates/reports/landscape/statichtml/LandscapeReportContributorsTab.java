@@ -26,15 +26,19 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 
 import java.io.File;
+import java.time.LocalDate;
 import java.util.*;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
 import static nl.obren.sokrates.reports.landscape.statichtml.LandscapeReportGenerator.*;
 
 public class LandscapeReportContributorsTab {
 
-    private List<RichTextReport> individualReports = new ArrayList<>();
-    private List<RichTextReport> botReports = new ArrayList<>();
+    private List<ContributorRepositories> individualContributors = new ArrayList<>();
+    private List<ContributorRepositories> individualBots = new ArrayList<>();
 
     enum Type {
         CONTRIBUTORS("contributor", "contributors", true),
@@ -67,14 +71,21 @@ public class LandscapeReportContributorsTab {
     private LandscapeAnalysisResults landscapeAnalysisResults;
     private File folder;
     private File reportsFolder;
-    private Map<String, List<String>> contributorsPerWeekMap = new HashMap<>();
-    private Map<String, List<String>> rookiesPerWeekMap = new HashMap<>();
     private Map<String, List<String>> contributorsPerDayMap = new HashMap<>();
     private Map<String, List<String>> rookiesPerDayMap = new HashMap<>();
-    private Map<String, List<String>> contributorsPerMonthMap = new HashMap<>();
-    private Map<String, List<String>> rookiesPerMonthMap = new HashMap<>();
-    private Map<String, List<String>> contributorsPerYearMap = new HashMap<>();
-    private Map<String, List<String>> rookiesPerYearMap = new HashMap<>();
+    // weeks, months and years are keyed by the ordinals of the landscape activity index
+    private Map<Integer, List<String>> contributorsPerWeekMap = new HashMap<>();
+    private Map<Integer, List<String>> rookiesPerWeekMap = new HashMap<>();
+    private Map<Integer, List<String>> contributorsPerMonthMap = new HashMap<>();
+    private Map<Integer, List<String>> rookiesPerMonthMap = new HashMap<>();
+    private Map<Integer, List<String>> contributorsPerYearMap = new HashMap<>();
+    private Map<Integer, List<String>> rookiesPerYearMap = new HashMap<>();
+    private Map<Integer, List<String>> firstContributorsPerWeekMap;
+    private Map<Integer, List<String>> latestContributorsPerWeekMap;
+    private Map<Integer, List<String>> firstContributorsPerMonthMap;
+    private Map<Integer, List<String>> latestContributorsPerMonthMap;
+    private Map<Integer, List<String>> firstContributorsPerYearMap;
+    private Map<Integer, List<String>> latestContributorsPerYearMap;
     private RichTextReport landscapeReport;
     private final Type type;
     private final TeamsConfig teamsConfig;
@@ -201,8 +212,6 @@ public class LandscapeReportContributorsTab {
                     "(started in past year)", "active contributors with the first commit in past year");
             addWorkloadInfoBlock(FormattingUtils.getSmallTextForNumber(locPerRecentContributor), type.singular() + " load",
                     "(active LOC/" + type.singular() + ")", "active lines of code per recent " + type.singular() + "\n\n" + FormattingUtils.getPlainTextForNumber(locNewPerRecentContributor) + " new LOC/recent " + type.singular());
-            List<ComponentDependency> peopleDependencies = ContributorConnectionUtils.getPeopleDependencies(contributors, 0, 30);
-            peopleDependencies.sort((a, b) -> b.getCount() - a.getCount());
         }
     }
 
@@ -475,8 +484,8 @@ public class LandscapeReportContributorsTab {
                     .filter(c -> contributorsLinkedFromTables.contains(c.getContributor().getEmail()))
                     .collect(Collectors.toList());
             LOG.info("Saving bot reports for " + linkedBots.size() + " contributor(s) linked from tables (out of " + linkedBots.size() + ")");
-            individualReports = new LandscapeIndividualContributorsReports(landscapeAnalysisResults, reportsFolder).getIndividualReports(linkedContributors);
-            botReports = new LandscapeIndividualContributorsReports(landscapeAnalysisResults, reportsFolder).getIndividualReports(linkedBots);
+            individualContributors = linkedContributors;
+            individualBots = linkedBots;
             ProcessingStopwatch.end("reporting/contributors/individual reports");
         }
         ProcessingStopwatch.end("reporting/contributors");
@@ -1104,24 +1113,69 @@ public class LandscapeReportContributorsTab {
     }
 
     private int getContributorsCountPerYear(String year) {
-        return this.contributorsPerYearMap.containsKey(year) ? contributorsPerYearMap.get(year).size() : 0;
+        return getContributors(contributorsPerYearMap, CommitActivityCalendar.yearOrdinal(year)).size();
     }
 
     private void populateTimeSlotMaps() {
+        LandscapeActivityIndex activityIndex = landscapeAnalysisResults.getActivityIndex();
+        // the start of a rookie period is the same for all contributors active in a time slot
+        Map<Integer, String> weekRookieStartDates = new HashMap<>();
+        Map<Integer, String> monthRookieStartDates = new HashMap<>();
+        Map<Integer, String> yearRookieStartDates = new HashMap<>();
+
         contributors.forEach(contributorRepositories -> {
-            List<String> commitDates = contributorRepositories.getContributor().getCommitDates();
-            commitDates.forEach(day -> {
-                String week = DateUtils.getWeekMonday(day);
-                String month = DateUtils.getMonth(day);
-                String year = DateUtils.getYear(day);
-
-                updateTimeSlotMap(contributorRepositories, contributorsPerDayMap, rookiesPerDayMap, day, day);
-                updateTimeSlotMap(contributorRepositories, contributorsPerWeekMap, rookiesPerWeekMap, week, week);
-                updateTimeSlotMap(contributorRepositories, contributorsPerMonthMap, rookiesPerMonthMap, month, month + "-01");
-                updateTimeSlotMap(contributorRepositories, contributorsPerYearMap, rookiesPerYearMap, year, year + "-01-01");
-            });
+            Contributor contributor = contributorRepositories.getContributor();
+            contributor.getCommitDates().forEach(day ->
+                    updateTimeSlotMap(contributor, contributorsPerDayMap, rookiesPerDayMap, day, contributor.isRookieAtDate(day)));
+
+            CommitActivityCalendar calendar = activityIndex.getCalendar(contributorRepositories);
+            calendar.forEachActiveWeek(week -> updateTimeSlotMap(contributor, contributorsPerWeekMap, rookiesPerWeekMap, week,
+                    isRookie(contributor, weekRookieStartDates, week, CommitActivityCalendar::getWeekStart)));
+            calendar.forEachActiveMonth(month -> updateTimeSlotMap(contributor, contributorsPerMonthMap, rookiesPerMonthMap, month,
+                    isRookie(contributor, monthRookieStartDates, month, CommitActivityCalendar::getMonthStart)));
+            calendar.forEachActiveYear(year -> updateTimeSlotMap(contributor, contributorsPerYearMap, rookiesPerYearMap, year,
+                    isRookie(contributor, yearRookieStartDates, year, CommitActivityCalendar::getYearStart)));
         });
 
+        firstContributorsPerWeekMap = getContributorsPerFirstOrLatestTimeSlot(CommitActivityCalendar::weekOrdinal, true, contributor -> true);
+        latestContributorsPerWeekMap = getContributorsPerFirstOrLatestTimeSlot(CommitActivityCalendar::weekOrdinal, false, contributor -> true);
+        firstContributorsPerMonthMap = getContributorsPerFirstOrLatestTimeSlot(CommitActivityCalendar::monthOrdinal, true, contributor -> true);
+        latestContributorsPerMonthMap = getContributorsPerFirstOrLatestTimeSlot(CommitActivityCalendar::monthOrdinal, false, contributor -> true);
+        // only look at contributors with at least 10 commits days per year
+        int minCommitDays = landscapeAnalysisResults.getConfiguration().getSignificantContributorMinCommitDaysPerYear();
+        firstContributorsPerYearMap = getContributorsPerFirstOrLatestTimeSlot(CommitActivityCalendar::yearOrdinal, true, contributor -> contributor.getCommitDates().size() >= minCommitDays);
+        latestContributorsPerYearMap = getContributorsPerFirstOrLatestTimeSlot(CommitActivityCalendar::yearOrdinal, false, contributor -> contributor.getCommitDates().size() >= minCommitDays);
+    }
+
+    // the same as Contributor.isRookieAtDate for the first day of the time slot
+    private boolean isRookie(Contributor contributor, Map<Integer, String> rookieStartDates, int timeSlot, IntFunction<LocalDate> timeSlotStart) {
+        String rookieStartDate = rookieStartDates.computeIfAbsent(timeSlot, slot -> timeSlotStart.apply(slot).minusYears(1).toString());
+        return contributor.getFirstCommitDate().compareTo(rookieStartDate) >= 0;
+    }
+
+    // contributors grouped by the time slot of their first (or latest) commit, ignoring those active in only one time slot
+    private Map<Integer, List<String>> getContributorsPerFirstOrLatestTimeSlot(ToIntFunction<String> timeSlotOrdinal, boolean first, Predicate<Contributor> filter) {
+        Map<Integer, Map<String, String>> emails = new HashMap<>();
+
+        contributors.stream()
+                .sorted((a, b) -> b.getContributor().getCommitsCount30Days() - a.getContributor().getCommitsCount30Days())
+                .map(ContributorRepositories::getContributor)
+                .forEach(contributor -> {
+                    int firstTimeSlot = timeSlotOrdinal.applyAsInt(contributor.getFirstCommitDate());
+                    int latestTimeSlot = timeSlotOrdinal.applyAsInt(contributor.getLatestCommitDate());
+                    if (firstTimeSlot != latestTimeSlot && filter.test(contributor)) {
+                        String email = contributor.getEmail();
+                        emails.computeIfAbsent(first ? firstTimeSlot : latestTimeSlot, timeSlot -> new HashMap<>()).put(email, email);
+                    }
+                });
+
+        Map<Integer, List<String>> map = new HashMap<>();
+        emails.forEach((timeSlot, timeSlotEmails) -> map.put(timeSlot, new ArrayList<>(timeSlotEmails.values())));
+        return map;
+    }
+
+    private static List<String> getContributors(Map<Integer, List<String>> map, int timeSlot) {
+        return map.containsKey(timeSlot) ? map.get(timeSlot) : new ArrayList<>();
     }
 
     private List<String> getSignificantContributorsPerYear(List<ContributorRepositories> contributorRepositories, String year, boolean rookiesOnly, int thresholdCommitDays) {
@@ -1129,16 +1183,13 @@ public class LandscapeReportContributorsTab {
             return getLastContributorsPerYear(year, true);
         }
         return contributorRepositories.stream()
-                .filter(c -> c.getContributor().getCommitDates().stream().filter(d -> d.startsWith(year)).count() >= thresholdCommitDays)
+                .filter(c -> landscapeAnalysisResults.getActivityIndex().getCalendar(c).getCommitDaysInYear(CommitActivityCalendar.yearOrdinal(year)) >= thresholdCommitDays)
                 .map(c -> c.getContributor().getEmail())
                 .collect(Collectors.toList());
     }
 
-    private void updateTimeSlotMap(ContributorRepositories contributorRepositories,
-                                   Map<String, List<String>> map, Map<String, List<String>> rookiesMap, String key, String rookieDate) {
-        boolean rookie = contributorRepositories.getContributor().isRookieAtDate(rookieDate);
-
-        String email = contributorRepositories.getContributor().getEmail();
+    private <K> void updateTimeSlotMap(Contributor contributor, Map<K, List<String>> map, Map<K, List<String>> rookiesMap, K key, boolean rookie) {
+        String email = contributor.getEmail();
         if (map.containsKey(key)) {
             if (!map.get(key).contains(email)) {
                 map.get(key).add(email);
@@ -1158,8 +1209,7 @@ public class LandscapeReportContributorsTab {
     }
 
     private List<String> getContributorsPerWeek(String week, boolean rookiesOnly) {
-        Map<String, List<String>> map = rookiesOnly ? rookiesPerWeekMap : contributorsPerWeekMap;
-        return map.containsKey(week) ? map.get(week) : new ArrayList<>();
+        return getContributors(rookiesOnly ? rookiesPerWeekMap : contributorsPerWeekMap, CommitActivityCalendar.weekOrdinal(week));
     }
 
     private List<String> getContributorsPerDay(String day, boolean rookiesOnly) {
@@ -1168,22 +1218,7 @@ public class LandscapeReportContributorsTab {
     }
 
     private List<String> getLastContributorsPerWeek(String week, boolean first) {
-        Map<String, String> emails = new HashMap<>();
-
-        contributors.stream()
-                .sorted((a, b) -> b.getContributor().getCommitsCount30Days() - a.getContributor().getCommitsCount30Days())
-                .filter(c -> !DateUtils.getWeekMonday(c.getContributor().getFirstCommitDate()).equals(DateUtils.getWeekMonday(c.getContributor().getLatestCommitDate())))
-                // .filter(c -> c.getContributor().getCommitDates().size() >= landscapeAnalysisResults.getConfiguration().getSignificantContributorMinCommitDaysPerYear())
-                .forEach(contributorRepositories -> {
-                    Contributor contributor = contributorRepositories.getContributor();
-                    if (DateUtils.getWeekMonday(first ? contributor.getFirstCommitDate() : contributor.getLatestCommitDate()).equals(week)) {
-                        String email = contributor.getEmail();
-                        emails.put(email, email);
-                        return;
-                    }
-                });
-
-        return new ArrayList<>(emails.values());
+        return getContributors(first ? firstContributorsPerWeekMap : latestContributorsPerWeekMap, CommitActivityCalendar.weekOrdinal(week));
     }
 
     private List<String> getLastContributorsPerDay(String day, boolean first) {
@@ -1205,47 +1240,15 @@ public class LandscapeReportContributorsTab {
     }
 
     private List<String> getContributorsPerMonth(String month, boolean rookiesOnly) {
-        Map<String, List<String>> map = rookiesOnly ? rookiesPerMonthMap : contributorsPerMonthMap;
-        return map.containsKey(month) ? map.get(month) : new ArrayList<>();
+        return getContributors(rookiesOnly ? rookiesPerMonthMap : contributorsPerMonthMap, CommitActivityCalendar.monthOrdinal(month));
     }
 
     private List<String> getLastContributorsPerYear(String year, boolean first) {
-        Map<String, String> emails = new HashMap<>();
-
-        contributors.stream()
-                .sorted((a, b) -> b.getContributor().getCommitsCount30Days() - a.getContributor().getCommitsCount30Days())
-                .filter(c -> !DateUtils.getYear(c.getContributor().getLatestCommitDate()).equals(DateUtils.getYear(c.getContributor().getFirstCommitDate())))
-                .forEach(contributorRepositories -> {
-                    Contributor contributor = contributorRepositories.getContributor();
-                    if (DateUtils.getYear(first ? contributor.getFirstCommitDate() : contributor.getLatestCommitDate()).equals(year)) {
-                        String email = contributor.getEmail();
-                        // only look at contributors with at least 10 commits days per year
-                        if (contributor.getCommitDates().size() >= landscapeAnalysisResults.getConfiguration().getSignificantContributorMinCommitDaysPerYear()) {
-                            emails.put(email, email);
-                        }
-                        return;
-                    }
-                });
-
-        return new ArrayList<>(emails.values());
+        return getContributors(first ? firstContributorsPerYearMap : latestContributorsPerYearMap, CommitActivityCalendar.yearOrdinal(year));
     }
 
     private List<String> getLastContributorsPerMonth(String month, boolean first) {
-        Map<String, String> emails = new HashMap<>();
-
-        contributors.stream()
-                .sorted((a, b) -> b.getContributor().getCommitsCount30Days() - a.getContributor().getCommitsCount30Days())
-                .filter(c -> !DateUtils.getMonth(c.getContributor().getLatestCommitDate()).equals(DateUtils.getMonth(c.getContributor().getFirstCommitDate())))
-                .forEach(contributorRepositories -> {
-                    Contributor contributor = contributorRepositories.getContributor();
-                    if (DateUtils.getMonth(first ? contributor.getFirstCommitDate() : contributor.getLatestCommitDate()).equals(month)) {
-                        String email = contributor.getEmail();
-                        emails.put(email, email);
-                        return;
-                    }
-                });
-
-        return new ArrayList<>(emails.values());
+        return getContributors(first ? firstContributorsPerMonthMap : latestContributorsPerMonthMap, CommitActivityCalendar.monthOrdinal(month));
     }
 
     private boolean isContributorReport() {
@@ -1275,11 +1278,11 @@ public class LandscapeReportContributorsTab {
         return landscapeBotsReport;
     }
 
-    public List<RichTextReport> getIndividualReports() {
-        return individualReports;
+    public List<ContributorRepositories> getIndividualContributors() {
+        return individualContributors;
     }
 
-    public List<RichTextReport> getBotReports() {
-        return botReports;
+    public List<ContributorRepositories> getIndividualBots() {
+        return individualBots;
     }
 }
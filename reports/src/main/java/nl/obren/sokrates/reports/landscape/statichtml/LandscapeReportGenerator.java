@@ -32,7 +32,9 @@ import nl.obren.sokrates.sourcecode.dependencies.ComponentDependency;
 import nl.obren.sokrates.sourcecode.filehistory.DateUtils;
 import nl.obren.sokrates.sourcecode.githistory.CommitsPerExtension;
 import nl.obren.sokrates.sourcecode.landscape.*;
+import nl.obren.sokrates.sourcecode.landscape.analysis.CommitActivityCalendar;
 import nl.obren.sokrates.sourcecode.landscape.analysis.ContributorRepositories;
+import nl.obren.sokrates.sourcecode.landscape.analysis.LandscapeActivityIndex;
 import nl.obren.sokrates.sourcecode.landscape.analysis.LandscapeAnalysisResults;
 import nl.obren.sokrates.sourcecode.landscape.analysis.LandscapeAnalysisResultsReadData;
 import nl.obren.sokrates.sourcecode.landscape.analysis.RepositoryAnalysisResults;
@@ -131,14 +133,8 @@ public class LandscapeReportGenerator {
     private List<TagGroup> tagGroups;
     private File folder;
     private File reportsFolder;
-    private Map<String, List<String>> contributorsPerWeekMap = new HashMap<>();
-    private Map<String, List<String>> rookiesPerWeekMap = new HashMap<>();
-    private Map<String, List<String>> contributorsPerDayMap = new HashMap<>();
-    private Map<String, List<String>> rookiesPerDayMap = new HashMap<>();
-    private Map<String, List<String>> contributorsPerMonthMap = new HashMap<>();
-    private Map<String, List<String>> rookiesPerMonthMap = new HashMap<>();
-    private Map<String, List<String>> contributorsPerYearMap = new HashMap<>();
-    private Map<String, List<String>> rookiesPerYearMap = new HashMap<>();
+    // keyed by the year ordinals of the landscape activity index
+    private Map<Integer, Integer> contributorsCountPerYearMap = new HashMap<>();
     private SourceFileAgeDistribution overallFileLastModifiedDistribution;
     private SourceFileAgeDistribution overallFileFirstModifiedDistribution;
 
@@ -1765,47 +1761,13 @@ public class LandscapeReportGenerator {
     }
 
     private int getContributorsCountPerYear(String year) {
-        return this.contributorsPerYearMap.containsKey(year) ? contributorsPerYearMap.get(year).size() : 0;
+        return contributorsCountPerYearMap.getOrDefault(CommitActivityCalendar.yearOrdinal(year), 0);
     }
 
     private void populateTimeSlotMaps() {
-        landscapeAnalysisResults.getContributors().forEach(contributorRepositories -> {
-            List<String> commitDates = contributorRepositories.getContributor().getCommitDates();
-            commitDates.forEach(day -> {
-                String week = DateUtils.getWeekMonday(day);
-                String month = DateUtils.getMonth(day);
-                String year = DateUtils.getYear(day);
-
-                updateTimeSlotMap(contributorRepositories, contributorsPerDayMap, rookiesPerDayMap, day, day);
-                updateTimeSlotMap(contributorRepositories, contributorsPerWeekMap, rookiesPerWeekMap, week, week);
-                updateTimeSlotMap(contributorRepositories, contributorsPerMonthMap, rookiesPerMonthMap, month, month + "-01");
-                updateTimeSlotMap(contributorRepositories, contributorsPerYearMap, rookiesPerYearMap, year, year + "-01-01");
-            });
-        });
-
-    }
-
-    private void updateTimeSlotMap(ContributorRepositories contributorRepositories,
-                                   Map<String, List<String>> map, Map<String, List<String>> rookiesMap, String key, String rookieDate) {
-        boolean rookie = contributorRepositories.getContributor().isRookieAtDate(rookieDate);
-
-        String email = contributorRepositories.getContributor().getEmail();
-        if (map.containsKey(key)) {
-            if (!map.get(key).contains(email)) {
-                map.get(key).add(email);
-            }
-        } else {
-            map.put(key, new ArrayList<>(Arrays.asList(email)));
-        }
-        if (rookie) {
-            if (rookiesMap.containsKey(key)) {
-                if (!rookiesMap.get(key).contains(email)) {
-                    rookiesMap.get(key).add(email);
-                }
-            } else {
-                rookiesMap.put(key, new ArrayList<>(Arrays.asList(email)));
-            }
-        }
+        LandscapeActivityIndex activityIndex = landscapeAnalysisResults.getActivityIndex();
+        landscapeAnalysisResults.getContributors().forEach(contributorRepositories ->
+                activityIndex.getCalendar(contributorRepositories).forEachActiveYear(year -> contributorsCountPerYearMap.merge(year, 1, Integer::sum)));
     }
 
     private void addDownloadLinks(String graphId) {
@@ -1823,15 +1785,15 @@ public class LandscapeReportGenerator {
         public abstract int getCount(RepositoryAnalysisResults repositoryAnalysisResults);
     }
 
-    public List<RichTextReport> getIndividualContributorReports() {
-        return landscapeReportContributorsTab.getIndividualReports();
+    public List<ContributorRepositories> getIndividualContributors() {
+        return landscapeReportContributorsTab.getIndividualContributors();
     }
 
-    public List<RichTextReport> getIndividualTeamReports() {
-        return landscapeReportTeamsTab.getIndividualReports();
+    public List<ContributorRepositories> getIndividualTeams() {
+        return landscapeReportTeamsTab.getIndividualContributors();
     }
 
-    public List<RichTextReport> getIndividualBotReports() {
-        return landscapeReportContributorsTab.getBotReports();
+    public List<ContributorRepositories> getIndividualBots() {
+        return landscapeReportContributorsTab.getIndividualBots();
     }
 }
\ No newline at end of file
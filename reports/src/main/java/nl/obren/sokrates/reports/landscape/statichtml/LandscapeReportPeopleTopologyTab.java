@@ -6,7 +6,6 @@ package nl.obren.sokrates.reports.landscape.statichtml;
 
 import nl.obren.sokrates.common.renderingutils.VisualizationItem;
 import nl.obren.sokrates.common.utils.FormattingUtils;
-import nl.obren.sokrates.common.utils.RegexUtils;
 import nl.obren.sokrates.reports.core.ReportFileExporter;
 import nl.obren.sokrates.reports.core.RichTextReport;
 import nl.obren.sokrates.reports.landscape.utils.*;
@@ -180,13 +179,9 @@ public class LandscapeReportPeopleTopologyTab {
     private String getTeamOf(String email) {
         if (email.startsWith("[")) return email;
 
-        for (TeamConfig team : teamsConfig.getTeams()) {
-            if (RegexUtils.matchesAnyPattern(email, team.getEmailPatterns())) {
-                return team.getName();
-            }
-        }
+        String team = teamsConfig.getTeam(email);
 
-        return REMAINDER;
+        return team != null ? team : REMAINDER;
     }
 
     private List<ComponentDependency> getTeamDependencies(List<ComponentDependency> peopleDependencies) {
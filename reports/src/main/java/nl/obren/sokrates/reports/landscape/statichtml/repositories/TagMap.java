@@ -3,8 +3,10 @@ package nl.obren.sokrates.reports.landscape.statichtml.repositories;
 import nl.obren.sokrates.common.utils.FormattingUtils;
 import nl.obren.sokrates.reports.landscape.utils.LandscapeGeneratorUtils;
 import nl.obren.sokrates.reports.landscape.utils.TagStats;
+import nl.obren.sokrates.sourcecode.core.CompiledTagPathPatterns;
 import nl.obren.sokrates.sourcecode.landscape.RepositoryTag;
 import nl.obren.sokrates.sourcecode.landscape.TagGroup;
+import nl.obren.sokrates.sourcecode.landscape.analysis.FileExport;
 import nl.obren.sokrates.sourcecode.landscape.analysis.LandscapeAnalysisResults;
 import nl.obren.sokrates.sourcecode.landscape.analysis.RepositoryAnalysisResults;
 import nl.obren.sokrates.sourcecode.metrics.NumericMetric;
@@ -12,6 +14,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 public class TagMap {
     private LandscapeAnalysisResults landscapeAnalysisResults;
@@ -30,17 +33,21 @@ public class TagMap {
 
         LOG.info("Searching for tag patterns in " + FormattingUtils.formatCount(filesCount) + " file paths...");
 
+        List<RepositoryTag> tags = new ArrayList<>();
+        tagGroups.forEach(tagGroup -> tags.addAll(tagGroup.getRepositoryTags()));
+        CompiledTagPathPatterns<RepositoryTag> tagPathPatterns = new CompiledTagPathPatterns<>(tags, RepositoryTag::getPathPatterns, RepositoryTag::getExcludePathPatterns);
+
         repositories.forEach(repository -> {
             List<NumericMetric> linesOfCodePerExtension = LandscapeGeneratorUtils.getLinesOfCodePerExtension(landscapeAnalysisResults, repository.getAnalysisResults().getMainAspectAnalysisResults().getLinesOfCodePerExtension());
             linesOfCodePerExtension.sort((a, b) -> b.getValue().intValue() - a.getValue().intValue());
             String mainTech = linesOfCodePerExtension.size() > 0 ? linesOfCodePerExtension.get(0).getName() : "";
-            List<RepositoryTag> tags = new ArrayList<>();
-            tagGroups.forEach(tagGroup -> tags.addAll(tagGroup.getRepositoryTags()));
+            List<String> paths = repository.getFiles().stream().map(FileExport::getPath).collect(Collectors.toList());
+            Set<RepositoryTag> tagsMatchingPaths = tagPathPatterns.findItemsMatchingAnyPath(paths);
 
             boolean tagged[] = {false};
 
             tags.forEach(tag -> {
-                if (isTagged(repository, mainTech, tag, linesOfCodePerExtension)) {
+                if (isTagged(repository, mainTech, tag, linesOfCodePerExtension, tagsMatchingPaths)) {
                     addRepositoryTag(repository, tag);
                     updateTagStats(repository, tag);
                     tagged[0] = true;
@@ -78,7 +85,7 @@ public class TagMap {
         return repository.getSokratesRepositoryLink().getAnalysisResultsPath();
     }
 
-    private boolean isTagged(RepositoryAnalysisResults repository, String mainTech, RepositoryTag tag, List<NumericMetric> linesOfCodePerExtension) {
+    private boolean isTagged(RepositoryAnalysisResults repository, String mainTech, RepositoryTag tag, List<NumericMetric> linesOfCodePerExtension, Set<RepositoryTag> tagsMatchingPaths) {
         String name = repository.getAnalysisResults().getMetadata().getName();
         if (tag.excludesMainTechnology(mainTech) || tag.excludeName(name)) {
             return false;
@@ -87,7 +94,7 @@ public class TagMap {
         boolean matchesName = tag.matchesName(name);
         boolean matchesMainTechnology = tag.matchesMainTechnology(mainTech);
         boolean matchesAnyTechnology = tag.matchesAnyTechnology(linesOfCodePerExtension);
-        boolean matchesPath = tag.matchesPath(repository.getFiles());
+        boolean matchesPath = tagsMatchingPaths.contains(tag);
 
         return matchesName || matchesMainTechnology || matchesAnyTechnology || matchesPath;
     }
@@ -6,6 +6,7 @@ package nl.obren.sokrates.reports.utils;
 
 import nl.obren.sokrates.sourcecode.aspects.ComponentGroup;
 import nl.obren.sokrates.sourcecode.dependencies.ComponentDependency;
+import nl.obren.sokrates.sourcecode.dependencies.ComponentDependencyGraph;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.ArrayList;
@@ -60,17 +61,6 @@ public class GraphvizDependencyRenderer {
                 : componentDependency.getText();
     }
 
-    private static boolean isCyclic(List<ComponentDependency> componentDependencies, ComponentDependency dependency) {
-        ComponentDependency reverseDependency = new ComponentDependency(dependency.getToComponent(), dependency.getFromComponent());
-        for (ComponentDependency componentDependency : componentDependencies) {
-            if (componentDependency.getFromComponent().equals(reverseDependency.getFromComponent())
-                    && componentDependency.getToComponent().equals(reverseDependency.getToComponent())) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     private static int getMaxDependencyCount(List<ComponentDependency> values) {
         int max[] = {0};
         values.forEach(value -> max[0] = Math.max(max[0], value.getCount()));
@@ -139,6 +129,7 @@ public class GraphvizDependencyRenderer {
         });
         graphviz.append("\n");
 
+        ComponentDependencyGraph dependencyGraph = new ComponentDependencyGraph(componentDependencies);
         List<ComponentDependency> renderDependencies = componentDependencies;
         Collections.sort(renderDependencies, (a, b) -> b.getCount() - a.getCount());
 
@@ -152,7 +143,8 @@ public class GraphvizDependencyRenderer {
                     int thickness = getThickness(componentDependency, maxCount);
                     String color = componentDependency.getColor();
                     if (StringUtils.isBlank(color)) {
-                        color = isCyclic(componentDependencies, componentDependency) ? this.cyclicArrowColor : this.arrowColor;
+                        color = dependencyGraph.hasDependency(componentDependency.getToComponent(), componentDependency.getFromComponent())
+                                ? this.cyclicArrowColor : this.arrowColor;
                     }
                     int transparency = (int) (255.0 * (0.3 + 0.7 * thickness / 10.0));
                     color += String.format("%02X", transparency);
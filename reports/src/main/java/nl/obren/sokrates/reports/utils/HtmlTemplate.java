@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2021 Željko Obrenović. All rights reserved.
+ */
+
+package nl.obren.sokrates.reports.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A template parsed once into text segments and ${name} placeholders, so it can be filled many times
+ * in a single pass. Placeholders without a value are kept as they are.
+ */
+public class HtmlTemplate {
+    private final List<String> texts = new ArrayList<>();
+    // the placeholder names, the one at index i follows the text at index i
+    private final List<String> placeholders = new ArrayList<>();
+    private final int length;
+
+    public HtmlTemplate(String template) {
+        int position = 0;
+        while (true) {
+            int start = template.indexOf("${", position);
+            int end = start >= 0 ? template.indexOf('}', start + 2) : -1;
+            if (end < 0) {
+                texts.add(template.substring(position));
+                break;
+            }
+            texts.add(template.substring(position, start));
+            placeholders.add(template.substring(start + 2, end));
+            position = end + 1;
+        }
+        this.length = template.length();
+    }
+
+    public String render(Map<String, String> values) {
+        StringBuilder html = new StringBuilder(length + values.values().stream().mapToInt(String::length).sum());
+        for (int i = 0; i < texts.size(); i++) {
+            html.append(texts.get(i));
+            if (i < placeholders.size()) {
+                String placeholder = placeholders.get(i);
+                String value = values.get(placeholder);
+                html.append(value != null ? value : "${" + placeholder + "}");
+            }
+        }
+        return html.toString();
+    }
+}
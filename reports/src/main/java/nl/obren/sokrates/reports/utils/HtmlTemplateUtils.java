@@ -8,8 +8,17 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class HtmlTemplateUtils {
+    private static final Map<String, HtmlTemplate> templates = new ConcurrentHashMap<>();
+
+    // parsed once per resource
+    public static HtmlTemplate getTemplate(String resourcePath) {
+        return templates.computeIfAbsent(resourcePath, path -> new HtmlTemplate(getResource(path)));
+    }
+
     public static String getResource(String resourcePath) {
         InputStream in = HtmlTemplateUtils.class.getResourceAsStream(resourcePath);
         if (in == null) {
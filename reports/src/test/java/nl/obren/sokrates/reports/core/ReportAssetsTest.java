@@ -0,0 +1,49 @@
+package nl.obren.sokrates.reports.core;
+
+import nl.obren.sokrates.reports.utils.DataImageUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReportAssetsTest {
+    @TempDir
+    File tempFolder;
+
+    @AfterEach
+    void resetAssets() {
+        ReportAssets.useInlineAssets();
+    }
+
+    @Test
+    void inlineAssets() {
+        ReportAssets.useInlineAssets();
+        assertTrue(DataImageUtils.getLangDataImage("java").startsWith(DataImageUtils.DATA_IMAGE_PREFIX));
+        assertEquals(ReportAssets.getHtmlHeader(), ReportConstants.REPORTS_HTML_HEADER);
+        assertEquals(ReportAssets.resolveUrls("abc", "../assets"), "abc");
+    }
+
+    @Test
+    void sharedAssets() {
+        ReportAssets.configure(tempFolder, false);
+        File assetsFolder = new File(tempFolder, ReportAssets.ASSETS_FOLDER_NAME);
+
+        String src = DataImageUtils.getLangDataImage("java");
+        assertTrue(src.startsWith(ReportAssets.ASSETS_URL_PLACEHOLDER + "/lang-Java."));
+        assertTrue(src.endsWith(".png"));
+        assertEquals(src, DataImageUtils.getLangDataImage("Java"));
+        assertEquals(1, assetsFolder.listFiles().length);
+
+        assertTrue(ReportAssets.getHtmlHeader().contains(ReportAssets.ASSETS_URL_PLACEHOLDER + "/sokrates."));
+        assertEquals(3, assetsFolder.listFiles().length);
+
+        File contributorsFolder = new File(tempFolder, "contributors");
+        assertEquals(ReportAssets.getRelativeAssetsUrl(tempFolder), "assets");
+        assertEquals(ReportAssets.getRelativeAssetsUrl(contributorsFolder), "../assets");
+        assertEquals(ReportAssets.resolveUrls("<img src='" + src + "'>", "../assets"),
+                "<img src='" + src.replace(ReportAssets.ASSETS_URL_PLACEHOLDER, "../assets") + "'>");
+    }
+}
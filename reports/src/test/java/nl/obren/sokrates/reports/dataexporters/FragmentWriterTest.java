@@ -0,0 +1,43 @@
+package nl.obren.sokrates.reports.dataexporters;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FragmentWriterTest {
+    @TempDir
+    File tempFolder;
+
+    @Test
+    void writeSkipsUnchangedAndDeletesStaleFiles() throws IOException {
+        File folder = new File(tempFolder, "fragments");
+        try (FragmentWriter writer = new FragmentWriter(folder)) {
+            for (int i = 0; i < 100; i++) {
+                String content = "fragment " + i;
+                writer.write("a/fragment_" + i + ".txt", () -> content);
+            }
+            writer.write("b/stale.txt", () -> "stale");
+            writer.finish();
+            assertEquals(0, writer.getSkippedCount());
+        }
+        assertEquals("fragment 42", FileUtils.readFileToString(new File(folder, "a/fragment_42.txt"), UTF_8));
+
+        try (FragmentWriter writer = new FragmentWriter(folder)) {
+            for (int i = 0; i < 100; i++) {
+                String content = i == 42 ? "changed" : "fragment " + i;
+                writer.write("a/fragment_" + i + ".txt", () -> content);
+            }
+            writer.finish();
+            assertEquals(99, writer.getSkippedCount());
+        }
+        assertEquals("changed", FileUtils.readFileToString(new File(folder, "a/fragment_42.txt"), UTF_8));
+        assertFalse(new File(folder, "b/stale.txt").exists());
+        assertFalse(new File(folder, "b").exists());
+    }
+}
@@ -0,0 +1,79 @@
+package nl.obren.sokrates.reports.dataexporters.trends;
+
+import nl.obren.sokrates.common.io.JsonGenerator;
+import nl.obren.sokrates.reports.utils.ZipUtils;
+import nl.obren.sokrates.sourcecode.Metadata;
+import nl.obren.sokrates.sourcecode.analysis.results.CodeAnalysisResults;
+import nl.obren.sokrates.sourcecode.contributors.Contributor;
+import nl.obren.sokrates.sourcecode.core.CodeConfiguration;
+import nl.obren.sokrates.sourcecode.core.ReferenceAnalysisResult;
+import nl.obren.sokrates.sourcecode.metrics.Metric;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReferenceResultsLoaderTest {
+    @TempDir
+    File tempFolder;
+
+    @Test
+    void loadSummary() throws IOException {
+        CodeAnalysisResults analysisResults = getAnalysisResults();
+        ByteArrayOutputStream summary = new ByteArrayOutputStream();
+        AnalysisResultsSummary.write(analysisResults, summary);
+
+        File zipFile = new File(tempFolder, "analysisResults.zip");
+        ZipUtils.stringToZipFile(zipFile, new String[][]{
+                {"config.json", new JsonGenerator().generate(new CodeConfiguration())},
+                {"analysisResults.json", "{}"},
+                {AnalysisResultsSummary.ENTRY_NAME, summary.toString(StandardCharsets.UTF_8)}
+        });
+
+        CodeAnalysisResults refData = new ReferenceResultsLoader().getRefData(tempFolder);
+        assertNotNull(refData);
+        assertNotNull(refData.getCodeConfiguration());
+        assertEquals("repo", refData.getMetadata().getName());
+        assertEquals(42, refData.getMetricsList().getMetricById("LINES_OF_CODE_MAIN").getValue().intValue());
+        assertEquals(3, refData.getContributorsAnalysisResults().getCommitsCount());
+        assertTrue(refData.getContributorsAnalysisResults().getContributors().get(0).getCommitDates().isEmpty());
+    }
+
+    @Test
+    void loadFullResultsAndSaveSummary() throws IOException {
+        File zipFile = new File(tempFolder, "analysisResults.zip");
+        ZipUtils.stringToZipFile(zipFile, "analysisResults.json", new JsonGenerator().generate(getAnalysisResults()));
+
+        List<CodeAnalysisResults> refData = new ReferenceResultsLoader().getRefData(Arrays.asList(
+                new ReferenceAnalysisResult("A", zipFile),
+                new ReferenceAnalysisResult("B", new File(tempFolder, "missing.zip"))));
+
+        assertEquals(2, refData.size());
+        assertEquals("repo", refData.get(0).getMetadata().getName());
+        assertNull(refData.get(1));
+
+        File summaryFile = new File(tempFolder, "analysisResultsSummary.json");
+        assertTrue(summaryFile.exists());
+        assertEquals(42, new ReferenceResultsLoader().getRefData(zipFile).getMetricsList().getMetricById("LINES_OF_CODE_MAIN").getValue().intValue());
+    }
+
+    private CodeAnalysisResults getAnalysisResults() {
+        CodeAnalysisResults analysisResults = new CodeAnalysisResults();
+        Metadata metadata = new Metadata();
+        metadata.setName("repo");
+        analysisResults.setMetadata(metadata);
+        analysisResults.getMetricsList().getMetrics().add(new Metric().id("LINES_OF_CODE_MAIN").value(42));
+        Contributor contributor = new Contributor("alice@example.com");
+        contributor.setCommitsCount(3);
+        contributor.getCommitDates().addAll(Arrays.asList("2021-01-01", "2021-01-02", "2021-01-03"));
+        analysisResults.getContributorsAnalysisResults().getContributors().add(contributor);
+        return analysisResults;
+    }
+}
@@ -0,0 +1,49 @@
+package nl.obren.sokrates.reports.generators.statichtml;
+
+import nl.obren.sokrates.sourcecode.dependencies.ComponentDependency;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndirectDependenciesTest {
+    private static ComponentDependency dependency(String from, String to) {
+        return new ComponentDependency(from, to);
+    }
+
+    private static List<String> toStrings(List<ComponentDependency> dependencies) {
+        return dependencies.stream()
+                .map(d -> d.getFromComponent() + "--" + d.getToComponent() + " " + d.getCount())
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void viaSharedTargets() {
+        List<ComponentDependency> dependencies = Arrays.asList(
+                dependency("A", "T1"),
+                dependency("B", "T1"),
+                dependency("B", "T1"),
+                dependency("A", "T2"),
+                dependency("B", "T2"),
+                dependency("C", "T2"),
+                dependency("D", "T3"));
+
+        assertEquals(Arrays.asList("A--B 2", "A--C 1", "B--C 1"), toStrings(IndirectDependencies.viaSharedTargets(dependencies)));
+    }
+
+    @Test
+    void viaSharedSources() {
+        List<ComponentDependency> dependencies = Arrays.asList(
+                dependency("S1", "A"),
+                dependency("S1", "B"),
+                dependency("S2", "B"),
+                dependency("S2", "A"),
+                dependency("S3", "C"));
+
+        assertEquals(Arrays.asList("A--B 2"), toStrings(IndirectDependencies.viaSharedSources(dependencies)));
+        assertTrue(IndirectDependencies.viaSharedSources(Arrays.asList(dependency("S1", "A"))).isEmpty());
+    }
+}
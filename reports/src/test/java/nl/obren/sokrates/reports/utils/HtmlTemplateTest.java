@@ -0,0 +1,22 @@
+package nl.obren.sokrates.reports.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HtmlTemplateTest {
+    @Test
+    void render() {
+        HtmlTemplate template = new HtmlTemplate("<h1>${title}</h1><pre>${code}</pre>${unknown}${");
+
+        Map<String, String> values = new HashMap<>();
+        values.put("title", "A");
+        values.put("code", "${title}");
+
+        assertEquals("<h1>A</h1><pre>${title}</pre>${unknown}${", template.render(values));
+        assertEquals("plain", new HtmlTemplate("plain").render(values));
+    }
+}